@@ -0,0 +1,109 @@
+#!/usr/bin/env bash
+# Compara a inicialização de cada serviço empacotado do jeito atual (java -jar) e com Spring AOT + CDS:
+# tempo até o /actuator/health responder UP e memória residente (RSS) nesse instante.
+# Os serviços sobem no profile "carga" (H2, sem config server nem Eureka) com a infra embutida do carga-cinema.
+# Uso: ./benchmark-inicializacao.sh [repeticoes] [servico...]
+set -euo pipefail
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+DESTINO="$RAIZ/carga-cinema/target/inicializacao"
+LOGS="$DESTINO/logs"
+RESULTADO="$RAIZ/carga-cinema/target/inicializacao-resultado.json"
+REPETICOES="${1:-5}"
+shift || true
+SERVICOS=("$@")
+if [ ${#SERVICOS[@]} -eq 0 ]; then
+    SERVICOS=(ms-autenticacao-cinema ms-gerenciamento-catalogo ms-gerenciamento-clientes ms-gerenciamento-sessoes)
+fi
+declare -A PORTAS=([ms-autenticacao-cinema]=8084 [ms-gerenciamento-catalogo]=8082 [ms-gerenciamento-clientes]=8080 [ms-gerenciamento-sessoes]=8081)
+OPCOES_AOT=(-Dspring.aot.enabled=true -Dspring.cloud.refresh.enabled=false)
+
+mkdir -p "$LOGS"
+PIDS=()
+encerrar() {
+    for pid in "${PIDS[@]}"; do
+        kill "$pid" 2>/dev/null || true
+    done
+    wait 2>/dev/null || true
+}
+trap encerrar EXIT
+
+# Empacota as duas variantes: o jar de sempre e o jar com AOT extraído, mais o arquivo CDS do treino
+preparar() {
+    local servico="$1"
+    local jar="$RAIZ/$servico/target/$servico-0.0.1-SNAPSHOT.jar"
+    rm -rf "$DESTINO/$servico"
+    mkdir -p "$DESTINO/$servico/jvm"
+
+    (cd "$RAIZ/$servico" && mvn -q -Pcarga clean package -DskipTests)
+    cp "$jar" "$DESTINO/$servico/jvm/app.jar"
+
+    (cd "$RAIZ/$servico" && mvn -q -Pcarga,aot clean package -DskipTests -Daot.perfis=carga)
+    java -Djarmode=tools -jar "$jar" extract --destination "$DESTINO/$servico/aot-cds"
+    (cd "$DESTINO/$servico/aot-cds" && java -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh \
+        "${OPCOES_AOT[@]}" -Dspring.profiles.active=carga -jar app.jar > "$LOGS/$servico-treino.log" 2>&1)
+}
+
+# Imprime "<milissegundos até ficar pronto> <RSS em KB>"
+medir() {
+    local servico="$1" variante="$2"
+    shift 2
+    local porta="${PORTAS[$servico]}"
+    local inicio fim rss pid
+    inicio=$(date +%s%N)
+    (cd "$DESTINO/$servico/$variante" && exec java "$@" -Dspring.profiles.active=carga -jar app.jar) \
+        > "$LOGS/$servico-$variante.log" 2>&1 &
+    pid=$!
+    until curl -fs "http://localhost:$porta/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$servico ($variante) encerrou antes de ficar pronto, veja $LOGS/$servico-$variante.log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    fim=$(date +%s%N)
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$(( (fim - inicio) / 1000000 )) $rss"
+}
+
+mediana() {
+    printf '%s\n' "$@" | sort -n | sed -n "$(( ($# + 1) / 2 ))p"
+}
+
+for servico in "${SERVICOS[@]}"; do
+    echo "Empacotando $servico..."
+    preparar "$servico"
+done
+
+cd "$RAIZ/carga-cinema"
+mvn -q compile
+mvn -q exec:java -Dexec.args="infra" > "$LOGS/infra.log" 2>&1 &
+PIDS+=($!)
+until grep -q "Infra de carga pronta" "$LOGS/infra.log"; do sleep 1; done
+
+printf '\n%-28s %-8s %14s %14s\n' "Serviço" "Variante" "Pronto (ms)" "RSS (MB)"
+JSON="["
+for servico in "${SERVICOS[@]}"; do
+    for variante in jvm aot-cds; do
+        opcoes=()
+        if [ "$variante" = "aot-cds" ]; then
+            opcoes=(-XX:SharedArchiveFile=app.jsa "${OPCOES_AOT[@]}")
+        fi
+        tempos=()
+        memorias=()
+        for _ in $(seq "$REPETICOES"); do
+            medicao=$(medir "$servico" "$variante" "${opcoes[@]}")
+            read -r tempo rss <<< "$medicao"
+            tempos+=("$tempo")
+            memorias+=("$rss")
+        done
+        tempo=$(mediana "${tempos[@]}")
+        rss_mb=$(( $(mediana "${memorias[@]}") / 1024 ))
+        printf '%-28s %-8s %14s %14s\n' "$servico" "$variante" "$tempo" "$rss_mb"
+        JSON+="{\"servico\":\"$servico\",\"variante\":\"$variante\",\"repeticoes\":$REPETICOES,\"prontoMsMediana\":$tempo,\"rssMbMediana\":$rss_mb},"
+    done
+done
+echo "${JSON%,}]" > "$RESULTADO"
+echo "Resultado gravado em $RESULTADO"
@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# Sobe a infra embutida (AMQP + SMTP), os quatro serviços no profile "carga" e executa os cenários.
+# Parâmetros extras são repassados ao gerador, ex.: ./carga.sh --taxa=100 --duracao=120
+set -euo pipefail
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+LOGS="$RAIZ/carga-cinema/target/logs"
+mkdir -p "$LOGS"
+
+PIDS=()
+encerrar() {
+    for pid in "${PIDS[@]}"; do
+        kill "$pid" 2>/dev/null || true
+    done
+    wait 2>/dev/null || true
+}
+trap encerrar EXIT
+
+cd "$RAIZ/carga-cinema"
+mvn -q compile
+mvn -q exec:java -Dexec.args="infra $*" > "$LOGS/infra.log" 2>&1 &
+PIDS+=($!)
+until grep -q "Infra de carga pronta" "$LOGS/infra.log"; do sleep 1; done
+
+for servico in ms-autenticacao-cinema ms-gerenciamento-catalogo ms-gerenciamento-clientes ms-gerenciamento-sessoes; do
+    (cd "$RAIZ/$servico" && SPRING_CLOUD_CONFIG_ENABLED=false \
+        mvn -q -Pcarga spring-boot:run -Dspring-boot.run.profiles=carga > "$LOGS/$servico.log" 2>&1) &
+    PIDS+=($!)
+done
+
+mvn -q exec:java -Dexec.args="executar $*"
@@ -0,0 +1,120 @@
+#!/usr/bin/env bash
+# Compara o ms-autenticacao-cinema e o ms-gerenciamento-catalogo na JVM (java -jar) e como executável
+# nativo do GraalVM: tempo até ficar pronto, RSS ocioso, RSS depois da carga e p99 de uma mesma carga de
+# leitura, precedida de um smoke test que falha se algum fluxo quebrar na imagem nativa.
+# Os serviços sobem no profile "carga" (H2, sem config server nem Eureka) com a infra embutida do carga-cinema.
+# Requer o native-image (GraalVM 21+) no PATH.
+# Uso: ./comparar-nativo.sh [--taxa=50 --duracao=60 ...]  (argumentos repassados ao modo "nativo" do carga-cinema)
+set -euo pipefail
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+DESTINO="$RAIZ/carga-cinema/target/nativo"
+LOGS="$DESTINO/logs"
+RESULTADO="$RAIZ/carga-cinema/target/nativo-resultado.json"
+SERVICOS=(ms-autenticacao-cinema ms-gerenciamento-catalogo)
+declare -A PORTAS=([ms-autenticacao-cinema]=8084 [ms-gerenciamento-catalogo]=8082)
+OPCOES=(-Dspring.profiles.active=carga -Dspring.cloud.refresh.enabled=false)
+
+command -v native-image > /dev/null || { echo "native-image não encontrado; instale o GraalVM 21+" >&2; exit 1; }
+
+mkdir -p "$LOGS"
+PIDS=()
+encerrar() {
+    for pid in "${PIDS[@]}"; do
+        kill "$pid" 2>/dev/null || true
+    done
+    wait 2>/dev/null || true
+}
+trap encerrar EXIT
+
+preparar() {
+    local servico="$1"
+    rm -rf "$DESTINO/$servico"
+    mkdir -p "$DESTINO/$servico"
+    (cd "$RAIZ/$servico" && mvn -q -Pcarga clean package -DskipTests)
+    cp "$RAIZ/$servico/target/$servico-0.0.1-SNAPSHOT.jar" "$DESTINO/$servico/app.jar"
+    (cd "$RAIZ/$servico" && mvn -q -Pcarga,native clean native:compile -DskipTests -Daot.perfis=carga)
+    cp "$RAIZ/$servico/target/$servico" "$DESTINO/$servico/app"
+}
+
+# Sobe o serviço, espera o health ficar UP e imprime "<pid> <milissegundos até ficar pronto>"
+iniciar() {
+    local servico="$1" variante="$2"
+    local porta="${PORTAS[$servico]}"
+    local inicio pid
+    inicio=$(date +%s%N)
+    if [ "$variante" = "nativo" ]; then
+        (cd "$DESTINO/$servico" && exec ./app "${OPCOES[@]}") > "$LOGS/$servico-$variante.log" 2>&1 &
+    else
+        (cd "$DESTINO/$servico" && exec java "${OPCOES[@]}" -jar app.jar) > "$LOGS/$servico-$variante.log" 2>&1 &
+    fi
+    pid=$!
+    until curl -fs "http://localhost:$porta/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$servico ($variante) encerrou antes de ficar pronto, veja $LOGS/$servico-$variante.log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    echo "$pid $(( ($(date +%s%N) - inicio) / 1000000 ))"
+}
+
+# O processo foi iniciado dentro de $(...), então não é filho deste shell e o wait não serve
+parar() {
+    kill "$1"
+    while kill -0 "$1" 2>/dev/null; do sleep 0.1; done
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$1" | tr -d ' ') / 1024 ))
+}
+
+for servico in "${SERVICOS[@]}"; do
+    echo "Empacotando $servico (jar e executável nativo)..."
+    preparar "$servico"
+done
+
+cd "$RAIZ/carga-cinema"
+mvn -q compile
+mvn -q exec:java -Dexec.args="infra" > "$LOGS/infra.log" 2>&1 &
+PIDS+=($!)
+until grep -q "Infra de carga pronta" "$LOGS/infra.log"; do sleep 1; done
+
+declare -A LINHAS
+JSON="["
+for variante in jvm nativo; do
+    declare -A PID_SERVICO=()
+    declare -A PRONTO=()
+    declare -A RSS_OCIOSO=()
+    for servico in "${SERVICOS[@]}"; do
+        inicio=$(iniciar "$servico" "$variante")
+        read -r pid pronto <<< "$inicio"
+        PIDS+=("$pid")
+        PID_SERVICO[$servico]=$pid
+        PRONTO[$servico]=$pronto
+        RSS_OCIOSO[$servico]=$(rss_mb "$pid")
+    done
+
+    echo "Smoke test e carga de leitura ($variante)..."
+    mvn -q exec:java -Dexec.args="nativo --resultado=target/nativo-$variante.json $*" > "$LOGS/carga-$variante.log" 2>&1 \
+        || { echo "Smoke test ou carga falhou na variante $variante, veja $LOGS/carga-$variante.log" >&2; exit 1; }
+
+    for servico in "${SERVICOS[@]}"; do
+        rss_carga=$(rss_mb "${PID_SERVICO[$servico]}")
+        parar "${PID_SERVICO[$servico]}"
+        LINHAS[$servico-$variante]="${PRONTO[$servico]} ${RSS_OCIOSO[$servico]} $rss_carga"
+        JSON+="{\"servico\":\"$servico\",\"variante\":\"$variante\",\"prontoMs\":${PRONTO[$servico]},\"rssOciosoMb\":${RSS_OCIOSO[$servico]},\"rssAposCargaMb\":$rss_carga},"
+    done
+done
+echo "${JSON%,}]" > "$RESULTADO"
+
+printf '\n%-28s %-8s %12s %14s %16s\n' "Serviço" "Variante" "Pronto (ms)" "RSS ocioso MB" "RSS pós-carga MB"
+for servico in "${SERVICOS[@]}"; do
+    for variante in jvm nativo; do
+        read -r pronto ocioso carga <<< "${LINHAS[$servico-$variante]}"
+        printf '%-28s %-8s %12s %14s %16s\n' "$servico" "$variante" "$pronto" "$ocioso" "$carga"
+    done
+done
+echo
+echo "Latências por endpoint: target/nativo-jvm.json e target/nativo-nativo.json (p50/p99/p99.9)"
+echo "Resultado gravado em $RESULTADO"
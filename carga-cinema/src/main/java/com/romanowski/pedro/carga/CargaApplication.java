@@ -0,0 +1,98 @@
+package com.romanowski.pedro.carga;
+
+import com.romanowski.pedro.carga.cenario.ExecutorCarga;
+import com.romanowski.pedro.carga.cenario.PreparacaoMassa;
+import com.romanowski.pedro.carga.http.ClienteHttp;
+import com.romanowski.pedro.carga.infra.BrokerAmqpEmbutido;
+import com.romanowski.pedro.carga.infra.SmtpSink;
+import com.romanowski.pedro.carga.metricas.RegistroLatencias;
+import com.romanowski.pedro.carga.metricas.RelatorioCarga;
+import com.romanowski.pedro.carga.metricas.ResultadoEndpoint;
+import com.romanowski.pedro.carga.nativo.CargaLeitura;
+import com.romanowski.pedro.carga.nativo.SmokeNativo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Ponto de entrada do teste de carga.
+ * <ul>
+ *     <li>{@code infra}: sobe o broker AMQP embutido e o SMTP sink e fica bloqueado até ser encerrado;</li>
+ *     <li>{@code executar} (padrão): prepara a massa, executa os cenários e grava o resultado;</li>
+ *     <li>{@code nativo}: smoke test da autenticação e do catálogo seguido de uma carga de leitura,
+ *     usado para comparar o executável nativo com a JVM ({@code comparar-nativo.sh}).</li>
+ * </ul>
+ */
+public class CargaApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargaApplication.class);
+
+    public static void main(String[] args) throws Exception {
+        String modo = args.length > 0 && !args[0].startsWith("--") ? args[0] : "executar";
+        ConfiguracaoCarga configuracao = ConfiguracaoCarga.de(args);
+
+        switch (modo) {
+            case "infra" -> subirInfra(configuracao);
+            case "executar" -> executar(configuracao);
+            case "nativo" -> executarNativo(configuracao);
+            default -> throw new IllegalArgumentException("Modo desconhecido: " + modo + ". Use 'infra', 'executar' ou 'nativo'.");
+        }
+    }
+
+    private static void subirInfra(ConfiguracaoCarga configuracao) throws Exception {
+        CountDownLatch encerrar = new CountDownLatch(1);
+        try (BrokerAmqpEmbutido broker = new BrokerAmqpEmbutido(configuracao.portaAmqp());
+             SmtpSink smtpSink = new SmtpSink(configuracao.portaSmtp())) {
+            broker.iniciar();
+            smtpSink.iniciar();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                logger.info("Emails recebidos pelo SMTP sink: {}", smtpSink.getMensagensRecebidas());
+                encerrar.countDown();
+            }));
+            logger.info("Infra de carga pronta (AMQP {}, SMTP {})", configuracao.portaAmqp(), configuracao.portaSmtp());
+            encerrar.await();
+        }
+    }
+
+    private static void executar(ConfiguracaoCarga configuracao) throws Exception {
+        logger.info("Parâmetros: {}", Arrays.toString(configuracao.comoMapa().entrySet().toArray()));
+        RegistroLatencias registroLatencias = new RegistroLatencias();
+        ClienteHttp clienteHttp = new ClienteHttp(registroLatencias);
+
+        PreparacaoMassa.Massa massa = new PreparacaoMassa(configuracao, clienteHttp).preparar();
+        registroLatencias.zerar();
+
+        long duracao = new ExecutorCarga(configuracao, clienteHttp, registroLatencias, massa).executar();
+        Map<String, ResultadoEndpoint> resultados = registroLatencias.consolidar(duracao);
+
+        RelatorioCarga.imprimir(resultados, System.out);
+        Path arquivo = Path.of(configuracao.arquivoResultado());
+        RelatorioCarga.gravarJson(resultados, configuracao.comoMapa(), arquivo);
+        logger.info("Resultado gravado em {}", arquivo.toAbsolutePath());
+    }
+
+    private static void executarNativo(ConfiguracaoCarga configuracao) throws Exception {
+        RegistroLatencias registroLatencias = new RegistroLatencias();
+        ClienteHttp clienteHttp = new ClienteHttp(registroLatencias);
+
+        SmokeNativo smoke = new SmokeNativo(configuracao, clienteHttp);
+        SmokeNativo.Credenciais credenciais = smoke.executar();
+        if (smoke.getFalhas() > 0) {
+            logger.error("Smoke test com {} falha(s); carga não executada", smoke.getFalhas());
+            System.exit(1);
+        }
+        registroLatencias.zerar();
+
+        long duracao = new CargaLeitura(configuracao, clienteHttp, registroLatencias, credenciais).executar();
+        Map<String, ResultadoEndpoint> resultados = registroLatencias.consolidar(duracao);
+
+        RelatorioCarga.imprimir(resultados, System.out);
+        Path arquivo = Path.of(configuracao.arquivoResultado());
+        RelatorioCarga.gravarJson(resultados, configuracao.comoMapa(), arquivo);
+        logger.info("Resultado gravado em {}", arquivo.toAbsolutePath());
+    }
+}
@@ -0,0 +1,71 @@
+package com.romanowski.pedro.carga;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste, lidos de argumentos no formato --chave=valor.
+ */
+public record ConfiguracaoCarga(
+        String urlAutenticacao,
+        String urlCatalogo,
+        String urlClientes,
+        String urlSessoes,
+        int taxaPorSegundo,
+        int duracaoSegundos,
+        int aquecimentoSegundos,
+        int usuarios,
+        int pesoNavegar,
+        int pesoReservar,
+        int pesoPagar,
+        int pesoCancelar,
+        String emailAdministrador,
+        String senhaAdministrador,
+        int portaAmqp,
+        int portaSmtp,
+        String arquivoResultado
+) {
+
+    public static ConfiguracaoCarga de(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                valores.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return new ConfiguracaoCarga(
+                valores.getOrDefault("url-autenticacao", "http://localhost:8084"),
+                valores.getOrDefault("url-catalogo", "http://localhost:8082"),
+                valores.getOrDefault("url-clientes", "http://localhost:8080"),
+                valores.getOrDefault("url-sessoes", "http://localhost:8081"),
+                inteiro(valores, "taxa", 50),
+                inteiro(valores, "duracao", 60),
+                inteiro(valores, "aquecimento", 10),
+                inteiro(valores, "usuarios", 50),
+                inteiro(valores, "peso-navegar", 60),
+                inteiro(valores, "peso-reservar", 20),
+                inteiro(valores, "peso-pagar", 10),
+                inteiro(valores, "peso-cancelar", 10),
+                valores.getOrDefault("admin-email", "admin@carga.local"),
+                valores.getOrDefault("admin-senha", "carga123"),
+                inteiro(valores, "porta-amqp", 5672),
+                inteiro(valores, "porta-smtp", 2525),
+                valores.getOrDefault("resultado", "target/carga-resultado.json"));
+    }
+
+    public Map<String, Object> comoMapa() {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        mapa.put("taxaPorSegundo", taxaPorSegundo);
+        mapa.put("duracaoSegundos", duracaoSegundos);
+        mapa.put("aquecimentoSegundos", aquecimentoSegundos);
+        mapa.put("usuarios", usuarios);
+        mapa.put("pesos", Map.of("navegar", pesoNavegar, "reservar", pesoReservar, "pagar", pesoPagar, "cancelar", pesoCancelar));
+        return mapa;
+    }
+
+    private static int inteiro(Map<String, String> valores, String chave, int padrao) {
+        String valor = valores.get(chave);
+        return valor == null ? padrao : Integer.parseInt(valor);
+    }
+}
@@ -0,0 +1,74 @@
+package com.romanowski.pedro.carga.cenario;
+
+import com.romanowski.pedro.carga.ConfiguracaoCarga;
+import com.romanowski.pedro.carga.http.ClienteHttp;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Jornadas executadas por um usuário virtual. A primeira requisição de cada jornada é medida a
+ * partir do instante em que o gerador deveria tê-la disparado.
+ */
+public enum Cenario {
+
+    NAVEGAR {
+        @Override
+        void executar(Contexto contexto, UsuarioVirtual usuario, long inicioPretendido) {
+            contexto.clienteHttp().get("GET /v1/sessoes", contexto.configuracao().urlSessoes() + "/v1/sessoes", usuario.token(), inicioPretendido);
+            SessaoCarga sessao = contexto.sessaoAleatoria();
+            contexto.clienteHttp().get("GET /v1/sessoes/{id}", contexto.configuracao().urlSessoes() + "/v1/sessoes/" + sessao.id(), usuario.token());
+            contexto.clienteHttp().get("GET /v1/filmes", contexto.configuracao().urlCatalogo() + "/v1/filmes", usuario.token());
+        }
+    },
+
+    RESERVAR {
+        @Override
+        void executar(Contexto contexto, UsuarioVirtual usuario, long inicioPretendido) {
+            SessaoCarga sessao = contexto.sessaoAleatoria();
+            ClienteHttp.Resposta resposta = contexto.clienteHttp().post("POST /v1/reservas/{idCliente}/{idSessao}",
+                    contexto.configuracao().urlSessoes() + "/v1/reservas/" + usuario.id() + "/" + sessao.id(),
+                    usuario.token(), null, inicioPretendido);
+            if (resposta.sucesso() && resposta.corpo() != null) {
+                usuario.reservasPendentes().add(new UsuarioVirtual.ReservaPendente(resposta.corpo().get("id").asLong(), sessao.preco()));
+            }
+        }
+    },
+
+    PAGAR {
+        @Override
+        void executar(Contexto contexto, UsuarioVirtual usuario, long inicioPretendido) {
+            UsuarioVirtual.ReservaPendente reserva = usuario.reservasPendentes().poll();
+            if (reserva == null) {
+                RESERVAR.executar(contexto, usuario, inicioPretendido);
+                return;
+            }
+            contexto.clienteHttp().post("POST /v1/pagamentos/{idCliente}/{idReserva}",
+                    contexto.configuracao().urlClientes() + "/v1/pagamentos/" + usuario.id() + "/" + reserva.id(),
+                    usuario.token(), Map.of("valor", reserva.preco()), inicioPretendido);
+        }
+    },
+
+    CANCELAR {
+        @Override
+        void executar(Contexto contexto, UsuarioVirtual usuario, long inicioPretendido) {
+            UsuarioVirtual.ReservaPendente reserva = usuario.reservasPendentes().poll();
+            if (reserva == null) {
+                RESERVAR.executar(contexto, usuario, inicioPretendido);
+                return;
+            }
+            contexto.clienteHttp().delete("DELETE /v1/reservas/{idCliente}/{idReserva}",
+                    contexto.configuracao().urlSessoes() + "/v1/reservas/" + usuario.id() + "/" + reserva.id(),
+                    usuario.token(), inicioPretendido);
+        }
+    };
+
+    abstract void executar(Contexto contexto, UsuarioVirtual usuario, long inicioPretendido);
+
+    record Contexto(ConfiguracaoCarga configuracao, ClienteHttp clienteHttp, List<SessaoCarga> sessoes) {
+        SessaoCarga sessaoAleatoria() {
+            return sessoes.get(ThreadLocalRandom.current().nextInt(sessoes.size()));
+        }
+    }
+}
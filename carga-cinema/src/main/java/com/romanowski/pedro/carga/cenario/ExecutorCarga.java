@@ -0,0 +1,104 @@
+package com.romanowski.pedro.carga.cenario;
+
+import com.romanowski.pedro.carga.ConfiguracaoCarga;
+import com.romanowski.pedro.carga.http.ClienteHttp;
+import com.romanowski.pedro.carga.metricas.RegistroLatencias;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador em modelo aberto: dispara jornadas a uma taxa fixa, independente de quanto as anteriores
+ * demoram. Cada jornada roda numa virtual thread e carrega o instante em que deveria ter começado.
+ */
+public class ExecutorCarga {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorCarga.class);
+
+    private final ConfiguracaoCarga configuracao;
+    private final Cenario.Contexto contexto;
+    private final List<UsuarioVirtual> usuarios;
+    private final RegistroLatencias registroLatencias;
+    private final LongAdder falhasInesperadas = new LongAdder();
+
+    public ExecutorCarga(ConfiguracaoCarga configuracao, ClienteHttp clienteHttp, RegistroLatencias registroLatencias,
+                         PreparacaoMassa.Massa massa) {
+        this.configuracao = configuracao;
+        this.contexto = new Cenario.Contexto(configuracao, clienteHttp, massa.sessoes());
+        this.usuarios = massa.usuarios();
+        this.registroLatencias = registroLatencias;
+    }
+
+    /**
+     * Executa o aquecimento, zera as medições e roda a janela medida.
+     *
+     * @return duração efetiva da janela medida, em nanossegundos
+     */
+    public long executar() throws InterruptedException {
+        try (ExecutorService jornadas = Executors.newVirtualThreadPerTaskExecutor()) {
+            logger.info("Aquecimento de {} s a {} jornadas/s", configuracao.aquecimentoSegundos(), configuracao.taxaPorSegundo());
+            gerar(jornadas, configuracao.aquecimentoSegundos());
+            registroLatencias.zerar();
+
+            logger.info("Medição de {} s a {} jornadas/s", configuracao.duracaoSegundos(), configuracao.taxaPorSegundo());
+            long inicio = System.nanoTime();
+            gerar(jornadas, configuracao.duracaoSegundos());
+            jornadas.shutdown();
+            if (!jornadas.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("Jornadas ainda em andamento ao fim da medição serão descartadas");
+            }
+            long duracao = System.nanoTime() - inicio;
+
+            if (falhasInesperadas.sum() > 0) {
+                logger.warn("{} jornadas terminaram com exceção", falhasInesperadas.sum());
+            }
+            return duracao;
+        }
+    }
+
+    private void gerar(ExecutorService jornadas, int segundos) {
+        long intervalo = TimeUnit.SECONDS.toNanos(1) / configuracao.taxaPorSegundo();
+        long total = (long) segundos * configuracao.taxaPorSegundo();
+        long inicio = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long inicioPretendido = inicio + i * intervalo;
+            long espera = inicioPretendido - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            Cenario cenario = sortearCenario();
+            UsuarioVirtual usuario = usuarios.get(ThreadLocalRandom.current().nextInt(usuarios.size()));
+            jornadas.execute(() -> {
+                try {
+                    cenario.executar(contexto, usuario, inicioPretendido);
+                } catch (RuntimeException e) {
+                    falhasInesperadas.increment();
+                    logger.debug("Jornada {} falhou", cenario, e);
+                }
+            });
+        }
+    }
+
+    private Cenario sortearCenario() {
+        int total = configuracao.pesoNavegar() + configuracao.pesoReservar() + configuracao.pesoPagar() + configuracao.pesoCancelar();
+        int sorteio = ThreadLocalRandom.current().nextInt(total);
+        if ((sorteio -= configuracao.pesoNavegar()) < 0) {
+            return Cenario.NAVEGAR;
+        }
+        if ((sorteio -= configuracao.pesoReservar()) < 0) {
+            return Cenario.RESERVAR;
+        }
+        if (sorteio - configuracao.pesoPagar() < 0) {
+            return Cenario.PAGAR;
+        }
+        return Cenario.CANCELAR;
+    }
+}
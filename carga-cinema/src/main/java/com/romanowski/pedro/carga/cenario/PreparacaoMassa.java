@@ -0,0 +1,125 @@
+package com.romanowski.pedro.carga.cenario;
+
+import com.romanowski.pedro.carga.ConfiguracaoCarga;
+import com.romanowski.pedro.carga.http.ClienteHttp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Cria a massa do teste pela própria API: filme e sessões (como administrador) e os clientes que
+ * vão executar os cenários. Espera o cadastro dos clientes chegar ao ms-gerenciamento-clientes,
+ * que é assíncrono (outbox + RabbitMQ).
+ */
+public class PreparacaoMassa {
+
+    private static final Logger logger = LoggerFactory.getLogger(PreparacaoMassa.class);
+
+    private static final DateTimeFormatter FORMATO_DATA_HORA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final String TITULO_FILME = "Filme de Carga";
+    private static final String SENHA_USUARIOS = "carga123";
+    private static final int QUANTIDADE_SALAS = 5;
+    private static final Duration ESPERA_MAXIMA = Duration.ofMinutes(3);
+
+    private final ConfiguracaoCarga configuracao;
+    private final ClienteHttp clienteHttp;
+
+    public PreparacaoMassa(ConfiguracaoCarga configuracao, ClienteHttp clienteHttp) {
+        this.configuracao = configuracao;
+        this.clienteHttp = clienteHttp;
+    }
+
+    public record Massa(List<SessaoCarga> sessoes, List<UsuarioVirtual> usuarios) {
+    }
+
+    public Massa preparar() throws InterruptedException {
+        aguardarServicos();
+
+        String tokenAdministrador = login("/v1/auth/administradores/login", configuracao.emailAdministrador(), configuracao.senhaAdministrador())
+                .get("token");
+        cadastrarFilme(tokenAdministrador);
+        List<SessaoCarga> sessoes = cadastrarSessoes(tokenAdministrador);
+        List<UsuarioVirtual> usuarios = cadastrarUsuarios();
+        aguardarPropagacaoClientes(usuarios);
+
+        logger.info("Massa pronta: {} sessões e {} usuários", sessoes.size(), usuarios.size());
+        return new Massa(sessoes, usuarios);
+    }
+
+    private void aguardarServicos() throws InterruptedException {
+        for (String url : List.of(configuracao.urlAutenticacao(), configuracao.urlCatalogo(), configuracao.urlClientes(), configuracao.urlSessoes())) {
+            aguardar("serviço " + url, () -> clienteHttp.get("preparacao", url + "/actuator/health", null).sucesso());
+        }
+    }
+
+    private Map<String, String> login(String caminho, String email, String senha) {
+        ClienteHttp.Resposta resposta = clienteHttp.post("preparacao", configuracao.urlAutenticacao() + caminho, null,
+                Map.of("email", email, "senha", senha));
+        exigirSucesso(resposta, "login de " + email);
+        return Map.of("token", resposta.corpo().get("token").asText(), "id", resposta.corpo().get("id").asText());
+    }
+
+    private void cadastrarFilme(String tokenAdministrador) {
+        ClienteHttp.Resposta resposta = clienteHttp.post("preparacao", configuracao.urlCatalogo() + "/v1/filmes", tokenAdministrador,
+                Map.of("titulo", TITULO_FILME, "duracao", 120, "genero", "Drama", "autor", "Carga", "dataLancamento", "01/01/2020"));
+        exigirSucesso(resposta, "cadastro do filme");
+    }
+
+    private List<SessaoCarga> cadastrarSessoes(String tokenAdministrador) {
+        LocalDateTime dataHora = LocalDateTime.now().plusDays(1).withHour(20).withMinute(0).withSecond(0).withNano(0);
+        List<SessaoCarga> sessoes = new ArrayList<>();
+        for (int sala = 1; sala <= QUANTIDADE_SALAS; sala++) {
+            ClienteHttp.Resposta resposta = clienteHttp.post("preparacao", configuracao.urlSessoes() + "/v1/sessoes", tokenAdministrador,
+                    Map.of("tituloFilme", TITULO_FILME, "sala", sala, "preco", 30.0, "dataHoraSessao", dataHora.format(FORMATO_DATA_HORA)));
+            exigirSucesso(resposta, "cadastro da sessão da sala " + sala);
+            sessoes.add(new SessaoCarga(resposta.corpo().get("idSessao").asLong(), resposta.corpo().get("preco").asDouble()));
+        }
+        return sessoes;
+    }
+
+    private List<UsuarioVirtual> cadastrarUsuarios() {
+        String sufixo = UUID.randomUUID().toString().substring(0, 8);
+        List<UsuarioVirtual> usuarios = new ArrayList<>(configuracao.usuarios());
+        for (int i = 0; i < configuracao.usuarios(); i++) {
+            String email = "carga-" + sufixo + "-" + i + "@carga.local";
+            ClienteHttp.Resposta cadastro = clienteHttp.post("preparacao", configuracao.urlAutenticacao() + "/v1/auth/clientes", null,
+                    Map.of("nome", "Cliente Carga " + i, "email", email, "senha", SENHA_USUARIOS, "saldo", 1000.0));
+            exigirSucesso(cadastro, "cadastro de " + email);
+
+            Map<String, String> login = login("/v1/auth/clientes/login", email, SENHA_USUARIOS);
+            usuarios.add(new UsuarioVirtual(UUID.fromString(login.get("id")), login.get("token")));
+        }
+        return usuarios;
+    }
+
+    private void aguardarPropagacaoClientes(List<UsuarioVirtual> usuarios) throws InterruptedException {
+        for (UsuarioVirtual usuario : usuarios) {
+            aguardar("cliente " + usuario.id() + " no ms-gerenciamento-clientes", () -> clienteHttp.get("preparacao",
+                    configuracao.urlClientes() + "/v1/clientes/" + usuario.id(), usuario.token()).status() == 200);
+        }
+    }
+
+    private void aguardar(String descricao, BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + ESPERA_MAXIMA.toNanos();
+        while (!condicao.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                throw new IllegalStateException("Tempo esgotado aguardando " + descricao);
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    private void exigirSucesso(ClienteHttp.Resposta resposta, String operacao) {
+        if (!resposta.sucesso()) {
+            throw new IllegalStateException("Falha na preparação (" + operacao + "): HTTP " + resposta.status() + " " + resposta.corpo());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.romanowski.pedro.carga.cenario;
+
+public record SessaoCarga(long id, double preco) {
+}
@@ -0,0 +1,19 @@
+package com.romanowski.pedro.carga.cenario;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Cliente cadastrado durante a preparação, com o token de acesso e as reservas ainda não pagas
+ * nem canceladas, que alimentam os cenários de pagamento e cancelamento.
+ */
+public record UsuarioVirtual(UUID id, String token, Queue<ReservaPendente> reservasPendentes) {
+
+    public record ReservaPendente(long id, double preco) {
+    }
+
+    public UsuarioVirtual(UUID id, String token) {
+        this(id, token, new ConcurrentLinkedQueue<>());
+    }
+}
@@ -0,0 +1,120 @@
+package com.romanowski.pedro.carga.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romanowski.pedro.carga.metricas.RegistroLatencias;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP que grava a latência de cada chamada no {@link RegistroLatencias}, agrupando pelo
+ * nome lógico do endpoint (ex.: "POST /v1/reservas/{idCliente}/{idSessao}").
+ */
+public class ClienteHttp {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final RegistroLatencias registroLatencias;
+
+    public ClienteHttp(RegistroLatencias registroLatencias) {
+        this.registroLatencias = registroLatencias;
+    }
+
+    public record Resposta(int status, JsonNode corpo) {
+        public boolean sucesso() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    public Resposta get(String endpoint, String url, String token) {
+        return executar(endpoint, requisicao(url, token).GET().build(), System.nanoTime());
+    }
+
+    public Resposta delete(String endpoint, String url, String token, long inicioPretendido) {
+        return executar(endpoint, requisicao(url, token).DELETE().build(), inicioPretendido);
+    }
+
+    public Resposta post(String endpoint, String url, String token, Object corpo) {
+        return post(endpoint, url, token, corpo, System.nanoTime());
+    }
+
+    /**
+     * @param inicioPretendido instante em que a requisição deveria ter começado. Medir a partir
+     *                         dele evita esconder a fila do gerador quando o sistema fica lento
+     *                         (coordinated omission).
+     */
+    public Resposta post(String endpoint, String url, String token, Object corpo, long inicioPretendido) {
+        HttpRequest.BodyPublisher publisher = corpo == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(serializar(corpo));
+        return executar(endpoint, requisicao(url, token)
+                .header("Content-Type", "application/json")
+                .POST(publisher)
+                .build(), inicioPretendido);
+    }
+
+    public Resposta patch(String endpoint, String url, String token, Object corpo) {
+        return executar(endpoint, requisicao(url, token)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(serializar(corpo)))
+                .build(), System.nanoTime());
+    }
+
+    public Resposta get(String endpoint, String url, String token, long inicioPretendido) {
+        return executar(endpoint, requisicao(url, token).GET().build(), inicioPretendido);
+    }
+
+    private HttpRequest.Builder requisicao(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Resposta executar(String endpoint, HttpRequest requisicao, long inicio) {
+        try {
+            HttpResponse<byte[]> resposta = httpClient.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+            boolean erro = resposta.statusCode() >= 400;
+            registroLatencias.registrar(endpoint, System.nanoTime() - inicio, erro);
+            return new Resposta(resposta.statusCode(), lerCorpo(resposta.body()));
+        } catch (IOException e) {
+            registroLatencias.registrar(endpoint, System.nanoTime() - inicio, true);
+            return new Resposta(-1, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Resposta(-1, null);
+        }
+    }
+
+    private JsonNode lerCorpo(byte[] corpo) {
+        if (corpo.length == 0) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(corpo);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private byte[] serializar(Object corpo) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(corpo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.romanowski.pedro.carga.infra;
+
+import org.apache.qpid.server.SystemLauncher;
+import org.apache.qpid.server.model.SystemConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Broker AMQP 0-9-1 em memória (Qpid Broker-J) que substitui o RabbitMQ durante o teste de carga.
+ * Os serviços declaram as próprias exchanges e filas pelo RabbitAdmin ao subir.
+ */
+public class BrokerAmqpEmbutido implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrokerAmqpEmbutido.class);
+
+    private final SystemLauncher launcher = new SystemLauncher();
+    private final int porta;
+
+    public BrokerAmqpEmbutido(int porta) {
+        this.porta = porta;
+    }
+
+    public void iniciar() throws Exception {
+        URL configuracao = BrokerAmqpEmbutido.class.getClassLoader().getResource("qpid-carga.json");
+        if (configuracao == null) {
+            throw new IllegalStateException("qpid-carga.json não encontrado no classpath");
+        }
+
+        Path diretorioTrabalho = Files.createTempDirectory("carga-cinema-qpid");
+        Map<String, Object> atributos = new HashMap<>();
+        atributos.put(SystemConfig.TYPE, "Memory");
+        atributos.put(SystemConfig.INITIAL_CONFIGURATION_LOCATION, configuracao.toExternalForm());
+        atributos.put(SystemConfig.STARTUP_LOGGED_TO_SYSTEM_OUT, false);
+        atributos.put(SystemConfig.CONTEXT, Map.of(
+                "qpid.amqp_port", String.valueOf(porta),
+                "qpid.work_dir", diretorioTrabalho.toString()));
+
+        launcher.startup(atributos);
+        logger.info("Broker AMQP embutido escutando na porta {}", porta);
+    }
+
+    @Override
+    public void close() throws IOException {
+        launcher.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package com.romanowski.pedro.carga.infra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servidor SMTP mínimo que aceita e descarta as mensagens, para que o envio de emails dos serviços
+ * entre na medição sem depender do Gmail. Conta as mensagens recebidas.
+ */
+public class SmtpSink implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtpSink.class);
+
+    private final int porta;
+    private final LongAdder mensagensRecebidas = new LongAdder();
+    private final ExecutorService conexoes = Executors.newVirtualThreadPerTaskExecutor();
+    private ServerSocket serverSocket;
+
+    public SmtpSink(int porta) {
+        this.porta = porta;
+    }
+
+    public void iniciar() throws IOException {
+        serverSocket = new ServerSocket(porta);
+        Thread.ofVirtual().name("smtp-sink").start(this::aceitarConexoes);
+        logger.info("SMTP sink escutando na porta {}", porta);
+    }
+
+    public long getMensagensRecebidas() {
+        return mensagensRecebidas.sum();
+    }
+
+    private void aceitarConexoes() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                conexoes.submit(() -> atender(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warn("Erro ao aceitar conexão SMTP: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void atender(Socket socket) {
+        try (socket;
+             BufferedReader entrada = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter saida = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+            responder(saida, "220 carga-cinema SMTP sink");
+            String linha;
+            while ((linha = entrada.readLine()) != null) {
+                String comando = linha.length() >= 4 ? linha.substring(0, 4).toUpperCase(Locale.ROOT) : linha.toUpperCase(Locale.ROOT);
+                switch (comando) {
+                    case "EHLO", "HELO" -> responder(saida, "250 carga-cinema");
+                    case "DATA" -> {
+                        responder(saida, "354 fim com <CRLF>.<CRLF>");
+                        while ((linha = entrada.readLine()) != null && !linha.equals(".")) {
+                            // conteúdo descartado
+                        }
+                        mensagensRecebidas.increment();
+                        responder(saida, "250 mensagem aceita");
+                    }
+                    case "QUIT" -> {
+                        responder(saida, "221 tchau");
+                        return;
+                    }
+                    default -> responder(saida, "250 ok");
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Conexão SMTP encerrada: {}", e.getMessage());
+        }
+    }
+
+    private void responder(PrintWriter saida, String resposta) {
+        saida.print(resposta + "\r\n");
+        saida.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        conexoes.shutdownNow();
+    }
+}
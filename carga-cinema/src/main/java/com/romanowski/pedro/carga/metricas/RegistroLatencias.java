@@ -0,0 +1,52 @@
+package com.romanowski.pedro.carga.metricas;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramas de latência por endpoint. Cada endpoint tem um {@link Recorder}, que aceita
+ * gravações concorrentes sem lock; o intervalo de aquecimento é descartado em {@link #zerar()}.
+ */
+public class RegistroLatencias {
+
+    private static final long LATENCIA_MAXIMA_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public void registrar(String endpoint, long latenciaNanos, boolean erro) {
+        Endpoint registro = endpoints.computeIfAbsent(endpoint, nome -> new Endpoint());
+        registro.recorder.recordValue(Math.min(latenciaNanos, LATENCIA_MAXIMA_NANOS));
+        if (erro) {
+            registro.erros.increment();
+        }
+    }
+
+    public void zerar() {
+        endpoints.values().forEach(Endpoint::zerar);
+    }
+
+    public Map<String, ResultadoEndpoint> consolidar(long duracaoNanos) {
+        Map<String, ResultadoEndpoint> resultado = new TreeMap<>();
+        endpoints.forEach((nome, registro) -> {
+            Histogram histograma = registro.recorder.getIntervalHistogram();
+            resultado.put(nome, ResultadoEndpoint.de(histograma, registro.erros.sum(), duracaoNanos));
+        });
+        return resultado;
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(LATENCIA_MAXIMA_NANOS, 3);
+        private final LongAdder erros = new LongAdder();
+
+        private void zerar() {
+            recorder.reset();
+            erros.reset();
+        }
+    }
+}
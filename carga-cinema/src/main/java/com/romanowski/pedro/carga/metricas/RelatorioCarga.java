@@ -0,0 +1,37 @@
+package com.romanowski.pedro.carga.metricas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class RelatorioCarga {
+
+    private RelatorioCarga() {
+    }
+
+    public static void imprimir(Map<String, ResultadoEndpoint> resultados, PrintStream saida) {
+        saida.printf("%-42s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "reqs", "erros", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        resultados.forEach((endpoint, r) -> saida.printf("%-42s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, r.requisicoes(), r.erros(), r.throughputPorSegundo(), r.p50Ms(), r.p99Ms(), r.p999Ms(), r.maximoMs()));
+    }
+
+    public static void gravarJson(Map<String, ResultadoEndpoint> resultados, Map<String, Object> parametros, Path arquivo) throws IOException {
+        Map<String, Object> documento = new LinkedHashMap<>();
+        documento.put("executadoEm", Instant.now().toString());
+        documento.put("parametros", parametros);
+        documento.put("endpoints", resultados);
+
+        Files.createDirectories(arquivo.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(arquivo.toFile(), documento);
+    }
+}
@@ -0,0 +1,32 @@
+package com.romanowski.pedro.carga.metricas;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+public record ResultadoEndpoint(
+        long requisicoes,
+        long erros,
+        double throughputPorSegundo,
+        double p50Ms,
+        double p99Ms,
+        double p999Ms,
+        double maximoMs
+) {
+
+    static ResultadoEndpoint de(Histogram histograma, long erros, long duracaoNanos) {
+        double segundos = duracaoNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return new ResultadoEndpoint(
+                histograma.getTotalCount(),
+                erros,
+                histograma.getTotalCount() / segundos,
+                emMilissegundos(histograma.getValueAtPercentile(50.0)),
+                emMilissegundos(histograma.getValueAtPercentile(99.0)),
+                emMilissegundos(histograma.getValueAtPercentile(99.9)),
+                emMilissegundos(histograma.getMaxValue()));
+    }
+
+    private static double emMilissegundos(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
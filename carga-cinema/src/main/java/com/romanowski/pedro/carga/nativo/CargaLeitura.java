@@ -0,0 +1,83 @@
+package com.romanowski.pedro.carga.nativo;
+
+import com.romanowski.pedro.carga.ConfiguracaoCarga;
+import com.romanowski.pedro.carga.http.ClienteHttp;
+import com.romanowski.pedro.carga.metricas.RegistroLatencias;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Carga em modelo aberto, na mesma taxa para as duas variantes (JVM e nativa), sobre as rotas
+ * mais frequentes dos dois serviços: listagem e busca de filme e login de cliente. A cada dez
+ * requisições uma é login, que inclui a verificação do BCrypt e a emissão do JWT.
+ */
+public class CargaLeitura {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargaLeitura.class);
+
+    private final ConfiguracaoCarga configuracao;
+    private final ClienteHttp clienteHttp;
+    private final RegistroLatencias registroLatencias;
+    private final SmokeNativo.Credenciais credenciais;
+
+    public CargaLeitura(ConfiguracaoCarga configuracao, ClienteHttp clienteHttp, RegistroLatencias registroLatencias,
+                        SmokeNativo.Credenciais credenciais) {
+        this.configuracao = configuracao;
+        this.clienteHttp = clienteHttp;
+        this.registroLatencias = registroLatencias;
+        this.credenciais = credenciais;
+    }
+
+    /**
+     * @return duração efetiva da janela medida, em nanossegundos
+     */
+    public long executar() throws InterruptedException {
+        try (ExecutorService requisicoes = Executors.newVirtualThreadPerTaskExecutor()) {
+            logger.info("Aquecimento de {} s a {} req/s", configuracao.aquecimentoSegundos(), configuracao.taxaPorSegundo());
+            gerar(requisicoes, configuracao.aquecimentoSegundos());
+            registroLatencias.zerar();
+
+            logger.info("Medição de {} s a {} req/s", configuracao.duracaoSegundos(), configuracao.taxaPorSegundo());
+            long inicio = System.nanoTime();
+            gerar(requisicoes, configuracao.duracaoSegundos());
+            requisicoes.shutdown();
+            if (!requisicoes.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("Requisições ainda em andamento ao fim da medição serão descartadas");
+            }
+            return System.nanoTime() - inicio;
+        }
+    }
+
+    private void gerar(ExecutorService requisicoes, int segundos) {
+        long intervalo = TimeUnit.SECONDS.toNanos(1) / configuracao.taxaPorSegundo();
+        long total = (long) segundos * configuracao.taxaPorSegundo();
+        long inicio = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long inicioPretendido = inicio + i * intervalo;
+            long espera = inicioPretendido - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            long sequencia = i;
+            requisicoes.execute(() -> requisitar(sequencia, inicioPretendido));
+        }
+    }
+
+    private void requisitar(long sequencia, long inicioPretendido) {
+        String filmes = configuracao.urlCatalogo() + "/v1/filmes";
+        switch ((int) (sequencia % 10)) {
+            case 0 -> clienteHttp.post("POST /v1/auth/clientes/login", configuracao.urlAutenticacao() + "/v1/auth/clientes/login", null,
+                    Map.of("email", credenciais.emailCliente(), "senha", credenciais.senhaCliente()), inicioPretendido);
+            case 1, 2, 3, 4 -> clienteHttp.get("GET /v1/filmes", filmes, credenciais.tokenAdministrador(), inicioPretendido);
+            default -> clienteHttp.get("GET /v1/filmes/{id}", filmes + "/" + credenciais.idFilme(),
+                    credenciais.tokenAdministrador(), inicioPretendido);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.romanowski.pedro.carga.nativo;
+
+import com.romanowski.pedro.carga.ConfiguracaoCarga;
+import com.romanowski.pedro.carga.http.ClienteHttp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Percorre os fluxos do ms-autenticacao-cinema e do ms-gerenciamento-catalogo que dependem de
+ * reflexão, proxies ou recursos (JWKS, login e refresh com java-jwt, cadastro com outbox, CRUD de
+ * filmes com MapStruct/Hibernate, segurança por método). Serve para validar o executável nativo,
+ * onde um metadado faltando só aparece em tempo de execução.
+ */
+public class SmokeNativo {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmokeNativo.class);
+
+    private static final String SENHA_CLIENTE = "smoke123";
+    private static final Duration ESPERA_MAXIMA = Duration.ofMinutes(2);
+
+    private final ConfiguracaoCarga configuracao;
+    private final ClienteHttp clienteHttp;
+    private int falhas;
+
+    public SmokeNativo(ConfiguracaoCarga configuracao, ClienteHttp clienteHttp) {
+        this.configuracao = configuracao;
+        this.clienteHttp = clienteHttp;
+    }
+
+    public record Credenciais(String tokenAdministrador, String emailCliente, String senhaCliente, long idFilme) {
+    }
+
+    /**
+     * @return credenciais e um filme cadastrado para a carga de leitura que vem em seguida
+     */
+    public Credenciais executar() throws InterruptedException {
+        aguardarServicos();
+        String autenticacao = configuracao.urlAutenticacao();
+        String filmes = configuracao.urlCatalogo() + "/v1/filmes";
+
+        ClienteHttp.Resposta jwks = clienteHttp.get("smoke", autenticacao + "/.well-known/jwks.json", null);
+        verificar("JWKS publica ao menos uma chave", jwks.sucesso() && jwks.corpo().path("keys").size() > 0, jwks);
+
+        ClienteHttp.Resposta loginAdministrador = clienteHttp.post("smoke", autenticacao + "/v1/auth/administradores/login", null,
+                Map.of("email", configuracao.emailAdministrador(), "senha", configuracao.senhaAdministrador()));
+        verificar("login do administrador", loginAdministrador.sucesso(), loginAdministrador);
+        String tokenAdministrador = loginAdministrador.sucesso() ? loginAdministrador.corpo().path("token").asText() : null;
+
+        String emailCliente = "smoke-" + UUID.randomUUID().toString().substring(0, 8) + "@carga.local";
+        ClienteHttp.Resposta cadastro = clienteHttp.post("smoke", autenticacao + "/v1/auth/clientes", null,
+                Map.of("nome", "Cliente Smoke", "email", emailCliente, "senha", SENHA_CLIENTE, "saldo", 100.0));
+        verificar("cadastro de cliente", cadastro.sucesso(), cadastro);
+
+        ClienteHttp.Resposta loginCliente = clienteHttp.post("smoke", autenticacao + "/v1/auth/clientes/login", null,
+                Map.of("email", emailCliente, "senha", SENHA_CLIENTE));
+        verificar("login do cliente", loginCliente.sucesso(), loginCliente);
+        String tokenCliente = loginCliente.sucesso() ? loginCliente.corpo().path("token").asText() : null;
+
+        if (loginCliente.sucesso()) {
+            ClienteHttp.Resposta refresh = clienteHttp.post("smoke", autenticacao + "/v1/auth/refresh", null,
+                    Map.of("refreshToken", loginCliente.corpo().path("refreshToken").asText()));
+            verificar("refresh do token", refresh.sucesso() && !refresh.corpo().path("token").asText().isBlank(), refresh);
+        }
+
+        ClienteHttp.Resposta cadastroFilme = clienteHttp.post("smoke", filmes, tokenAdministrador,
+                Map.of("titulo", "Filme Smoke " + UUID.randomUUID().toString().substring(0, 8), "duracao", 100,
+                        "genero", "Drama", "autor", "Smoke", "dataLancamento", "01/01/2020"));
+        verificar("cadastro de filme", cadastroFilme.status() == 201, cadastroFilme);
+        long idFilme = cadastroFilme.sucesso() ? cadastroFilme.corpo().path("id").asLong() : -1;
+
+        ClienteHttp.Resposta lista = clienteHttp.get("smoke", filmes, tokenCliente);
+        verificar("listagem de filmes pelo cliente", lista.sucesso() && lista.corpo().isArray(), lista);
+
+        ClienteHttp.Resposta porId = clienteHttp.get("smoke", filmes + "/" + idFilme, tokenCliente);
+        verificar("busca de filme por id", porId.sucesso() && "01/01/2020".equals(porId.corpo().path("dataLancamento").asText()), porId);
+
+        ClienteHttp.Resposta atualizacao = clienteHttp.patch("smoke", filmes + "/" + idFilme, tokenAdministrador, Map.of("duracao", 110));
+        verificar("atualização de filme", atualizacao.sucesso() && atualizacao.corpo().path("duracao").asInt() == 110, atualizacao);
+
+        ClienteHttp.Resposta semToken = clienteHttp.get("smoke", filmes, null);
+        verificar("catálogo recusa requisição sem token", semToken.status() == 401 || semToken.status() == 403, semToken);
+
+        ClienteHttp.Resposta proibido = clienteHttp.delete("smoke", filmes + "/" + idFilme, tokenCliente, System.nanoTime());
+        verificar("cliente não pode remover filme", proibido.status() == 403, proibido);
+
+        // Um segundo filme fica para a carga de leitura; o primeiro testa a remoção
+        ClienteHttp.Resposta remocao = clienteHttp.delete("smoke", filmes + "/" + idFilme, tokenAdministrador, System.nanoTime());
+        verificar("remoção de filme", remocao.status() == 204, remocao);
+        ClienteHttp.Resposta removido = clienteHttp.get("smoke", filmes + "/" + idFilme, tokenAdministrador);
+        verificar("filme removido não é encontrado", removido.status() >= 400 && removido.status() < 500, removido);
+
+        ClienteHttp.Resposta filmeLeitura = clienteHttp.post("smoke", filmes, tokenAdministrador,
+                Map.of("titulo", "Filme Leitura " + UUID.randomUUID().toString().substring(0, 8), "duracao", 120,
+                        "genero", "Drama", "autor", "Smoke", "dataLancamento", "01/01/2020"));
+        verificar("cadastro do filme da carga de leitura", filmeLeitura.status() == 201, filmeLeitura);
+
+        logger.info("Smoke concluído com {} falha(s)", falhas);
+        return new Credenciais(tokenAdministrador, emailCliente, SENHA_CLIENTE,
+                filmeLeitura.sucesso() ? filmeLeitura.corpo().path("id").asLong() : -1);
+    }
+
+    public int getFalhas() {
+        return falhas;
+    }
+
+    private void aguardarServicos() throws InterruptedException {
+        for (String url : new String[]{configuracao.urlAutenticacao(), configuracao.urlCatalogo()}) {
+            long limite = System.nanoTime() + ESPERA_MAXIMA.toNanos();
+            while (!clienteHttp.get("smoke", url + "/actuator/health", null).sucesso()) {
+                if (System.nanoTime() > limite) {
+                    throw new IllegalStateException("Tempo esgotado aguardando o serviço " + url);
+                }
+                Thread.sleep(500);
+            }
+        }
+    }
+
+    private void verificar(String descricao, boolean condicao, ClienteHttp.Resposta resposta) {
+        if (condicao) {
+            logger.info("OK    {}", descricao);
+        } else {
+            falhas++;
+            logger.error("FALHA {}: HTTP {} {}", descricao, resposta.status(), resposta.corpo());
+        }
+    }
+}
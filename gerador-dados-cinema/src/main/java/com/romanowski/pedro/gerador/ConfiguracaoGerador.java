@@ -0,0 +1,91 @@
+package com.romanowski.pedro.gerador;
+
+import com.romanowski.pedro.gerador.tabela.Banco;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do gerador, lidos de argumentos no formato --chave=valor. Os volumes padrão são
+ * multiplicados por {@code escala}, o que permite gerar uma amostra pequena com a mesma forma.
+ */
+public record ConfiguracaoGerador(
+        long semente,
+        int filmes,
+        int sessoes,
+        int clientes,
+        int reservas,
+        int administradores,
+        int salas,
+        LocalDate dataReferencia,
+        int diasFuturos,
+        String senhaUsuarios,
+        int linhasPorArquivo,
+        Path saida,
+        Map<Banco, String> urls,
+        String usuarioBanco,
+        String senhaBanco,
+        boolean limpar
+) {
+
+    public static ConfiguracaoGerador de(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                valores.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        double escala = Double.parseDouble(valores.getOrDefault("escala", "1"));
+
+        Map<Banco, String> urls = new EnumMap<>(Banco.class);
+        for (Banco banco : Banco.values()) {
+            urls.put(banco, valores.getOrDefault("url-" + banco.getNome(), banco.getUrlPadrao()));
+        }
+
+        return new ConfiguracaoGerador(
+                Long.parseLong(valores.getOrDefault("semente", "42")),
+                volume(valores, "filmes", 200_000, escala),
+                volume(valores, "sessoes", 500_000, escala),
+                volume(valores, "clientes", 2_000_000, escala),
+                volume(valores, "reservas", 10_000_000, escala),
+                inteiro(valores, "administradores", 5),
+                inteiro(valores, "salas", 200),
+                valores.containsKey("data-referencia") ? LocalDate.parse(valores.get("data-referencia")) : LocalDate.now(),
+                inteiro(valores, "dias-futuros", 14),
+                valores.getOrDefault("senha-usuarios", "cinema123"),
+                inteiro(valores, "linhas-por-arquivo", 1_000_000),
+                Path.of(valores.getOrDefault("saida", "target/dados")).toAbsolutePath(),
+                urls,
+                valores.getOrDefault("db-usuario", "root"),
+                valores.getOrDefault("db-senha", "rootpassword"),
+                Boolean.parseBoolean(valores.getOrDefault("limpar", "true")));
+    }
+
+    public Map<String, Object> comoMapa() {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        mapa.put("semente", semente);
+        mapa.put("filmes", filmes);
+        mapa.put("sessoes", sessoes);
+        mapa.put("clientes", clientes);
+        mapa.put("reservas", reservas);
+        mapa.put("administradores", administradores);
+        mapa.put("salas", salas);
+        mapa.put("dataReferencia", dataReferencia);
+        mapa.put("saida", saida);
+        return mapa;
+    }
+
+    private static int volume(Map<String, String> valores, String chave, int padrao, double escala) {
+        String valor = valores.get(chave);
+        return valor != null ? Integer.parseInt(valor) : (int) Math.max(1, Math.round(padrao * escala));
+    }
+
+    private static int inteiro(Map<String, String> valores, String chave, int padrao) {
+        String valor = valores.get(chave);
+        return valor == null ? padrao : Integer.parseInt(valor);
+    }
+}
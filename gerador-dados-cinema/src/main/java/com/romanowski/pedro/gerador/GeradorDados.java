@@ -0,0 +1,141 @@
+package com.romanowski.pedro.gerador;
+
+import com.romanowski.pedro.gerador.carga.ScriptCarga;
+import com.romanowski.pedro.gerador.modelo.ModeloDados;
+import com.romanowski.pedro.gerador.tabela.ArquivoCsv;
+import com.romanowski.pedro.gerador.tabela.Tabela;
+import org.mindrot.jbcrypt.BCrypt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Escreve os CSVs de todas as tabelas, divididos em partes de até {@code linhasPorArquivo} linhas
+ * geradas em paralelo. Como cada linha depende apenas da semente e do seu id, o conteúdo não muda
+ * com o número de threads.
+ */
+public class GeradorDados {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeradorDados.class);
+
+    private final ConfiguracaoGerador configuracao;
+    private final ModeloDados modelo;
+    private final String hashSenha;
+
+    public GeradorDados(ConfiguracaoGerador configuracao) {
+        this.configuracao = configuracao;
+        this.modelo = new ModeloDados(configuracao);
+        this.hashSenha = hashSenha(configuracao);
+    }
+
+    public Map<Tabela, List<Path>> gerar() throws Exception {
+        Map<Tabela, List<Path>> arquivos = new EnumMap<>(Tabela.class);
+        List<Future<Long>> partes = new ArrayList<>();
+        long inicio = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+            for (Tabela tabela : Tabela.values()) {
+                // Partes de uma execução anterior maior seriam carregadas junto com as novas
+                for (Path antigo : ScriptCarga.arquivos(configuracao.saida(), tabela)) {
+                    Files.delete(antigo);
+                }
+                long total = quantidade(tabela);
+                List<Path> arquivosTabela = new ArrayList<>();
+                for (long primeiro = 1, parte = 1; primeiro <= total; primeiro += configuracao.linhasPorArquivo(), parte++) {
+                    long ultimo = Math.min(total, primeiro + configuracao.linhasPorArquivo() - 1);
+                    Path arquivo = arquivo(configuracao.saida(), tabela, parte);
+                    arquivosTabela.add(arquivo);
+                    long primeiraLinha = primeiro;
+                    partes.add(executor.submit(() -> escrever(tabela, arquivo, primeiraLinha, ultimo)));
+                }
+                arquivos.put(tabela, arquivosTabela);
+            }
+            long linhas = 0;
+            for (Future<Long> parte : partes) {
+                linhas += parte.get();
+            }
+            logger.info("{} linhas geradas em {} arquivos em {} s", linhas, partes.size(), (System.nanoTime() - inicio) / 1_000_000_000);
+        }
+        return arquivos;
+    }
+
+    public static Path arquivo(Path saida, Tabela tabela, long parte) {
+        return saida.resolve(tabela.getBanco().getNome()).resolve("%s-%03d.csv".formatted(tabela.getNome(), parte));
+    }
+
+    private long quantidade(Tabela tabela) {
+        return switch (tabela) {
+            case ADMINISTRADORES -> configuracao.administradores();
+            case CREDENCIAIS_CLIENTES, CLIENTES -> configuracao.clientes();
+            case FILMES -> configuracao.filmes();
+            case SESSOES -> configuracao.sessoes();
+            case RESERVAS -> configuracao.reservas();
+        };
+    }
+
+    private long escrever(Tabela tabela, Path arquivo, long primeiro, long ultimo) throws IOException {
+        try (ArquivoCsv csv = new ArquivoCsv(arquivo)) {
+            for (long id = primeiro; id <= ultimo; id++) {
+                escreverLinha(tabela, csv, id);
+            }
+            logger.info("{}: linhas {} a {} em {}", tabela.getNome(), primeiro, ultimo, arquivo.getFileName());
+            return csv.getLinhas();
+        }
+    }
+
+    private void escreverLinha(Tabela tabela, ArquivoCsv csv, long id) throws IOException {
+        switch (tabela) {
+            case ADMINISTRADORES -> {
+                ModeloDados.Administrador administrador = modelo.administrador(id);
+                csv.escrever(administrador.id(), administrador.nome(), administrador.email(), hashSenha, "ADMIN");
+            }
+            case CREDENCIAIS_CLIENTES -> {
+                ModeloDados.Cliente cliente = modelo.cliente(id);
+                csv.escrever(cliente.id(), cliente.nome(), cliente.email(), hashSenha, cliente.saldo(), "CLIENTE");
+            }
+            case CLIENTES -> {
+                ModeloDados.Cliente cliente = modelo.cliente(id);
+                csv.escrever(cliente.id(), cliente.nome(), cliente.email(), hashSenha, cliente.saldo());
+            }
+            case FILMES -> {
+                ModeloDados.Filme filme = modelo.filme(id);
+                csv.escrever(filme.id(), filme.titulo(), filme.duracao(), filme.genero(), filme.autor(), filme.dataLancamento());
+            }
+            case SESSOES -> {
+                ModeloDados.Sessao sessao = modelo.sessao(id);
+                csv.escrever(sessao.id(), sessao.idFilme(), sessao.tituloFilme(), sessao.ativa(), sessao.sala(), sessao.preco(), sessao.dataHora(), sessao.duracaoMinutos());
+            }
+            case RESERVAS -> {
+                ModeloDados.Reserva reserva = modelo.reserva(id);
+                csv.escrever(reserva.id(), reserva.idCliente(), reserva.idSessao(), reserva.ativa(), reserva.pagamentoConfirmado(), reserva.mensagem());
+            }
+        }
+    }
+
+    /**
+     * Um único hash BCrypt para todos os usuários: calcular milhões de hashes levaria horas, e o
+     * login continua funcionando com {@code senhaUsuarios}. O salt vem da semente para o arquivo
+     * sair idêntico a cada execução.
+     */
+    private static String hashSenha(ConfiguracaoGerador configuracao) {
+        try {
+            SecureRandom aleatorio = SecureRandom.getInstance("SHA1PRNG");
+            aleatorio.setSeed(configuracao.semente());
+            return BCrypt.hashpw(configuracao.senhaUsuarios(), BCrypt.gensalt(10, aleatorio));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.romanowski.pedro.gerador;
+
+import com.romanowski.pedro.gerador.carga.CarregadorMysql;
+import com.romanowski.pedro.gerador.carga.ScriptCarga;
+import com.romanowski.pedro.gerador.tabela.Banco;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ponto de entrada do gerador de massa.
+ * <ul>
+ *     <li>{@code gerar} (padrão): escreve os CSVs e o {@code carregar.sql} de cada banco em {@code saida};</li>
+ *     <li>{@code carregar}: carrega nos bancos os arquivos já gerados;</li>
+ *     <li>{@code tudo}: gera e carrega.</li>
+ * </ul>
+ * A mesma semente e a mesma data de referência produzem exatamente os mesmos arquivos.
+ */
+public class GeradorDadosApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeradorDadosApplication.class);
+
+    public static void main(String[] args) throws Exception {
+        String modo = args.length > 0 && !args[0].startsWith("--") ? args[0] : "gerar";
+        ConfiguracaoGerador configuracao = ConfiguracaoGerador.de(args);
+
+        switch (modo) {
+            case "gerar" -> gerar(configuracao);
+            case "carregar" -> new CarregadorMysql(configuracao).carregar();
+            case "tudo" -> {
+                gerar(configuracao);
+                new CarregadorMysql(configuracao).carregar();
+            }
+            default -> throw new IllegalArgumentException("Modo desconhecido: " + modo + ". Use 'gerar', 'carregar' ou 'tudo'.");
+        }
+    }
+
+    private static void gerar(ConfiguracaoGerador configuracao) throws Exception {
+        logger.info("Parâmetros: {}", configuracao.comoMapa());
+        new GeradorDados(configuracao).gerar();
+        for (Banco banco : Banco.values()) {
+            logger.info("Script de carga: {}", ScriptCarga.gravar(banco, configuracao.saida(), configuracao.limpar()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.romanowski.pedro.gerador.carga;
+
+import com.romanowski.pedro.gerador.ConfiguracaoGerador;
+import com.romanowski.pedro.gerador.tabela.Banco;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Carrega os CSVs gerados nos bancos dos serviços. As tabelas precisam existir, ou seja, o Flyway
+ * de cada serviço já deve ter rodado ao menos uma vez. O servidor precisa aceitar
+ * {@code LOAD DATA LOCAL}; o carregador tenta habilitar {@code local_infile}, o que exige um
+ * usuário com privilégio administrativo (por padrão o root do docker-compose).
+ */
+public class CarregadorMysql {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarregadorMysql.class);
+
+    private final ConfiguracaoGerador configuracao;
+
+    public CarregadorMysql(ConfiguracaoGerador configuracao) {
+        this.configuracao = configuracao;
+    }
+
+    public void carregar() throws Exception {
+        for (Banco banco : Banco.values()) {
+            carregar(banco, ScriptCarga.comandos(banco, configuracao.saida(), configuracao.limpar()));
+        }
+    }
+
+    private void carregar(Banco banco, List<String> comandos) throws SQLException {
+        String url = configuracao.urls().get(banco);
+        String urlCarga = url + (url.contains("?") ? "&" : "?") + "allowLoadLocalInfile=true";
+        long inicio = System.nanoTime();
+
+        try (Connection conexao = DriverManager.getConnection(urlCarga, configuracao.usuarioBanco(), configuracao.senhaBanco());
+             Statement statement = conexao.createStatement()) {
+            habilitarLocalInfile(statement);
+            conexao.setAutoCommit(false);
+            long linhas = 0;
+            for (String comando : comandos) {
+                long afetadas = statement.executeLargeUpdate(comando);
+                if (comando.startsWith("LOAD DATA")) {
+                    linhas += afetadas;
+                }
+            }
+            conexao.commit();
+            logger.info("Banco {}: {} linhas carregadas em {} s", banco.getNome(), linhas, (System.nanoTime() - inicio) / 1_000_000_000);
+        }
+    }
+
+    private static void habilitarLocalInfile(Statement statement) {
+        try {
+            statement.execute("SET GLOBAL local_infile = 1");
+        } catch (SQLException e) {
+            logger.warn("Não foi possível habilitar local_infile ({}); a carga depende de o servidor já aceitar LOAD DATA LOCAL", e.getMessage());
+        }
+    }
+}
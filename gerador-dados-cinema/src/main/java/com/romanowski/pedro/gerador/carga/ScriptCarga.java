@@ -0,0 +1,76 @@
+package com.romanowski.pedro.gerador.carga;
+
+import com.romanowski.pedro.gerador.tabela.Banco;
+import com.romanowski.pedro.gerador.tabela.Tabela;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Comandos de carga de um banco com {@code LOAD DATA LOCAL INFILE}, o caminho mais rápido do MySQL
+ * para volumes grandes. As verificações de chave estrangeira e unicidade ficam desligadas durante a
+ * carga (os dados já saem consistentes do gerador) e cada arquivo é confirmado em sua própria transação.
+ * <p>
+ * Os mesmos comandos são executados pelo {@link CarregadorMysql} e gravados em {@code carregar.sql}
+ * para uso com {@code mysql --local-infile=1}.
+ */
+public final class ScriptCarga {
+
+    private static final String ARQUIVO_SCRIPT = "carregar.sql";
+
+    private ScriptCarga() {
+    }
+
+    public static List<String> comandos(Banco banco, Path saida, boolean limpar) throws IOException {
+        List<Tabela> tabelas = Stream.of(Tabela.values()).filter(tabela -> tabela.getBanco() == banco).toList();
+        List<String> comandos = new ArrayList<>();
+        comandos.add("SET foreign_key_checks = 0");
+        comandos.add("SET unique_checks = 0");
+        if (limpar) {
+            tabelas.reversed().forEach(tabela -> comandos.add("TRUNCATE TABLE " + tabela.getNome()));
+        }
+        for (Tabela tabela : tabelas) {
+            for (Path arquivo : arquivos(saida, tabela)) {
+                comandos.add(loadData(tabela, arquivo));
+                comandos.add("COMMIT");
+            }
+        }
+        comandos.add("SET unique_checks = 1");
+        comandos.add("SET foreign_key_checks = 1");
+        return comandos;
+    }
+
+    public static Path gravar(Banco banco, Path saida, boolean limpar) throws IOException {
+        Path script = saida.resolve(banco.getNome()).resolve(ARQUIVO_SCRIPT);
+        Files.createDirectories(script.getParent());
+        Files.write(script, comandos(banco, saida, limpar).stream().map(comando -> comando + ";").toList());
+        return script;
+    }
+
+    public static List<Path> arquivos(Path saida, Tabela tabela) throws IOException {
+        Path diretorio = saida.resolve(tabela.getBanco().getNome());
+        if (!Files.isDirectory(diretorio)) {
+            return List.of();
+        }
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(arquivo -> arquivo.getFileName().toString().matches(tabela.getNome() + "-\\d+\\.csv"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String loadData(Tabela tabela, Path arquivo) {
+        return """
+                LOAD DATA LOCAL INFILE '%s' INTO TABLE %s CHARACTER SET utf8mb4 \
+                FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' ESCAPED BY '\\\\' \
+                LINES TERMINATED BY '\\n' (%s)""".formatted(
+                arquivo.toAbsolutePath().toString().replace('\\', '/'),
+                tabela.getNome(),
+                String.join(", ", tabela.getColunas()));
+    }
+}
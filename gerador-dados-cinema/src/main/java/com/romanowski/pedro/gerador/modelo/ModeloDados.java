@@ -0,0 +1,162 @@
+package com.romanowski.pedro.gerador.modelo;
+
+import com.romanowski.pedro.gerador.ConfiguracaoGerador;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Gera cada linha a partir apenas da semente e do seu identificador, então qualquer linha pode ser
+ * recalculada isoladamente: as sessões obtêm o título do filme e as reservas o id do cliente sem
+ * manter as outras tabelas em memória, e os arquivos podem ser escritos em paralelo com o mesmo resultado.
+ * <p>
+ * As sessões são distribuídas em ordem cronológica, quatro horários por sala e por dia, terminando
+ * {@code diasFuturos} depois da data de referência; sessões da mesma sala nunca se sobrepõem,
+ * nem com o intervalo de limpeza de 15 minutos entre uma e outra.
+ * Filmes com id baixo, clientes com índice baixo e sessões recentes concentram a maior parte
+ * das sessões e reservas, como acontece com os lançamentos e os clientes frequentes.
+ */
+public class ModeloDados {
+
+    private static final List<LocalTime> HORARIOS = List.of(LocalTime.of(12, 0), LocalTime.of(15, 0), LocalTime.of(18, 0), LocalTime.of(21, 0));
+    private static final List<Double> PRECOS_POR_HORARIO = List.of(22.0, 26.0, 32.0, 36.0);
+    private static final int DURACAO_MINIMA = 75;
+    // Horários a cada 3 h: o filme mais longo mais a limpeza da sala ainda cabem entre duas sessões
+    private static final int DURACAO_MAXIMA = 165;
+
+    private static final long DOMINIO_FILME = 1;
+    private static final long DOMINIO_CLIENTE = 2;
+    private static final long DOMINIO_ADMINISTRADOR = 3;
+    private static final long DOMINIO_SESSAO = 4;
+    private static final long DOMINIO_RESERVA = 5;
+
+    private final ConfiguracaoGerador configuracao;
+    private final LocalDate primeiroDia;
+    private final LocalDateTime agora;
+    private final int sessoesPorDia;
+
+    public record Filme(long id, String titulo, int duracao, String genero, String autor, LocalDate dataLancamento) {
+    }
+
+    public record Cliente(UUID id, String nome, String email, double saldo) {
+    }
+
+    public record Administrador(UUID id, String nome, String email) {
+    }
+
+    public record Sessao(long id, long idFilme, String tituloFilme, boolean ativa, int sala, double preco, LocalDateTime dataHora, int duracaoMinutos) {
+    }
+
+    public record Reserva(long id, UUID idCliente, long idSessao, boolean ativa, boolean pagamentoConfirmado, String mensagem) {
+    }
+
+    public ModeloDados(ConfiguracaoGerador configuracao) {
+        this.configuracao = configuracao;
+        this.sessoesPorDia = configuracao.salas() * HORARIOS.size();
+        int dias = (configuracao.sessoes() + sessoesPorDia - 1) / sessoesPorDia;
+        this.primeiroDia = configuracao.dataReferencia().plusDays(configuracao.diasFuturos()).minusDays(dias - 1L);
+        this.agora = configuracao.dataReferencia().atTime(LocalTime.NOON);
+    }
+
+    public Filme filme(long id) {
+        SplittableRandom aleatorio = aleatorio(DOMINIO_FILME, id);
+        String titulo = escolher(aleatorio, Vocabulario.INICIOS_TITULO) + " " + escolher(aleatorio, Vocabulario.FINAIS_TITULO);
+        int variacao = aleatorio.nextInt(10);
+        if (variacao < 2) {
+            titulo += " " + (2 + aleatorio.nextInt(4));
+        } else if (variacao < 3) {
+            titulo += ": " + escolher(aleatorio, Vocabulario.INICIOS_TITULO) + " " + escolher(aleatorio, Vocabulario.FINAIS_TITULO);
+        }
+        int duracao = (int) Math.round(110 + aleatorio.nextGaussian() * 20);
+        int diasDesdeLancamento = (int) (18_250 * Math.pow(aleatorio.nextDouble(), 2));
+        return new Filme(id, titulo,
+                Math.clamp(duracao, DURACAO_MINIMA, DURACAO_MAXIMA),
+                escolher(aleatorio, Vocabulario.GENEROS),
+                escolher(aleatorio, Vocabulario.PRIMEIROS_NOMES) + " " + escolher(aleatorio, Vocabulario.SOBRENOMES),
+                configuracao.dataReferencia().minusDays(diasDesdeLancamento));
+    }
+
+    /**
+     * @param indice de 1 até o total de clientes
+     */
+    public Cliente cliente(long indice) {
+        SplittableRandom aleatorio = aleatorio(DOMINIO_CLIENTE, indice);
+        UUID id = uuid(aleatorio);
+        String primeiroNome = escolher(aleatorio, Vocabulario.PRIMEIROS_NOMES);
+        String sobrenome = escolher(aleatorio, Vocabulario.SOBRENOMES);
+        String nome = primeiroNome + " " + escolher(aleatorio, Vocabulario.SOBRENOMES) + " " + sobrenome;
+        String email = semAcentos(primeiroNome + "." + sobrenome) + "." + indice + "@" + escolher(aleatorio, Vocabulario.DOMINIOS);
+        double saldo = Math.round(aleatorio.nextDouble() * 50_000) / 100.0;
+        return new Cliente(id, nome, email, saldo);
+    }
+
+    public Administrador administrador(long indice) {
+        SplittableRandom aleatorio = aleatorio(DOMINIO_ADMINISTRADOR, indice);
+        return new Administrador(uuid(aleatorio), "Administrador " + indice, "admin" + indice + "@cinema.local");
+    }
+
+    public Sessao sessao(long id) {
+        SplittableRandom aleatorio = aleatorio(DOMINIO_SESSAO, id);
+        long posicao = id - 1;
+        int horario = (int) (posicao % sessoesPorDia / configuracao.salas());
+        int sala = (int) (posicao % configuracao.salas()) + 1;
+        LocalDateTime dataHora = dataHoraSessao(id);
+
+        long idFilme = 1 + (long) (configuracao.filmes() * Math.pow(aleatorio.nextDouble(), 3));
+        double preco = PRECOS_POR_HORARIO.get(horario)
+                + (dataHora.getDayOfWeek().getValue() >= 5 ? 4.0 : 0.0)
+                + aleatorio.nextInt(3) * 0.5;
+        boolean ativa = aleatorio.nextInt(100) >= 3;
+        Filme filme = filme(idFilme);
+        return new Sessao(id, idFilme, filme.titulo(), ativa, sala, preco, dataHora, filme.duracao());
+    }
+
+    public Reserva reserva(long id) {
+        SplittableRandom aleatorio = aleatorio(DOMINIO_RESERVA, id);
+        long idSessao = configuracao.sessoes() - (long) (configuracao.sessoes() * Math.pow(aleatorio.nextDouble(), 2));
+        long indiceCliente = 1 + (long) (configuracao.clientes() * Math.pow(aleatorio.nextDouble(), 1.5));
+        boolean futura = dataHoraSessao(idSessao).isAfter(agora);
+
+        boolean ativa = aleatorio.nextInt(100) >= (futura ? 8 : 5);
+        boolean pagamentoConfirmado = ativa && aleatorio.nextInt(100) < (futura ? 60 : 97);
+        String mensagem = Vocabulario.MENSAGENS_RESERVA.get(!ativa ? 2 : pagamentoConfirmado ? 1 : 0);
+        return new Reserva(id, cliente(indiceCliente).id(), idSessao, ativa, pagamentoConfirmado, mensagem);
+    }
+
+    private LocalDateTime dataHoraSessao(long id) {
+        long posicao = id - 1;
+        int horario = (int) (posicao % sessoesPorDia / configuracao.salas());
+        return primeiroDia.plusDays(posicao / sessoesPorDia).atTime(HORARIOS.get(horario));
+    }
+
+    /**
+     * Gerador próprio de cada linha, derivado da semente, do tipo de registro e do identificador
+     * pela função de mistura do SplitMix64.
+     */
+    private SplittableRandom aleatorio(long dominio, long id) {
+        long z = configuracao.semente() * 0x9E3779B97F4A7C15L + dominio * 0xBF58476D1CE4E5B9L + id;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    private static UUID uuid(SplittableRandom aleatorio) {
+        long maisSignificativos = (aleatorio.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long menosSignificativos = (aleatorio.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+
+    private static String escolher(SplittableRandom aleatorio, List<String> opcoes) {
+        return opcoes.get(aleatorio.nextInt(opcoes.size()));
+    }
+
+    private static String semAcentos(String texto) {
+        return Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,44 @@
+package com.romanowski.pedro.gerador.modelo;
+
+import java.util.List;
+
+/**
+ * Palavras usadas para compor nomes de pessoas e títulos de filmes com cara de dado real.
+ */
+final class Vocabulario {
+
+    static final List<String> PRIMEIROS_NOMES = List.of(
+            "Ana", "Beatriz", "Camila", "Daniela", "Eduarda", "Fernanda", "Gabriela", "Helena", "Isabela", "Júlia",
+            "Larissa", "Mariana", "Natália", "Olívia", "Patrícia", "Rafaela", "Sofia", "Tatiana", "Valentina", "Yasmin",
+            "André", "Bruno", "Carlos", "Diego", "Eduardo", "Felipe", "Gustavo", "Henrique", "Igor", "João",
+            "Lucas", "Marcelo", "Nicolas", "Otávio", "Pedro", "Rafael", "Samuel", "Thiago", "Vinícius", "Wagner");
+
+    static final List<String> SOBRENOMES = List.of(
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+            "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas",
+            "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira", "Romanowski", "Pinto", "Araújo", "Castro", "Moura");
+
+    static final List<String> DOMINIOS = List.of(
+            "gmail.com", "hotmail.com", "outlook.com", "yahoo.com.br", "uol.com.br", "icloud.com", "bol.com.br");
+
+    static final List<String> GENEROS = List.of(
+            "Ação", "Aventura", "Animação", "Comédia", "Documentário", "Drama", "Fantasia", "Ficção Científica",
+            "Musical", "Policial", "Romance", "Suspense", "Terror", "Faroeste", "Guerra");
+
+    static final List<String> INICIOS_TITULO = List.of(
+            "O Último", "A Última", "O Segredo de", "A Queda de", "O Retorno de", "A Lenda de", "Sombras de",
+            "Memórias de", "O Silêncio de", "A Fuga de", "Noites de", "O Mistério de", "A Promessa de",
+            "Herdeiros de", "O Código de", "A Ilha de", "Cartas de", "O Voo de", "A Guerra de", "Ecos de");
+
+    static final List<String> FINAIS_TITULO = List.of(
+            "Lisboa", "Gelo", "Marte", "Ouro", "Aurora", "Vidro", "Fogo", "Atlântida", "Cinzas", "Tempestade",
+            "Netuno", "Prata", "Eldorado", "Abril", "Babel", "Órion", "Sertão", "Veneza", "Amanhã", "Ninguém",
+            "Pedra", "Vento", "Nevoeiro", "Jade", "Cristal", "Areia", "Titã", "Itaca", "Outono", "Meia-Noite");
+
+    static final List<String> MENSAGENS_RESERVA = List.of(
+            "Reserva feita com sucesso", "Pagamento confirmado com sucesso", "Reserva cancelada com sucesso");
+
+    private Vocabulario() {
+    }
+}
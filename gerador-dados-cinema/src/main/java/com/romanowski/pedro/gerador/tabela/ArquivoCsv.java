@@ -0,0 +1,74 @@
+package com.romanowski.pedro.gerador.tabela;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escreve linhas no formato lido pelo {@code LOAD DATA} do MySQL: campos separados por vírgula,
+ * textos entre aspas, barra invertida como escape e {@code \N} para nulo.
+ */
+public class ArquivoCsv implements Closeable {
+
+    private static final DateTimeFormatter FORMATO_DATA_HORA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int TAMANHO_BUFFER = 1 << 20;
+
+    private final BufferedWriter writer;
+    private final StringBuilder linha = new StringBuilder(256);
+    private long linhas;
+
+    public ArquivoCsv(Path arquivo) throws IOException {
+        Files.createDirectories(arquivo.getParent());
+        this.writer = new BufferedWriter(Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+    }
+
+    public void escrever(Object... valores) throws IOException {
+        linha.setLength(0);
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                linha.append(',');
+            }
+            formatar(valores[i]);
+        }
+        linha.append('\n');
+        writer.append(linha);
+        linhas++;
+    }
+
+    public long getLinhas() {
+        return linhas;
+    }
+
+    private void formatar(Object valor) {
+        switch (valor) {
+            case null -> linha.append("\\N");
+            case Boolean booleano -> linha.append(booleano ? '1' : '0');
+            case Number numero -> linha.append(numero);
+            case LocalDateTime dataHora -> linha.append(FORMATO_DATA_HORA.format(dataHora));
+            case LocalDate data -> linha.append(data);
+            default -> {
+                linha.append('"');
+                String texto = valor.toString();
+                for (int i = 0; i < texto.length(); i++) {
+                    char c = texto.charAt(i);
+                    if (c == '"' || c == '\\') {
+                        linha.append('\\');
+                    }
+                    linha.append(c);
+                }
+                linha.append('"');
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
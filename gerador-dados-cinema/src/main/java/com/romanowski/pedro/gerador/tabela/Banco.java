@@ -0,0 +1,28 @@
+package com.romanowski.pedro.gerador.tabela;
+
+/**
+ * Bancos de cada microserviço, com a URL do container correspondente no docker-compose.
+ */
+public enum Banco {
+
+    AUTENTICACAO("autenticacao", "jdbc:mysql://localhost:3307/db_autenticacao"),
+    CATALOGO("catalogo", "jdbc:mysql://localhost:3308/db_catalogo"),
+    CLIENTES("clientes", "jdbc:mysql://localhost:3309/db_clientes"),
+    SESSOES("sessoes", "jdbc:mysql://localhost:3310/db_sessoes");
+
+    private final String nome;
+    private final String urlPadrao;
+
+    Banco(String nome, String urlPadrao) {
+        this.nome = nome;
+        this.urlPadrao = urlPadrao;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getUrlPadrao() {
+        return urlPadrao;
+    }
+}
@@ -0,0 +1,39 @@
+package com.romanowski.pedro.gerador.tabela;
+
+import java.util.List;
+
+/**
+ * Tabelas geradas, com as colunas na ordem em que aparecem no CSV. A ordem das constantes é a ordem
+ * de carga: tabelas referenciadas por chave estrangeira vêm antes de quem as referencia.
+ */
+public enum Tabela {
+
+    ADMINISTRADORES(Banco.AUTENTICACAO, "administrador", List.of("id", "nome", "email", "senha", "perfil")),
+    CREDENCIAIS_CLIENTES(Banco.AUTENTICACAO, "clientes", List.of("id", "nome", "email", "senha", "saldo", "perfil")),
+    FILMES(Banco.CATALOGO, "filmes", List.of("id", "titulo", "duracao", "genero", "autor", "data_lancamento")),
+    CLIENTES(Banco.CLIENTES, "clientes", List.of("id", "nome", "email", "senha", "saldo")),
+    SESSOES(Banco.SESSOES, "sessoes", List.of("id", "id_filme", "titulo_filme", "ativa", "sala", "preco", "data_hora", "duracao_minutos")),
+    RESERVAS(Banco.SESSOES, "reserva", List.of("id", "id_cliente", "id_sessao", "ativa", "pagamento_confirmado", "mensagem"));
+
+    private final Banco banco;
+    private final String nome;
+    private final List<String> colunas;
+
+    Tabela(Banco banco, String nome, List<String> colunas) {
+        this.banco = banco;
+        this.nome = nome;
+        this.colunas = colunas;
+    }
+
+    public Banco getBanco() {
+        return banco;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public List<String> getColunas() {
+        return colunas;
+    }
+}
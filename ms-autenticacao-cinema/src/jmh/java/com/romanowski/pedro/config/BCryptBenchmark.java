@@ -0,0 +1,43 @@
+package com.romanowski.pedro.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do BCrypt por operação; 10 é o padrão de seguranca.bcrypt.custo. Use -p custo=... para
+ * avaliar outro valor antes de alterá-lo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BCryptBenchmark {
+
+    private static final String SENHA = "senha123";
+
+    @Param({"10"})
+    private int custo;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(custo);
+        hash = passwordEncoder.encode(SENHA);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(SENHA);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(SENHA, hash);
+    }
+}
@@ -0,0 +1,53 @@
+package com.romanowski.pedro.service;
+
+import com.romanowski.pedro.config.ChavesJwt;
+import com.romanowski.pedro.config.UsuarioAutenticado;
+import com.romanowski.pedro.entity.CredencialEntity;
+import com.romanowski.pedro.enums.Perfil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assinatura (login e refresh) e verificação (SecurityFilter) de tokens RS256.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private LoginService loginService;
+    private TokenService tokenService;
+    private CredencialEntity credencial;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        ChavesJwt chavesJwt = new ChavesJwt("benchmark", "", "", List.of());
+        // gerarToken não usa repositórios nem caches
+        loginService = new LoginService(null, null, null, null, null, chavesJwt);
+        tokenService = new TokenService(chavesJwt);
+        credencial = CredencialEntity.builder()
+                .id(UUID.randomUUID())
+                .email("cliente@email.com")
+                .senha("hash")
+                .perfil(Perfil.CLIENTE)
+                .build();
+        token = loginService.gerarToken(credencial);
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return loginService.gerarToken(credencial);
+    }
+
+    @Benchmark
+    public UsuarioAutenticado recuperarUsuario() {
+        return tokenService.recuperarUsuario(token);
+    }
+}
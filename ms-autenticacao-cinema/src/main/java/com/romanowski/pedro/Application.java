@@ -1,13 +1,19 @@
 package com.romanowski.pedro;
 
+import com.romanowski.pedro.config.NativeHints;
+import com.romanowski.pedro.config.balanceamento.BalanceamentoConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.PropertySource;
 
 @PropertySource("classpath:messages/global.properties")
 @SpringBootApplication
 @EnableFeignClients
+@LoadBalancerClients(defaultConfiguration = BalanceamentoConfiguration.class)
+@ImportRuntimeHints(NativeHints.class)
 public class Application {
 
     public static void main(String[] args) {
@@ -0,0 +1,38 @@
+package com.romanowski.pedro.config;
+
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@Profile("!test")
+@EnableScheduling
+public class AMQPConfiguration {
+
+    public static final String EXCHANGE_CLIENTES = "clientes.ex";
+
+    @Bean
+    public RabbitAdmin criaRabbitAdmin(ConnectionFactory conn){
+        return new RabbitAdmin(conn);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> inicializaAdmin(RabbitAdmin rabbitAdmin){
+        return event -> rabbitAdmin.initialize();
+    }
+
+    @Bean
+    public FanoutExchange clientesExchange(){
+        return ExchangeBuilder
+                .fanoutExchange(EXCHANGE_CLIENTES)
+                .durable(true)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.romanowski.pedro.config;
+
+import com.romanowski.pedro.entity.AdministradorEntity;
+import com.romanowski.pedro.enums.Perfil;
+import com.romanowski.pedro.repository.AdministradorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.UUID;
+
+/**
+ * Cria o administrador usado pelo carga-cinema para cadastrar filmes e sessões. O banco do perfil
+ * "carga" é um H2 em memória, então ele precisa ser recriado a cada subida.
+ */
+@Configuration
+@Profile("carga")
+public class CargaConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargaConfiguration.class);
+
+    @Bean
+    public ApplicationRunner criarAdministradorCarga(AdministradorRepository administradorRepository, PasswordEncoder passwordEncoder,
+                                                     @Value("${carga.administrador.email}") String email,
+                                                     @Value("${carga.administrador.senha}") String senha) {
+        return args -> {
+            AdministradorEntity administrador = new AdministradorEntity();
+            administrador.setId(UUID.randomUUID());
+            administrador.setNome("Administrador Carga");
+            administrador.setEmail(email);
+            administrador.setSenha(passwordEncoder.encode(senha));
+            administrador.setPerfil(Perfil.ADMIN);
+            administradorRepository.save(administrador);
+            logger.info("Administrador de carga criado: {}", email);
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.romanowski.pedro.config;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chaves RSA usadas para assinar os tokens. A chave atual assina; as chaves públicas anteriores
+ * continuam publicadas no JWKS para que tokens emitidos antes de uma rotação sigam válidos.
+ * O {@link Algorithm} é construído uma única vez e reutilizado em todas as assinaturas.
+ */
+@Component
+public class ChavesJwt implements RSAKeyProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChavesJwt.class);
+
+    public static final String EMISSOR = "cinecom-auth";
+
+    private final String kidAtual;
+    private final RSAPrivateKey chavePrivada;
+    private final Map<String, RSAPublicKey> chavesPublicas = new LinkedHashMap<>();
+    private final Algorithm algoritmo;
+    private final Map<String, Object> jwks;
+
+    public ChavesJwt(@Value("${seguranca.jwt.kid:${JWT_KID:cinecom-1}}") String kidAtual,
+                     @Value("${seguranca.jwt.chave-privada:${JWT_PRIVATE_KEY:}}") String chavePrivada,
+                     @Value("${seguranca.jwt.chave-publica:${JWT_PUBLIC_KEY:}}") String chavePublica,
+                     @Value("${seguranca.jwt.chaves-anteriores:${JWT_PREVIOUS_PUBLIC_KEYS:}}") List<String> chavesAnteriores) {
+        this.kidAtual = kidAtual;
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            if (chavePrivada == null || chavePrivada.isBlank()) {
+                logger.warn("Nenhuma chave privada configurada para assinar tokens, gerando um par RSA temporário. Não utilize em produção.");
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                KeyPair par = generator.generateKeyPair();
+                this.chavePrivada = (RSAPrivateKey) par.getPrivate();
+                this.chavesPublicas.put(kidAtual, (RSAPublicKey) par.getPublic());
+            } else {
+                this.chavePrivada = (RSAPrivateKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodificar(chavePrivada)));
+                this.chavesPublicas.put(kidAtual, chavePublica == null || chavePublica.isBlank()
+                        ? derivarChavePublica(keyFactory, this.chavePrivada)
+                        : (RSAPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(decodificar(chavePublica))));
+            }
+            for (String anterior : chavesAnteriores) {
+                if (anterior.isBlank()) {
+                    continue;
+                }
+                String[] partes = anterior.trim().split("=", 2);
+                chavesPublicas.putIfAbsent(partes[0], (RSAPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(decodificar(partes[1]))));
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("Chaves JWT inválidas", e);
+        }
+        this.algoritmo = Algorithm.RSA256(this);
+        this.jwks = montarJwks();
+        logger.info("Chaves JWT carregadas. Kid atual: {}, chaves publicadas: {}", kidAtual, chavesPublicas.keySet());
+    }
+
+    public Algorithm algoritmo() {
+        return algoritmo;
+    }
+
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) {
+        return keyId == null ? chavesPublicas.get(kidAtual) : chavesPublicas.get(keyId);
+    }
+
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return chavePrivada;
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return kidAtual;
+    }
+
+    private Map<String, Object> montarJwks() {
+        List<Map<String, String>> chaves = new ArrayList<>();
+        chavesPublicas.forEach((kid, chave) -> {
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", kid);
+            jwk.put("n", base64Url(chave.getModulus()));
+            jwk.put("e", base64Url(chave.getPublicExponent()));
+            chaves.add(Map.copyOf(jwk));
+        });
+        return Map.of("keys", List.copyOf(chaves));
+    }
+
+    private static RSAPublicKey derivarChavePublica(KeyFactory keyFactory, RSAPrivateKey chavePrivada) throws GeneralSecurityException {
+        if (!(chavePrivada instanceof RSAPrivateCrtKey crt)) {
+            throw new IllegalStateException("Informe a chave pública junto com a chave privada");
+        }
+        return (RSAPublicKey) keyFactory.generatePublic(new RSAPublicKeySpec(crt.getModulus(), crt.getPublicExponent()));
+    }
+
+    private static byte[] decodificar(String chave) {
+        String conteudo = chave.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(conteudo);
+    }
+
+    private static String base64Url(BigInteger valor) {
+        byte[] bytes = valor.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
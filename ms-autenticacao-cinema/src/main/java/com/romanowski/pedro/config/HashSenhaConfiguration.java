@@ -0,0 +1,48 @@
+package com.romanowski.pedro.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class HashSenhaConfiguration {
+
+    @Value("${seguranca.bcrypt.custo:10}")
+    private int custoBCrypt;
+
+    @Value("${seguranca.hash.threads:0}")
+    private int threads;
+
+    @Value("${seguranca.hash.fila:64}")
+    private int capacidadeFila;
+
+    @Value("${seguranca.hash.timeout-ms:2000}")
+    private long timeoutMillis;
+
+    @Value("${mensagem.autenticacao.sobrecarregada}")
+    private String mensagemSobrecarga;
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor executorHashSenha() {
+        int tamanhoPool = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                tamanhoPool,
+                tamanhoPool,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                Thread.ofPlatform().name("hash-senha-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(ThreadPoolExecutor executorHashSenha, MeterRegistry meterRegistry) {
+        return new PasswordEncoderLimitado(custoBCrypt, executorHashSenha, timeoutMillis, mensagemSobrecarga, meterRegistry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.romanowski.pedro.config;
+
+import com.romanowski.pedro.dto.request.CadastroFeignClientRequestDTO;
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.entity.AdministradorEntity;
+import com.romanowski.pedro.entity.ClienteEntity;
+import com.romanowski.pedro.entity.CredencialEntity;
+import com.romanowski.pedro.entity.EventoOutboxEntity;
+import com.romanowski.pedro.entity.RefreshTokenEntity;
+import com.romanowski.pedro.feign.ClienteFeignClient;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+
+import java.util.stream.Stream;
+
+/**
+ * Metadados de alcançabilidade para a imagem nativa ({@code mvn -Pnative native:compile}) daquilo que
+ * o processamento AOT do Spring não enxerga sozinho. Os mappers do MapStruct não precisam de nada:
+ * as implementações são geradas na compilação e registradas como beans comuns.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    // O java-jwt (de)serializa cabeçalho e payload com Jackson via reflexão sobre estas classes internas
+    private static final String[] CLASSES_JAVA_JWT = {
+            "com.auth0.jwt.impl.BasicHeader",
+            "com.auth0.jwt.impl.PayloadImpl",
+            "com.auth0.jwt.impl.HeaderDeserializer",
+            "com.auth0.jwt.impl.PayloadDeserializer",
+            "com.auth0.jwt.impl.HeaderSerializer",
+            "com.auth0.jwt.impl.PayloadSerializer",
+            "com.auth0.jwt.impl.ClaimsSerializer",
+            "com.auth0.jwt.impl.JsonNodeClaim"
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        Stream.of(CLASSES_JAVA_JWT)
+                .filter(classe -> ClassUtils.isPresent(classe, classLoader))
+                .forEach(classe -> hints.reflection().registerType(TypeReference.of(classe),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.ACCESS_DECLARED_FIELDS));
+
+        // Payload do outbox serializado com o JsonMapper e resposta do Feign desserializada pelo decoder
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                CadastroFeignClientRequestDTO.class, ClienteResponseDTO.class);
+
+        hints.proxies().registerJdkProxy(ClienteFeignClient.class);
+        hints.reflection().registerType(ClienteFeignClient.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Entidades com getters/setters do Lombok, acessadas pelo Hibernate por reflexão
+        Stream.of(AdministradorEntity.class, ClienteEntity.class, CredencialEntity.class,
+                        EventoOutboxEntity.class, RefreshTokenEntity.class)
+                .forEach(entidade -> hints.reflection().registerType(entidade,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.ACCESS_DECLARED_FIELDS));
+
+        hints.resources().registerPattern("db/migration/*.sql");
+        hints.resources().registerPattern("messages/*.properties");
+    }
+}
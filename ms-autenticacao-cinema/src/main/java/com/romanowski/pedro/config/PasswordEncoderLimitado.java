@@ -0,0 +1,110 @@
+package com.romanowski.pedro.config;
+
+import com.romanowski.pedro.exceptions.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PasswordEncoderLimitado implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderLimitado.class);
+
+    private static final Pattern CUSTO_BCRYPT = Pattern.compile("\\A\\$2[abyx]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final int custo;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final String mensagemSobrecarga;
+
+    private final Timer tempoEspera;
+    private final Timer tempoHash;
+    private final Counter rejeicoes;
+
+    public PasswordEncoderLimitado(int custo, ThreadPoolExecutor executor, long timeoutMillis,
+                                   String mensagemSobrecarga, MeterRegistry meterRegistry) {
+        this.bCryptPasswordEncoder = new BCryptPasswordEncoder(custo);
+        this.custo = custo;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.mensagemSobrecarga = mensagemSobrecarga;
+        this.tempoEspera = Timer.builder("autenticacao.hash.espera")
+                .description("Tempo que o hash de senha aguardou na fila do executor")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.tempoHash = Timer.builder("autenticacao.hash.execucao")
+                .description("Tempo de execução do BCrypt")
+                .tag("custo", String.valueOf(custo))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejeicoes = Counter.builder("autenticacao.hash.rejeicoes")
+                .description("Hashes recusados por saturação do executor")
+                .register(meterRegistry);
+        meterRegistry.gauge("autenticacao.hash.fila", executor, pool -> pool.getQueue().size());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executar(() -> bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executar(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = CUSTO_BCRYPT.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != custo;
+    }
+
+    private <T> T executar(Supplier<T> tarefa) {
+        long enfileiradoEm = System.nanoTime();
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(() -> {
+                tempoEspera.record(System.nanoTime() - enfileiradoEm, TimeUnit.NANOSECONDS);
+                return tempoHash.record(tarefa);
+            });
+        } catch (RejectedExecutionException e) {
+            rejeicoes.increment();
+            logger.warn("Executor de hash saturado, requisição recusada. Fila: {}", executor.getQueue().size());
+            throw new ServicoSobrecarregadoException(mensagemSobrecarga);
+        }
+
+        try {
+            return futuro.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            rejeicoes.increment();
+            logger.warn("Hash de senha excedeu o tempo limite de {} ms", timeoutMillis);
+            throw new ServicoSobrecarregadoException(mensagemSobrecarga);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServicoSobrecarregadoException(mensagemSobrecarga);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Erro ao processar hash de senha", e.getCause());
+        }
+    }
+}
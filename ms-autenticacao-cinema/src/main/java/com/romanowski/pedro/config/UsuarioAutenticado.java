@@ -0,0 +1,18 @@
+package com.romanowski.pedro.config;
+
+import com.romanowski.pedro.enums.Perfil;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal montado apenas com as claims de um token já verificado, sem consulta ao banco.
+ */
+public record UsuarioAutenticado(UUID id, String email, Perfil perfil) {
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + perfil.name()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.romanowski.pedro.config.balanceamento;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuração padrão dos clientes do Spring Cloud LoadBalancer, registrada em {@code Application} com
+ * {@code @LoadBalancerClients}. Não é anotada com {@code @Configuration} porque é carregada no contexto
+ * de cada serviço chamado, e não no contexto principal.
+ * <p>
+ * {@code balanceamento.estrategia}: {@code round-robin} (padrão do Spring Cloud), {@code menor-latencia}
+ * ou {@code menor-em-andamento}.
+ */
+public class BalanceamentoConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(Environment environment,
+                                                                                    LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                                    EstatisticasInstancias estatisticas) {
+        String servico = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        ObjectProvider<ServiceInstanceListSupplier> fornecedor = loadBalancerClientFactory.getLazyProvider(servico, ServiceInstanceListSupplier.class);
+        String estrategia = environment.getProperty("balanceamento.estrategia", "round-robin");
+        return switch (estrategia) {
+            case "round-robin" -> new RoundRobinLoadBalancer(fornecedor, servico);
+            case "menor-latencia" -> new BalanceadorMenorLatencia(servico, fornecedor, estatisticas, BalanceadorMenorLatencia.Criterio.LATENCIA);
+            case "menor-em-andamento" -> new BalanceadorMenorLatencia(servico, fornecedor, estatisticas, BalanceadorMenorLatencia.Criterio.EM_ANDAMENTO);
+            default -> throw new IllegalArgumentException("Estratégia de balanceamento desconhecida: " + estrategia
+                    + ". Use 'round-robin', 'menor-latencia' ou 'menor-em-andamento'.");
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.config.ChavesJwt;
+import com.romanowski.pedro.controller.swagger.JwksControllerSwagger;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+public class JwksController implements JwksControllerSwagger {
+
+    private final ChavesJwt chavesJwt;
+
+    public JwksController(ChavesJwt chavesJwt) {
+        this.chavesJwt = chavesJwt;
+    }
+
+    @Override
+    public ResponseEntity<Map<String, Object>> obterChavesPublicas() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(chavesJwt.jwks());
+    }
+}
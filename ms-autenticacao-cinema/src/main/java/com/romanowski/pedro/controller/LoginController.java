@@ -2,13 +2,18 @@ package com.romanowski.pedro.controller;
 
 import com.romanowski.pedro.controller.swagger.LoginControllerSwagger;
 import com.romanowski.pedro.dto.request.LoginRequestDTO;
+import com.romanowski.pedro.dto.request.RefreshTokenRequestDTO;
 import com.romanowski.pedro.dto.response.LoginResponseDTO;
-import com.romanowski.pedro.entity.AdministradorEntity;
-import com.romanowski.pedro.entity.ClienteEntity;
+import com.romanowski.pedro.entity.CredencialEntity;
+import com.romanowski.pedro.enums.Perfil;
 import com.romanowski.pedro.service.LoginService;
+import com.romanowski.pedro.service.RefreshTokenService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,29 +29,64 @@ public class LoginController implements LoginControllerSwagger {
 
     private final LoginService loginService;
 
-    public LoginController(AuthenticationManager authenticationManager, LoginService loginService) {
+    private final RefreshTokenService refreshTokenService;
+
+    public LoginController(AuthenticationManager authenticationManager, LoginService loginService, RefreshTokenService refreshTokenService) {
         this.authenticationManager = authenticationManager;
         this.loginService = loginService;
+        this.refreshTokenService = refreshTokenService;
     }
 
+    @Value("${mensagem.credenciais.invalidas}")
+    private String mensagemCredenciaisInvalidas;
+
     @Override
+    @Timed(value = "cinema.login", extraTags = {"perfil", "CLIENTE"})
     @RateLimiter(name = "loginService")
     public ResponseEntity<LoginResponseDTO> efetuarLoginCliente(LoginRequestDTO loginRequestDTO) {
-        var authenticationToken = new UsernamePasswordAuthenticationToken(loginRequestDTO.email(), loginRequestDTO.senha());
-        var authentication = authenticationManager.authenticate(authenticationToken);
-        String token = loginService.gerarTokenCliente((ClienteEntity) authentication.getPrincipal());
+        var credencial = autenticar(loginRequestDTO, Perfil.CLIENTE);
+        String token = loginService.gerarToken(credencial);
+        String refreshToken = refreshTokenService.emitir(credencial);
 
-        return ResponseEntity.ok().body(new LoginResponseDTO(token, LocalDateTime.now(), ((ClienteEntity) authentication.getPrincipal()).getPerfil(), ((ClienteEntity) authentication.getPrincipal()).getId()));
+        return ResponseEntity.ok().body(new LoginResponseDTO(token, refreshToken, LocalDateTime.now(), credencial.getPerfil(), credencial.getId()));
     }
 
 
     @Override
+    @Timed(value = "cinema.login", extraTags = {"perfil", "ADMIN"})
     @RateLimiter(name = "loginService")
     public ResponseEntity<LoginResponseDTO> efetuarLoginAdministradores(LoginRequestDTO loginRequestDTO) throws Exception {
+        var credencial = autenticar(loginRequestDTO, Perfil.ADMIN);
+        String token = loginService.gerarToken(credencial);
+        String refreshToken = refreshTokenService.emitir(credencial);
+
+        return ResponseEntity.ok().body(new LoginResponseDTO(token, refreshToken, LocalDateTime.now(), credencial.getPerfil(), credencial.getId()));
+    }
+
+    @Override
+    @Timed("cinema.login.renovacao")
+    @RateLimiter(name = "loginService")
+    public ResponseEntity<LoginResponseDTO> renovarToken(RefreshTokenRequestDTO refreshTokenRequestDTO) {
+        var renovacao = refreshTokenService.renovar(refreshTokenRequestDTO.refreshToken());
+        var credencial = renovacao.credencial();
+        String token = loginService.gerarToken(credencial);
+
+        return ResponseEntity.ok().body(new LoginResponseDTO(token, renovacao.refreshToken(), LocalDateTime.now(), credencial.getPerfil(), credencial.getId()));
+    }
+
+    @Override
+    public ResponseEntity<Void> efetuarLogout(RefreshTokenRequestDTO refreshTokenRequestDTO) {
+        refreshTokenService.revogar(refreshTokenRequestDTO.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    private CredencialEntity autenticar(LoginRequestDTO loginRequestDTO, Perfil perfilEsperado) {
         var authenticationToken = new UsernamePasswordAuthenticationToken(loginRequestDTO.email(), loginRequestDTO.senha());
         var authentication = authenticationManager.authenticate(authenticationToken);
-        String token = loginService.gerarTokenAdministrador((AdministradorEntity) authentication.getPrincipal());
-
-        return ResponseEntity.ok().body(new LoginResponseDTO(token, LocalDateTime.now(), ((AdministradorEntity) authentication.getPrincipal()).getPerfil(), ((AdministradorEntity) authentication.getPrincipal()).getId()));
+        var credencial = (CredencialEntity) authentication.getPrincipal();
+        if (credencial.getPerfil() != perfilEsperado) {
+            throw new BadCredentialsException(mensagemCredenciaisInvalidas);
+        }
+        return credencial;
     }
 }
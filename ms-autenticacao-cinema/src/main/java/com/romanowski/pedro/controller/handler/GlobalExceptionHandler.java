@@ -1,6 +1,8 @@
 package com.romanowski.pedro.controller.handler;
 
+import com.romanowski.pedro.exceptions.RefreshTokenInvalidoException;
 import com.romanowski.pedro.exceptions.SecurityException;
+import com.romanowski.pedro.exceptions.ServicoSobrecarregadoException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.ServiceUnavailableException;
 import org.springframework.http.HttpHeaders;
@@ -28,6 +30,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
+    @ExceptionHandler(RefreshTokenInvalidoException.class)
+    public ResponseEntity<ExceptionResponse> handleRefreshTokenInvalidoException(RefreshTokenInvalidoException ex, HttpServletRequest request){
+        ExceptionResponse response = new ExceptionResponse(
+                new Date(),
+                ex.getMessage(),
+                request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionResponse> handleException(Exception ex, HttpServletRequest request){
         ExceptionResponse response = new ExceptionResponse(
@@ -60,6 +71,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<ExceptionResponse> handleServicoSobrecarregadoException(ServicoSobrecarregadoException ex, HttpServletRequest request){
+        ExceptionResponse response = new ExceptionResponse(
+                new Date(),
+                ex.getMessage(),
+                request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(response);
+    }
+
     @ExceptionHandler(ServiceUnavailableException.class)
     public ResponseEntity<ExceptionResponse> handleServiceUnavailableException(ServiceUnavailableException ex, HttpServletRequest request){
         ExceptionResponse response = new ExceptionResponse(
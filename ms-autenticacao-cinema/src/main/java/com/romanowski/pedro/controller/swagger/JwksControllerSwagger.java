@@ -0,0 +1,17 @@
+package com.romanowski.pedro.controller.swagger;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.util.Map;
+
+
+@Tag(name = "JWKS", description = "Chaves públicas usadas pelos demais serviços para validar os tokens emitidos.")
+public interface JwksControllerSwagger {
+
+    @Operation(summary = "Chaves Públicas", description = "Retorna o conjunto de chaves públicas (JWK Set) que assinam os tokens do cinema.")
+    @GetMapping(value = "/.well-known/jwks.json", produces = "application/json")
+    ResponseEntity<Map<String, Object>> obterChavesPublicas();
+}
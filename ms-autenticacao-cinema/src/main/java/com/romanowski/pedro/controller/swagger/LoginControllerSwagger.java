@@ -1,6 +1,7 @@
 package com.romanowski.pedro.controller.swagger;
 
 import com.romanowski.pedro.dto.request.LoginRequestDTO;
+import com.romanowski.pedro.dto.request.RefreshTokenRequestDTO;
 import com.romanowski.pedro.dto.response.LoginResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,4 +21,12 @@ public interface LoginControllerSwagger {
     @Operation(summary = "Login Administrador", description = "Permite que o administrador realize seu login dentro do cinema.")
     @PostMapping("/auth/administradores/login")
     ResponseEntity<LoginResponseDTO> efetuarLoginAdministradores(@Valid @RequestBody LoginRequestDTO loginRequestDTO) throws Exception;
+
+    @Operation(summary = "Renovar Token", description = "Emite um novo token de acesso a partir do refresh token, sem reenviar a senha. O refresh token informado é substituído por um novo.")
+    @PostMapping("/auth/refresh")
+    ResponseEntity<LoginResponseDTO> renovarToken(@Valid @RequestBody RefreshTokenRequestDTO refreshTokenRequestDTO);
+
+    @Operation(summary = "Logout", description = "Revoga o refresh token informado e todos os tokens renovados a partir dele.")
+    @PostMapping("/auth/logout")
+    ResponseEntity<Void> efetuarLogout(@Valid @RequestBody RefreshTokenRequestDTO refreshTokenRequestDTO);
 }
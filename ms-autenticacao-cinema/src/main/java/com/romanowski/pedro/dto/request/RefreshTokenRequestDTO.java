@@ -0,0 +1,8 @@
+package com.romanowski.pedro.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDTO(
+        @NotBlank String refreshToken
+) {
+}
@@ -7,6 +7,7 @@ import java.util.UUID;
 
 public record LoginResponseDTO(
         String token,
+        String refreshToken,
         LocalDateTime dataHoraLogin,
         Perfil perfilAtribuido,
         UUID id
@@ -0,0 +1,84 @@
+package com.romanowski.pedro.entity;
+
+import com.romanowski.pedro.enums.Perfil;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static java.sql.Types.VARCHAR;
+
+/**
+ * Visão somente leitura das credenciais de clientes e administradores, para que o login
+ * resolva o usuário com uma única consulta pelo email (sempre armazenado em minúsculas).
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Entity
+@Immutable
+@Subselect("""
+        select c.id, c.email, c.senha, c.perfil from clientes c
+        union all
+        select a.id, a.email, a.senha, a.perfil from administrador a
+        """)
+@Synchronize({"clientes", "administrador"})
+public class CredencialEntity implements UserDetails {
+
+    @Id
+    @Column(name = "id", length = 36, columnDefinition = "CHAR(36)")
+    @JdbcTypeCode(VARCHAR)
+    private UUID id;
+    private String email;
+    private String senha;
+    @Enumerated(EnumType.STRING)
+    private Perfil perfil;
+
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + perfil.name()));
+    }
+
+    @Override
+    public @Nullable String getPassword() {
+        return getSenha();
+    }
+
+    @Override
+    public String getUsername() {
+        return getEmail();
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.romanowski.pedro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static java.sql.Types.VARCHAR;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(name = "outbox_eventos")
+public class EventoOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 60)
+    private String tipo;
+
+    @Column(name = "id_agregado", length = 36, columnDefinition = "CHAR(36)", nullable = false)
+    @JdbcTypeCode(VARCHAR)
+    private UUID idAgregado;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "publicado_em")
+    private LocalDateTime publicadoEm;
+}
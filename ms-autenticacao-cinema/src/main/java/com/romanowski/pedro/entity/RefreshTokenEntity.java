@@ -0,0 +1,43 @@
+package com.romanowski.pedro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static java.sql.Types.VARCHAR;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshTokenEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(name = "familia", length = 36, columnDefinition = "CHAR(36)", nullable = false)
+    @JdbcTypeCode(VARCHAR)
+    private UUID familia;
+
+    @Column(name = "id_usuario", length = 36, columnDefinition = "CHAR(36)", nullable = false)
+    @JdbcTypeCode(VARCHAR)
+    private UUID idUsuario;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+
+    private boolean utilizado;
+
+    private boolean revogado;
+}
@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class RefreshTokenInvalidoException extends RuntimeException {
+    public RefreshTokenInvalidoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class ServicoSobrecarregadoException extends RuntimeException {
+    public ServicoSobrecarregadoException(String message) {
+        super(message);
+    }
+}
@@ -2,11 +2,17 @@ package com.romanowski.pedro.repository;
 
 import com.romanowski.pedro.entity.AdministradorEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 import java.util.UUID;
 
 public interface AdministradorRepository extends JpaRepository<AdministradorEntity, UUID> {
 
-    Optional<AdministradorEntity> findByEmailIgnoreCase(String email);
+    @Transactional
+    @Modifying
+    @Query("update AdministradorEntity a set a.senha = :senha where a.id = :id")
+    int atualizarSenha(@Param("id") UUID id, @Param("senha") String senha);
 }
@@ -2,12 +2,19 @@ package com.romanowski.pedro.repository;
 
 import com.romanowski.pedro.entity.ClienteEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 import java.util.UUID;
 
 public interface ClienteRepository extends JpaRepository<ClienteEntity, UUID> {
 
     Boolean existsByEmail(String email);
-    Optional<ClienteEntity> findByEmailIgnoreCase(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update ClienteEntity c set c.senha = :senha where c.id = :id")
+    int atualizarSenha(@Param("id") UUID id, @Param("senha") String senha);
 }
@@ -0,0 +1,16 @@
+package com.romanowski.pedro.repository;
+
+import com.romanowski.pedro.entity.CredencialEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CredencialRepository extends JpaRepository<CredencialEntity, UUID> {
+
+    // Emails repetidos entre clientes e administradores, anteriores à validação do cadastro nas duas tabelas:
+    // o administrador vem primeiro ("ADMIN" < "CLIENTE") para que um cadastro de cliente não o encubra
+    Optional<CredencialEntity> findFirstByEmailOrderByPerfilAsc(String email);
+
+    boolean existsByEmail(String email);
+}
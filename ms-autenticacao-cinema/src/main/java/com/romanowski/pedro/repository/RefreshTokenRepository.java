@@ -0,0 +1,25 @@
+package com.romanowski.pedro.repository;
+
+import com.romanowski.pedro.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    // Marca o token como utilizado só se ninguém o fez antes: o UPDATE trava a linha, e uma renovação
+    // concorrente com o mesmo token espera o commit e não altera nada
+    @Modifying
+    @Query("update RefreshTokenEntity r set r.utilizado = true where r.id = :id and r.utilizado = false and r.revogado = false")
+    int marcarUtilizado(@Param("id") Long id);
+
+    @Modifying
+    @Query("update RefreshTokenEntity r set r.revogado = true where r.familia = :familia")
+    int revogarFamilia(@Param("familia") UUID familia);
+}
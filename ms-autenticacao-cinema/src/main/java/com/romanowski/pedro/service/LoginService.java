@@ -1,18 +1,21 @@
 package com.romanowski.pedro.service;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
-import com.romanowski.pedro.entity.AdministradorEntity;
-import com.romanowski.pedro.entity.ClienteEntity;
+import com.romanowski.pedro.config.ChavesJwt;
+import com.romanowski.pedro.entity.CredencialEntity;
 import com.romanowski.pedro.enums.Perfil;
 import com.romanowski.pedro.repository.AdministradorRepository;
 import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.repository.CredencialRepository;
+import com.romanowski.pedro.service.cache.CacheCredenciais;
+import com.romanowski.pedro.service.cache.CacheEmailsInexistentes;
+import io.micrometer.core.annotation.Timed;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -22,64 +25,78 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 
 @Service
-public class LoginService implements UserDetailsService {
-
-    @Value("${spring.security.jwt.secret}")
-    private String JWT_SECRET;
+@Timed("cinema.servico")
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final CredencialRepository credencialRepository;
     private final AdministradorRepository administradorRepository;
     private final ClienteRepository clienteRepository;
+    private final CacheEmailsInexistentes cacheEmailsInexistentes;
+    private final CacheCredenciais cacheCredenciais;
+    private final ChavesJwt chavesJwt;
     private Logger logger = LoggerFactory.getLogger(TokenService.class);
 
-    public LoginService(AdministradorRepository administradorRepository, ClienteRepository clienteRepository) {
+    public LoginService(CredencialRepository credencialRepository, AdministradorRepository administradorRepository,
+                        ClienteRepository clienteRepository, CacheEmailsInexistentes cacheEmailsInexistentes,
+                        CacheCredenciais cacheCredenciais, ChavesJwt chavesJwt) {
+        this.credencialRepository = credencialRepository;
         this.administradorRepository = administradorRepository;
         this.clienteRepository = clienteRepository;
+        this.cacheEmailsInexistentes = cacheEmailsInexistentes;
+        this.cacheCredenciais = cacheCredenciais;
+        this.chavesJwt = chavesJwt;
     }
 
     @Override
     public UserDetails loadUserByUsername(@NonNull String username) throws UsernameNotFoundException {
         logger.info("Procurando dados do login do usuário: {}", username);
-        return clienteRepository.findByEmailIgnoreCase(username)
-                .map(user -> (UserDetails) user)
-                .or(() -> administradorRepository.findByEmailIgnoreCase(username)
-                        .map(user -> (UserDetails) user))
-                .orElseThrow(() -> new UsernameNotFoundException("Usuario nao encontrado"));
+        String email = normalizarEmail(username);
+        if (cacheEmailsInexistentes.contem(email)) {
+            throw new UsernameNotFoundException("Usuario nao encontrado");
+        }
+        return credencialRepository.findFirstByEmailOrderByPerfilAsc(email)
+                .orElseThrow(() -> {
+                    cacheEmailsInexistentes.registrar(email);
+                    return new UsernameNotFoundException("Usuario nao encontrado");
+                });
     }
 
-    public String gerarTokenCliente(ClienteEntity cliente){
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        logger.info("Atualizando o hash da senha do usuário: {}", user.getUsername());
+        if (!(user instanceof CredencialEntity credencial)) {
+            return user;
+        }
+        if (credencial.getPerfil() == Perfil.ADMIN) {
+            administradorRepository.atualizarSenha(credencial.getId(), newPassword);
+        } else {
+            clienteRepository.atualizarSenha(credencial.getId(), newPassword);
+        }
+        cacheCredenciais.remover(credencial.getId());
+        return credencial.toBuilder().senha(newPassword).build();
+    }
 
+    public String gerarToken(CredencialEntity credencial){
+        try {
             return JWT.create()
-                    .withIssuer("cinecom-auth")
-                    .withSubject(cliente.getId().toString())
-                    .withClaim("email", cliente.getEmail())
-                    .withClaim("roles", List.of("CLIENTE"))
+                    .withIssuer(ChavesJwt.EMISSOR)
+                    .withSubject(credencial.getId().toString())
+                    .withClaim("email", credencial.getEmail())
+                    .withClaim("roles", List.of(credencial.getPerfil().name()))
                     .withIssuedAt(new Date())
                     .withExpiresAt(dataExpiracaoToken())
-                    .sign(algorithm);
+                    .sign(chavesJwt.algoritmo());
 
         } catch (JWTCreationException e){
             throw new RuntimeException("Erro ao gerar token JWT", e);
         }
     }
 
-    public String gerarTokenAdministrador(AdministradorEntity administrador){
-        try{
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
-            return JWT.create()
-                    .withIssuer("cinecom-auth")
-                    .withSubject(administrador.getId().toString())
-                    .withClaim("email", administrador.getEmail())
-                    .withClaim("roles", List.of("ADMIN"))
-                    .withIssuedAt(new Date())
-                    .withExpiresAt(dataExpiracaoToken())
-                    .sign(algorithm);
-        } catch(JWTCreationException e){
-            throw new RuntimeException("Erro ao gerar token JWT", e);
-        }
+    public static String normalizarEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
     }
 
     private Instant dataExpiracaoToken(){
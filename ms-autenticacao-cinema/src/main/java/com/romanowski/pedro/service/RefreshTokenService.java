@@ -0,0 +1,136 @@
+package com.romanowski.pedro.service;
+
+import com.romanowski.pedro.entity.CredencialEntity;
+import com.romanowski.pedro.entity.RefreshTokenEntity;
+import com.romanowski.pedro.exceptions.RefreshTokenInvalidoException;
+import com.romanowski.pedro.repository.RefreshTokenRepository;
+import com.romanowski.pedro.service.cache.CacheCredenciais;
+import com.romanowski.pedro.service.cache.RefreshTokensRevogados;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TAMANHO_TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final CacheCredenciais cacheCredenciais;
+    private final RefreshTokensRevogados refreshTokensRevogados;
+    private final long validadeDias;
+
+    @Value("${mensagem.refresh.token.invalido}")
+    private String mensagemRefreshTokenInvalido;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, CacheCredenciais cacheCredenciais,
+                               RefreshTokensRevogados refreshTokensRevogados,
+                               @Value("${seguranca.refresh-token.validade-dias:7}") long validadeDias) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.cacheCredenciais = cacheCredenciais;
+        this.refreshTokensRevogados = refreshTokensRevogados;
+        this.validadeDias = validadeDias;
+    }
+
+    public record Renovacao(CredencialEntity credencial, String refreshToken) {
+    }
+
+    @Transactional
+    public String emitir(CredencialEntity credencial) {
+        return emitir(credencial.getId(), UUID.randomUUID());
+    }
+
+    @Transactional(noRollbackFor = RefreshTokenInvalidoException.class)
+    public Renovacao renovar(String refreshToken) {
+        String tokenHash = calcularHash(refreshToken);
+        if (refreshTokensRevogados.contem(tokenHash)) {
+            throw new RefreshTokenInvalidoException(mensagemRefreshTokenInvalido);
+        }
+
+        RefreshTokenEntity atual = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new RefreshTokenInvalidoException(mensagemRefreshTokenInvalido));
+
+        if (atual.isUtilizado()) {
+            throw revogarPorReuso(atual);
+        }
+        if (atual.isRevogado() || atual.getExpiraEm().isBefore(LocalDateTime.now())) {
+            refreshTokensRevogados.registrar(tokenHash, paraMillis(atual.getExpiraEm()));
+            throw new RefreshTokenInvalidoException(mensagemRefreshTokenInvalido);
+        }
+
+        CredencialEntity credencial = cacheCredenciais.buscarPorId(atual.getIdUsuario())
+                .orElseThrow(() -> new RefreshTokenInvalidoException(mensagemRefreshTokenInvalido));
+
+        if (refreshTokenRepository.marcarUtilizado(atual.getId()) == 0) {
+            // Outra renovação com o mesmo token chegou primeiro
+            throw revogarPorReuso(atual);
+        }
+        logger.info("Refresh token rotacionado para o usuário {}", credencial.getId());
+        return new Renovacao(credencial, emitir(credencial.getId(), atual.getFamilia()));
+    }
+
+    @Transactional
+    public void revogar(String refreshToken) {
+        String tokenHash = calcularHash(refreshToken);
+        refreshTokenRepository.findByTokenHash(tokenHash).ifPresent(token -> {
+            logger.info("Revogando refresh tokens da família {}", token.getFamilia());
+            refreshTokenRepository.revogarFamilia(token.getFamilia());
+            refreshTokensRevogados.registrar(tokenHash, paraMillis(token.getExpiraEm()));
+        });
+    }
+
+    /**
+     * Reapresentação de um token já rotacionado: a família inteira é considerada comprometida. Só então o
+     * hash entra no conjunto em memória; um token apenas rotacionado precisa chegar ao banco para que o
+     * reuso seja detectado.
+     */
+    private RefreshTokenInvalidoException revogarPorReuso(RefreshTokenEntity token) {
+        logger.warn("Reuso de refresh token detectado para o usuário {}, revogando a família {}", token.getIdUsuario(), token.getFamilia());
+        refreshTokenRepository.revogarFamilia(token.getFamilia());
+        refreshTokensRevogados.registrar(token.getTokenHash(), paraMillis(token.getExpiraEm()));
+        return new RefreshTokenInvalidoException(mensagemRefreshTokenInvalido);
+    }
+
+    private String emitir(UUID idUsuario, UUID familia) {
+        byte[] bytes = new byte[TAMANHO_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(calcularHash(refreshToken))
+                .familia(familia)
+                .idUsuario(idUsuario)
+                .expiraEm(LocalDateTime.now().plusDays(validadeDias))
+                .build());
+        return refreshToken;
+    }
+
+    private String calcularHash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private long paraMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -2,29 +2,50 @@ package com.romanowski.pedro.service;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import org.springframework.beans.factory.annotation.Value;
+import com.romanowski.pedro.config.ChavesJwt;
+import com.romanowski.pedro.config.UsuarioAutenticado;
+import com.romanowski.pedro.enums.Perfil;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.UUID;
+
 @Service
 public class TokenService {
 
-    @Value("${spring.security.jwt.secret}")
-    private String JWT_SECRET;
+    private final JWTVerifier verifier;
 
+    public TokenService(ChavesJwt chavesJwt) {
+        this.verifier = JWT.require(chavesJwt.algoritmo())
+                .withIssuer(ChavesJwt.EMISSOR)
+                .build();
+    }
 
     public String verificarToken(String token){
-        DecodedJWT decodedJWT;
-        try{
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer("Cinecom")
-                    .build();
+        return decodificar(token).getSubject();
+    }
+
+    public UsuarioAutenticado recuperarUsuario(String token){
+        DecodedJWT decodedJWT = decodificar(token);
+        List<String> roles = decodedJWT.getClaim("roles").asList(String.class);
+        if (roles == null || roles.isEmpty()) {
+            throw new RuntimeException("Token JWT sem perfil");
+        }
+        try {
+            return new UsuarioAutenticado(
+                    UUID.fromString(decodedJWT.getSubject()),
+                    decodedJWT.getClaim("email").asString(),
+                    Perfil.valueOf(roles.getFirst()));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new RuntimeException("Token JWT invalido ou expirado", e);
+        }
+    }
 
-            decodedJWT = verifier.verify(token);
-            return decodedJWT.getSubject();
+    private DecodedJWT decodificar(String token){
+        try{
+            return verifier.verify(token);
         } catch(JWTVerificationException e){
             // todo lancar uma exceção correta, fazer isso depois que criar a exception handler a a exceção personalizada
             throw new RuntimeException("Token JWT invalido ou expirado", e);
@@ -0,0 +1,61 @@
+package com.romanowski.pedro.service.cache;
+
+import com.romanowski.pedro.entity.CredencialEntity;
+import com.romanowski.pedro.repository.CredencialRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache por id das credenciais usadas fora do login (ex.: renovação de token). As entradas
+ * expiram sozinhas e são removidas quando a senha do usuário muda.
+ */
+@Component
+public class CacheCredenciais {
+
+    private record Entrada(CredencialEntity credencial, long expiraEm) {
+    }
+
+    private final Map<UUID, Entrada> entradas = new ConcurrentHashMap<>();
+    private final CredencialRepository credencialRepository;
+    private final long ttlMillis;
+    private final int tamanhoMaximo;
+
+    public CacheCredenciais(CredencialRepository credencialRepository,
+                            @Value("${seguranca.credenciais.cache.ttl-ms:60000}") long ttlMillis,
+                            @Value("${seguranca.credenciais.cache.tamanho:10000}") int tamanhoMaximo) {
+        this.credencialRepository = credencialRepository;
+        this.ttlMillis = ttlMillis;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public Optional<CredencialEntity> buscarPorId(UUID id) {
+        long agora = System.currentTimeMillis();
+        Entrada entrada = entradas.get(id);
+        if (entrada != null && entrada.expiraEm() >= agora) {
+            return Optional.of(entrada.credencial());
+        }
+
+        Optional<CredencialEntity> credencial = credencialRepository.findById(id);
+        credencial.ifPresentOrElse(encontrada -> armazenar(id, encontrada, agora), () -> entradas.remove(id));
+        return credencial;
+    }
+
+    public void remover(UUID id) {
+        entradas.remove(id);
+    }
+
+    private void armazenar(UUID id, CredencialEntity credencial, long agora) {
+        if (entradas.size() >= tamanhoMaximo && !entradas.containsKey(id)) {
+            entradas.entrySet().removeIf(entrada -> entrada.getValue().expiraEm() < agora);
+            if (entradas.size() >= tamanhoMaximo) {
+                return;
+            }
+        }
+        entradas.put(id, new Entrada(credencial, agora + ttlMillis));
+    }
+}
@@ -0,0 +1,61 @@
+package com.romanowski.pedro.service.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Guarda por pouco tempo os emails que não possuem credencial, para que tentativas de login
+ * repetidas com emails desconhecidos não consultem o banco a cada requisição.
+ */
+@Component
+public class CacheEmailsInexistentes {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheEmailsInexistentes.class);
+
+    private final Map<String, Long> expiracoes = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int tamanhoMaximo;
+
+    public CacheEmailsInexistentes(@Value("${seguranca.login.cache-negativo.ttl-ms:30000}") long ttlMillis,
+                                   @Value("${seguranca.login.cache-negativo.tamanho:10000}") int tamanhoMaximo) {
+        this.ttlMillis = ttlMillis;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public boolean contem(String email) {
+        Long expiraEm = expiracoes.get(email);
+        if (expiraEm == null) {
+            return false;
+        }
+        if (expiraEm < System.currentTimeMillis()) {
+            expiracoes.remove(email, expiraEm);
+            return false;
+        }
+        return true;
+    }
+
+    public void registrar(String email) {
+        if (expiracoes.size() >= tamanhoMaximo) {
+            removerExpirados();
+            if (expiracoes.size() >= tamanhoMaximo) {
+                logger.warn("Cache de emails inexistentes cheio ({} entradas), email não registrado", tamanhoMaximo);
+                return;
+            }
+        }
+        expiracoes.put(email, System.currentTimeMillis() + ttlMillis);
+    }
+
+    public void remover(String email) {
+        expiracoes.remove(email);
+    }
+
+    private void removerExpirados() {
+        long agora = System.currentTimeMillis();
+        expiracoes.entrySet().removeIf(entrada -> entrada.getValue() < agora);
+    }
+}
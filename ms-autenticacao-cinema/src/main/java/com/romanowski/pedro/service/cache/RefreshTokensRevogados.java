@@ -0,0 +1,47 @@
+package com.romanowski.pedro.service.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conjunto em memória dos refresh tokens revogados (logout, reuso, expiração), guardados pelo hash
+ * até a expiração, para que reapresentações sejam recusadas sem consultar o banco. Tokens apenas
+ * rotacionados ficam de fora: a reapresentação deles precisa chegar ao banco para revogar a família.
+ */
+@Component
+public class RefreshTokensRevogados {
+
+    private final Map<String, Long> expiracoes = new ConcurrentHashMap<>();
+    private final int tamanhoMaximo;
+
+    public RefreshTokensRevogados(@Value("${seguranca.refresh-token.revogados.tamanho:100000}") int tamanhoMaximo) {
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public boolean contem(String tokenHash) {
+        Long expiraEm = expiracoes.get(tokenHash);
+        if (expiraEm == null) {
+            return false;
+        }
+        if (expiraEm < System.currentTimeMillis()) {
+            expiracoes.remove(tokenHash, expiraEm);
+            return false;
+        }
+        return true;
+    }
+
+    public void registrar(String tokenHash, long expiraEmMillis) {
+        if (expiracoes.size() >= tamanhoMaximo) {
+            long agora = System.currentTimeMillis();
+            expiracoes.entrySet().removeIf(entrada -> entrada.getValue() < agora);
+            if (expiracoes.size() >= tamanhoMaximo) {
+                // O banco continua sendo a fonte de verdade; o conjunto é apenas um atalho
+                return;
+            }
+        }
+        expiracoes.put(tokenHash, expiraEmMillis);
+    }
+}
@@ -0,0 +1,45 @@
+package com.romanowski.pedro.service.outbox;
+
+import com.romanowski.pedro.entity.EventoOutboxEntity;
+import com.romanowski.pedro.repository.EventoOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Registra eventos na tabela de outbox dentro da transação de quem os gera. A publicação no
+ * RabbitMQ acontece depois, pelo {@link PublicadorOutbox}, então o evento só existe se a
+ * operação de negócio tiver sido confirmada.
+ */
+@Service
+public class OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxService.class);
+
+    public static final String CLIENTE_CADASTRADO = "cliente.cadastrado";
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final JsonMapper jsonMapper;
+
+    public OutboxService(EventoOutboxRepository eventoOutboxRepository, JsonMapper jsonMapper) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarEvento(String tipo, UUID idAgregado, Object payload) {
+        logger.info("Registrando evento {} para o agregado {} no outbox", tipo, idAgregado);
+        eventoOutboxRepository.save(EventoOutboxEntity.builder()
+                .tipo(tipo)
+                .idAgregado(idAgregado)
+                .payload(jsonMapper.writeValueAsString(payload))
+                .criadoEm(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,111 @@
+package com.romanowski.pedro.service.outbox;
+
+import com.romanowski.pedro.config.AMQPConfiguration;
+import com.romanowski.pedro.entity.EventoOutboxEntity;
+import com.romanowski.pedro.repository.EventoOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publica os eventos pendentes do outbox em lotes. Um evento só é marcado como publicado depois da
+ * confirmação do broker (publisher confirms correlacionados); recusados, devolvidos ou sem confirmação
+ * dentro do prazo ficam pendentes para o próximo ciclo. A entrega é "pelo menos uma vez": se o
+ * serviço cair entre o envio e o commit, o lote é reenviado e o consumidor descarta duplicados.
+ */
+@Component
+@Profile("!test")
+public class PublicadorOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicadorOutbox.class);
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final int tamanhoLote;
+    private final long esperaConfirmacaoMillis;
+
+    public PublicadorOutbox(EventoOutboxRepository eventoOutboxRepository, RabbitTemplate rabbitTemplate,
+                            @Value("${outbox.publicacao.lote:100}") int tamanhoLote,
+                            @Value("${outbox.publicacao.espera-confirmacao-ms:5000}") long esperaConfirmacaoMillis) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.esperaConfirmacaoMillis = esperaConfirmacaoMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.publicacao.intervalo-ms:500}")
+    @Transactional
+    public void publicarPendentes() {
+        List<EventoOutboxEntity> pendentes = eventoOutboxRepository.travarPendentes(tamanhoLote);
+        if (pendentes.isEmpty()) {
+            return;
+        }
+
+        Map<EventoOutboxEntity, CorrelationData> envios = new LinkedHashMap<>();
+        for (EventoOutboxEntity evento : pendentes) {
+            Message mensagem = paraMensagem(evento);
+            CorrelationData correlacao = new CorrelationData(mensagem.getMessageProperties().getMessageId());
+            rabbitTemplate.send(AMQPConfiguration.EXCHANGE_CLIENTES, evento.getTipo(), mensagem, correlacao);
+            envios.put(evento, correlacao);
+        }
+
+        // As confirmações chegam em paralelo; o prazo vale para o lote inteiro
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaConfirmacaoMillis);
+        LocalDateTime agora = LocalDateTime.now();
+        int publicados = 0;
+        for (Map.Entry<EventoOutboxEntity, CorrelationData> envio : envios.entrySet()) {
+            if (confirmado(envio.getValue(), limite)) {
+                envio.getKey().setPublicadoEm(agora);
+                publicados++;
+            }
+        }
+        logger.info("{} de {} eventos do outbox publicados", publicados, pendentes.size());
+    }
+
+    private boolean confirmado(CorrelationData correlacao, long limiteNanos) {
+        try {
+            CorrelationData.Confirm confirmacao = correlacao.getFuture()
+                    .get(Math.max(0, limiteNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!confirmacao.ack() || correlacao.getReturned() != null) {
+                logger.warn("Evento {} não aceito pelo broker: {}", correlacao.getId(),
+                        correlacao.getReturned() != null ? correlacao.getReturned().getReplyText() : confirmacao.reason());
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Sem confirmação do broker para o evento {}, fica pendente", correlacao.getId());
+            return false;
+        }
+    }
+
+    private Message paraMensagem(EventoOutboxEntity evento) {
+        return MessageBuilder.withBody(evento.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(evento.getTipo() + ":" + evento.getId())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
@@ -3,7 +3,7 @@ package com.romanowski.pedro.service.validation;
 import com.romanowski.pedro.entity.ClienteEntity;
 import com.romanowski.pedro.exceptions.EmailExistenteException;
 import com.romanowski.pedro.exceptions.SenhaInvalidaException;
-import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.repository.CredencialRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,7 +14,7 @@ public class CadastroClienteValidation {
 
     private static final Logger logger = LoggerFactory.getLogger(CadastroClienteValidation.class);
 
-    private final ClienteRepository clienteRepository;
+    private final CredencialRepository credencialRepository;
 
     @Value("${mensagem.email.existente}")
     private String mensagemEmailExistente;
@@ -22,8 +22,8 @@ public class CadastroClienteValidation {
     @Value("${mensagem.senha.invalida}")
     private String mensagemSenhaInvalida;
 
-    public CadastroClienteValidation(ClienteRepository clienteRepository) {
-        this.clienteRepository = clienteRepository;
+    public CadastroClienteValidation(CredencialRepository credencialRepository) {
+        this.credencialRepository = credencialRepository;
     }
 
     public void validarCadastroCliente(ClienteEntity cliente){
@@ -32,8 +32,9 @@ public class CadastroClienteValidation {
     }
 
     private void validarExistenciaEmail(String email){
-        if (clienteRepository.existsByEmail(email)){
-            logger.info("Cliente com email {} encontrado", email);
+        // Clientes e administradores entram pelo mesmo login, então o email não pode existir em nenhuma das tabelas
+        if (credencialRepository.existsByEmail(email)){
+            logger.info("Usuário com email {} encontrado", email);
             throw new EmailExistenteException(mensagemEmailExistente);
         }
     }
@@ -0,0 +1,3 @@
+UPDATE clientes SET email = LOWER(TRIM(email));
+
+UPDATE administrador SET email = LOWER(TRIM(email));
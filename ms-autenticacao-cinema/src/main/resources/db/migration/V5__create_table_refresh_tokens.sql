@@ -0,0 +1,11 @@
+CREATE TABLE refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_hash CHAR(64) NOT NULL UNIQUE,
+    familia CHAR(36) NOT NULL,
+    id_usuario CHAR(36) NOT NULL,
+    expira_em DATETIME NOT NULL,
+    utilizado BOOLEAN NOT NULL DEFAULT FALSE,
+    revogado BOOLEAN NOT NULL DEFAULT FALSE,
+    INDEX idx_refresh_tokens_familia (familia),
+    INDEX idx_refresh_tokens_expira_em (expira_em)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
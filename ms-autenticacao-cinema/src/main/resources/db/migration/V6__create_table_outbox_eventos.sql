@@ -0,0 +1,9 @@
+CREATE TABLE outbox_eventos (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tipo VARCHAR(60) NOT NULL,
+    id_agregado CHAR(36) NOT NULL,
+    payload TEXT NOT NULL,
+    criado_em DATETIME(6) NOT NULL,
+    publicado_em DATETIME(6) NULL,
+    INDEX idx_outbox_eventos_pendentes (publicado_em, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,58 @@
+package com.romanowski.pedro.config;
+
+import com.romanowski.pedro.dto.request.CadastroFeignClientRequestDTO;
+import com.romanowski.pedro.entity.CredencialEntity;
+import com.romanowski.pedro.feign.ClienteFeignClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes para NativeHints")
+class NativeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Deve registrar reflexão para o payload interno do java-jwt")
+    void deveRegistrarReflexaoJavaJwt() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.auth0.jwt.impl.PayloadImpl"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Deve registrar reflexão para as entidades")
+    void deveRegistrarReflexaoEntidades() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(CredencialEntity.class)
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o proxy do cliente Feign e o binding do payload do outbox")
+    void deveRegistrarProxyFeignEBinding() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ClienteFeignClient.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CadastroFeignClientRequestDTO.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Deve incluir as migrations e as mensagens como recursos")
+    void deveIncluirRecursos() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_table_administrador.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("messages/global.properties")).accepts(hints);
+    }
+}
@@ -0,0 +1,125 @@
+package com.romanowski.pedro.config;
+
+import com.romanowski.pedro.exceptions.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes para PasswordEncoderLimitado")
+class PasswordEncoderLimitadoTest {
+
+    private static final int CUSTO = 4;
+    private static final String MENSAGEM_SOBRECARGA = "Serviço de autenticação sobrecarregado";
+
+    private ThreadPoolExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordEncoderLimitado passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new PasswordEncoderLimitado(CUSTO, executor, 5000, MENSAGEM_SOBRECARGA, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Testes de encode e matches")
+    class EncodeMatchesTestes {
+
+        @Test
+        @DisplayName("Deve gerar hash e validar a senha pelo executor dedicado")
+        void deveGerarHashEValidarSenha() {
+            // Act
+            String hash = passwordEncoder.encode("senha123");
+
+            // Assert
+            assertThat(hash).startsWith("$2a$04$");
+            assertThat(passwordEncoder.matches("senha123", hash)).isTrue();
+            assertThat(passwordEncoder.matches("outraSenha", hash)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve registrar métricas de espera e de execução do hash")
+        void deveRegistrarMetricas() {
+            // Act
+            passwordEncoder.encode("senha123");
+
+            // Assert
+            assertThat(meterRegistry.get("autenticacao.hash.espera").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("autenticacao.hash.execucao").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de saturação do executor")
+    class SaturacaoTestes {
+
+        @Test
+        @DisplayName("Deve recusar imediatamente quando o executor e a fila estão cheios")
+        void deveRecusarQuandoExecutorSaturado() {
+            // Arrange
+            CountDownLatch liberar = new CountDownLatch(1);
+            executor.execute(() -> aguardar(liberar));
+            executor.execute(() -> aguardar(liberar));
+
+            // Act & Assert
+            assertThatThrownBy(() -> passwordEncoder.encode("senha123"))
+                    .isInstanceOf(ServicoSobrecarregadoException.class)
+                    .hasMessage(MENSAGEM_SOBRECARGA);
+            assertThat(meterRegistry.get("autenticacao.hash.rejeicoes").counter().count()).isEqualTo(1);
+
+            liberar.countDown();
+        }
+
+        private void aguardar(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de upgradeEncoding")
+    class UpgradeEncodingTestes {
+
+        @Test
+        @DisplayName("Deve pedir novo hash quando o custo armazenado é diferente do configurado")
+        void devePedirNovoHashQuandoCustoDiferente() {
+            // Arrange
+            String hashCustoAntigo = new BCryptPasswordEncoder(5).encode("senha123");
+
+            // Act & Assert
+            assertThat(passwordEncoder.upgradeEncoding(hashCustoAntigo)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Não deve pedir novo hash quando o custo armazenado é o configurado")
+        void naoDevePedirNovoHashQuandoCustoIgual() {
+            // Arrange
+            String hashCustoAtual = new BCryptPasswordEncoder(CUSTO).encode("senha123");
+
+            // Act & Assert
+            assertThat(passwordEncoder.upgradeEncoding(hashCustoAtual)).isFalse();
+            assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+        }
+    }
+}
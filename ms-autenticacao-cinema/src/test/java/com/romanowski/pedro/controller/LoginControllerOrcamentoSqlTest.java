@@ -0,0 +1,142 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.entity.AdministradorEntity;
+import com.romanowski.pedro.entity.ClienteEntity;
+import com.romanowski.pedro.enums.Perfil;
+import com.romanowski.pedro.repository.AdministradorRepository;
+import com.romanowski.pedro.repository.ClienteRepository;
+import com.jayway.jsonpath.JsonPath;
+import com.romanowski.pedro.repository.RefreshTokenRepository;
+import com.romanowski.pedro.support.OrcamentoSql;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Orçamento de SQL dos endpoints do LoginController")
+class LoginControllerOrcamentoSqlTest {
+
+    private static final String SENHA = "senha123";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private AdministradorRepository administradorRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        refreshTokenRepository.deleteAll();
+        clienteRepository.deleteAll();
+        administradorRepository.deleteAll();
+
+        ClienteEntity cliente = new ClienteEntity();
+        cliente.setId(UUID.randomUUID());
+        cliente.setNome("Cliente Teste");
+        cliente.setEmail("cliente@teste.com");
+        cliente.setSenha(passwordEncoder.encode(SENHA));
+        cliente.setSaldo(100.0);
+        cliente.setPerfil(Perfil.CLIENTE);
+        clienteRepository.save(cliente);
+
+        AdministradorEntity administrador = new AdministradorEntity();
+        administrador.setId(UUID.randomUUID());
+        administrador.setNome("Admin Teste");
+        administrador.setEmail("admin@teste.com");
+        administrador.setSenha(passwordEncoder.encode(SENHA));
+        administrador.setPerfil(Perfil.ADMIN);
+        administradorRepository.save(administrador);
+
+        OrcamentoSql.iniciar();
+    }
+
+    @Test
+    @DisplayName("Login de cliente deve respeitar o orçamento de SQL")
+    void loginClienteDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(post("/v1/auth/clientes/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"cliente@teste.com\", \"senha\": \"" + SENHA + "\"}"))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(2);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Login de administrador deve respeitar o orçamento de SQL")
+    void loginAdministradorDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(post("/v1/auth/administradores/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"admin@teste.com\", \"senha\": \"" + SENHA + "\"}"))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(2);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Login com email repetido entre cliente e administrador deve resolver o administrador")
+    void loginComEmailRepetidoDeveResolverAdministrador() throws Exception {
+        ClienteEntity cliente = new ClienteEntity();
+        cliente.setId(UUID.randomUUID());
+        cliente.setNome("Cliente Repetido");
+        cliente.setEmail("admin@teste.com");
+        cliente.setSenha(passwordEncoder.encode("outraSenha"));
+        cliente.setSaldo(0.0);
+        cliente.setPerfil(Perfil.CLIENTE);
+        clienteRepository.save(cliente);
+
+        mockMvc.perform(post("/v1/auth/administradores/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"admin@teste.com\", \"senha\": \"" + SENHA + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Renovação de token deve respeitar o orçamento de SQL")
+    void renovacaoTokenDeveRespeitarOrcamento() throws Exception {
+        String resposta = mockMvc.perform(post("/v1/auth/clientes/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"cliente@teste.com\", \"senha\": \"" + SENHA + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String refreshToken = JsonPath.read(resposta, "$.refreshToken");
+
+        OrcamentoSql.iniciar();
+        mockMvc.perform(post("/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"" + refreshToken + "\"}"))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(4);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+}
@@ -4,13 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.romanowski.pedro.config.SecurityFilter;
 import com.romanowski.pedro.controller.handler.GlobalExceptionHandler;
 import com.romanowski.pedro.dto.request.LoginRequestDTO;
+import com.romanowski.pedro.dto.request.RefreshTokenRequestDTO;
 import com.romanowski.pedro.dto.response.LoginResponseDTO;
-import com.romanowski.pedro.entity.AdministradorEntity;
-import com.romanowski.pedro.entity.ClienteEntity;
+import com.romanowski.pedro.entity.CredencialEntity;
 import com.romanowski.pedro.enums.Perfil;
 import com.romanowski.pedro.repository.AdministradorRepository;
 import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.repository.CredencialRepository;
+import com.romanowski.pedro.exceptions.RefreshTokenInvalidoException;
 import com.romanowski.pedro.service.LoginService;
+import com.romanowski.pedro.service.RefreshTokenService;
 import com.romanowski.pedro.service.TokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -46,6 +49,8 @@ class LoginControllerTest {
 
     private static final String ENDPOINT_LOGIN_CLIENTE = "/v1/auth/clientes/login";
     private static final String ENDPOINT_LOGIN_ADMIN = "/v1/auth/administradores/login";
+    private static final String ENDPOINT_REFRESH = "/v1/auth/refresh";
+    private static final String ENDPOINT_LOGOUT = "/v1/auth/logout";
 
     @Autowired
     private MockMvc mockMvc;
@@ -59,6 +64,9 @@ class LoginControllerTest {
     @MockitoBean
     private LoginService loginService;
 
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
     @MockitoBean
     private SecurityFilter securityFilter;
 
@@ -71,9 +79,12 @@ class LoginControllerTest {
     @MockitoBean
     private AdministradorRepository administradorRepository;
 
+    @MockitoBean
+    private CredencialRepository credencialRepository;
+
     private LoginRequestDTO loginRequestDTO;
-    private ClienteEntity clienteEntity;
-    private AdministradorEntity administradorEntity;
+    private CredencialEntity credencialCliente;
+    private CredencialEntity credencialAdministrador;
     private Authentication clienteAuthentication;
     private Authentication adminAuthentication;
 
@@ -84,26 +95,25 @@ class LoginControllerTest {
                 "senha123"
         );
 
-        clienteEntity = new ClienteEntity();
-        clienteEntity.setId(UUID.randomUUID());
-        clienteEntity.setNome("João Silva");
-        clienteEntity.setEmail("usuario@example.com");
-        clienteEntity.setSenha("senhaEncriptada");
-        clienteEntity.setSaldo(500.0);
-        clienteEntity.setPerfil(Perfil.CLIENTE);
-
-        administradorEntity = new AdministradorEntity();
-        administradorEntity.setId(UUID.randomUUID());
-        administradorEntity.setNome("Admin Silva");
-        administradorEntity.setEmail("admin@example.com");
-        administradorEntity.setSenha("senhaEncriptada");
-        administradorEntity.setPerfil(Perfil.ADMIN);
+        credencialCliente = CredencialEntity.builder()
+                .id(UUID.randomUUID())
+                .email("usuario@example.com")
+                .senha("senhaEncriptada")
+                .perfil(Perfil.CLIENTE)
+                .build();
+
+        credencialAdministrador = CredencialEntity.builder()
+                .id(UUID.randomUUID())
+                .email("admin@example.com")
+                .senha("senhaEncriptada")
+                .perfil(Perfil.ADMIN)
+                .build();
 
         clienteAuthentication = mock(Authentication.class);
-        when(clienteAuthentication.getPrincipal()).thenReturn(clienteEntity);
+        when(clienteAuthentication.getPrincipal()).thenReturn(credencialCliente);
 
         adminAuthentication = mock(Authentication.class);
-        when(adminAuthentication.getPrincipal()).thenReturn(administradorEntity);
+        when(adminAuthentication.getPrincipal()).thenReturn(credencialAdministrador);
     }
 
     @Nested
@@ -118,8 +128,10 @@ class LoginControllerTest {
 
             when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                     .thenReturn(clienteAuthentication);
-            when(loginService.gerarTokenCliente(any(ClienteEntity.class)))
+            when(loginService.gerarToken(any(CredencialEntity.class)))
                     .thenReturn(tokenGerado);
+            when(refreshTokenService.emitir(any(CredencialEntity.class)))
+                    .thenReturn("refreshTokenOpaco");
 
             // Act
             ResultActions response = mockMvc.perform(post(ENDPOINT_LOGIN_CLIENTE)
@@ -132,13 +144,14 @@ class LoginControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.token", is(tokenGerado)))
+                    .andExpect(jsonPath("$.refreshToken", is("refreshTokenOpaco")))
                     .andExpect(jsonPath("$.dataHoraLogin", notNullValue()))
                     .andExpect(jsonPath("$.perfilAtribuido", is("CLIENTE")))
                     .andExpect(jsonPath("$.id").exists());
 
             // Verify
             verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-            verify(loginService, times(1)).gerarTokenCliente(any(ClienteEntity.class));
+            verify(loginService, times(1)).gerarToken(any(CredencialEntity.class));
         }
 
         @Test
@@ -158,7 +171,26 @@ class LoginControllerTest {
 
             // Verify
             verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-            verify(loginService, never()).gerarTokenCliente(any(ClienteEntity.class));
+            verify(loginService, never()).gerarToken(any(CredencialEntity.class));
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 401 quando administrador tenta logar pelo endpoint de cliente")
+        void deveRetornarErroQuandoAdministradorLogaComoCliente() throws Exception {
+            // Arrange
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenReturn(adminAuthentication);
+
+            // Act & Assert
+            mockMvc.perform(post(ENDPOINT_LOGIN_CLIENTE)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequestDTO)))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message", containsString("Credenciais inválidas")));
+
+            // Verify
+            verify(loginService, never()).gerarToken(any(CredencialEntity.class));
         }
 
         @Test
@@ -223,8 +255,10 @@ class LoginControllerTest {
 
             when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                     .thenReturn(adminAuthentication);
-            when(loginService.gerarTokenAdministrador(any(AdministradorEntity.class)))
+            when(loginService.gerarToken(any(CredencialEntity.class)))
                     .thenReturn(tokenGerado);
+            when(refreshTokenService.emitir(any(CredencialEntity.class)))
+                    .thenReturn("refreshTokenOpaco");
 
             // Act
             ResultActions response = mockMvc.perform(post(ENDPOINT_LOGIN_ADMIN)
@@ -237,13 +271,14 @@ class LoginControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.token", is(tokenGerado)))
+                    .andExpect(jsonPath("$.refreshToken", is("refreshTokenOpaco")))
                     .andExpect(jsonPath("$.dataHoraLogin", notNullValue()))
                     .andExpect(jsonPath("$.perfilAtribuido", is("ADMIN")))
                     .andExpect(jsonPath("$.id").exists());
 
             // Verify
             verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-            verify(loginService, times(1)).gerarTokenAdministrador(any(AdministradorEntity.class));
+            verify(loginService, times(1)).gerarToken(any(CredencialEntity.class));
         }
 
         @Test
@@ -265,7 +300,7 @@ class LoginControllerTest {
 
             // Verify
             verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-            verify(loginService, never()).gerarTokenAdministrador(any(AdministradorEntity.class));
+            verify(loginService, never()).gerarToken(any(CredencialEntity.class));
         }
 
         @Test
@@ -317,6 +352,66 @@ class LoginControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes de Renovação de Token e Logout")
+    class RenovacaoTokenTestes {
+
+        @Test
+        @DisplayName("Deve renovar o token sem autenticar a senha novamente")
+        void deveRenovarTokenSemAutenticarSenha() throws Exception {
+            // Arrange
+            when(refreshTokenService.renovar("refreshTokenAtual"))
+                    .thenReturn(new RefreshTokenService.Renovacao(credencialCliente, "refreshTokenNovo"));
+            when(loginService.gerarToken(credencialCliente)).thenReturn("novoTokenAcesso");
+
+            // Act & Assert
+            mockMvc.perform(post(ENDPOINT_REFRESH)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO("refreshTokenAtual"))))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token", is("novoTokenAcesso")))
+                    .andExpect(jsonPath("$.refreshToken", is("refreshTokenNovo")))
+                    .andExpect(jsonPath("$.perfilAtribuido", is("CLIENTE")));
+
+            // Verify
+            verify(authenticationManager, never()).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 401 quando o refresh token é inválido")
+        void deveRetornarErroQuandoRefreshTokenInvalido() throws Exception {
+            // Arrange
+            when(refreshTokenService.renovar("refreshTokenRevogado"))
+                    .thenThrow(new RefreshTokenInvalidoException("Refresh token inválido"));
+
+            // Act & Assert
+            mockMvc.perform(post(ENDPOINT_REFRESH)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO("refreshTokenRevogado"))))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message", containsString("Refresh token inválido")));
+
+            // Verify
+            verify(loginService, never()).gerarToken(any(CredencialEntity.class));
+        }
+
+        @Test
+        @DisplayName("Deve revogar o refresh token no logout")
+        void deveRevogarRefreshTokenNoLogout() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post(ENDPOINT_LOGOUT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO("refreshTokenAtual"))))
+                    .andDo(print())
+                    .andExpect(status().isNoContent());
+
+            // Verify
+            verify(refreshTokenService, times(1)).revogar("refreshTokenAtual");
+        }
+    }
+
     @Nested
     @DisplayName("Testes de Validação de Campos")
     class ValidacaoCamposTestes {
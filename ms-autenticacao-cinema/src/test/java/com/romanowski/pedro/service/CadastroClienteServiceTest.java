@@ -1,12 +1,12 @@
 package com.romanowski.pedro.service;
 
 import com.romanowski.pedro.dto.request.CadastroFeignClientRequestDTO;
-import com.romanowski.pedro.dto.response.ClienteResponseDTO;
 import com.romanowski.pedro.entity.ClienteEntity;
 import com.romanowski.pedro.enums.Perfil;
-import com.romanowski.pedro.feign.ClienteFeignClient;
 import com.romanowski.pedro.mapper.ClienteMapper;
 import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.service.cache.CacheEmailsInexistentes;
+import com.romanowski.pedro.service.outbox.OutboxService;
 import com.romanowski.pedro.service.validation.CadastroClienteValidation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
@@ -26,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,10 +46,16 @@ class CadastroClienteServiceTest {
     private CadastroClienteValidation cadastroClienteValidation;
 
     @Mock
-    private ClienteFeignClient clienteFeignClient;
+    private ClienteMapper clienteMapper;
 
     @Mock
-    private ClienteMapper clienteMapper;
+    private CacheEmailsInexistentes cacheEmailsInexistentes;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private CadastroClienteService cadastroClienteService;
@@ -58,10 +68,12 @@ class CadastroClienteServiceTest {
 
     private ClienteEntity clienteEntity;
     private CadastroFeignClientRequestDTO cadastroFeignClientRequestDTO;
-    private ClienteResponseDTO clienteResponseDTO;
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<ClienteEntity>>getArgument(0).doInTransaction(null));
+
         clienteEntity = new ClienteEntity();
         clienteEntity.setNome("João Silva");
         clienteEntity.setEmail("joao@example.com");
@@ -75,12 +87,6 @@ class CadastroClienteServiceTest {
                 "senhaCriptografada",
                 500.0
         );
-
-        clienteResponseDTO = new ClienteResponseDTO(
-                UUID.randomUUID(),
-                "João Silva",
-                "joao@example.com"
-        );
     }
 
     @Nested
@@ -98,7 +104,6 @@ class CadastroClienteServiceTest {
             when(passwordEncoder.encode(anyString())).thenReturn(senhaCriptografada);
             when(clienteRepository.save(any(ClienteEntity.class))).thenReturn(clienteSalvo);
             when(clienteMapper.toDTO(any(ClienteEntity.class))).thenReturn(cadastroFeignClientRequestDTO);
-            when(clienteFeignClient.cadastrarCliente(any(CadastroFeignClientRequestDTO.class))).thenReturn(clienteResponseDTO);
 
             // Act
             ClienteEntity resultado = cadastroClienteService.cadastrarCliente(clienteEntity);
@@ -125,7 +130,6 @@ class CadastroClienteServiceTest {
             when(passwordEncoder.encode(senhaOriginal)).thenReturn(senhaCriptografada);
             when(clienteRepository.save(any(ClienteEntity.class))).thenReturn(clienteSalvo);
             when(clienteMapper.toDTO(any(ClienteEntity.class))).thenReturn(cadastroFeignClientRequestDTO);
-            when(clienteFeignClient.cadastrarCliente(any(CadastroFeignClientRequestDTO.class))).thenReturn(clienteResponseDTO);
 
             // Act
             cadastroClienteService.cadastrarCliente(clienteEntity);
@@ -136,6 +140,46 @@ class CadastroClienteServiceTest {
             assertThat(clienteEntityCaptor.getValue().getSenha()).isEqualTo(senhaCriptografada);
         }
 
+        @Test
+        @DisplayName("Deve criptografar a senha antes de abrir a transação")
+        void deveCriptografarSenhaAntesDaTransacao() {
+            // Arrange
+            when(passwordEncoder.encode(anyString())).thenReturn("senhaCriptografada");
+            when(clienteRepository.save(any(ClienteEntity.class))).thenReturn(criarClienteSalvo("senhaCriptografada"));
+            when(clienteMapper.toDTO(any(ClienteEntity.class))).thenReturn(cadastroFeignClientRequestDTO);
+
+            // Act
+            cadastroClienteService.cadastrarCliente(clienteEntity);
+
+            // Assert
+            InOrder ordem = inOrder(passwordEncoder, transactionTemplate, clienteRepository);
+            ordem.verify(passwordEncoder).encode("senha123");
+            ordem.verify(transactionTemplate).execute(any());
+            ordem.verify(clienteRepository).save(any(ClienteEntity.class));
+        }
+
+        @Test
+        @DisplayName("Deve normalizar o email e removê-lo do cache de emails inexistentes")
+        void deveNormalizarEmailERemoverDoCacheNegativo() {
+            // Arrange
+            String senhaCriptografada = "senhaCriptografada";
+            clienteEntity.setEmail("  Joao@Example.COM ");
+            ClienteEntity clienteSalvo = criarClienteSalvo(senhaCriptografada);
+
+            doNothing().when(cadastroClienteValidation).validarCadastroCliente(any(ClienteEntity.class));
+            when(passwordEncoder.encode(anyString())).thenReturn(senhaCriptografada);
+            when(clienteRepository.save(any(ClienteEntity.class))).thenReturn(clienteSalvo);
+            when(clienteMapper.toDTO(any(ClienteEntity.class))).thenReturn(cadastroFeignClientRequestDTO);
+
+            // Act
+            cadastroClienteService.cadastrarCliente(clienteEntity);
+
+            // Assert
+            verify(clienteRepository).save(clienteEntityCaptor.capture());
+            assertThat(clienteEntityCaptor.getValue().getEmail()).isEqualTo("joao@example.com");
+            verify(cacheEmailsInexistentes).remover("joao@example.com");
+        }
+
         @Test
         @DisplayName("Deve definir perfil como CLIENTE")
         void deveDefinirPerfilComoCliente() {
@@ -147,7 +191,6 @@ class CadastroClienteServiceTest {
             when(passwordEncoder.encode(anyString())).thenReturn(senhaCriptografada);
             when(clienteRepository.save(any(ClienteEntity.class))).thenReturn(clienteSalvo);
             when(clienteMapper.toDTO(any(ClienteEntity.class))).thenReturn(cadastroFeignClientRequestDTO);
-            when(clienteFeignClient.cadastrarCliente(any(CadastroFeignClientRequestDTO.class))).thenReturn(clienteResponseDTO);
 
             // Act
             cadastroClienteService.cadastrarCliente(clienteEntity);
@@ -158,8 +201,8 @@ class CadastroClienteServiceTest {
         }
 
         @Test
-        @DisplayName("Deve chamar Feign Client após salvar no banco")
-        void deveChamarFeignClientAposSalvar() {
+        @DisplayName("Deve registrar evento de cliente cadastrado no outbox após salvar no banco")
+        void deveRegistrarEventoNoOutboxAposSalvar() {
             // Arrange
             String senhaCriptografada = "senhaCriptografada";
             ClienteEntity clienteSalvo = criarClienteSalvo(senhaCriptografada);
@@ -168,13 +211,12 @@ class CadastroClienteServiceTest {
             when(passwordEncoder.encode(anyString())).thenReturn(senhaCriptografada);
             when(clienteRepository.save(any(ClienteEntity.class))).thenReturn(clienteSalvo);
             when(clienteMapper.toDTO(any(ClienteEntity.class))).thenReturn(cadastroFeignClientRequestDTO);
-            when(clienteFeignClient.cadastrarCliente(any(CadastroFeignClientRequestDTO.class))).thenReturn(clienteResponseDTO);
 
             // Act
             cadastroClienteService.cadastrarCliente(clienteEntity);
 
             // Assert
-            verify(clienteFeignClient).cadastrarCliente(cadastroFeignClientRequestDTOCaptor.capture());
+            verify(outboxService).registrarEvento(eq(OutboxService.CLIENTE_CADASTRADO), eq(clienteSalvo.getId()), cadastroFeignClientRequestDTOCaptor.capture());
             assertThat(cadastroFeignClientRequestDTOCaptor.getValue()).isEqualTo(cadastroFeignClientRequestDTO);
         }
     }
@@ -196,7 +238,7 @@ class CadastroClienteServiceTest {
                     .hasMessage("Erro de validação");
 
             verify(clienteRepository, never()).save(any(ClienteEntity.class));
-            verify(clienteFeignClient, never()).cadastrarCliente(any(CadastroFeignClientRequestDTO.class));
+            verify(outboxService, never()).registrarEvento(anyString(), any(UUID.class), any());
         }
     }
 
@@ -220,12 +262,12 @@ class CadastroClienteServiceTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Erro de banco de dados");
 
-            verify(clienteFeignClient, never()).cadastrarCliente(any(CadastroFeignClientRequestDTO.class));
+            verify(outboxService, never()).registrarEvento(anyString(), any(UUID.class), any());
         }
 
         @Test
-        @DisplayName("Deve propagar exceção quando Feign Client falha")
-        void devePropagarExcecaoQuandoFeignClientFalha() {
+        @DisplayName("Deve propagar exceção quando o registro no outbox falha")
+        void devePropagarExcecaoQuandoOutboxFalha() {
             // Arrange
             String senhaCriptografada = "senhaCriptografada";
             ClienteEntity clienteSalvo = criarClienteSalvo(senhaCriptografada);
@@ -234,13 +276,13 @@ class CadastroClienteServiceTest {
             when(passwordEncoder.encode(anyString())).thenReturn(senhaCriptografada);
             when(clienteRepository.save(any(ClienteEntity.class))).thenReturn(clienteSalvo);
             when(clienteMapper.toDTO(any(ClienteEntity.class))).thenReturn(cadastroFeignClientRequestDTO);
-            when(clienteFeignClient.cadastrarCliente(any(CadastroFeignClientRequestDTO.class)))
-                    .thenThrow(new RuntimeException("Serviço indisponível"));
+            doThrow(new RuntimeException("Erro ao registrar evento"))
+                    .when(outboxService).registrarEvento(anyString(), any(UUID.class), any());
 
             // Act & Assert
             assertThatThrownBy(() -> cadastroClienteService.cadastrarCliente(clienteEntity))
                     .isInstanceOf(RuntimeException.class)
-                    .hasMessage("Serviço indisponível");
+                    .hasMessage("Erro ao registrar evento");
         }
     }
 
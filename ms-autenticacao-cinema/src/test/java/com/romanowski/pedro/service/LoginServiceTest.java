@@ -2,74 +2,83 @@ package com.romanowski.pedro.service;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.romanowski.pedro.config.ChavesJwt;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import com.romanowski.pedro.entity.AdministradorEntity;
-import com.romanowski.pedro.entity.ClienteEntity;
+import com.romanowski.pedro.entity.CredencialEntity;
 import com.romanowski.pedro.enums.Perfil;
 import com.romanowski.pedro.repository.AdministradorRepository;
 import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.repository.CredencialRepository;
+import com.romanowski.pedro.service.cache.CacheCredenciais;
+import com.romanowski.pedro.service.cache.CacheEmailsInexistentes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes para LoginService")
 class LoginServiceTest {
 
+    @Mock
+    private CredencialRepository credencialRepository;
+
     @Mock
     private AdministradorRepository administradorRepository;
 
     @Mock
     private ClienteRepository clienteRepository;
 
-    @InjectMocks
+    @Mock
+    private CacheEmailsInexistentes cacheEmailsInexistentes;
+
+    @Mock
+    private CacheCredenciais cacheCredenciais;
+
     private LoginService loginService;
 
-    private ClienteEntity clienteEntity;
-    private AdministradorEntity administradorEntity;
+    private CredencialEntity credencialCliente;
+    private CredencialEntity credencialAdministrador;
     private UUID clienteId;
     private UUID adminId;
-    private static final String JWT_SECRET = "test-secret-key-for-jwt-token-generation";
+    private static final ChavesJwt CHAVES_JWT = new ChavesJwt("teste", "", "", List.of());
 
     @BeforeEach
     void setUp() {
-        // Configura o JWT_SECRET usando reflection
-        ReflectionTestUtils.setField(loginService, "JWT_SECRET", JWT_SECRET);
+        loginService = new LoginService(credencialRepository, administradorRepository, clienteRepository,
+                cacheEmailsInexistentes, cacheCredenciais, CHAVES_JWT);
 
         // Gera IDs únicos para cada teste
         clienteId = UUID.randomUUID();
         adminId = UUID.randomUUID();
 
-        clienteEntity = new ClienteEntity();
-        clienteEntity.setId(clienteId);
-        clienteEntity.setNome("João Silva");
-        clienteEntity.setEmail("joao@example.com");
-        clienteEntity.setSenha("senhaEncriptada");
-        clienteEntity.setSaldo(500.0);
-        clienteEntity.setPerfil(Perfil.CLIENTE);
-
-        administradorEntity = new AdministradorEntity();
-        administradorEntity.setId(adminId);
-        administradorEntity.setNome("Admin Silva");
-        administradorEntity.setEmail("admin@example.com");
-        administradorEntity.setSenha("senhaEncriptada");
-        administradorEntity.setPerfil(Perfil.ADMIN);
+        credencialCliente = CredencialEntity.builder()
+                .id(clienteId)
+                .email("joao@example.com")
+                .senha("senhaEncriptada")
+                .perfil(Perfil.CLIENTE)
+                .build();
+
+        credencialAdministrador = CredencialEntity.builder()
+                .id(adminId)
+                .email("admin@example.com")
+                .senha("senhaEncriptada")
+                .perfil(Perfil.ADMIN)
+                .build();
     }
 
     @Nested
@@ -81,7 +90,7 @@ class LoginServiceTest {
         void deveCarregarClientePorEmailComSucesso() {
             // Arrange
             String email = "joao@example.com";
-            when(clienteRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(clienteEntity));
+            when(credencialRepository.findFirstByEmailOrderByPerfilAsc(email)).thenReturn(Optional.of(credencialCliente));
 
             // Act
             UserDetails resultado = loginService.loadUserByUsername(email);
@@ -89,43 +98,52 @@ class LoginServiceTest {
             // Assert
             assertThat(resultado).isNotNull();
             assertThat(resultado.getUsername()).isEqualTo(email);
-            assertThat(resultado).isInstanceOf(ClienteEntity.class);
-            assertThat(((ClienteEntity) resultado).getNome()).isEqualTo("João Silva");
+            assertThat(resultado).isInstanceOf(CredencialEntity.class);
+            assertThat(((CredencialEntity) resultado).getPerfil()).isEqualTo(Perfil.CLIENTE);
 
             // Verify
-            verify(clienteRepository, times(1)).findByEmailIgnoreCase(email);
-            verify(administradorRepository, never()).findByEmailIgnoreCase(anyString());
+            verify(credencialRepository, times(1)).findFirstByEmailOrderByPerfilAsc(email);
         }
 
         @Test
-        @DisplayName("Deve carregar administrador por email quando cliente não é encontrado")
-        void deveCarregarAdministradorPorEmailQuandoClienteNaoEncontrado() {
+        @DisplayName("Deve carregar administrador por email com uma única consulta")
+        void deveCarregarAdministradorComUmaUnicaConsulta() {
             // Arrange
             String email = "admin@example.com";
-            when(clienteRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.empty());
-            when(administradorRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(administradorEntity));
+            when(credencialRepository.findFirstByEmailOrderByPerfilAsc(email)).thenReturn(Optional.of(credencialAdministrador));
 
             // Act
             UserDetails resultado = loginService.loadUserByUsername(email);
 
             // Assert
-            assertThat(resultado).isNotNull();
             assertThat(resultado.getUsername()).isEqualTo(email);
-            assertThat(resultado).isInstanceOf(AdministradorEntity.class);
-            assertThat(((AdministradorEntity) resultado).getNome()).isEqualTo("Admin Silva");
+            assertThat(((CredencialEntity) resultado).getPerfil()).isEqualTo(Perfil.ADMIN);
+
+            // Verify
+            verify(credencialRepository, times(1)).findFirstByEmailOrderByPerfilAsc(email);
+            verifyNoInteractions(clienteRepository, administradorRepository);
+        }
+
+        @Test
+        @DisplayName("Deve buscar pelo email normalizado em minúsculas")
+        void deveBuscarPeloEmailNormalizado() {
+            // Arrange
+            when(credencialRepository.findFirstByEmailOrderByPerfilAsc("joao@example.com")).thenReturn(Optional.of(credencialCliente));
+
+            // Act
+            loginService.loadUserByUsername("  Joao@Example.COM ");
 
             // Verify
-            verify(clienteRepository, times(1)).findByEmailIgnoreCase(email);
-            verify(administradorRepository, times(1)).findByEmailIgnoreCase(email);
+            verify(cacheEmailsInexistentes).contem("joao@example.com");
+            verify(credencialRepository).findFirstByEmailOrderByPerfilAsc("joao@example.com");
         }
 
         @Test
-        @DisplayName("Deve lançar UsernameNotFoundException quando usuário não é encontrado")
+        @DisplayName("Deve lançar UsernameNotFoundException e registrar o email no cache negativo")
         void deveLancarExcecaoQuandoUsuarioNaoEncontrado() {
             // Arrange
             String email = "inexistente@example.com";
-            when(clienteRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.empty());
-            when(administradorRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.empty());
+            when(credencialRepository.findFirstByEmailOrderByPerfilAsc(email)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> loginService.loadUserByUsername(email))
@@ -133,36 +151,36 @@ class LoginServiceTest {
                     .hasMessage("Usuario nao encontrado");
 
             // Verify
-            verify(clienteRepository, times(1)).findByEmailIgnoreCase(email);
-            verify(administradorRepository, times(1)).findByEmailIgnoreCase(email);
+            verify(credencialRepository, times(1)).findFirstByEmailOrderByPerfilAsc(email);
+            verify(cacheEmailsInexistentes, times(1)).registrar(email);
         }
 
         @Test
-        @DisplayName("Deve buscar em ambos repositórios quando cliente não existe mas admin existe")
-        void deveBuscarEmAmbosRepositoriosQuandoNecessario() {
+        @DisplayName("Não deve consultar o banco quando o email está no cache negativo")
+        void naoDeveConsultarBancoQuandoEmailNoCacheNegativo() {
             // Arrange
-            String email = "admin@example.com";
-            when(clienteRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.empty());
-            when(administradorRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(administradorEntity));
+            String email = "inexistente@example.com";
+            when(cacheEmailsInexistentes.contem(email)).thenReturn(true);
 
-            // Act
-            loginService.loadUserByUsername(email);
+            // Act & Assert
+            assertThatThrownBy(() -> loginService.loadUserByUsername(email))
+                    .isInstanceOf(UsernameNotFoundException.class)
+                    .hasMessage("Usuario nao encontrado");
 
-            // Assert & Verify
-            verify(clienteRepository).findByEmailIgnoreCase(email);
-            verify(administradorRepository).findByEmailIgnoreCase(email);
+            // Verify
+            verifyNoInteractions(credencialRepository);
         }
     }
 
     @Nested
-    @DisplayName("Testes de gerarTokenCliente")
+    @DisplayName("Testes de gerarToken para cliente")
     class GerarTokenClienteTestes {
 
         @Test
         @DisplayName("Deve gerar token JWT válido para cliente")
         void deveGerarTokenJWTValidoParaCliente() {
             // Act
-            String token = loginService.gerarTokenCliente(clienteEntity);
+            String token = loginService.gerarToken(credencialCliente);
 
             // Assert
             assertThat(token).isNotNull();
@@ -174,10 +192,10 @@ class LoginServiceTest {
         @DisplayName("Deve incluir informações corretas no token do cliente")
         void deveIncluirInformacoesCorretasNoTokenCliente() {
             // Act
-            String token = loginService.gerarTokenCliente(clienteEntity);
+            String token = loginService.gerarToken(credencialCliente);
 
             // Assert - Decodifica o token para verificar claims
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -189,14 +207,25 @@ class LoginServiceTest {
             assertThat(decodedJWT.getIssuer()).isEqualTo("cinecom-auth");
         }
 
+        @Test
+        @DisplayName("Deve assinar o token com RS256 e informar o kid da chave atual")
+        void deveAssinarTokenComRs256EKid() {
+            // Act
+            DecodedJWT decodedJWT = JWT.decode(loginService.gerarToken(credencialCliente));
+
+            // Assert
+            assertThat(decodedJWT.getAlgorithm()).isEqualTo("RS256");
+            assertThat(decodedJWT.getKeyId()).isEqualTo("teste");
+        }
+
         @Test
         @DisplayName("Deve incluir data de emissão no token do cliente")
         void deveIncluirDataEmissaoNoTokenCliente() {
             // Act
-            String token = loginService.gerarTokenCliente(clienteEntity);
+            String token = loginService.gerarToken(credencialCliente);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -209,10 +238,10 @@ class LoginServiceTest {
         @DisplayName("Deve incluir data de expiração no token do cliente")
         void deveIncluirDataExpiracaoNoTokenCliente() {
             // Act
-            String token = loginService.gerarTokenCliente(clienteEntity);
+            String token = loginService.gerarToken(credencialCliente);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -226,17 +255,16 @@ class LoginServiceTest {
         @DisplayName("Deve gerar tokens diferentes para clientes diferentes")
         void deveGerarTokensDiferentesParaClientesDiferentes() {
             // Arrange
-            ClienteEntity outroCliente = new ClienteEntity();
-            outroCliente.setId(UUID.randomUUID());
-            outroCliente.setNome("Maria Santos");
-            outroCliente.setEmail("maria@example.com");
-            outroCliente.setSenha("senhaEncriptada");
-            outroCliente.setSaldo(300.0);
-            outroCliente.setPerfil(Perfil.CLIENTE);
+            CredencialEntity outroCliente = CredencialEntity.builder()
+                    .id(UUID.randomUUID())
+                    .email("maria@example.com")
+                    .senha("senhaEncriptada")
+                    .perfil(Perfil.CLIENTE)
+                    .build();
 
             // Act
-            String token1 = loginService.gerarTokenCliente(clienteEntity);
-            String token2 = loginService.gerarTokenCliente(outroCliente);
+            String token1 = loginService.gerarToken(credencialCliente);
+            String token2 = loginService.gerarToken(outroCliente);
 
             // Assert
             assertThat(token1).isNotEqualTo(token2);
@@ -244,14 +272,14 @@ class LoginServiceTest {
     }
 
     @Nested
-    @DisplayName("Testes de gerarTokenAdministrador")
+    @DisplayName("Testes de gerarToken para administrador")
     class GerarTokenAdministradorTestes {
 
         @Test
         @DisplayName("Deve gerar token JWT válido para administrador")
         void deveGerarTokenJWTValidoParaAdministrador() {
             // Act
-            String token = loginService.gerarTokenAdministrador(administradorEntity);
+            String token = loginService.gerarToken(credencialAdministrador);
 
             // Assert
             assertThat(token).isNotNull();
@@ -263,10 +291,10 @@ class LoginServiceTest {
         @DisplayName("Deve incluir informações corretas no token do administrador")
         void deveIncluirInformacoesCorretasNoTokenAdministrador() {
             // Act
-            String token = loginService.gerarTokenAdministrador(administradorEntity);
+            String token = loginService.gerarToken(credencialAdministrador);
 
             // Assert - Decodifica o token para verificar claims
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -282,10 +310,10 @@ class LoginServiceTest {
         @DisplayName("Deve incluir role ADMIN no token do administrador")
         void deveIncluirRoleAdminNoToken() {
             // Act
-            String token = loginService.gerarTokenAdministrador(administradorEntity);
+            String token = loginService.gerarToken(credencialAdministrador);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -300,10 +328,10 @@ class LoginServiceTest {
         @DisplayName("Deve incluir data de emissão no token do administrador")
         void deveIncluirDataEmissaoNoTokenAdministrador() {
             // Act
-            String token = loginService.gerarTokenAdministrador(administradorEntity);
+            String token = loginService.gerarToken(credencialAdministrador);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -316,10 +344,10 @@ class LoginServiceTest {
         @DisplayName("Deve incluir data de expiração no token do administrador")
         void deveIncluirDataExpiracaoNoTokenAdministrador() {
             // Act
-            String token = loginService.gerarTokenAdministrador(administradorEntity);
+            String token = loginService.gerarToken(credencialAdministrador);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -333,22 +361,52 @@ class LoginServiceTest {
         @DisplayName("Deve gerar tokens diferentes para administradores diferentes")
         void deveGerarTokensDiferentesParaAdministradoresDiferentes() {
             // Arrange
-            AdministradorEntity outroAdmin = new AdministradorEntity();
-            outroAdmin.setId(UUID.randomUUID());
-            outroAdmin.setNome("Outro Admin");
-            outroAdmin.setEmail("outro@example.com");
-            outroAdmin.setSenha("senhaEncriptada");
-            outroAdmin.setPerfil(Perfil.ADMIN);
+            CredencialEntity outroAdmin = CredencialEntity.builder()
+                    .id(UUID.randomUUID())
+                    .email("outro@example.com")
+                    .senha("senhaEncriptada")
+                    .perfil(Perfil.ADMIN)
+                    .build();
 
             // Act
-            String token1 = loginService.gerarTokenAdministrador(administradorEntity);
-            String token2 = loginService.gerarTokenAdministrador(outroAdmin);
+            String token1 = loginService.gerarToken(credencialAdministrador);
+            String token2 = loginService.gerarToken(outroAdmin);
 
             // Assert
             assertThat(token1).isNotEqualTo(token2);
         }
     }
 
+    @Nested
+    @DisplayName("Testes de updatePassword")
+    class UpdatePasswordTestes {
+
+        @Test
+        @DisplayName("Deve atualizar o hash da senha do cliente")
+        void deveAtualizarHashSenhaCliente() {
+            // Act
+            UserDetails resultado = loginService.updatePassword(credencialCliente, "novoHash");
+
+            // Assert
+            assertThat(resultado.getPassword()).isEqualTo("novoHash");
+            verify(clienteRepository, times(1)).atualizarSenha(clienteId, "novoHash");
+            verify(administradorRepository, never()).atualizarSenha(any(), any());
+            verify(cacheCredenciais).remover(clienteId);
+        }
+
+        @Test
+        @DisplayName("Deve atualizar o hash da senha do administrador")
+        void deveAtualizarHashSenhaAdministrador() {
+            // Act
+            UserDetails resultado = loginService.updatePassword(credencialAdministrador, "novoHash");
+
+            // Assert
+            assertThat(resultado.getPassword()).isEqualTo("novoHash");
+            verify(administradorRepository, times(1)).atualizarSenha(adminId, "novoHash");
+            verify(clienteRepository, never()).atualizarSenha(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Testes de Diferenças entre Tokens")
     class DiferencasTokensTestes {
@@ -357,10 +415,10 @@ class LoginServiceTest {
         @DisplayName("Token de cliente deve ter role CLIENTE e não ADMIN")
         void tokenClienteDeveTerRoleCliente() {
             // Act
-            String token = loginService.gerarTokenCliente(clienteEntity);
+            String token = loginService.gerarToken(credencialCliente);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -375,10 +433,10 @@ class LoginServiceTest {
         @DisplayName("Token de administrador deve ter role ADMIN e não CLIENTE")
         void tokenAdministradorDeveTerRoleAdmin() {
             // Act
-            String token = loginService.gerarTokenAdministrador(administradorEntity);
+            String token = loginService.gerarToken(credencialAdministrador);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
                     .build()
@@ -393,11 +451,11 @@ class LoginServiceTest {
         @DisplayName("Token de cliente e administrador devem ter mesmo issuer")
         void tokensDevemTerMesmoIssuer() {
             // Act
-            String tokenCliente = loginService.gerarTokenCliente(clienteEntity);
-            String tokenAdmin = loginService.gerarTokenAdministrador(administradorEntity);
+            String tokenCliente = loginService.gerarToken(credencialCliente);
+            String tokenAdmin = loginService.gerarToken(credencialAdministrador);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
 
             DecodedJWT decodedCliente = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
@@ -417,11 +475,11 @@ class LoginServiceTest {
         @DisplayName("Tokens devem ter subjects diferentes baseados em IDs diferentes")
         void tokensDevemTerSubjectsDiferentes() {
             // Act
-            String tokenCliente = loginService.gerarTokenCliente(clienteEntity);
-            String tokenAdmin = loginService.gerarTokenAdministrador(administradorEntity);
+            String tokenCliente = loginService.gerarToken(credencialCliente);
+            String tokenAdmin = loginService.gerarToken(credencialAdministrador);
 
             // Assert
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
 
             DecodedJWT decodedCliente = JWT.require(algorithm)
                     .withIssuer("cinecom-auth")
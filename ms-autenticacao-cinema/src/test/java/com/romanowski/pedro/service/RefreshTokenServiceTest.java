@@ -0,0 +1,229 @@
+package com.romanowski.pedro.service;
+
+import com.romanowski.pedro.entity.CredencialEntity;
+import com.romanowski.pedro.entity.RefreshTokenEntity;
+import com.romanowski.pedro.enums.Perfil;
+import com.romanowski.pedro.exceptions.RefreshTokenInvalidoException;
+import com.romanowski.pedro.repository.CredencialRepository;
+import com.romanowski.pedro.repository.RefreshTokenRepository;
+import com.romanowski.pedro.service.cache.CacheCredenciais;
+import com.romanowski.pedro.service.cache.RefreshTokensRevogados;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para RefreshTokenService")
+class RefreshTokenServiceTest {
+
+    private static final String MENSAGEM_INVALIDO = "Refresh token inválido";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private CredencialRepository credencialRepository;
+
+    @Captor
+    private ArgumentCaptor<RefreshTokenEntity> refreshTokenCaptor;
+
+    private RefreshTokensRevogados refreshTokensRevogados;
+
+    private RefreshTokenService refreshTokenService;
+
+    private CredencialEntity credencial;
+    private String tokenEmitido;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokensRevogados = new RefreshTokensRevogados(100);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, new CacheCredenciais(credencialRepository, 60000, 100), refreshTokensRevogados, 7);
+        ReflectionTestUtils.setField(refreshTokenService, "mensagemRefreshTokenInvalido", MENSAGEM_INVALIDO);
+
+        credencial = CredencialEntity.builder()
+                .id(UUID.randomUUID())
+                .email("joao@example.com")
+                .senha("senhaEncriptada")
+                .perfil(Perfil.CLIENTE)
+                .build();
+    }
+
+    private RefreshTokenEntity emitirEObterRegistro() {
+        when(refreshTokenRepository.save(any(RefreshTokenEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        tokenEmitido = refreshTokenService.emitir(credencial);
+        verify(refreshTokenRepository, atLeastOnce()).save(refreshTokenCaptor.capture());
+        return refreshTokenCaptor.getValue();
+    }
+
+    @Nested
+    @DisplayName("Testes de emissão")
+    class EmissaoTestes {
+
+        @Test
+        @DisplayName("Deve armazenar apenas o hash do refresh token emitido")
+        void deveArmazenarApenasHash() {
+            // Act
+            RefreshTokenEntity registro = emitirEObterRegistro();
+
+            // Assert
+            assertThat(tokenEmitido).hasSize(43);
+            assertThat(registro.getTokenHash()).hasSize(64).isNotEqualTo(tokenEmitido);
+            assertThat(registro.getIdUsuario()).isEqualTo(credencial.getId());
+            assertThat(registro.getFamilia()).isNotNull();
+            assertThat(registro.getExpiraEm()).isAfter(LocalDateTime.now().plusDays(6));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de renovação")
+    class RenovacaoTestes {
+
+        @Test
+        @DisplayName("Deve rotacionar o refresh token mantendo a família")
+        void deveRotacionarRefreshToken() {
+            // Arrange
+            RefreshTokenEntity registro = emitirEObterRegistro();
+            when(refreshTokenRepository.findByTokenHash(registro.getTokenHash())).thenReturn(Optional.of(registro));
+            when(credencialRepository.findById(credencial.getId())).thenReturn(Optional.of(credencial));
+            when(refreshTokenRepository.marcarUtilizado(registro.getId())).thenReturn(1);
+
+            // Act
+            RefreshTokenService.Renovacao renovacao = refreshTokenService.renovar(tokenEmitido);
+
+            // Assert
+            assertThat(renovacao.credencial()).isEqualTo(credencial);
+            assertThat(renovacao.refreshToken()).isNotEqualTo(tokenEmitido);
+            verify(refreshTokenRepository, times(2)).save(refreshTokenCaptor.capture());
+            assertThat(refreshTokenCaptor.getValue().getFamilia()).isEqualTo(registro.getFamilia());
+            assertThat(refreshTokensRevogados.contem(registro.getTokenHash())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve revogar a família quando um refresh token já utilizado é reapresentado")
+        void deveRevogarFamiliaQuandoTokenReutilizado() {
+            // Arrange
+            RefreshTokenEntity registro = emitirEObterRegistro();
+            registro.setUtilizado(true);
+            when(refreshTokenRepository.findByTokenHash(registro.getTokenHash())).thenReturn(Optional.of(registro));
+
+            // Act & Assert
+            assertThatThrownBy(() -> refreshTokenService.renovar(tokenEmitido))
+                    .isInstanceOf(RefreshTokenInvalidoException.class)
+                    .hasMessage(MENSAGEM_INVALIDO);
+            verify(refreshTokenRepository).revogarFamilia(registro.getFamilia());
+            verify(credencialRepository, never()).findById(any());
+            assertThat(refreshTokensRevogados.contem(registro.getTokenHash())).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve revogar a família quando o token é reapresentado na mesma instância depois da rotação")
+        void deveRevogarFamiliaQuandoTokenRotacionadoEReapresentado() {
+            // Arrange
+            RefreshTokenEntity registro = emitirEObterRegistro();
+            when(refreshTokenRepository.findByTokenHash(registro.getTokenHash())).thenReturn(Optional.of(registro));
+            when(credencialRepository.findById(credencial.getId())).thenReturn(Optional.of(credencial));
+            when(refreshTokenRepository.marcarUtilizado(registro.getId())).thenReturn(1);
+            refreshTokenService.renovar(tokenEmitido);
+            registro.setUtilizado(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> refreshTokenService.renovar(tokenEmitido))
+                    .isInstanceOf(RefreshTokenInvalidoException.class);
+            verify(refreshTokenRepository).revogarFamilia(registro.getFamilia());
+        }
+
+        @Test
+        @DisplayName("Deve tratar como reuso a renovação que perde a corrida pelo mesmo token")
+        void deveRevogarFamiliaQuandoRenovacaoConcorrente() {
+            // Arrange
+            RefreshTokenEntity registro = emitirEObterRegistro();
+            when(refreshTokenRepository.findByTokenHash(registro.getTokenHash())).thenReturn(Optional.of(registro));
+            when(credencialRepository.findById(credencial.getId())).thenReturn(Optional.of(credencial));
+            when(refreshTokenRepository.marcarUtilizado(registro.getId())).thenReturn(0);
+
+            // Act & Assert
+            assertThatThrownBy(() -> refreshTokenService.renovar(tokenEmitido))
+                    .isInstanceOf(RefreshTokenInvalidoException.class);
+            verify(refreshTokenRepository).revogarFamilia(registro.getFamilia());
+            verify(refreshTokenRepository, times(1)).save(any(RefreshTokenEntity.class));
+        }
+
+        @Test
+        @DisplayName("Deve recusar refresh token expirado")
+        void deveRecusarTokenExpirado() {
+            // Arrange
+            RefreshTokenEntity registro = emitirEObterRegistro();
+            registro.setExpiraEm(LocalDateTime.now().minusMinutes(1));
+            when(refreshTokenRepository.findByTokenHash(registro.getTokenHash())).thenReturn(Optional.of(registro));
+
+            // Act & Assert
+            assertThatThrownBy(() -> refreshTokenService.renovar(tokenEmitido))
+                    .isInstanceOf(RefreshTokenInvalidoException.class);
+            verify(credencialRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Deve recusar sem consultar o banco quando o token está no conjunto de revogados")
+        void deveRecusarTokenRevogadoEmMemoria() {
+            // Arrange
+            RefreshTokenEntity registro = emitirEObterRegistro();
+            when(refreshTokenRepository.findByTokenHash(registro.getTokenHash())).thenReturn(Optional.of(registro));
+            refreshTokenService.revogar(tokenEmitido);
+
+            // Act & Assert
+            assertThatThrownBy(() -> refreshTokenService.renovar(tokenEmitido))
+                    .isInstanceOf(RefreshTokenInvalidoException.class);
+            verify(refreshTokenRepository, times(1)).findByTokenHash(registro.getTokenHash());
+            verifyNoInteractions(credencialRepository);
+        }
+
+        @Test
+        @DisplayName("Deve recusar refresh token desconhecido")
+        void deveRecusarTokenDesconhecido() {
+            // Arrange
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> refreshTokenService.renovar("tokenDesconhecido"))
+                    .isInstanceOf(RefreshTokenInvalidoException.class)
+                    .hasMessage(MENSAGEM_INVALIDO);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de revogação")
+    class RevogacaoTestes {
+
+        @Test
+        @DisplayName("Deve revogar a família do refresh token no logout")
+        void deveRevogarFamiliaNoLogout() {
+            // Arrange
+            RefreshTokenEntity registro = emitirEObterRegistro();
+            when(refreshTokenRepository.findByTokenHash(registro.getTokenHash())).thenReturn(Optional.of(registro));
+
+            // Act
+            refreshTokenService.revogar(tokenEmitido);
+
+            // Assert
+            verify(refreshTokenRepository).revogarFamilia(registro.getFamilia());
+            assertThat(refreshTokensRevogados.contem(registro.getTokenHash())).isTrue();
+        }
+    }
+}
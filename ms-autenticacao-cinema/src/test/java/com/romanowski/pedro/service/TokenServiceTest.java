@@ -4,20 +4,23 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.romanowski.pedro.config.ChavesJwt;
+import com.romanowski.pedro.config.UsuarioAutenticado;
+import com.romanowski.pedro.enums.Perfil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,23 +29,22 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DisplayName("Testes para TokenService")
 class TokenServiceTest {
 
-    @InjectMocks
+    private static final ChavesJwt CHAVES_JWT = new ChavesJwt("teste", "", "", List.of());
+
     private TokenService tokenService;
 
-    private static final String JWT_SECRET = "test-secret-key-for-jwt-token-generation";
     private String tokenValido;
     private String tokenExpirado;
     private String tokenComIssuerInvalido;
 
     @BeforeEach
     void setUp() {
-        // Configura o JWT_SECRET usando reflection
-        ReflectionTestUtils.setField(tokenService, "JWT_SECRET", JWT_SECRET);
+        tokenService = new TokenService(CHAVES_JWT);
 
         // Cria um token válido
-        Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+        Algorithm algorithm = CHAVES_JWT.algoritmo();
         tokenValido = JWT.create()
-                .withIssuer("Cinecom")
+                .withIssuer("cinecom-auth")
                 .withSubject("123")
                 .withClaim("email", "usuario@example.com")
                 .withClaim("roles", List.of("CLIENTE"))
@@ -52,7 +54,7 @@ class TokenServiceTest {
 
         // Cria um token expirado
         tokenExpirado = JWT.create()
-                .withIssuer("Cinecom")
+                .withIssuer("cinecom-auth")
                 .withSubject("456")
                 .withClaim("email", "expirado@example.com")
                 .withClaim("roles", List.of("CLIENTE"))
@@ -104,9 +106,9 @@ class TokenServiceTest {
         @DisplayName("Deve retornar subject correto do token")
         void deveRetornarSubjectCorretoDoToken() {
             // Arrange
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             String tokenComSubject = JWT.create()
-                    .withIssuer("Cinecom")
+                    .withIssuer("cinecom-auth")
                     .withSubject("999")
                     .withClaim("email", "teste@example.com")
                     .withIssuedAt(new Date())
@@ -124,17 +126,17 @@ class TokenServiceTest {
         @DisplayName("Deve verificar token com diferentes subjects")
         void deveVerificarTokenComDiferentesSubjects() {
             // Arrange
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
 
             String token1 = JWT.create()
-                    .withIssuer("Cinecom")
+                    .withIssuer("cinecom-auth")
                     .withSubject("100")
                     .withIssuedAt(new Date())
                     .withExpiresAt(dataExpiracaoFutura())
                     .sign(algorithm);
 
             String token2 = JWT.create()
-                    .withIssuer("Cinecom")
+                    .withIssuer("cinecom-auth")
                     .withSubject("200")
                     .withIssuedAt(new Date())
                     .withExpiresAt(dataExpiracaoFutura())
@@ -151,12 +153,12 @@ class TokenServiceTest {
         }
 
         @Test
-        @DisplayName("Deve verificar token com issuer correto Cinecom")
+        @DisplayName("Deve verificar token com issuer correto cinecom-auth")
         void deveVerificarTokenComIssuerCorreto() {
             // Arrange
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             String tokenComIssuerCorreto = JWT.create()
-                    .withIssuer("Cinecom")
+                    .withIssuer("cinecom-auth")
                     .withSubject("555")
                     .withIssuedAt(new Date())
                     .withExpiresAt(dataExpiracaoFutura())
@@ -229,19 +231,19 @@ class TokenServiceTest {
         }
 
         @Test
-        @DisplayName("Deve lançar RuntimeException quando token foi assinado com secret diferente")
-        void deveLancarExcecaoQuandoTokenAssinadoComSecretDiferente() {
+        @DisplayName("Deve lançar RuntimeException quando token foi assinado com chave diferente")
+        void deveLancarExcecaoQuandoTokenAssinadoComChaveDiferente() {
             // Arrange
-            Algorithm algorithmDiferente = Algorithm.HMAC256("outro-secret-key");
-            String tokenComSecretDiferente = JWT.create()
-                    .withIssuer("Cinecom")
+            Algorithm algorithmDiferente = new ChavesJwt("teste", "", "", List.of()).algoritmo();
+            String tokenComChaveDiferente = JWT.create()
+                    .withIssuer("cinecom-auth")
                     .withSubject("111")
                     .withIssuedAt(new Date())
                     .withExpiresAt(dataExpiracaoFutura())
                     .sign(algorithmDiferente);
 
             // Act & Assert
-            assertThatThrownBy(() -> tokenService.verificarToken(tokenComSecretDiferente))
+            assertThatThrownBy(() -> tokenService.verificarToken(tokenComChaveDiferente))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("Token JWT invalido ou expirado");
         }
@@ -279,9 +281,9 @@ class TokenServiceTest {
         @DisplayName("Deve aceitar token com claims adicionais válidos")
         void deveAceitarTokenComClaimsAdicionais() {
             // Arrange
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             String tokenComClaims = JWT.create()
-                    .withIssuer("Cinecom")
+                    .withIssuer("cinecom-auth")
                     .withSubject("777")
                     .withClaim("email", "usuario@example.com")
                     .withClaim("roles", List.of("ADMIN"))
@@ -301,9 +303,9 @@ class TokenServiceTest {
         @DisplayName("Deve verificar token sem claims opcionais")
         void deveVerificarTokenSemClaimsOpcionais() {
             // Arrange
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
+            Algorithm algorithm = CHAVES_JWT.algoritmo();
             String tokenMinimo = JWT.create()
-                    .withIssuer("Cinecom")
+                    .withIssuer("cinecom-auth")
                     .withSubject("888")
                     .withIssuedAt(new Date())
                     .withExpiresAt(dataExpiracaoFutura())
@@ -316,5 +318,68 @@ class TokenServiceTest {
             assertThat(subject).isEqualTo("888");
         }
     }
-}
 
+    @Nested
+    @DisplayName("Testes de Rotação de Chaves")
+    class RotacaoChavesTestes {
+
+        @Test
+        @DisplayName("Deve aceitar token assinado pela chave anterior publicada após a rotação")
+        void deveAceitarTokenAssinadoPelaChaveAnterior() {
+            // Arrange
+            String chavePublicaAnterior = Base64.getEncoder().encodeToString(CHAVES_JWT.getPublicKeyById("teste").getEncoded());
+            ChavesJwt chavesRotacionadas = new ChavesJwt("teste-2", "", "", List.of("teste=" + chavePublicaAnterior));
+            TokenService tokenServiceRotacionado = new TokenService(chavesRotacionadas);
+
+            // Act
+            String subject = tokenServiceRotacionado.verificarToken(tokenValido);
+
+            // Assert
+            assertThat(subject).isEqualTo("123");
+            assertThat((List<?>) chavesRotacionadas.jwks().get("keys")).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de recuperarUsuario")
+    class RecuperarUsuarioTestes {
+
+        @Test
+        @DisplayName("Deve montar o usuário autenticado apenas com as claims do token")
+        void deveMontarUsuarioComClaimsDoToken() {
+            // Arrange
+            UUID id = UUID.randomUUID();
+            String token = JWT.create()
+                    .withIssuer("cinecom-auth")
+                    .withSubject(id.toString())
+                    .withClaim("email", "admin@example.com")
+                    .withClaim("roles", List.of("ADMIN"))
+                    .withExpiresAt(dataExpiracaoFutura())
+                    .sign(CHAVES_JWT.algoritmo());
+
+            // Act
+            UsuarioAutenticado usuario = tokenService.recuperarUsuario(token);
+
+            // Assert
+            assertThat(usuario.id()).isEqualTo(id);
+            assertThat(usuario.email()).isEqualTo("admin@example.com");
+            assertThat(usuario.perfil()).isEqualTo(Perfil.ADMIN);
+            assertThat(usuario.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o token não possui perfil")
+        void deveLancarExcecaoQuandoTokenSemPerfil() {
+            // Act & Assert
+            assertThatThrownBy(() -> tokenService.recuperarUsuario(tokenComIssuerInvalido))
+                    .isInstanceOf(RuntimeException.class);
+            assertThatThrownBy(() -> tokenService.recuperarUsuario(JWT.create()
+                    .withIssuer("cinecom-auth")
+                    .withSubject(UUID.randomUUID().toString())
+                    .withExpiresAt(dataExpiracaoFutura())
+                    .sign(CHAVES_JWT.algoritmo())))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("Token JWT sem perfil");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.romanowski.pedro.service.outbox;
+
+import com.romanowski.pedro.config.AMQPConfiguration;
+import com.romanowski.pedro.entity.EventoOutboxEntity;
+import com.romanowski.pedro.repository.EventoOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para PublicadorOutbox")
+class PublicadorOutboxTest {
+
+    @Mock
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private PublicadorOutbox publicadorOutbox;
+
+    @BeforeEach
+    void setUp() {
+        publicadorOutbox = new PublicadorOutbox(eventoOutboxRepository, rabbitTemplate, 100, 50);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como publicado apenas o evento confirmado pelo broker")
+    void deveMarcarApenasEventoConfirmado() {
+        // Arrange
+        EventoOutboxEntity confirmado = evento(1L);
+        EventoOutboxEntity recusado = evento(2L);
+        when(eventoOutboxRepository.travarPendentes(100)).thenReturn(List.of(confirmado, recusado));
+        doAnswer(invocation -> {
+            CorrelationData correlacao = invocation.getArgument(3);
+            correlacao.getFuture().complete(new CorrelationData.Confirm(correlacao.getId().endsWith(":1"), "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq(AMQPConfiguration.EXCHANGE_CLIENTES), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // Act
+        publicadorOutbox.publicarPendentes();
+
+        // Assert
+        assertThat(confirmado.getPublicadoEm()).isNotNull();
+        assertThat(recusado.getPublicadoEm()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve manter pendente o evento sem confirmação dentro do prazo")
+    void deveManterPendenteSemConfirmacao() {
+        // Arrange
+        EventoOutboxEntity evento = evento(1L);
+        when(eventoOutboxRepository.travarPendentes(100)).thenReturn(List.of(evento));
+
+        // Act
+        publicadorOutbox.publicarPendentes();
+
+        // Assert
+        verify(rabbitTemplate).send(eq(AMQPConfiguration.EXCHANGE_CLIENTES), eq(OutboxService.CLIENTE_CADASTRADO), any(Message.class), any(CorrelationData.class));
+        assertThat(evento.getPublicadoEm()).isNull();
+    }
+
+    private static EventoOutboxEntity evento(Long id) {
+        return EventoOutboxEntity.builder()
+                .id(id)
+                .tipo(OutboxService.CLIENTE_CADASTRADO)
+                .idAgregado(UUID.randomUUID())
+                .payload("{}")
+                .criadoEm(LocalDateTime.now())
+                .build();
+    }
+}
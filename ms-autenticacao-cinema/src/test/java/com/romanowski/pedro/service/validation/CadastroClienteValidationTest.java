@@ -3,7 +3,7 @@ package com.romanowski.pedro.service.validation;
 import com.romanowski.pedro.entity.ClienteEntity;
 import com.romanowski.pedro.exceptions.EmailExistenteException;
 import com.romanowski.pedro.exceptions.SenhaInvalidaException;
-import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.repository.CredencialRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,7 +26,7 @@ import static org.mockito.Mockito.*;
 class CadastroClienteValidationTest {
 
     @Mock
-    private ClienteRepository clienteRepository;
+    private CredencialRepository credencialRepository;
 
     @InjectMocks
     private CadastroClienteValidation cadastroClienteValidation;
@@ -54,27 +54,27 @@ class CadastroClienteValidationTest {
         @DisplayName("Deve aceitar email não cadastrado")
         void deveAceitarEmailNaoCadastrado() {
             // Arrange
-            when(clienteRepository.existsByEmail(anyString())).thenReturn(false);
+            when(credencialRepository.existsByEmail(anyString())).thenReturn(false);
 
             // Act & Assert
             assertThatCode(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
                     .doesNotThrowAnyException();
 
-            verify(clienteRepository).existsByEmail(clienteEntity.getEmail());
+            verify(credencialRepository).existsByEmail(clienteEntity.getEmail());
         }
 
         @Test
         @DisplayName("Deve lançar exceção quando email já existe")
         void deveLancarExcecaoQuandoEmailJaExiste() {
             // Arrange
-            when(clienteRepository.existsByEmail(clienteEntity.getEmail())).thenReturn(true);
+            when(credencialRepository.existsByEmail(clienteEntity.getEmail())).thenReturn(true);
 
             // Act & Assert
             assertThatThrownBy(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
                     .isInstanceOf(EmailExistenteException.class)
                     .hasMessage("Email já cadastrado no sistema");
 
-            verify(clienteRepository).existsByEmail(clienteEntity.getEmail());
+            verify(credencialRepository).existsByEmail(clienteEntity.getEmail());
         }
 
     }
@@ -89,7 +89,7 @@ class CadastroClienteValidationTest {
         void deveAceitarSenhaComTamanhoValido(String senhaValida) {
             // Arrange
             clienteEntity.setSenha(senhaValida);
-            when(clienteRepository.existsByEmail(anyString())).thenReturn(false);
+            when(credencialRepository.existsByEmail(anyString())).thenReturn(false);
 
             // Act & Assert
             assertThatCode(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
@@ -102,7 +102,7 @@ class CadastroClienteValidationTest {
         void deveLancarExcecaoParaSenhaMuitoCurta(String senhaCurta) {
             // Arrange
             clienteEntity.setSenha(senhaCurta);
-            when(clienteRepository.existsByEmail(anyString())).thenReturn(false);
+            when(credencialRepository.existsByEmail(anyString())).thenReturn(false);
 
             // Act & Assert
             assertThatThrownBy(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
@@ -116,7 +116,7 @@ class CadastroClienteValidationTest {
         void deveLancarExcecaoParaSenhaMuitoLonga(String senhaLonga) {
             // Arrange
             clienteEntity.setSenha(senhaLonga);
-            when(clienteRepository.existsByEmail(anyString())).thenReturn(false);
+            when(credencialRepository.existsByEmail(anyString())).thenReturn(false);
 
             // Act & Assert
             assertThatThrownBy(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
@@ -129,7 +129,7 @@ class CadastroClienteValidationTest {
         void deveAceitarSenhaComExatamente6Caracteres() {
             // Arrange
             clienteEntity.setSenha("123456");
-            when(clienteRepository.existsByEmail(anyString())).thenReturn(false);
+            when(credencialRepository.existsByEmail(anyString())).thenReturn(false);
 
             // Act & Assert
             assertThatCode(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
@@ -141,7 +141,7 @@ class CadastroClienteValidationTest {
         void deveAceitarSenhaComExatamente15Caracteres() {
             // Arrange
             clienteEntity.setSenha("123456789012345");
-            when(clienteRepository.existsByEmail(anyString())).thenReturn(false);
+            when(credencialRepository.existsByEmail(anyString())).thenReturn(false);
 
             // Act & Assert
             assertThatCode(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
@@ -159,13 +159,13 @@ class CadastroClienteValidationTest {
             // Arrange
             clienteEntity.setEmail("novo@example.com");
             clienteEntity.setSenha("senhaValida");
-            when(clienteRepository.existsByEmail("novo@example.com")).thenReturn(false);
+            when(credencialRepository.existsByEmail("novo@example.com")).thenReturn(false);
 
             // Act & Assert
             assertThatCode(() -> cadastroClienteValidation.validarCadastroCliente(clienteEntity))
                     .doesNotThrowAnyException();
 
-            verify(clienteRepository).existsByEmail("novo@example.com");
+            verify(credencialRepository).existsByEmail("novo@example.com");
         }
     }
 }
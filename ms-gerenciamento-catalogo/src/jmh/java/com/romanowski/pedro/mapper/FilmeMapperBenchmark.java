@@ -0,0 +1,48 @@
+package com.romanowski.pedro.mapper;
+
+import com.romanowski.pedro.dto.request.FilmeRequestDTO;
+import com.romanowski.pedro.dto.response.FilmeResponseDTO;
+import com.romanowski.pedro.entity.Filme;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilmeMapperBenchmark {
+
+    private final FilmeMapper filmeMapper = Mappers.getMapper(FilmeMapper.class);
+
+    @Param({"1", "100"})
+    private int quantidadeFilmes;
+
+    private FilmeRequestDTO filmeRequestDTO;
+    private List<Filme> filmes;
+
+    @Setup
+    public void setUp() {
+        filmeRequestDTO = new FilmeRequestDTO("Matrix", 136, "Ficção científica", "Lana Wachowski", LocalDate.of(1999, 3, 31));
+        filmes = new ArrayList<>(quantidadeFilmes);
+        for (long i = 0; i < quantidadeFilmes; i++) {
+            filmes.add(new Filme(i, "Filme " + i, 120, "Drama", "Autor " + i, LocalDate.of(2020, 1, 1)));
+        }
+    }
+
+    @Benchmark
+    public Filme requestParaEntidade() {
+        return filmeMapper.toEntity(filmeRequestDTO);
+    }
+
+    @Benchmark
+    public List<FilmeResponseDTO> listagemParaResponse() {
+        return filmes.stream().map(filmeMapper::toResponseDTO).toList();
+    }
+}
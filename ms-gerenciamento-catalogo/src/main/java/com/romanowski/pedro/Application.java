@@ -1,11 +1,14 @@
 package com.romanowski.pedro;
 
+import com.romanowski.pedro.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.PropertySource;
 
 @SpringBootApplication
 @PropertySource("classpath:messages/global.properties")
+@ImportRuntimeHints(NativeHints.class)
 public class Application {
 
     public static void main(String[] args) {
@@ -0,0 +1,71 @@
+package com.romanowski.pedro.config;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede os métodos anotados com {@link Timed}, ou todos os métodos de uma classe anotada, sem
+ * depender de AspectJ. A anotação do método tem precedência sobre a da classe.
+ */
+public class MedicaoMetodosInterceptor implements MethodInterceptor {
+
+    private static final String NOME_PADRAO = "cinema.metodo";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Method, Meter.MeterProvider<Timer>> timers = new ConcurrentHashMap<>();
+
+    public MedicaoMetodosInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method metodo = invocation.getMethod();
+        if (metodo.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        Meter.MeterProvider<Timer> timer = timers.computeIfAbsent(metodo, chave -> criarTimer(chave, invocation.getThis()));
+        String excecao = "none";
+        long inicio = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            excecao = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer.withTags("exception", excecao).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Meter.MeterProvider<Timer> criarTimer(Method metodo, Object alvo) {
+        Class<?> classe = AopUtils.getTargetClass(alvo);
+        Timed timed = AnnotatedElementUtils.findMergedAnnotation(AopUtils.getMostSpecificMethod(metodo, classe), Timed.class);
+        if (timed == null) {
+            timed = AnnotatedElementUtils.findMergedAnnotation(classe, Timed.class);
+        }
+
+        Timer.Builder builder = Timer.builder(timed == null || timed.value().isEmpty() ? NOME_PADRAO : timed.value())
+                .tag("class", classe.getSimpleName())
+                .tag("method", metodo.getName());
+        if (timed != null) {
+            builder.tags(timed.extraTags());
+            if (!timed.description().isEmpty()) {
+                builder.description(timed.description());
+            }
+        }
+        return builder.withRegistry(meterRegistry.getObject());
+    }
+}
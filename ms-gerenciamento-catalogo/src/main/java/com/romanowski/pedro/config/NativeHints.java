@@ -0,0 +1,26 @@
+package com.romanowski.pedro.config;
+
+import com.romanowski.pedro.entity.Filme;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Metadados de alcançabilidade para a imagem nativa ({@code mvn -Pnative native:compile}) daquilo que
+ * o processamento AOT do Spring não enxerga sozinho. O {@code FilmeMapper} do MapStruct é gerado na
+ * compilação e registrado como bean comum, então não precisa de nada aqui.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Entidade com getters/setters do Lombok, acessada pelo Hibernate por reflexão
+        hints.reflection().registerType(Filme.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.ACCESS_DECLARED_FIELDS);
+
+        hints.resources().registerPattern("db/migration/*.sql");
+        hints.resources().registerPattern("messages/*.properties");
+    }
+}
@@ -3,6 +3,7 @@ package com.romanowski.pedro.service;
 import com.romanowski.pedro.entity.Filme;
 import com.romanowski.pedro.repository.FilmeRepository;
 import com.romanowski.pedro.service.validation.FilmeValidation;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed("cinema.servico")
 public class FilmeService {
 
     private static final Logger logger = LoggerFactory.getLogger(FilmeService.class.getName());
@@ -0,0 +1,116 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.entity.Filme;
+import com.romanowski.pedro.repository.FilmeRepository;
+import com.romanowski.pedro.support.OrcamentoSql;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Orçamento de SQL dos endpoints do CatalogoController")
+class CatalogoControllerOrcamentoSqlTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private FilmeRepository filmeRepository;
+
+    private MockMvc mockMvc;
+
+    private Filme filme;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        filmeRepository.deleteAll();
+        filme = new Filme();
+        filme.setTitulo("O Poderoso Chefão");
+        filme.setDuracao(175);
+        filme.setGenero("Drama");
+        filme.setAutor("Francis Ford Coppola");
+        filme.setDataLancamento(LocalDate.of(1972, 3, 24));
+        filme = filmeRepository.save(filme);
+
+        OrcamentoSql.iniciar();
+    }
+
+    @Test
+    @DisplayName("Listagem de filmes deve respeitar o orçamento de SQL")
+    void listagemDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/filmes")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_CLIENTE"))))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(2);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Busca de filme por id deve respeitar o orçamento de SQL")
+    void buscaPorIdDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/filmes/{id}", filme.getId())
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_CLIENTE"))))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(2);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Busca de filme por título deve respeitar o orçamento de SQL")
+    void buscaPorTituloDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/filmes/titulo")
+                        .header("titulo", filme.getTitulo())
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(2);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Atualização de filme deve respeitar o orçamento de SQL")
+    void atualizacaoDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(patch("/v1/filmes/{id}", filme.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"titulo": "O Poderoso Chefão", "duracao": 177, "genero": "Drama",
+                                 "autor": "Francis Ford Coppola", "dataLancamento": "24/03/1972"}
+                                """)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(4);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Exclusão de filme deve respeitar o orçamento de SQL")
+    void exclusaoDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(delete("/v1/filmes/{id}", filme.getId())
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isNoContent());
+
+        OrcamentoSql.verificarMaximo(3);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+}
@@ -1,20 +1,32 @@
 package com.romanowski.pedro.config;
 
-import org.springframework.amqp.core.FanoutExchange;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.util.List;
+
 @Configuration
 @Profile("!test")
 public class AMQPConfiguration {
 
+    public static final String FILA_CLIENTES_CADASTRADOS = "clientes.cadastrados";
+    private static final String FILA_CLIENTES_CADASTRADOS_DLQ = "clientes.cadastrados.dlq";
+    public static final String FILA_RESERVAS_CANCELADAS = "reservas.canceladas";
+    private static final String FILA_RESERVAS_CANCELADAS_DLQ = "reservas.canceladas.dlq";
+
     @Bean
     public RabbitAdmin criaRabbitAdmin(ConnectionFactory conn){
         return new RabbitAdmin(conn);
@@ -42,4 +54,146 @@ public class AMQPConfiguration {
     public FanoutExchange fanoutExchange(){
         return new FanoutExchange("pagamentos.ex");
     }
+
+    @Bean
+    public Queue filaClientesCadastrados(){
+        return QueueBuilder
+                .durable(FILA_CLIENTES_CADASTRADOS)
+                .deadLetterExchange("clientes.dlx")
+                .deadLetterRoutingKey("clientes.cadastrados.dlq")
+                .build();
+    }
+
+    @Bean
+    public Queue filaClientesCadastradosDLQ(){
+        return QueueBuilder
+                .durable(FILA_CLIENTES_CADASTRADOS_DLQ)
+                .build();
+    }
+
+    @Bean
+    public FanoutExchange clientesExchange(){
+        return ExchangeBuilder
+                .fanoutExchange("clientes.ex")
+                .durable(true)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange clientesDeadLetterExchange(){
+        return ExchangeBuilder
+                .directExchange("clientes.dlx")
+                .build();
+    }
+
+    @Bean
+    public Binding bindClientesCadastrados(){
+        return BindingBuilder.bind(filaClientesCadastrados())
+                .to(clientesExchange());
+    }
+
+    @Bean
+    public Binding bindClientesCadastradosDLQ(){
+        return BindingBuilder.bind(filaClientesCadastradosDLQ())
+                .to(clientesDeadLetterExchange())
+                .with("clientes.cadastrados.dlq");
+    }
+
+    // Reservas canceladas junto com uma sessão no ms-gerenciamento-sessoes, que publica no exchange
+    @Bean
+    public FanoutExchange reservasCanceladasExchange(){
+        return ExchangeBuilder
+                .fanoutExchange("reservas.canceladas.ex")
+                .durable(true)
+                .build();
+    }
+
+    @Bean
+    public Queue filaReservasCanceladas(){
+        return QueueBuilder
+                .durable(FILA_RESERVAS_CANCELADAS)
+                .deadLetterExchange("clientes.dlx")
+                .deadLetterRoutingKey(FILA_RESERVAS_CANCELADAS_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Queue filaReservasCanceladasDLQ(){
+        return QueueBuilder
+                .durable(FILA_RESERVAS_CANCELADAS_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Binding bindReservasCanceladas(){
+        return BindingBuilder.bind(filaReservasCanceladas())
+                .to(reservasCanceladasExchange());
+    }
+
+    @Bean
+    public Binding bindReservasCanceladasDLQ(){
+        return BindingBuilder.bind(filaReservasCanceladasDLQ())
+                .to(clientesDeadLetterExchange())
+                .with(FILA_RESERVAS_CANCELADAS_DLQ);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory loteListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                             JacksonJsonMessageConverter messageConverter,
+                                                                             MeterRegistry meterRegistry,
+                                                                             @Value("${clientes.cadastrados.lote:50}") int tamanhoLote,
+                                                                             @Value("${clientes.cadastrados.espera-lote-ms:200}") long esperaLoteMs){
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(tamanhoLote);
+        factory.setPrefetchCount(tamanhoLote * 2);
+        factory.setReceiveTimeout(esperaLoteMs);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAfterReceivePostProcessors(contadorReentregas(meterRegistry));
+        return factory;
+    }
+
+    // Cada mensagem já traz um lote de reservas: uma mensagem por vez mantém curta a transação do estorno
+    @Bean
+    public SimpleRabbitListenerContainerFactory reservasCanceladasListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                                           JacksonJsonMessageConverter messageConverter,
+                                                                                           MeterRegistry meterRegistry){
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setPrefetchCount(1);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAfterReceivePostProcessors(contadorReentregas(meterRegistry));
+        return factory;
+    }
+
+    @Bean
+    public MeterBinder metricasDeadLetterQueue(RabbitAdmin rabbitAdmin){
+        return registry -> {
+            for (String fila : List.of(FILA_CLIENTES_CADASTRADOS_DLQ, FILA_RESERVAS_CANCELADAS_DLQ)) {
+                Gauge.builder("cinema.rabbit.dlq.mensagens", rabbitAdmin, admin -> contarMensagens(admin, fila))
+                        .tag("fila", fila)
+                        .description("Mensagens paradas na dead letter queue")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static MessagePostProcessor contadorReentregas(MeterRegistry meterRegistry){
+        return message -> {
+            MessageProperties propriedades = message.getMessageProperties();
+            if (Boolean.TRUE.equals(propriedades.isRedelivered())) {
+                meterRegistry.counter("cinema.rabbit.reentregas", "fila", String.valueOf(propriedades.getConsumerQueue())).increment();
+            }
+            return message;
+        };
+    }
+
+    private static double contarMensagens(RabbitAdmin rabbitAdmin, String fila){
+        QueueInformation informacao = rabbitAdmin.getQueueInfo(fila);
+        return informacao == null ? Double.NaN : informacao.getMessageCount();
+    }
 }
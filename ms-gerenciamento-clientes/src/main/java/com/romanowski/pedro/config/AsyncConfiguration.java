@@ -0,0 +1,41 @@
+package com.romanowski.pedro.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+
+    public static final String EXECUTOR_EMAIL = "executorEmail";
+
+    @Bean(name = EXECUTOR_EMAIL)
+    public ThreadPoolTaskExecutor executorEmail(@Value("${email.envio.threads:2}") int threads,
+                                                @Value("${email.envio.fila:1000}") int capacidadeFila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(capacidadeFila);
+        executor.setThreadNamePrefix("email-");
+        // Fila cheia: quem pediu o envio espera em vez de o email ser descartado
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public MeterBinder metricasFilaEmail(@Qualifier(EXECUTOR_EMAIL) ThreadPoolTaskExecutor executorEmail) {
+        return registry -> Gauge.builder("cinema.email.fila", executorEmail, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Emails aguardando envio")
+                .register(registry);
+    }
+}
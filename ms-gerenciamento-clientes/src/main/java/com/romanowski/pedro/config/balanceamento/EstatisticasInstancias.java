@@ -0,0 +1,252 @@
+package com.romanowski.pedro.config.balanceamento;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Latência e requisições em andamento de cada instância chamada pelos clientes Feign, alimentadas pelo
+ * ciclo de vida do Spring Cloud LoadBalancer. A latência é uma média exponencial que sobe imediatamente
+ * com uma resposta lenta e decai com o tempo, inclusive sem novas amostras, para que uma instância
+ * evitada volte a ser testada.
+ * <p>
+ * Instâncias com falhas seguidas ou com latência muito acima da mediana das demais do mesmo serviço
+ * ficam fora do balanceamento por um tempo (ejeção) e voltam sem amostras, com a latência mediana das demais:
+ * voltar com latência zero faria a instância ejetada parecer a mais rápida e ser a primeira escolhida.
+ * No máximo metade das instâncias de um serviço é ejetada ao mesmo tempo.
+ */
+@Component
+public class EstatisticasInstancias implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private static final Logger logger = LoggerFactory.getLogger(EstatisticasInstancias.class);
+
+    private final Map<String, Estatistica> estatisticas = new ConcurrentHashMap<>();
+    private final double decaimentoNanos;
+    private final int falhasParaEjecao;
+    private final double fatorLatenciaEjecao;
+    private final int minimoAmostras;
+    private final long duracaoEjecaoNanos;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier relogio;
+
+    @Autowired
+    public EstatisticasInstancias(@Value("${balanceamento.decaimento-ms:10000}") long decaimentoMs,
+                                  @Value("${balanceamento.ejecao.falhas-consecutivas:5}") int falhasParaEjecao,
+                                  @Value("${balanceamento.ejecao.fator-latencia:3.0}") double fatorLatenciaEjecao,
+                                  @Value("${balanceamento.ejecao.minimo-amostras:20}") int minimoAmostras,
+                                  @Value("${balanceamento.ejecao.duracao-ms:30000}") long duracaoEjecaoMs,
+                                  MeterRegistry meterRegistry) {
+        this(decaimentoMs, falhasParaEjecao, fatorLatenciaEjecao, minimoAmostras, duracaoEjecaoMs, meterRegistry, System::nanoTime);
+    }
+
+    EstatisticasInstancias(long decaimentoMs, int falhasParaEjecao, double fatorLatenciaEjecao, int minimoAmostras,
+                           long duracaoEjecaoMs, MeterRegistry meterRegistry, LongSupplier relogio) {
+        this.decaimentoNanos = TimeUnit.MILLISECONDS.toNanos(decaimentoMs);
+        this.falhasParaEjecao = falhasParaEjecao;
+        this.fatorLatenciaEjecao = fatorLatenciaEjecao;
+        this.minimoAmostras = minimoAmostras;
+        this.duracaoEjecaoNanos = TimeUnit.MILLISECONDS.toNanos(duracaoEjecaoMs);
+        this.meterRegistry = meterRegistry;
+        this.relogio = relogio;
+    }
+
+    private final class Estatistica {
+        private final AtomicInteger emAndamento = new AtomicInteger();
+        private double latenciaNanos;
+        private long ultimaAtualizacao = relogio.getAsLong();
+        private volatile long amostras;
+        private int falhasConsecutivas;
+        private volatile long ejetadaAte;
+        private volatile boolean ejetada;
+
+        synchronized void registrar(long latencia, boolean falha, long agora) {
+            double atual = latenciaDecaida(agora);
+            latenciaNanos = latencia > atual ? latencia : atual + (latencia - atual) * (1 - peso(agora));
+            ultimaAtualizacao = agora;
+            amostras++;
+            falhasConsecutivas = falha ? falhasConsecutivas + 1 : 0;
+        }
+
+        synchronized double latencia(long agora) {
+            return latenciaDecaida(agora);
+        }
+
+        private double latenciaDecaida(long agora) {
+            return latenciaNanos * peso(agora);
+        }
+
+        private double peso(long agora) {
+            return Math.exp(-Math.max(0, agora - ultimaAtualizacao) / decaimentoNanos);
+        }
+
+        synchronized void reabilitar(long agora, double latenciaPares) {
+            latenciaNanos = latenciaPares;
+            ultimaAtualizacao = agora;
+            amostras = 0;
+            falhasConsecutivas = 0;
+            ejetada = false;
+        }
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            request.getContext().setRequestStartTime(relogio.getAsLong());
+            iniciar(lbResponse.getServer());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer() || completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        ResponseData resposta = completionContext.getClientResponse();
+        boolean falha = completionContext.status() == CompletionContext.Status.FAILED
+                || resposta != null && resposta.getHttpStatus() != null && resposta.getHttpStatus().is5xxServerError();
+        long inicio = completionContext.getLoadBalancerRequest().getContext().getRequestStartTime();
+        concluir(lbResponse.getServer(), relogio.getAsLong() - inicio, falha);
+    }
+
+    public void iniciar(ServiceInstance instancia) {
+        estatistica(instancia).emAndamento.incrementAndGet();
+    }
+
+    public void concluir(ServiceInstance instancia, long latenciaNanos, boolean falha) {
+        Estatistica estatistica = estatistica(instancia);
+        estatistica.emAndamento.decrementAndGet();
+        estatistica.registrar(latenciaNanos, falha, relogio.getAsLong());
+    }
+
+    public int emAndamento(ServiceInstance instancia) {
+        return estatistica(instancia).emAndamento.get();
+    }
+
+    public double latenciaNanos(ServiceInstance instancia) {
+        return estatistica(instancia).latencia(relogio.getAsLong());
+    }
+
+    /**
+     * Reabilita as instâncias cuja ejeção expirou, ejeta as que passaram dos limites e devolve as
+     * demais. Se nenhuma sobrar, devolve a lista recebida.
+     */
+    public List<ServiceInstance> disponiveis(List<ServiceInstance> instancias) {
+        long agora = relogio.getAsLong();
+        int maximoEjetadas = instancias.size() / 2;
+        int ejetadas = 0;
+        for (ServiceInstance instancia : instancias) {
+            Estatistica estatistica = estatistica(instancia);
+            // Fora do synchronized: a latência das demais é lida com o bloqueio de cada uma
+            double latenciaPares = estatistica.ejetada && agora - estatistica.ejetadaAte >= 0
+                    ? latenciaPares(instancias, agora) : 0;
+            synchronized (estatistica) {
+                if (estatistica.ejetada && agora - estatistica.ejetadaAte >= 0) {
+                    estatistica.reabilitar(agora, latenciaPares);
+                    logger.info("Instância {} de {} reabilitada no balanceamento", chave(instancia), instancia.getServiceId());
+                }
+                if (estatistica.ejetada) {
+                    ejetadas++;
+                }
+            }
+        }
+
+        double referencia = latenciaReferencia(instancias, agora);
+        for (ServiceInstance instancia : instancias) {
+            if (ejetadas >= maximoEjetadas) {
+                break;
+            }
+            Estatistica estatistica = estatistica(instancia);
+            synchronized (estatistica) {
+                if (estatistica.ejetada) {
+                    continue;
+                }
+                String motivo = null;
+                if (estatistica.falhasConsecutivas >= falhasParaEjecao) {
+                    motivo = "falhas";
+                } else if (referencia > 0 && estatistica.amostras >= minimoAmostras
+                        && estatistica.latencia(agora) > fatorLatenciaEjecao * referencia) {
+                    motivo = "latencia";
+                }
+                if (motivo != null) {
+                    estatistica.ejetada = true;
+                    estatistica.ejetadaAte = agora + duracaoEjecaoNanos;
+                    ejetadas++;
+                    meterRegistry.counter("cinema.balanceamento.ejecoes", "servico", String.valueOf(instancia.getServiceId()),
+                            "motivo", motivo).increment();
+                    logger.warn("Instância {} de {} ejetada do balanceamento por {} ({} falhas seguidas, latência {} ms)",
+                            chave(instancia), instancia.getServiceId(), motivo, estatistica.falhasConsecutivas,
+                            Math.round(estatistica.latencia(agora) / 1_000_000));
+                }
+            }
+        }
+
+        List<ServiceInstance> disponiveis = new ArrayList<>(instancias.size());
+        for (ServiceInstance instancia : instancias) {
+            if (!estatistica(instancia).ejetada) {
+                disponiveis.add(instancia);
+            }
+        }
+        return disponiveis.isEmpty() ? instancias : disponiveis;
+    }
+
+    // Mediana inferior das latências das instâncias com amostras suficientes: com duas instâncias é a mais rápida
+    private double latenciaReferencia(List<ServiceInstance> instancias, long agora) {
+        double[] latencias = latencias(instancias, agora, minimoAmostras);
+        return latencias.length < 2 ? 0 : latencias[(latencias.length - 1) / 2];
+    }
+
+    // Mediana superior das latências das instâncias em uso, para a que volta da ejeção não passar na frente delas
+    private double latenciaPares(List<ServiceInstance> instancias, long agora) {
+        double[] latencias = latencias(instancias, agora, 1);
+        return latencias.length == 0 ? 0 : latencias[latencias.length / 2];
+    }
+
+    private double[] latencias(List<ServiceInstance> instancias, long agora, long minimoAmostras) {
+        double[] latencias = instancias.stream()
+                .map(this::estatistica)
+                .filter(estatistica -> !estatistica.ejetada && estatistica.amostras >= minimoAmostras)
+                .mapToDouble(estatistica -> estatistica.latencia(agora))
+                .toArray();
+        Arrays.sort(latencias);
+        return latencias;
+    }
+
+    private Estatistica estatistica(ServiceInstance instancia) {
+        return estatisticas.computeIfAbsent(instancia.getServiceId() + "@" + chave(instancia), chave -> new Estatistica());
+    }
+
+    private static String chave(ServiceInstance instancia) {
+        return instancia.getHost() + ":" + instancia.getPort();
+    }
+}
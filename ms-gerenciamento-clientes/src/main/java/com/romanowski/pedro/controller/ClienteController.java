@@ -3,14 +3,18 @@ package com.romanowski.pedro.controller;
 import com.romanowski.pedro.controller.swagger.ClienteControllerSwagger;
 import com.romanowski.pedro.dto.request.ClienteRequestDTO;
 import com.romanowski.pedro.dto.response.ClienteResponseDTO;
-import com.romanowski.pedro.entity.Cliente;
 import com.romanowski.pedro.mapper.ClienteMapper;
 import com.romanowski.pedro.service.ClienteService;
+import com.romanowski.pedro.service.exportacao.ExportadorClientes;
+import com.romanowski.pedro.service.exportacao.FormatoExportacao;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,13 +23,18 @@ import java.util.UUID;
 @RequestMapping("/v1")
 public class ClienteController implements ClienteControllerSwagger {
 
+    private static final String PROXIMO_CURSOR = "X-Proximo-Cursor";
+
     private final ClienteMapper clienteMapper;
 
     private final ClienteService clienteService;
 
-    public ClienteController(ClienteMapper clienteMapper, ClienteService clienteService) {
+    private final ExportadorClientes exportadorClientes;
+
+    public ClienteController(ClienteMapper clienteMapper, ClienteService clienteService, ExportadorClientes exportadorClientes) {
         this.clienteMapper = clienteMapper;
         this.clienteService = clienteService;
+        this.exportadorClientes = exportadorClientes;
     }
 
     @Override
@@ -37,12 +46,24 @@ public class ClienteController implements ClienteControllerSwagger {
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ClienteResponseDTO>> listarClientes() {
-        List<Cliente> clientes = clienteService.listarClientes();
-        var clientesResponseDTO = clientes.stream()
-                .map(clienteMapper::toResponseDTO)
-                .toList();
-        return ResponseEntity.status(HttpStatus.OK).body(clientesResponseDTO);
+    public ResponseEntity<List<ClienteResponseDTO>> listarClientes(UUID cursor, int tamanho) {
+        List<ClienteResponseDTO> clientes = clienteService.listarClientes(cursor, tamanho);
+        var resposta = ResponseEntity.status(HttpStatus.OK);
+        // A listagem termina quando a página seguinte vem vazia
+        if (!clientes.isEmpty()) {
+            resposta.header(PROXIMO_CURSOR, clientes.getLast().id().toString());
+        }
+        return resposta.body(clientes);
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportarClientes(FormatoExportacao formato) {
+        StreamingResponseBody corpo = saida -> exportadorClientes.exportar(formato, saida);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(formato.getTipoConteudo()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clientes." + formato.getExtensao() + "\"")
+                .body(corpo);
     }
 
     @Override
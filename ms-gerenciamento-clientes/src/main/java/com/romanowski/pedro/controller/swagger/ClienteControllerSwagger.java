@@ -2,11 +2,13 @@ package com.romanowski.pedro.controller.swagger;
 
 import com.romanowski.pedro.dto.request.ClienteRequestDTO;
 import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.service.exportacao.FormatoExportacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,9 +20,14 @@ public interface ClienteControllerSwagger {
     @PostMapping("/clientes")
     ResponseEntity<ClienteResponseDTO> cadastrarCliente(@Valid @RequestBody ClienteRequestDTO clienteRequestDTO);
 
-    @Operation(summary = "Listar clientes", description = "Permite listar os clientes que estão cadastrados dentro do cinema.")
+    @Operation(summary = "Listar clientes", description = "Permite listar os clientes que estão cadastrados dentro do cinema, em páginas ordenadas por ID. A próxima página começa no ID informado no cabeçalho X-Proximo-Cursor; uma página vazia indica o fim da listagem.")
     @GetMapping("/clientes")
-    ResponseEntity<List<ClienteResponseDTO>> listarClientes();
+    ResponseEntity<List<ClienteResponseDTO>> listarClientes(@RequestParam(required = false) UUID cursor,
+                                                            @RequestParam(defaultValue = "100") int tamanho);
+
+    @Operation(summary = "Exportar clientes", description = "Permite exportar todos os clientes do cinema em NDJSON ou CSV, enviados à medida que são lidos.")
+    @GetMapping("/clientes/exportacao")
+    ResponseEntity<StreamingResponseBody> exportarClientes(@RequestParam(defaultValue = "NDJSON") FormatoExportacao formato);
 
     @Operation(summary = "Buscar cliente por ID", description = "Permite a busca por um cliente específico através do seu ID.")
     @GetMapping("/clientes/{id}")
@@ -0,0 +1,10 @@
+package com.romanowski.pedro.dto.request;
+
+import java.util.UUID;
+
+public record ReservaCanceladaRequestDTO(
+        Long idReserva,
+        UUID idCliente,
+        Boolean pagamentoConfirmado
+) {
+}
@@ -0,0 +1,14 @@
+package com.romanowski.pedro.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ReservasCanceladasRequestDTO(
+        Long idSessao,
+        String tituloFilme,
+        Integer sala,
+        LocalDateTime dataHoraSessao,
+        Double preco,
+        List<ReservaCanceladaRequestDTO> reservas
+) {
+}
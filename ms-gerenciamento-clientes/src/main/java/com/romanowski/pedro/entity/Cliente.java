@@ -3,6 +3,7 @@ package com.romanowski.pedro.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.springframework.data.domain.Persistable;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,7 +18,7 @@ import static java.sql.Types.VARCHAR;
 @EqualsAndHashCode(of = "id")
 @Entity
 @Table(name = "clientes")
-public class Cliente {
+public class Cliente implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", length = 36, columnDefinition = "CHAR(36)")
@@ -30,4 +31,20 @@ public class Cliente {
 
     @Transient
     private List<Long> reservas;
+
+    // O id vem do serviço de autenticação; sem isso cada save faria um SELECT antes do INSERT
+    @Transient
+    @Builder.Default
+    private boolean novo = true;
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarComoPersistido() {
+        this.novo = false;
+    }
 }
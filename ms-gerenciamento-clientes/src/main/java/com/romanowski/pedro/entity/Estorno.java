@@ -0,0 +1,60 @@
+package com.romanowski.pedro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static java.sql.Types.VARCHAR;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "idReserva")
+@Entity
+@Table(name = "estornos")
+public class Estorno implements Persistable<Long> {
+
+    @Id
+    @Column(name = "id_reserva")
+    private Long idReserva;
+
+    @Column(name = "id_cliente", nullable = false, length = 36, columnDefinition = "CHAR(36)")
+    @JdbcTypeCode(VARCHAR)
+    private UUID idCliente;
+
+    @Column(name = "id_sessao", nullable = false)
+    private Long idSessao;
+
+    @Column(nullable = false)
+    private Double valor;
+
+    @Column(name = "data_estorno", nullable = false)
+    private LocalDateTime dataEstorno;
+
+    // O id é o da reserva; sem isso cada save faria um SELECT antes do INSERT
+    @Transient
+    @Builder.Default
+    private boolean novo = true;
+
+    @Override
+    public Long getId() {
+        return idReserva;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarComoPersistido() {
+        this.novo = false;
+    }
+}
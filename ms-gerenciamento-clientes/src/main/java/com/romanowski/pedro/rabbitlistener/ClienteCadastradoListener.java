@@ -0,0 +1,55 @@
+package com.romanowski.pedro.rabbitlistener;
+
+import com.romanowski.pedro.config.AMQPConfiguration;
+import com.romanowski.pedro.dto.request.ClienteRequestDTO;
+import com.romanowski.pedro.entity.Cliente;
+import com.romanowski.pedro.mapper.ClienteMapper;
+import com.romanowski.pedro.service.ClienteService;
+import com.romanowski.pedro.service.email.Email;
+import com.romanowski.pedro.service.email.EmailService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Profile("!test")
+@Timed("cinema.rabbit.consumo")
+public class ClienteCadastradoListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteCadastradoListener.class);
+
+    private final ClienteService clienteService;
+    private final ClienteMapper clienteMapper;
+    private final EmailService emailService;
+
+    public ClienteCadastradoListener(ClienteService clienteService, ClienteMapper clienteMapper, EmailService emailService) {
+        this.clienteService = clienteService;
+        this.clienteMapper = clienteMapper;
+        this.emailService = emailService;
+    }
+
+    @RabbitListener(queues = AMQPConfiguration.FILA_CLIENTES_CADASTRADOS, containerFactory = "loteListenerContainerFactory")
+    public void receberClientesCadastrados(List<ClienteRequestDTO> eventos){
+        logger.info("Recebendo lote de {} clientes cadastrados no serviço de autenticação", eventos.size());
+        List<Cliente> clientes = eventos.stream()
+                .map(clienteMapper::toEntity)
+                .toList();
+        List<Email> boasVindas;
+        try {
+            boasVindas = clienteService.cadastrarClientesEmLote(clientes);
+        } catch (Exception e) {
+            logger.error("Erro ao processar lote de clientes cadastrados. Tamanho: {}. Erro: {}", eventos.size(), e.getMessage(), e);
+            // O lote inteiro vai para a Dead Letter Queue; o reprocessamento é idempotente pelo id do cliente
+            throw e;
+        }
+        // Só depois do commit do lote, em uma única tarefa com vazão limitada
+        if (!boasVindas.isEmpty()) {
+            emailService.enviarEmailsEmLote(boasVindas);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.romanowski.pedro.rabbitlistener;
+
+import com.romanowski.pedro.config.AMQPConfiguration;
+import com.romanowski.pedro.dto.request.ReservasCanceladasRequestDTO;
+import com.romanowski.pedro.service.EstornoService;
+import com.romanowski.pedro.service.email.Email;
+import com.romanowski.pedro.service.email.EmailService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Profile("!test")
+@Timed("cinema.rabbit.consumo")
+public class ReservasCanceladasListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservasCanceladasListener.class);
+
+    private final EstornoService estornoService;
+    private final EmailService emailService;
+
+    public ReservasCanceladasListener(EstornoService estornoService, EmailService emailService) {
+        this.estornoService = estornoService;
+        this.emailService = emailService;
+    }
+
+    @RabbitListener(queues = AMQPConfiguration.FILA_RESERVAS_CANCELADAS, containerFactory = "reservasCanceladasListenerContainerFactory")
+    public void receberReservasCanceladas(ReservasCanceladasRequestDTO evento){
+        logger.info("Recebendo lote de {} reservas canceladas da sessão de ID: {}", evento.reservas().size(), evento.idSessao());
+        List<Email> emails;
+        try {
+            emails = estornoService.estornarReservasCanceladas(evento);
+        } catch (Exception e) {
+            logger.error("Erro ao estornar lote de reservas canceladas da sessão de ID: {}. Tamanho: {}. Erro: {}",
+                    evento.idSessao(), evento.reservas().size(), e.getMessage(), e);
+            // O lote vai para a Dead Letter Queue; o reprocessamento não estorna a mesma reserva duas vezes
+            throw e;
+        }
+        // Só depois do commit dos estornos, em uma única tarefa com vazão limitada
+        emailService.enviarEmailsEmLote(emails);
+    }
+}
@@ -1,13 +1,53 @@
 package com.romanowski.pedro.repository;
 
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
 import com.romanowski.pedro.entity.Cliente;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface ClienteRepository extends JpaRepository<Cliente, UUID> {
 
     Boolean existsByEmail(String email);
     Optional<Cliente> findById(UUID id);
+
+    // Crédito atômico no banco: não sobrescreve um débito de pagamento feito ao mesmo tempo
+    @Modifying
+    @Query("update Cliente c set c.saldo = c.saldo + :valor where c.id = :id")
+    int creditarSaldo(@Param("id") UUID id, @Param("valor") Double valor);
+
+    // Paginação por chave: cada página continua depois do último id da anterior, percorrendo a chave
+    // primária sem OFFSET, e traz só os campos da resposta (nunca a senha).
+    @Query("""
+            select new com.romanowski.pedro.dto.response.ClienteResponseDTO(c.id, c.nome, c.email, c.saldo)
+            from Cliente c
+            order by c.id""")
+    List<ClienteResponseDTO> listarPrimeiros(Limit limite);
+
+    @Query("""
+            select new com.romanowski.pedro.dto.response.ClienteResponseDTO(c.id, c.nome, c.email, c.saldo)
+            from Cliente c
+            where c.id > :cursor
+            order by c.id""")
+    List<ClienteResponseDTO> listarApos(@Param("cursor") UUID cursor, Limit limite);
+
+    // Exportação: fetch size Integer.MIN_VALUE faz o Connector/J do MySQL entregar as linhas uma a uma
+    // em vez de carregar o resultado inteiro. O Stream precisa ser consumido e fechado dentro da transação.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("""
+            select new com.romanowski.pedro.dto.response.ClienteResponseDTO(c.id, c.nome, c.email, c.saldo)
+            from Cliente c
+            order by c.id""")
+    Stream<ClienteResponseDTO> exportarTodos();
 }
@@ -0,0 +1,7 @@
+package com.romanowski.pedro.repository;
+
+import com.romanowski.pedro.entity.Estorno;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EstornoRepository extends JpaRepository<Estorno, Long> {
+}
@@ -1,20 +1,27 @@
 package com.romanowski.pedro.service;
 
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
 import com.romanowski.pedro.entity.Cliente;
 import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.service.email.Email;
 import com.romanowski.pedro.service.email.EmailService;
 import com.romanowski.pedro.service.validation.ClienteValidation;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class ClienteService {
@@ -35,6 +42,9 @@ public class ClienteService {
     @Value("${mensagem.exclusao.cinema.email:}")
     private String mensagemExclusaoClienteEmail;
 
+    @Value("${clientes.listagem.tamanho-maximo:500}")
+    private int tamanhoMaximoListagem;
+
     public ClienteService(ClienteRepository clienteRepository, ClienteValidation clienteValidation, PasswordEncoder passwordEncoder, EmailService emailService) {
         this.clienteRepository = clienteRepository;
         this.clienteValidation = clienteValidation;
@@ -67,6 +77,35 @@ public class ClienteService {
         return clienteSalvo;
     }
 
+    /**
+     * Persiste os clientes recebidos do serviço de autenticação em um único saveAll. Ids já
+     * existentes são ignorados, já que a publicação dos eventos é "pelo menos uma vez". Devolve os
+     * emails de boas-vindas dos clientes novos, para serem enviados só depois do commit.
+     */
+    @Transactional
+    public List<Email> cadastrarClientesEmLote(List<Cliente> clientes){
+        Map<UUID, Cliente> clientesPorId = new LinkedHashMap<>();
+        clientes.forEach(cliente -> clientesPorId.putIfAbsent(cliente.getId(), cliente));
+
+        Set<UUID> idsExistentes = clienteRepository.findAllById(clientesPorId.keySet()).stream()
+                .map(Cliente::getId)
+                .collect(Collectors.toSet());
+        List<Cliente> novosClientes = clientesPorId.values().stream()
+                .filter(cliente -> !idsExistentes.contains(cliente.getId()))
+                .toList();
+        if (novosClientes.isEmpty()) {
+            logger.info("Nenhum cliente novo no lote de {} eventos", clientes.size());
+            return List.of();
+        }
+
+        var clientesSalvos = clienteRepository.saveAll(novosClientes);
+        logger.info("{} clientes cadastrados em lote ({} duplicados ignorados)", clientesSalvos.size(), clientes.size() - clientesSalvos.size());
+        return clientesSalvos.stream()
+                .map(cliente -> new Email(cliente.getEmail(), "Bem-vindo ao Cinema",
+                        formatarMensagem(mensagemCadastroClienteEmail, cliente.getNome(), "Bem-vindo(a), %s!")))
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     @RateLimiter(name = "clienteService")
     public Optional<Cliente> buscarClientePorId(UUID id){
@@ -74,12 +113,22 @@ public class ClienteService {
         return clienteRepository.findById(id);
     }
 
+    /**
+     * Página de clientes ordenada por id, começando depois de {@code cursor} (ou do início, quando nulo).
+     * Só a primeira página vazia é erro: depois dela, lista vazia significa que a listagem terminou.
+     */
     @Transactional(readOnly = true)
     @RateLimiter(name = "clienteService")
-    public List<Cliente> listarClientes(){
-        logger.info("Iniciando listagem de clientes");
-        clienteValidation.validarListagemClientes();
-        return clienteRepository.findAll();
+    public List<ClienteResponseDTO> listarClientes(UUID cursor, int tamanho){
+        logger.info("Iniciando listagem de clientes a partir de {}", cursor);
+        var limite = Limit.of(Math.clamp(tamanho, 1, tamanhoMaximoListagem));
+        var clientes = cursor == null
+                ? clienteRepository.listarPrimeiros(limite)
+                : clienteRepository.listarApos(cursor, limite);
+        if (cursor == null) {
+            clienteValidation.validarListagemClientes(clientes);
+        }
+        return clientes;
     }
 
     @Transactional
@@ -0,0 +1,105 @@
+package com.romanowski.pedro.service;
+
+import com.romanowski.pedro.dto.request.ReservaCanceladaRequestDTO;
+import com.romanowski.pedro.dto.request.ReservasCanceladasRequestDTO;
+import com.romanowski.pedro.entity.Cliente;
+import com.romanowski.pedro.entity.Estorno;
+import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.repository.EstornoRepository;
+import com.romanowski.pedro.service.email.Email;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("cinema.servico")
+public class EstornoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EstornoService.class);
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final ClienteRepository clienteRepository;
+    private final EstornoRepository estornoRepository;
+
+    @Value("${mensagem.sessao.cancelada.email}")
+    private String mensagemSessaoCanceladaEmail;
+
+    @Value("${mensagem.sessao.cancelada.estorno.email}")
+    private String mensagemEstornoEmail;
+
+    public EstornoService(ClienteRepository clienteRepository, EstornoRepository estornoRepository) {
+        this.clienteRepository = clienteRepository;
+        this.estornoRepository = estornoRepository;
+    }
+
+    /**
+     * Devolve ao saldo dos clientes o valor das reservas pagas de um lote cancelado junto com a sessão
+     * e monta o aviso de cada cliente. Clientes e estornos já feitos são lidos com uma consulta cada, e o
+     * saldo recebe um único UPDATE atômico por cliente; reservas já estornadas (mensagem reentregue) não
+     * são devolvidas de novo.
+     *
+     * @return os emails a enviar depois que a transação for confirmada
+     */
+    @Transactional
+    @Timed("cinema.estorno.lote")
+    public List<Email> estornarReservasCanceladas(ReservasCanceladasRequestDTO evento){
+        logger.info("Estornando lote de {} reservas canceladas da sessão de ID: {}", evento.reservas().size(), evento.idSessao());
+        Set<UUID> idsClientes = evento.reservas().stream()
+                .map(ReservaCanceladaRequestDTO::idCliente)
+                .collect(Collectors.toSet());
+        Map<UUID, Cliente> clientes = clienteRepository.findAllById(idsClientes).stream()
+                .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        List<Long> idsPagas = evento.reservas().stream()
+                .filter(reserva -> Boolean.TRUE.equals(reserva.pagamentoConfirmado()))
+                .map(ReservaCanceladaRequestDTO::idReserva)
+                .toList();
+        Set<Long> jaEstornadas = estornoRepository.findAllById(idsPagas).stream()
+                .map(Estorno::getIdReserva)
+                .collect(Collectors.toSet());
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<Estorno> estornos = new ArrayList<>();
+        Map<UUID, Double> creditos = new LinkedHashMap<>();
+        List<Email> emails = new ArrayList<>();
+        for (ReservaCanceladaRequestDTO reserva : evento.reservas()) {
+            Cliente cliente = clientes.get(reserva.idCliente());
+            if (cliente == null) {
+                logger.warn("Cliente de ID: {} da reserva de ID: {} não encontrado", reserva.idCliente(), reserva.idReserva());
+                continue;
+            }
+            boolean estornar = Boolean.TRUE.equals(reserva.pagamentoConfirmado()) && !jaEstornadas.contains(reserva.idReserva());
+            if (estornar) {
+                creditos.merge(cliente.getId(), evento.preco(), Double::sum);
+                estornos.add(Estorno.builder()
+                        .idReserva(reserva.idReserva())
+                        .idCliente(cliente.getId())
+                        .idSessao(evento.idSessao())
+                        .valor(evento.preco())
+                        .dataEstorno(agora)
+                        .build());
+            }
+            emails.add(new Email(cliente.getEmail(), "Sessão cancelada", String.format(mensagemSessaoCanceladaEmail,
+                    cliente.getNome(), evento.tituloFilme(), evento.dataHoraSessao().format(FORMATO_DATA), evento.sala(),
+                    reserva.idReserva(), estornar ? String.format(mensagemEstornoEmail, evento.preco()) : "")));
+        }
+        creditos.forEach(clienteRepository::creditarSaldo);
+        estornoRepository.saveAll(estornos);
+        logger.info("{} reservas estornadas da sessão de ID: {} ({} já estornadas)", estornos.size(), evento.idSessao(), jaEstornadas.size());
+        return emails;
+    }
+}
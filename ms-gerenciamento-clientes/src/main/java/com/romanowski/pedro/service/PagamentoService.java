@@ -8,6 +8,7 @@ import com.romanowski.pedro.service.validation.PagamentoValidation;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -18,6 +19,7 @@ import javax.naming.ServiceUnavailableException;
 import java.util.UUID;
 
 @Service
+@Timed("cinema.servico")
 public class PagamentoService {
 
     private static final Logger logger = LoggerFactory.getLogger(PagamentoService.class);
@@ -37,6 +39,7 @@ public class PagamentoService {
         this.clienteService = clienteService;
     }
 
+    @Timed("cinema.pagamento")
     @CircuitBreaker(name = "pagamentoService", fallbackMethod = "fallbackRealizarPagamento")
     @Retry(name = "pagamentoService", fallbackMethod = "fallbackRealizarPagamento")
     @RateLimiter(name = "pagamentoService")
@@ -0,0 +1,4 @@
+package com.romanowski.pedro.service.email;
+
+public record Email(String destinatario, String assunto, String conteudo) {
+}
@@ -1,24 +1,39 @@
 package com.romanowski.pedro.service.email;
 
+import com.romanowski.pedro.config.AsyncConfiguration;
 import com.romanowski.pedro.service.email.exceptions.EmailException;
 import com.romanowski.pedro.utils.Constantes;
 import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class EmailService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
+
     private final JavaMailSender mailSender;
+    private final int tamanhoLote;
+    private final int emailsPorSegundo;
 
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender,
+                        @Value("${email.lote.tamanho:50}") int tamanhoLote,
+                        @Value("${email.lote.por-segundo:20}") int emailsPorSegundo) {
         this.mailSender = mailSender;
+        this.tamanhoLote = tamanhoLote;
+        this.emailsPorSegundo = emailsPorSegundo;
     }
 
     @PostConstruct
@@ -26,8 +41,52 @@ public class EmailService {
         System.out.println("Mail sender: " + mailSender);
     }
 
-    @Async
+    @Async(AsyncConfiguration.EXECUTOR_EMAIL)
     public void enviarEmail(String emailUsuario, String assunto, String conteudo) {
+        mailSender.send(criarMensagem(emailUsuario, assunto, conteudo));
+    }
+
+    /**
+     * Envia muitos emails em uma única tarefa do executor, sem lotar a fila dele: os emails vão em
+     * grupos de {@code email.lote.tamanho} por conexão SMTP, a no máximo {@code email.lote.por-segundo}
+     * emails por segundo. A falha de um grupo é registrada e o envio segue com o próximo.
+     */
+    @Async(AsyncConfiguration.EXECUTOR_EMAIL)
+    public void enviarEmailsEmLote(List<Email> emails) {
+        for (int inicio = 0; inicio < emails.size(); inicio += tamanhoLote) {
+            long comeco = System.nanoTime();
+            List<Email> lote = emails.subList(inicio, Math.min(emails.size(), inicio + tamanhoLote));
+            try {
+                mailSender.send(lote.stream()
+                        .map(email -> criarMensagem(email.destinatario(), email.assunto(), email.conteudo()))
+                        .toArray(MimeMessage[]::new));
+            } catch (MailException | EmailException e) {
+                logger.error("Falha ao enviar lote de {} emails. Erro: {}", lote.size(), e.getMessage());
+            }
+            if (!aguardarVazao(lote.size(), comeco)) {
+                logger.warn("Envio em lote interrompido com {} emails pendentes", emails.size() - inicio - lote.size());
+                return;
+            }
+        }
+        logger.info("{} emails enviados em lote", emails.size());
+    }
+
+    private boolean aguardarVazao(int enviados, long comeco) {
+        long minimoNanos = TimeUnit.SECONDS.toNanos(enviados) / Math.max(1, emailsPorSegundo);
+        long restanteNanos = minimoNanos - (System.nanoTime() - comeco);
+        if (restanteNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(restanteNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private MimeMessage criarMensagem(String emailUsuario, String assunto, String conteudo) {
         String emailDoUsuario = emailUsuario.trim();
         String emailOrigem = Constantes.EMAIL_ORIGEM.trim();
         MimeMessage message = mailSender.createMimeMessage();
@@ -41,7 +100,6 @@ public class EmailService {
         } catch(MessagingException | UnsupportedEncodingException e){
             throw new EmailException("Erro ao enviar email " + e.getMessage());
         }
-
-        mailSender.send(message);
+        return message;
     }
 }
@@ -0,0 +1,80 @@
+package com.romanowski.pedro.service.exportacao;
+
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.repository.ClienteRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de todos os clientes para administradores. As linhas são lidas do banco uma a uma e
+ * escritas direto na resposta, então a memória usada não depende do número de clientes.
+ */
+@Service
+public class ExportadorClientes {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportadorClientes.class);
+
+    private static final String CABECALHO_CSV = "id,nome,email,saldo";
+
+    private final ClienteRepository clienteRepository;
+
+    private final JsonMapper jsonMapper;
+
+    public ExportadorClientes(ClienteRepository clienteRepository, JsonMapper jsonMapper) {
+        this.clienteRepository = clienteRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Transactional(readOnly = true)
+    @Timed("cinema.cliente.exportacao")
+    public long exportar(FormatoExportacao formato, OutputStream saida) throws IOException {
+        logger.info("Iniciando exportação de clientes em {}", formato);
+        long total = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(CABECALHO_CSV);
+            writer.write('\n');
+        }
+        try (Stream<ClienteResponseDTO> clientes = clienteRepository.exportarTodos()) {
+            for (Iterator<ClienteResponseDTO> iterator = clientes.iterator(); iterator.hasNext(); total++) {
+                ClienteResponseDTO cliente = iterator.next();
+                writer.write(formato == FormatoExportacao.CSV ? linhaCsv(cliente) : jsonMapper.writeValueAsString(cliente));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+        logger.info("{} clientes exportados em {}", total, formato);
+        return total;
+    }
+
+    private String linhaCsv(ClienteResponseDTO cliente) {
+        return String.join(",",
+                String.valueOf(cliente.id()),
+                campoCsv(cliente.nome()),
+                campoCsv(cliente.email()),
+                cliente.saldo() != null ? cliente.saldo().toString() : "");
+    }
+
+    private String campoCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.contains(",") || valor.contains("\"") || valor.contains("\n") || valor.contains("\r")) {
+            return "\"" + valor.replace("\"", "\"\"") + "\"";
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,15 @@
+package com.romanowski.pedro.service.exportacao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FormatoExportacao {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String tipoConteudo;
+    private final String extensao;
+}
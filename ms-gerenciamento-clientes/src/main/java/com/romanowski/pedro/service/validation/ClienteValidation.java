@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -40,8 +41,8 @@ public class ClienteValidation {
         validarExistenciaEmail(cliente.getEmail());
     }
 
-    public void validarListagemClientes(){
-        if (clienteRepository.findAll().isEmpty()) {
+    public void validarListagemClientes(List<?> clientes){
+        if (clientes.isEmpty()) {
             logger.error("Nenhum cliente encontrado");
             throw new ListaClientesVaziaException(mensagemListaVazia);
         }
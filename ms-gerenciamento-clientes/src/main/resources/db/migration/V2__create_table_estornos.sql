@@ -0,0 +1,10 @@
+-- Estornos das reservas canceladas junto com a sessão no ms-gerenciamento-sessoes.
+-- A chave é a reserva: uma mensagem reentregue não devolve o valor duas vezes.
+CREATE TABLE estornos(
+                         id_reserva BIGINT PRIMARY KEY,
+                         id_cliente CHAR(36) NOT NULL,
+                         id_sessao BIGINT NOT NULL,
+                         valor DECIMAL(15,2) NOT NULL,
+                         data_estorno DATETIME NOT NULL,
+                         INDEX idx_estornos_cliente (id_cliente)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
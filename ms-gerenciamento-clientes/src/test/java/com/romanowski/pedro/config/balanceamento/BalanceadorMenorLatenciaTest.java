@@ -0,0 +1,148 @@
+package com.romanowski.pedro.config.balanceamento;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Testes para BalanceadorMenorLatencia")
+class BalanceadorMenorLatenciaTest {
+
+    private static final ServiceInstance RAPIDA = new DefaultServiceInstance("rapida", "cliente-service", "10.0.0.1", 8080, false);
+    private static final ServiceInstance LENTA = new DefaultServiceInstance("lenta", "cliente-service", "10.0.0.2", 8080, false);
+    private static final ServiceInstance MEDIA = new DefaultServiceInstance("media", "cliente-service", "10.0.0.3", 8080, false);
+    private static final List<ServiceInstance> INSTANCIAS = List.of(RAPIDA, LENTA);
+
+    private final AtomicLong relogio = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve escolher a instância com menor latência")
+    void deveEscolherInstanciaMaisRapida() {
+        // Arrange
+        EstatisticasInstancias estatisticas = estatisticas(100.0);
+        registrar(estatisticas, RAPIDA, 5, 20);
+        registrar(estatisticas, LENTA, 50, 20);
+        BalanceadorMenorLatencia balanceador = balanceador(estatisticas, BalanceadorMenorLatencia.Criterio.LATENCIA);
+
+        // Act & Assert
+        for (int i = 0; i < 50; i++) {
+            assertEquals(RAPIDA, balanceador.escolher(INSTANCIAS).getServer());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve escolher a instância com menos requisições em andamento")
+    void deveEscolherInstanciaMenosOcupada() {
+        // Arrange
+        EstatisticasInstancias estatisticas = estatisticas(100.0);
+        estatisticas.iniciar(RAPIDA);
+        estatisticas.iniciar(RAPIDA);
+        BalanceadorMenorLatencia balanceador = balanceador(estatisticas, BalanceadorMenorLatencia.Criterio.EM_ANDAMENTO);
+
+        // Act & Assert
+        assertEquals(LENTA, balanceador.escolher(INSTANCIAS).getServer());
+    }
+
+    @Test
+    @DisplayName("Deve ejetar a instância com latência muito acima das demais e reabilitá-la depois do prazo")
+    void deveEjetarInstanciaLentaTemporariamente() {
+        // Arrange
+        EstatisticasInstancias estatisticas = estatisticas(3.0);
+        registrar(estatisticas, RAPIDA, 5, 20);
+        registrar(estatisticas, LENTA, 50, 20);
+
+        // Act
+        List<ServiceInstance> disponiveis = estatisticas.disponiveis(INSTANCIAS);
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        List<ServiceInstance> depoisDoPrazo = estatisticas.disponiveis(INSTANCIAS);
+
+        // Assert
+        assertEquals(List.of(RAPIDA), disponiveis);
+        assertEquals(INSTANCIAS, depoisDoPrazo);
+        assertEquals(estatisticas.latenciaNanos(RAPIDA), estatisticas.latenciaNanos(LENTA));
+        assertEquals(1.0, meterRegistry.counter("cinema.balanceamento.ejecoes", "servico", "cliente-service", "motivo", "latencia").count());
+    }
+
+    @Test
+    @DisplayName("Deve reabilitar a instância ejetada com a latência mediana das demais, não como a mais rápida")
+    void deveReabilitarComLatenciaDasDemais() {
+        // Arrange
+        List<ServiceInstance> instancias = List.of(RAPIDA, MEDIA, LENTA);
+        EstatisticasInstancias estatisticas = estatisticas(3.0);
+        registrar(estatisticas, RAPIDA, 5, 20);
+        registrar(estatisticas, MEDIA, 10, 20);
+        registrar(estatisticas, LENTA, 50, 20);
+        assertEquals(List.of(RAPIDA, MEDIA), estatisticas.disponiveis(instancias));
+
+        // Act
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        List<ServiceInstance> depoisDoPrazo = estatisticas.disponiveis(instancias);
+
+        // Assert
+        assertEquals(instancias, depoisDoPrazo);
+        assertEquals(estatisticas.latenciaNanos(MEDIA), estatisticas.latenciaNanos(LENTA));
+        assertTrue(estatisticas.latenciaNanos(LENTA) > estatisticas.latenciaNanos(RAPIDA));
+    }
+
+    @Test
+    @DisplayName("Deve ejetar a instância com falhas seguidas")
+    void deveEjetarInstanciaComFalhas() {
+        // Arrange
+        EstatisticasInstancias estatisticas = estatisticas(100.0);
+        for (int i = 0; i < 5; i++) {
+            estatisticas.iniciar(LENTA);
+            estatisticas.concluir(LENTA, TimeUnit.MILLISECONDS.toNanos(1), true);
+        }
+
+        // Act & Assert
+        assertEquals(List.of(RAPIDA), estatisticas.disponiveis(INSTANCIAS));
+    }
+
+    @Test
+    @DisplayName("Não deve ejetar mais da metade das instâncias")
+    void naoDeveEjetarMaisDaMetade() {
+        // Arrange
+        EstatisticasInstancias estatisticas = estatisticas(100.0);
+        for (ServiceInstance instancia : INSTANCIAS) {
+            for (int i = 0; i < 5; i++) {
+                estatisticas.iniciar(instancia);
+                estatisticas.concluir(instancia, TimeUnit.MILLISECONDS.toNanos(1), true);
+            }
+        }
+
+        // Act & Assert
+        assertEquals(1, estatisticas.disponiveis(INSTANCIAS).size());
+    }
+
+    private EstatisticasInstancias estatisticas(double fatorLatencia) {
+        return new EstatisticasInstancias(10_000, 5, fatorLatencia, 20, 30_000, meterRegistry, relogio::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BalanceadorMenorLatencia balanceador(EstatisticasInstancias estatisticas, BalanceadorMenorLatencia.Criterio criterio) {
+        return new BalanceadorMenorLatencia("cliente-service", mock(ObjectProvider.class), estatisticas, criterio);
+    }
+
+    private void registrar(EstatisticasInstancias estatisticas, ServiceInstance instancia, long latenciaMs, int vezes) {
+        for (int i = 0; i < vezes; i++) {
+            estatisticas.iniciar(instancia);
+            estatisticas.concluir(instancia, TimeUnit.MILLISECONDS.toNanos(latenciaMs), false);
+        }
+    }
+}
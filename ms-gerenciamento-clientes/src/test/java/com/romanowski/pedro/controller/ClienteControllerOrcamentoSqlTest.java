@@ -0,0 +1,96 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.entity.Cliente;
+import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.service.email.EmailService;
+import com.romanowski.pedro.support.OrcamentoSql;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Orçamento de SQL dos endpoints do ClienteController")
+class ClienteControllerOrcamentoSqlTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private MockMvc mockMvc;
+
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        clienteRepository.deleteAll();
+        cliente = clienteRepository.save(Cliente.builder()
+                .id(UUID.randomUUID())
+                .nome("João Silva")
+                .email("joao.silva@email.com")
+                .senha("$2a$10$encodedPassword")
+                .saldo(100.0)
+                .build());
+
+        OrcamentoSql.iniciar();
+    }
+
+    @Test
+    @DisplayName("Busca de cliente por id deve respeitar o orçamento de SQL")
+    void buscaPorIdDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/clientes/{id}", cliente.getId())
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(1);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Listagem de clientes deve respeitar o orçamento de SQL")
+    void listagemDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/clientes").param("tamanho", "50")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Proximo-Cursor", cliente.getId().toString()));
+
+        OrcamentoSql.verificarMaximo(1);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Exclusão de cliente deve respeitar o orçamento de SQL")
+    void exclusaoDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(delete("/v1/clientes/{id}", cliente.getId())
+                        .with(jwt().jwt(token -> token.subject(cliente.getId().toString()))
+                                .authorities(new SimpleGrantedAuthority("ROLE_CLIENTE"))))
+                .andExpect(status().isNoContent());
+
+        OrcamentoSql.verificarMaximo(3);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+}
@@ -5,6 +5,8 @@ import com.romanowski.pedro.dto.response.ClienteResponseDTO;
 import com.romanowski.pedro.entity.Cliente;
 import com.romanowski.pedro.mapper.ClienteMapper;
 import com.romanowski.pedro.service.ClienteService;
+import com.romanowski.pedro.service.exportacao.ExportadorClientes;
+import com.romanowski.pedro.service.exportacao.FormatoExportacao;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +37,9 @@ class ClienteControllerTest {
     @Mock
     private ClienteService clienteService;
 
+    @Mock
+    private ExportadorClientes exportadorClientes;
+
     @InjectMocks
     private ClienteController clienteController;
 
@@ -214,115 +222,58 @@ class ClienteControllerTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos os clientes com sucesso e retornar status 200")
-    void deveListarTodosClientesComSucesso() {
+    @DisplayName("Deve listar clientes com sucesso e informar o próximo cursor")
+    void deveListarTodosOsClientesComSucesso() {
         // Arrange
         UUID uuid1 = UUID.randomUUID();
         UUID uuid2 = UUID.randomUUID();
-        UUID uuid3 = UUID.randomUUID();
-
-        Cliente cliente1 = new Cliente();
-        cliente1.setId(uuid1);
-        cliente1.setNome("João Silva");
-        cliente1.setEmail("joao.silva@email.com");
-        cliente1.setSenha("$2a$10$encodedPassword");
-        cliente1.setSaldo(100.0);
-
-        Cliente cliente2 = new Cliente();
-        cliente2.setId(uuid2);
-        cliente2.setNome("Maria Santos");
-        cliente2.setEmail("maria.santos@email.com");
-        cliente2.setSenha("$2a$10$encodedPassword2");
-        cliente2.setSaldo(200.0);
-
-        Cliente cliente3 = new Cliente();
-        cliente3.setId(uuid3);
-        cliente3.setNome("Carlos Oliveira");
-        cliente3.setEmail("carlos.oliveira@email.com");
-        cliente3.setSenha("$2a$10$encodedPassword3");
-        cliente3.setSaldo(300.0);
-
-        List<Cliente> clientes = List.of(cliente1, cliente2, cliente3);
-
-        ClienteResponseDTO response1 = new ClienteResponseDTO(uuid1, "João Silva", "joao.silva@email.com", 100.0);
-        ClienteResponseDTO response2 = new ClienteResponseDTO(uuid2, "Maria Santos", "maria.santos@email.com", 200.0);
-        ClienteResponseDTO response3 = new ClienteResponseDTO(uuid3, "Carlos Oliveira", "carlos.oliveira@email.com", 300.0);
-
-        when(clienteService.listarClientes()).thenReturn(clientes);
-        when(clienteMapper.toResponseDTO(cliente1)).thenReturn(response1);
-        when(clienteMapper.toResponseDTO(cliente2)).thenReturn(response2);
-        when(clienteMapper.toResponseDTO(cliente3)).thenReturn(response3);
+        List<ClienteResponseDTO> clientes = List.of(
+                new ClienteResponseDTO(uuid1, "João Silva", "joao.silva@email.com", 100.0),
+                new ClienteResponseDTO(uuid2, "Maria Santos", "maria.santos@email.com", 200.0));
+        when(clienteService.listarClientes(null, 2)).thenReturn(clientes);
 
         // Act
-        ResponseEntity<List<ClienteResponseDTO>> response = clienteController.listarClientes();
+        ResponseEntity<List<ClienteResponseDTO>> response = clienteController.listarClientes(null, 2);
 
         // Assert
-        assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(3, response.getBody().size());
-        assertEquals("João Silva", response.getBody().get(0).nome());
-        assertEquals("Maria Santos", response.getBody().get(1).nome());
-        assertEquals("Carlos Oliveira", response.getBody().get(2).nome());
-
-        verify(clienteService, times(1)).listarClientes();
-        verify(clienteMapper, times(1)).toResponseDTO(cliente1);
-        verify(clienteMapper, times(1)).toResponseDTO(cliente2);
-        verify(clienteMapper, times(1)).toResponseDTO(cliente3);
+        assertEquals(clientes, response.getBody());
+        assertEquals(uuid2.toString(), response.getHeaders().getFirst("X-Proximo-Cursor"));
+        verify(clienteService, times(1)).listarClientes(null, 2);
+        verifyNoInteractions(clienteMapper);
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há clientes cadastrados")
-    void deveRetornarListaVaziaQuandoNaoHaClientes() {
+    @DisplayName("Não deve informar cursor quando a página vem vazia")
+    void naoDeveInformarCursorQuandoPaginaVazia() {
         // Arrange
-        List<Cliente> clientesVazio = new ArrayList<>();
-        when(clienteService.listarClientes()).thenReturn(clientesVazio);
+        UUID cursor = UUID.randomUUID();
+        when(clienteService.listarClientes(cursor, 100)).thenReturn(List.of());
 
         // Act
-        ResponseEntity<List<ClienteResponseDTO>> response = clienteController.listarClientes();
+        ResponseEntity<List<ClienteResponseDTO>> response = clienteController.listarClientes(cursor, 100);
 
         // Assert
-        assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
         assertTrue(response.getBody().isEmpty());
-        assertEquals(0, response.getBody().size());
-
-        verify(clienteService, times(1)).listarClientes();
-        verify(clienteMapper, never()).toResponseDTO(any(Cliente.class));
+        assertFalse(response.getHeaders().containsHeader("X-Proximo-Cursor"));
     }
 
     @Test
-    @DisplayName("Deve listar apenas um cliente quando há apenas um cadastrado")
-    void deveListarApenasUmCliente() {
+    @DisplayName("Deve exportar clientes em CSV escrevendo direto na resposta")
+    void deveExportarClientesEmCsv() throws IOException {
         // Arrange
-        UUID clienteUuid = UUID.randomUUID();
-
-        Cliente cliente = new Cliente();
-        cliente.setId(clienteUuid);
-        cliente.setNome("João Silva");
-        cliente.setEmail("joao.silva@email.com");
-        cliente.setSenha("$2a$10$encodedPassword");
-        cliente.setSaldo(100.0);
-
-        List<Cliente> clientes = List.of(cliente);
-        ClienteResponseDTO responseDTO = new ClienteResponseDTO(clienteUuid, "João Silva", "joao.silva@email.com", 100.0);
-
-        when(clienteService.listarClientes()).thenReturn(clientes);
-        when(clienteMapper.toResponseDTO(cliente)).thenReturn(responseDTO);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
 
         // Act
-        ResponseEntity<List<ClienteResponseDTO>> response = clienteController.listarClientes();
+        ResponseEntity<StreamingResponseBody> response = clienteController.exportarClientes(FormatoExportacao.CSV);
+        response.getBody().writeTo(saida);
 
         // Assert
-        assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().size());
-        assertEquals("João Silva", response.getBody().get(0).nome());
-
-        verify(clienteService, times(1)).listarClientes();
-        verify(clienteMapper, times(1)).toResponseDTO(cliente);
+        assertEquals("text/csv", response.getHeaders().getContentType().toString());
+        assertEquals("attachment; filename=\"clientes.csv\"", response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        verify(exportadorClientes, times(1)).exportar(FormatoExportacao.CSV, saida);
     }
 
     @Test
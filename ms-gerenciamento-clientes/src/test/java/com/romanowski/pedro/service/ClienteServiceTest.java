@@ -1,9 +1,12 @@
 package com.romanowski.pedro.service;
 
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
 import com.romanowski.pedro.entity.Cliente;
 import com.romanowski.pedro.exceptions.EmailExistenteException;
+import com.romanowski.pedro.exceptions.ListaClientesVaziaException;
 import com.romanowski.pedro.exceptions.SenhaInvalidaExcpetion;
 import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.service.email.Email;
 import com.romanowski.pedro.service.email.EmailService;
 import com.romanowski.pedro.service.validation.ClienteValidation;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,9 +16,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -51,6 +55,8 @@ class ClienteServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(clienteService, "tamanhoMaximoListagem", 500);
+
         cliente = new Cliente();
         cliente.setNome("João Silva");
         cliente.setEmail("joao.silva@email.com");
@@ -216,165 +222,84 @@ class ClienteServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos os clientes com sucesso")
-    void deveListarTodosClientesComSucesso() {
+    @DisplayName("Deve listar a primeira página de clientes com sucesso")
+    void deveListarTodosOsClientesComSucesso() {
         // Arrange
-        Cliente cliente1 = new Cliente();
-        cliente1.setId(UUID.randomUUID());
-        cliente1.setNome("João Silva");
-        cliente1.setEmail("joao.silva@email.com");
-        cliente1.setSenha("$2a$10$encodedPassword");
-        cliente1.setSaldo(100.0);
-
-        Cliente cliente2 = new Cliente();
-        cliente2.setId(UUID.randomUUID());
-        cliente2.setNome("Maria Santos");
-        cliente2.setEmail("maria.santos@email.com");
-        cliente2.setSenha("$2a$10$encodedPassword2");
-        cliente2.setSaldo(200.0);
-
-        Cliente cliente3 = new Cliente();
-        cliente3.setId(UUID.randomUUID());
-        cliente3.setNome("Carlos Oliveira");
-        cliente3.setEmail("carlos.oliveira@email.com");
-        cliente3.setSenha("$2a$10$encodedPassword3");
-        cliente3.setSaldo(300.0);
-
-        List<Cliente> clientes = List.of(cliente1, cliente2, cliente3);
-
-        doNothing().when(clienteValidation).validarListagemClientes();
-        when(clienteRepository.findAll()).thenReturn(clientes);
+        List<ClienteResponseDTO> clientes = List.of(
+                new ClienteResponseDTO(UUID.randomUUID(), "João Silva", "joao.silva@email.com", 100.0),
+                new ClienteResponseDTO(UUID.randomUUID(), "Maria Santos", "maria.santos@email.com", 200.0),
+                new ClienteResponseDTO(UUID.randomUUID(), "Carlos Oliveira", "carlos.oliveira@email.com", 300.0));
+        when(clienteRepository.listarPrimeiros(Limit.of(20))).thenReturn(clientes);
 
         // Act
-        List<Cliente> resultado = clienteService.listarClientes();
+        List<ClienteResponseDTO> resultado = clienteService.listarClientes(null, 20);
 
         // Assert
-        assertNotNull(resultado);
         assertEquals(3, resultado.size());
-        assertEquals("João Silva", resultado.get(0).getNome());
-        assertEquals("Maria Santos", resultado.get(1).getNome());
-        assertEquals("Carlos Oliveira", resultado.get(2).getNome());
-        assertEquals(100.0, resultado.get(0).getSaldo());
-        assertEquals(200.0, resultado.get(1).getSaldo());
-        assertEquals(300.0, resultado.get(2).getSaldo());
-
-        verify(clienteValidation, times(1)).validarListagemClientes();
-        verify(clienteRepository, times(1)).findAll();
+        assertEquals("João Silva", resultado.get(0).nome());
+        assertEquals(300.0, resultado.get(2).saldo());
+        verify(clienteValidation, times(1)).validarListagemClientes(clientes);
+        verify(clienteRepository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Deve chamar validação antes de listar clientes")
-    void deveChamarValidacaoAntesDeListar() {
+    @DisplayName("Deve continuar a listagem depois do cursor informado")
+    void deveListarAPartirDoCursor() {
         // Arrange
-        List<Cliente> clientes = new ArrayList<>();
-        doNothing().when(clienteValidation).validarListagemClientes();
-        when(clienteRepository.findAll()).thenReturn(clientes);
+        UUID cursor = UUID.randomUUID();
+        List<ClienteResponseDTO> clientes = List.of(
+                new ClienteResponseDTO(UUID.randomUUID(), "Maria Santos", "maria.santos@email.com", 200.0));
+        when(clienteRepository.listarApos(cursor, Limit.of(20))).thenReturn(clientes);
 
         // Act
-        clienteService.listarClientes();
+        List<ClienteResponseDTO> resultado = clienteService.listarClientes(cursor, 20);
 
         // Assert
-        verify(clienteValidation, times(1)).validarListagemClientes();
+        assertEquals(clientes, resultado);
+        verify(clienteRepository, never()).listarPrimeiros(any());
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há clientes cadastrados")
-    void deveRetornarListaVaziaQuandoNaoHaClientes() {
+    @DisplayName("Não deve validar páginas vazias depois da primeira")
+    void naoDeveValidarPaginaVaziaDepoisDaPrimeira() {
         // Arrange
-        List<Cliente> clientesVazio = new ArrayList<>();
-        doNothing().when(clienteValidation).validarListagemClientes();
-        when(clienteRepository.findAll()).thenReturn(clientesVazio);
+        UUID cursor = UUID.randomUUID();
+        when(clienteRepository.listarApos(cursor, Limit.of(20))).thenReturn(List.of());
 
         // Act
-        List<Cliente> resultado = clienteService.listarClientes();
+        List<ClienteResponseDTO> resultado = clienteService.listarClientes(cursor, 20);
 
         // Assert
-        assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
-        assertEquals(0, resultado.size());
-
-        verify(clienteValidation, times(1)).validarListagemClientes();
-        verify(clienteRepository, times(1)).findAll();
-    }
-
-    @Test
-    @DisplayName("Deve listar apenas um cliente quando há apenas um cadastrado")
-    void deveListarApenasUmCliente() {
-        // Arrange
-        Cliente cliente = new Cliente();
-        cliente.setId(UUID.randomUUID());
-        cliente.setNome("João Silva");
-        cliente.setEmail("joao.silva@email.com");
-        cliente.setSenha("$2a$10$encodedPassword");
-        cliente.setSaldo(100.0);
-
-        List<Cliente> clientes = List.of(cliente);
-
-        doNothing().when(clienteValidation).validarListagemClientes();
-        when(clienteRepository.findAll()).thenReturn(clientes);
-
-        // Act
-        List<Cliente> resultado = clienteService.listarClientes();
-
-        // Assert
-        assertNotNull(resultado);
-        assertEquals(1, resultado.size());
-        assertEquals("João Silva", resultado.get(0).getNome());
-        assertEquals("joao.silva@email.com", resultado.get(0).getEmail());
-        assertEquals(100.0, resultado.get(0).getSaldo());
-
-        verify(clienteValidation, times(1)).validarListagemClientes();
-        verify(clienteRepository, times(1)).findAll();
+        verify(clienteValidation, never()).validarListagemClientes(any());
     }
 
     @Test
-    @DisplayName("Deve listar clientes com saldos diferentes")
-    void deveListarClientesComSaldosDiferentes() {
+    @DisplayName("Deve propagar exceção quando não há clientes cadastrados")
+    void devePropagarExcecaoQuandoNaoHaClientes() {
         // Arrange
-        Cliente clienteSaldoZero = new Cliente();
-        clienteSaldoZero.setId(UUID.randomUUID());
-        clienteSaldoZero.setNome("Cliente Saldo Zero");
-        clienteSaldoZero.setEmail("zero@email.com");
-        clienteSaldoZero.setSaldo(0.0);
-
-        Cliente clienteSaldoMaximo = new Cliente();
-        clienteSaldoMaximo.setId(UUID.randomUUID());
-        clienteSaldoMaximo.setNome("Cliente Saldo Máximo");
-        clienteSaldoMaximo.setEmail("maximo@email.com");
-        clienteSaldoMaximo.setSaldo(1000.0);
-
-        List<Cliente> clientes = List.of(clienteSaldoZero, clienteSaldoMaximo);
-
-        doNothing().when(clienteValidation).validarListagemClientes();
-        when(clienteRepository.findAll()).thenReturn(clientes);
-
-        // Act
-        List<Cliente> resultado = clienteService.listarClientes();
-
-        // Assert
-        assertNotNull(resultado);
-        assertEquals(2, resultado.size());
-        assertEquals(0.0, resultado.get(0).getSaldo());
-        assertEquals(1000.0, resultado.get(1).getSaldo());
+        when(clienteRepository.listarPrimeiros(any())).thenReturn(List.of());
+        doThrow(new ListaClientesVaziaException("Nenhum cliente encontrado."))
+                .when(clienteValidation).validarListagemClientes(List.of());
 
-        verify(clienteValidation, times(1)).validarListagemClientes();
-        verify(clienteRepository, times(1)).findAll();
+        // Act & Assert
+        assertThrows(ListaClientesVaziaException.class, () -> clienteService.listarClientes(null, 20));
     }
 
     @Test
-    @DisplayName("Deve retornar lista não nula mesmo quando vazia")
-    void deveRetornarListaNaoNulaMesmoQuandoVazia() {
+    @DisplayName("Deve limitar o tamanho da página ao máximo configurado")
+    void deveLimitarTamanhoDaPagina() {
         // Arrange
-        List<Cliente> clientesVazio = new ArrayList<>();
-        doNothing().when(clienteValidation).validarListagemClientes();
-        when(clienteRepository.findAll()).thenReturn(clientesVazio);
+        when(clienteRepository.listarPrimeiros(any())).thenReturn(List.of(
+                new ClienteResponseDTO(UUID.randomUUID(), "João Silva", "joao.silva@email.com", 100.0)));
 
         // Act
-        List<Cliente> resultado = clienteService.listarClientes();
+        clienteService.listarClientes(null, 10_000);
+        clienteService.listarClientes(null, 0);
 
         // Assert
-        assertNotNull(resultado);
-        assertTrue(resultado.isEmpty());
+        verify(clienteRepository).listarPrimeiros(Limit.of(500));
+        verify(clienteRepository).listarPrimeiros(Limit.of(1));
     }
 
     @Test
@@ -490,5 +415,44 @@ class ClienteServiceTest {
         verify(clienteRepository, times(1)).deleteById(clienteId);
         verify(emailService, times(1)).enviarEmail(eq("joao.silva@email.com"), eq("Tchau, até a próxima"), anyString());
     }
-}
 
+    @Test
+    @DisplayName("Deve cadastrar em lote apenas os clientes que ainda não existem")
+    void deveCadastrarEmLoteApenasClientesNovos() {
+        // Arrange
+        Cliente existente = Cliente.builder().id(UUID.randomUUID()).nome("Maria").email("maria@email.com").senha("hash").saldo(0.0).build();
+        Cliente novo = Cliente.builder().id(UUID.randomUUID()).nome("Pedro").email("pedro@email.com").senha("hash").saldo(10.0).build();
+        List<Cliente> lote = List.of(existente, novo, novo);
+
+        when(clienteRepository.findAllById(any())).thenReturn(List.of(existente));
+        when(clienteRepository.saveAll(List.of(novo))).thenReturn(List.of(novo));
+
+        // Act
+        List<Email> resultado = clienteService.cadastrarClientesEmLote(lote);
+
+        // Assert
+        assertEquals(1, resultado.size());
+        assertEquals("pedro@email.com", resultado.get(0).destinatario());
+        assertEquals("Bem-vindo ao Cinema", resultado.get(0).assunto());
+        assertTrue(resultado.get(0).conteudo().contains("Pedro"));
+        verify(clienteRepository, times(1)).saveAll(List.of(novo));
+        verify(clienteRepository, never()).save(any(Cliente.class));
+        // Os emails só saem depois do commit, pelo listener
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    @DisplayName("Não deve salvar nada quando todos os clientes do lote já existem")
+    void naoDeveSalvarLoteQuandoTodosClientesJaExistem() {
+        // Arrange
+        when(clienteRepository.findAllById(any())).thenReturn(List.of(clienteSalvo));
+
+        // Act
+        List<Email> resultado = clienteService.cadastrarClientesEmLote(List.of(clienteSalvo));
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        verify(clienteRepository, never()).saveAll(any());
+        verifyNoInteractions(emailService);
+    }
+}
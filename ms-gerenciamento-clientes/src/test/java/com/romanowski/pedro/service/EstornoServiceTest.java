@@ -0,0 +1,103 @@
+package com.romanowski.pedro.service;
+
+import com.romanowski.pedro.dto.request.ReservaCanceladaRequestDTO;
+import com.romanowski.pedro.dto.request.ReservasCanceladasRequestDTO;
+import com.romanowski.pedro.entity.Cliente;
+import com.romanowski.pedro.entity.Estorno;
+import com.romanowski.pedro.repository.ClienteRepository;
+import com.romanowski.pedro.repository.EstornoRepository;
+import com.romanowski.pedro.service.email.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstornoServiceTest {
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private EstornoRepository estornoRepository;
+
+    @InjectMocks
+    private EstornoService estornoService;
+
+    @Captor
+    private ArgumentCaptor<List<Estorno>> estornosCaptor;
+
+    private Cliente pagante;
+    private Cliente naoPagante;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(estornoService, "mensagemSessaoCanceladaEmail", "%s %s %s %s %s %s");
+        ReflectionTestUtils.setField(estornoService, "mensagemEstornoEmail", "Estorno de %.2f");
+        pagante = Cliente.builder().id(UUID.randomUUID()).nome("Ana").email("ana@email.com").saldo(10.0).build();
+        naoPagante = Cliente.builder().id(UUID.randomUUID()).nome("Bruno").email("bruno@email.com").saldo(10.0).build();
+    }
+
+    @Test
+    @DisplayName("Deve estornar as reservas pagas e avisar todos os clientes do lote")
+    void deveEstornarReservasPagasEAvisarClientes() {
+        // Arrange
+        ReservasCanceladasRequestDTO evento = evento(
+                new ReservaCanceladaRequestDTO(1L, pagante.getId(), true),
+                new ReservaCanceladaRequestDTO(2L, pagante.getId(), true),
+                new ReservaCanceladaRequestDTO(3L, naoPagante.getId(), false));
+        when(clienteRepository.findAllById(anyCollection())).thenReturn(List.of(pagante, naoPagante));
+        when(estornoRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of());
+
+        // Act
+        List<Email> emails = estornoService.estornarReservasCanceladas(evento);
+
+        // Assert
+        verify(clienteRepository, times(1)).creditarSaldo(pagante.getId(), 100.0);
+        verify(clienteRepository, never()).creditarSaldo(eq(naoPagante.getId()), anyDouble());
+        verify(estornoRepository, times(1)).saveAll(estornosCaptor.capture());
+        assertEquals(List.of(1L, 2L), estornosCaptor.getValue().stream().map(Estorno::getIdReserva).toList());
+        assertEquals(3, emails.size());
+        assertTrue(emails.get(0).conteudo().contains("Estorno de"));
+        assertFalse(emails.get(2).conteudo().contains("Estorno de"));
+        verify(clienteRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Não deve estornar de novo uma reserva de lote reentregue")
+    void naoDeveEstornarReservaJaEstornada() {
+        // Arrange
+        ReservasCanceladasRequestDTO evento = evento(new ReservaCanceladaRequestDTO(1L, pagante.getId(), true));
+        when(clienteRepository.findAllById(anyCollection())).thenReturn(List.of(pagante));
+        when(estornoRepository.findAllById(List.of(1L))).thenReturn(List.of(Estorno.builder().idReserva(1L).build()));
+
+        // Act
+        estornoService.estornarReservasCanceladas(evento);
+
+        // Assert
+        verify(clienteRepository, never()).creditarSaldo(any(), anyDouble());
+        verify(estornoRepository, times(1)).saveAll(estornosCaptor.capture());
+        assertTrue(estornosCaptor.getValue().isEmpty());
+    }
+
+    private static ReservasCanceladasRequestDTO evento(ReservaCanceladaRequestDTO... reservas) {
+        return new ReservasCanceladasRequestDTO(7L, "Filme Teste", 2, LocalDateTime.of(2026, 3, 10, 20, 0), 50.0, List.of(reservas));
+    }
+}
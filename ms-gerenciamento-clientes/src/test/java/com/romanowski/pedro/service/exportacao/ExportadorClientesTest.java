@@ -0,0 +1,82 @@
+package com.romanowski.pedro.service.exportacao;
+
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.repository.ClienteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ExportadorClientes")
+class ExportadorClientesTest {
+
+    private static final UUID ID_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ID_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    private ExportadorClientes exportadorClientes;
+
+    @BeforeEach
+    void setUp() {
+        exportadorClientes = new ExportadorClientes(clienteRepository, JsonMapper.builder().build());
+    }
+
+    @Test
+    @DisplayName("Deve exportar um cliente por linha em NDJSON e fechar o cursor")
+    void deveExportarEmNdjson() throws IOException {
+        // Arrange
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(clienteRepository.exportarTodos()).thenReturn(Stream.of(
+                new ClienteResponseDTO(ID_1, "João Silva", "joao.silva@email.com", 100.0),
+                new ClienteResponseDTO(ID_2, "Maria Santos", "maria.santos@email.com", 200.0))
+                .onClose(() -> fechado.set(true)));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long total = exportadorClientes.exportar(FormatoExportacao.NDJSON, saida);
+
+        // Assert
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, total);
+        assertEquals(2, linhas.length);
+        assertTrue(linhas[0].startsWith("{") && linhas[0].contains("\"nome\":\"João Silva\""));
+        assertTrue(linhas[1].contains("\"saldo\":200.0"));
+        assertTrue(fechado.get());
+    }
+
+    @Test
+    @DisplayName("Deve exportar em CSV com cabeçalho e campos escapados")
+    void deveExportarEmCsv() throws IOException {
+        // Arrange
+        when(clienteRepository.exportarTodos()).thenReturn(Stream.of(
+                new ClienteResponseDTO(ID_1, "Silva, João \"Jota\"", "joao.silva@email.com", 100.0),
+                new ClienteResponseDTO(ID_2, "Maria Santos", "maria.santos@email.com", null)));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        exportadorClientes.exportar(FormatoExportacao.CSV, saida);
+
+        // Assert
+        assertEquals("""
+                id,nome,email,saldo
+                00000000-0000-0000-0000-000000000001,"Silva, João ""Jota""\",joao.silva@email.com,100.0
+                00000000-0000-0000-0000-000000000002,Maria Santos,maria.santos@email.com,
+                """, saida.toString(StandardCharsets.UTF_8));
+    }
+}
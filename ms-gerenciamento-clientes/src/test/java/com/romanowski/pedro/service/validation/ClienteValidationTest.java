@@ -138,11 +138,10 @@ class ClienteValidationTest {
         cliente2.setSaldo(200.0);
 
         List<Cliente> clientes = List.of(cliente1, cliente2);
-        when(clienteRepository.findAll()).thenReturn(clientes);
 
         // Act & Assert
-        assertDoesNotThrow(() -> clienteValidation.validarListagemClientes());
-        verify(clienteRepository, times(1)).findAll();
+        assertDoesNotThrow(() -> clienteValidation.validarListagemClientes(clientes));
+        verifyNoInteractions(clienteRepository);
     }
 
     @Test
@@ -150,16 +149,15 @@ class ClienteValidationTest {
     void deveLancarExcecaoQuandoListaVazia() {
         // Arrange
         List<Cliente> listaVazia = new ArrayList<>();
-        when(clienteRepository.findAll()).thenReturn(listaVazia);
 
         // Act & Assert
         ListaClientesVaziaException exception = assertThrows(
                 ListaClientesVaziaException.class,
-                () -> clienteValidation.validarListagemClientes()
+                () -> clienteValidation.validarListagemClientes(listaVazia)
         );
 
         assertEquals("Não há clientes cadastrados no sistema", exception.getMessage());
-        verify(clienteRepository, times(1)).findAll();
+        verifyNoInteractions(clienteRepository);
     }
 
     @Test
@@ -173,23 +171,19 @@ class ClienteValidationTest {
         cliente.setSaldo(100.0);
 
         List<Cliente> clientes = List.of(cliente);
-        when(clienteRepository.findAll()).thenReturn(clientes);
 
         // Act & Assert
-        assertDoesNotThrow(() -> clienteValidation.validarListagemClientes());
-        verify(clienteRepository, times(1)).findAll();
+        assertDoesNotThrow(() -> clienteValidation.validarListagemClientes(clientes));
+        verifyNoInteractions(clienteRepository);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando lista retornada está vazia")
     void deveLancarExcecaoQuandoListaRetornadaEstaVazia() {
-        // Arrange
-        when(clienteRepository.findAll()).thenReturn(new ArrayList<>());
-
         // Act & Assert
         ListaClientesVaziaException exception = assertThrows(
                 ListaClientesVaziaException.class,
-                () -> clienteValidation.validarListagemClientes()
+                () -> clienteValidation.validarListagemClientes(List.of())
         );
 
         assertNotNull(exception);
@@ -0,0 +1,68 @@
+package com.romanowski.pedro.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodificação de um token emitido pelo ms-autenticacao-cinema com os mesmos validadores do
+ * {@link SecurityConfiguration#jwtDecoder()}; a chave pública é fixa para não depender do JWKS.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException, JOSEException {
+        KeyPairGenerator gerador = KeyPairGenerator.getInstance("RSA");
+        gerador.initialize(2048);
+        KeyPair chaves = gerador.generateKeyPair();
+
+        jwtDecoder = SecurityConfiguration.comValidacaoEmissor(NimbusJwtDecoder
+                .withPublicKey((RSAPublicKey) chaves.getPublic())
+                .signatureAlgorithm(SignatureAlgorithm.RS256)
+                .build());
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer("cinecom-auth")
+                .subject(UUID.randomUUID().toString())
+                .claim("email", "cliente@email.com")
+                .claim("roles", List.of("CLIENTE"))
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("cinecom-1").build(), claims);
+        jwt.sign(new RSASSASigner(chaves.getPrivate()));
+        token = jwt.serialize();
+    }
+
+    @Benchmark
+    public Jwt decodificarToken() {
+        return jwtDecoder.decode(token);
+    }
+}
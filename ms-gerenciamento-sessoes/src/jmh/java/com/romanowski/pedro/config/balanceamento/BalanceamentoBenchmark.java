@@ -0,0 +1,127 @@
+package com.romanowski.pedro.config.balanceamento;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chamadas ao "cliente-service" distribuídas entre três instâncias HTTP locais, uma delas lenta
+ * (simulando uma pausa longa de GC ou um vizinho barulhento), com o mesmo ciclo de vida que o
+ * cliente Feign executa: escolher a instância, registrar o início e registrar o resultado.
+ * O modo SampleTime reporta os percentis (p0.99) por estratégia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(16)
+@Fork(1)
+public class BalanceamentoBenchmark {
+
+    private static final String SERVICO = "cliente-service";
+    private static final int QUANTIDADE_INSTANCIAS = 3;
+    private static final long LATENCIA_NORMAL_MS = 2;
+
+    @Param({"round-robin", "menor-em-andamento", "menor-latencia"})
+    public String estrategia;
+
+    @Param({"50"})
+    public long latenciaInstanciaLentaMs;
+
+    private final List<HttpServer> servidores = new ArrayList<>();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private EstatisticasInstancias estatisticas;
+    private ReactorServiceInstanceLoadBalancer balanceador;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<ServiceInstance> instancias = new ArrayList<>();
+        for (int i = 0; i < QUANTIDADE_INSTANCIAS; i++) {
+            HttpServer servidor = servidor(i == 0 ? latenciaInstanciaLentaMs : LATENCIA_NORMAL_MS);
+            servidores.add(servidor);
+            instancias.add(new DefaultServiceInstance("clientes-" + i, SERVICO, "localhost", servidor.getAddress().getPort(), false));
+        }
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("fornecedorInstancias", new ServiceInstanceListSupplier() {
+            @Override
+            public String getServiceId() {
+                return SERVICO;
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.just(instancias);
+            }
+        });
+        ObjectProvider<ServiceInstanceListSupplier> fornecedor = beanFactory.getBeanProvider(ServiceInstanceListSupplier.class);
+
+        estatisticas = new EstatisticasInstancias(10_000, 5, 3.0, 20, 30_000, new SimpleMeterRegistry(), System::nanoTime);
+        balanceador = switch (estrategia) {
+            case "round-robin" -> new RoundRobinLoadBalancer(fornecedor, SERVICO);
+            case "menor-em-andamento" -> new BalanceadorMenorLatencia(SERVICO, fornecedor, estatisticas, BalanceadorMenorLatencia.Criterio.EM_ANDAMENTO);
+            default -> new BalanceadorMenorLatencia(SERVICO, fornecedor, estatisticas, BalanceadorMenorLatencia.Criterio.LATENCIA);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        servidores.forEach(servidor -> servidor.stop(0));
+    }
+
+    @Benchmark
+    public int chamarServico() throws IOException, InterruptedException {
+        ServiceInstance instancia = balanceador.choose(new DefaultRequest<>()).block().getServer();
+        estatisticas.iniciar(instancia);
+        long inicio = System.nanoTime();
+        boolean falha = true;
+        try {
+            HttpResponse<Void> resposta = httpClient.send(HttpRequest.newBuilder(instancia.getUri().resolve("/v1/clientes/1")).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            falha = resposta.statusCode() >= 500;
+            return resposta.statusCode();
+        } finally {
+            estatisticas.concluir(instancia, System.nanoTime() - inicio, falha);
+        }
+    }
+
+    private static HttpServer servidor(long latenciaMs) throws IOException {
+        HttpServer servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.createContext("/v1/clientes", troca -> {
+            try {
+                Thread.sleep(latenciaMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] corpo = "{}".getBytes();
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        });
+        servidor.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        servidor.start();
+        return servidor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.romanowski.pedro.dto;
+
+import com.romanowski.pedro.dto.response.SessaoResponseDTO;
+import com.romanowski.pedro.dto.response.StatusPagamentoResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização dos DTOs que passam pela API (SessaoResponseDTO) e pelo RabbitMQ
+ * (StatusPagamentoResponseDTO), com o mesmo Jackson usado pelo Spring MVC e pelo AMQP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private StatusPagamentoResponseDTO statusPagamento;
+    private SessaoResponseDTO sessao;
+    private byte[] statusPagamentoJson;
+    private byte[] sessaoJson;
+
+    @Setup
+    public void setUp() {
+        statusPagamento = new StatusPagamentoResponseDTO(UUID.randomUUID(), 42L, 30.0);
+        sessao = new SessaoResponseDTO(1L, 3, "Matrix", LocalDateTime.of(2026, 1, 10, 20, 30), 30.0, true);
+        statusPagamentoJson = jsonMapper.writeValueAsBytes(statusPagamento);
+        sessaoJson = jsonMapper.writeValueAsBytes(sessao);
+    }
+
+    @Benchmark
+    public byte[] serializarStatusPagamento() {
+        return jsonMapper.writeValueAsBytes(statusPagamento);
+    }
+
+    @Benchmark
+    public StatusPagamentoResponseDTO desserializarStatusPagamento() {
+        return jsonMapper.readValue(statusPagamentoJson, StatusPagamentoResponseDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializarSessao() {
+        return jsonMapper.writeValueAsBytes(sessao);
+    }
+
+    @Benchmark
+    public SessaoResponseDTO desserializarSessao() {
+        return jsonMapper.readValue(sessaoJson, SessaoResponseDTO.class);
+    }
+}
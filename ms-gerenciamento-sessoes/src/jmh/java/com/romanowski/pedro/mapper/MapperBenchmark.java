@@ -0,0 +1,77 @@
+package com.romanowski.pedro.mapper;
+
+import com.romanowski.pedro.dto.response.ReservaResponseDTO;
+import com.romanowski.pedro.dto.response.SessaoResponseDTO;
+import com.romanowski.pedro.dto.response.StatusPagamentoResponseDTO;
+import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.entity.StatusPagamento;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ReservaMapper reservaMapper = Mappers.getMapper(ReservaMapper.class);
+    private final SessaoMapper sessaoMapper = Mappers.getMapper(SessaoMapper.class);
+
+    @Param({"1", "100"})
+    private int quantidadeReservas;
+
+    private Sessao sessao;
+    private List<Reserva> reservas;
+    private StatusPagamentoResponseDTO statusPagamentoResponseDTO;
+
+    @Setup
+    public void setUp() {
+        sessao = Sessao.builder()
+                .id(1L)
+                .idFilme(10L)
+                .tituloFilme("Matrix")
+                .sala(3)
+                .preco(30.0)
+                .dataHoraSessao(LocalDateTime.of(2026, 1, 10, 20, 30))
+                .ativa(true)
+                .build();
+
+        reservas = new ArrayList<>(quantidadeReservas);
+        for (long i = 0; i < quantidadeReservas; i++) {
+            reservas.add(Reserva.builder()
+                    .id(i)
+                    .idCliente(UUID.randomUUID())
+                    .sessao(sessao)
+                    .pagamentoConfirmado(false)
+                    .ativa(true)
+                    .mensagem("Reserva realizada com sucesso")
+                    .build());
+        }
+
+        statusPagamentoResponseDTO = new StatusPagamentoResponseDTO(UUID.randomUUID(), 1L, 30.0);
+    }
+
+    @Benchmark
+    public SessaoResponseDTO sessaoParaResponse() {
+        return sessaoMapper.toResponseDTO(sessao);
+    }
+
+    @Benchmark
+    public List<ReservaResponseDTO> reservasParaResponse() {
+        return reservas.stream().map(reservaMapper::toResponseDTO).toList();
+    }
+
+    @Benchmark
+    public StatusPagamento statusPagamentoParaEntidade() {
+        return reservaMapper.toStatusPagamento(statusPagamentoResponseDTO);
+    }
+}
@@ -0,0 +1,26 @@
+package com.romanowski.pedro.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatarMensagemBenchmark {
+
+    // Mesmo template de mensagem.email.reserva.confirmada
+    private static final String TEMPLATE = "Sua reserva foi confirmada, aproveite a sessão! Detalhes da reserva: "
+            + "Id reserva: %s, Nome filme: %s, Data: %s, Sala: %s, Preço: %s";
+
+    private final String dataHoraSessao = LocalDateTime.of(2026, 1, 10, 20, 30).toString();
+
+    @Benchmark
+    public String formatarMensagemReserva() {
+        return ReservaService.formatarMensagem(TEMPLATE, 42L, "Matrix", dataHoraSessao, 3, Double.toString(30.0));
+    }
+}
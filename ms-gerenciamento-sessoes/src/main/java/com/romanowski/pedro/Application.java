@@ -1,12 +1,15 @@
 package com.romanowski.pedro;
 
+import com.romanowski.pedro.config.balanceamento.BalanceamentoConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.PropertySource;
 
 @PropertySource("classpath:messages/global.properties")
 @EnableFeignClients
+@LoadBalancerClients(defaultConfiguration = BalanceamentoConfiguration.class)
 @SpringBootApplication
 public class Application {
 
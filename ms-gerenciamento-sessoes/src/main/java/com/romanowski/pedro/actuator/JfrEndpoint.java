@@ -0,0 +1,232 @@
+package com.romanowski.pedro.actuator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gravações do Java Flight Recorder sob demanda, sem precisar anexar um profiler ao container.
+ * <ul>
+ *     <li>{@code GET /actuator/jfr}: gravações existentes;</li>
+ *     <li>{@code POST /actuator/jfr} {@code {"preset": "profile", "duracaoSegundos": 120}}: inicia uma gravação;</li>
+ *     <li>{@code POST /actuator/jfr/{id}}: encerra a gravação;</li>
+ *     <li>{@code GET /actuator/jfr/{id}}: baixa o arquivo .jfr;</li>
+ *     <li>{@code GET /actuator/jfr/{id}/resumo}: métodos quentes, alocações, locks e pinning;</li>
+ *     <li>{@code DELETE /actuator/jfr/{id}}: descarta a gravação.</li>
+ * </ul>
+ * A gravação {@value #CONTINUA} roda o tempo todo com o preset "default" em ring buffer
+ * (limitada por idade e tamanho) e pode ser baixada ou resumida a qualquer momento.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrEndpoint.class);
+
+    public static final String CONTINUA = "continua";
+    private static final String VISAO_RESUMO = "resumo";
+    private static final Set<String> PRESETS = Set.of("default", "profile");
+    private static final Duration DURACAO_PADRAO = Duration.ofSeconds(60);
+    private static final Duration DURACAO_MAXIMA = Duration.ofMinutes(30);
+
+    private final Map<String, Gravacao> gravacoes = new ConcurrentHashMap<>();
+    private final Path diretorio;
+    private final boolean continuaHabilitada;
+    private final Duration idadeMaximaContinua;
+    private final long tamanhoMaximoContinua;
+
+    private record Gravacao(Recording recording, String preset, Path arquivo) {
+    }
+
+    public record GravacaoResponse(String id, String preset, String estado, Instant inicio, Duration duracao, long tamanhoBytes) {
+    }
+
+    public JfrEndpoint(@Value("${jfr.diretorio:${java.io.tmpdir}/jfr}") String diretorio,
+                       @Value("${jfr.continua.habilitada:true}") boolean continuaHabilitada,
+                       @Value("${jfr.continua.idade-maxima-min:15}") long idadeMaximaMinutos,
+                       @Value("${jfr.continua.tamanho-maximo-mb:100}") long tamanhoMaximoMb) {
+        this.diretorio = Path.of(diretorio);
+        this.continuaHabilitada = continuaHabilitada;
+        this.idadeMaximaContinua = Duration.ofMinutes(idadeMaximaMinutos);
+        this.tamanhoMaximoContinua = tamanhoMaximoMb * 1024 * 1024;
+    }
+
+    @PostConstruct
+    public void iniciarGravacaoContinua() throws IOException {
+        Files.createDirectories(diretorio);
+        if (!continuaHabilitada) {
+            return;
+        }
+        Recording recording = novaGravacao("default");
+        recording.setName(CONTINUA);
+        recording.setMaxAge(idadeMaximaContinua);
+        recording.setMaxSize(tamanhoMaximoContinua);
+        recording.start();
+        gravacoes.put(CONTINUA, new Gravacao(recording, "default", null));
+        logger.info("Gravação JFR contínua iniciada (idade máxima {}, tamanho máximo {} bytes)", idadeMaximaContinua, tamanhoMaximoContinua);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        gravacoes.values().forEach(gravacao -> gravacao.recording().close());
+        gravacoes.clear();
+    }
+
+    @ReadOperation
+    public List<GravacaoResponse> listar() {
+        return gravacoes.entrySet().stream()
+                .map(entrada -> toResponse(entrada.getKey(), entrada.getValue()))
+                .sorted(Comparator.comparing(GravacaoResponse::inicio, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    @WriteOperation
+    public GravacaoResponse iniciar(@Nullable String preset, @Nullable Integer duracaoSegundos) {
+        String presetEscolhido = preset == null ? "profile" : preset;
+        if (!PRESETS.contains(presetEscolhido)) {
+            throw new InvalidEndpointRequestException("Preset inválido: " + presetEscolhido, "Presets aceitos: " + PRESETS);
+        }
+        Duration duracao = duracaoSegundos == null || duracaoSegundos <= 0
+                ? DURACAO_PADRAO
+                : Duration.ofSeconds(Math.min(duracaoSegundos, DURACAO_MAXIMA.toSeconds()));
+
+        Recording recording = novaGravacao(presetEscolhido);
+        String id = String.valueOf(recording.getId());
+        Path arquivo = diretorio.resolve("gravacao-" + id + ".jfr");
+        recording.setName("sob-demanda-" + id);
+        recording.setDuration(duracao);
+        try {
+            recording.setDestination(arquivo);
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        recording.start();
+
+        Gravacao gravacao = new Gravacao(recording, presetEscolhido, arquivo);
+        gravacoes.put(id, gravacao);
+        logger.info("Gravação JFR {} iniciada com preset {} por {}", id, presetEscolhido, duracao);
+        return toResponse(id, gravacao);
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<GravacaoResponse> parar(@Selector String id) {
+        Gravacao gravacao = gravacoes.get(id);
+        if (gravacao == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (CONTINUA.equals(id)) {
+            throw new InvalidEndpointRequestException("A gravação contínua não pode ser encerrada", "Use GET /actuator/jfr/continua para baixá-la");
+        }
+        if (gravacao.recording().getState() == RecordingState.RUNNING) {
+            gravacao.recording().stop();
+            logger.info("Gravação JFR {} encerrada", id);
+        }
+        return new WebEndpointResponse<>(toResponse(id, gravacao));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> baixar(@Selector String id) throws IOException {
+        Path arquivo = arquivoDisponivel(id, diretorio.resolve("snapshot-" + id + ".jfr"));
+        if (arquivo == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(arquivo));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<ResumoJfr> resumo(@Selector String id, @Selector String visao) throws IOException {
+        if (!VISAO_RESUMO.equals(visao)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path snapshot = Files.createTempFile(diretorio, "resumo-" + id + "-", ".jfr");
+        try {
+            Path arquivo = arquivoDisponivel(id, snapshot);
+            if (arquivo == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(ResumoJfr.analisar(arquivo));
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> descartar(@Selector String id) throws IOException {
+        if (CONTINUA.equals(id)) {
+            throw new InvalidEndpointRequestException("A gravação contínua não pode ser descartada", "Desabilite com jfr.continua.habilitada=false");
+        }
+        Gravacao gravacao = gravacoes.remove(id);
+        if (gravacao == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        gravacao.recording().close();
+        Files.deleteIfExists(gravacao.arquivo());
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    /**
+     * Para gravações em andamento (inclusive a contínua) grava um snapshot do que já foi coletado;
+     * para as encerradas devolve o arquivo de destino.
+     */
+    private Path arquivoDisponivel(String id, Path snapshot) throws IOException {
+        Gravacao gravacao = gravacoes.get(id);
+        if (gravacao == null) {
+            return null;
+        }
+        if (gravacao.recording().getState() == RecordingState.RUNNING) {
+            gravacao.recording().dump(snapshot);
+            return snapshot;
+        }
+        return gravacao.arquivo() != null && Files.exists(gravacao.arquivo()) ? gravacao.arquivo() : null;
+    }
+
+    private static Recording novaGravacao(String preset) {
+        Configuration configuracao;
+        try {
+            configuracao = Configuration.getConfiguration(preset);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Não foi possível carregar o preset JFR " + preset, e);
+        }
+        Recording recording = new Recording(configuracao);
+        recording.setToDisk(true);
+        // Pinning só aparece acima de 20 ms nos presets padrão; aqui vale qualquer bloqueio relevante
+        recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ofMillis(5));
+        return recording;
+    }
+
+    private static GravacaoResponse toResponse(String id, Gravacao gravacao) {
+        Recording recording = gravacao.recording();
+        return new GravacaoResponse(id, gravacao.preset(), recording.getState().name(), recording.getStartTime(),
+                recording.getDuration(), recording.getSize());
+    }
+}
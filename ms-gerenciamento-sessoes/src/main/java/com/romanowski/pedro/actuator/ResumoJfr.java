@@ -0,0 +1,90 @@
+package com.romanowski.pedro.actuator;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Visão resumida de uma gravação JFR: métodos mais amostrados, pontos de alocação, disputa de
+ * monitores e pinning de virtual threads, agregados pelo frame do topo da pilha.
+ */
+public record ResumoJfr(
+        long eventos,
+        List<Item> metodosMaisQuentes,
+        List<Item> alocacoes,
+        List<Item> disputaLocks,
+        List<Item> pinningVirtualThreads
+) {
+
+    private static final int LIMITE_ITENS = 15;
+
+    /**
+     * @param ocorrencias quantidade de eventos agregados
+     * @param valor       amostras, bytes alocados (estimados) ou milissegundos bloqueados, conforme a visão
+     */
+    public record Item(String local, long ocorrencias, long valor) {
+    }
+
+    public static ResumoJfr analisar(Path arquivo) throws IOException {
+        Map<String, long[]> amostras = new HashMap<>();
+        Map<String, long[]> alocacoes = new HashMap<>();
+        Map<String, long[]> locks = new HashMap<>();
+        Map<String, long[]> pinning = new HashMap<>();
+        long eventos = 0;
+
+        try (RecordingFile gravacao = new RecordingFile(arquivo)) {
+            while (gravacao.hasMoreEvents()) {
+                RecordedEvent evento = gravacao.readEvent();
+                eventos++;
+                switch (evento.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> somar(amostras, topoDaPilha(evento), 1);
+                    case "jdk.ObjectAllocationSample" -> somar(alocacoes,
+                            nomeClasse(evento, "objectClass") + " em " + topoDaPilha(evento), evento.getLong("weight"));
+                    case "jdk.JavaMonitorEnter" -> somar(locks,
+                            nomeClasse(evento, "monitorClass") + " em " + topoDaPilha(evento), evento.getDuration().toMillis());
+                    case "jdk.VirtualThreadPinned" -> somar(pinning, topoDaPilha(evento), evento.getDuration().toMillis());
+                    default -> {
+                    }
+                }
+            }
+        }
+        return new ResumoJfr(eventos, ordenar(amostras), ordenar(alocacoes), ordenar(locks), ordenar(pinning));
+    }
+
+    private static String topoDaPilha(RecordedEvent evento) {
+        RecordedStackTrace pilha = evento.getStackTrace();
+        if (pilha == null || pilha.getFrames().isEmpty()) {
+            return "<sem pilha>";
+        }
+        RecordedFrame frame = pilha.getFrames().getFirst();
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String nomeClasse(RecordedEvent evento, String campo) {
+        RecordedClass classe = evento.getClass(campo);
+        return classe == null ? "<desconhecida>" : classe.getName();
+    }
+
+    private static void somar(Map<String, long[]> agregado, String local, long valor) {
+        long[] totais = agregado.computeIfAbsent(local, chave -> new long[2]);
+        totais[0]++;
+        totais[1] += valor;
+    }
+
+    private static List<Item> ordenar(Map<String, long[]> agregado) {
+        return agregado.entrySet().stream()
+                .map(entrada -> new Item(entrada.getKey(), entrada.getValue()[0], entrada.getValue()[1]))
+                .sorted(Comparator.comparingLong(Item::valor).reversed())
+                .limit(LIMITE_ITENS)
+                .toList();
+    }
+}
@@ -1,9 +1,14 @@
 package com.romanowski.pedro.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
@@ -15,6 +20,9 @@ import org.springframework.context.annotation.Profile;
 @Profile("!test")
 public class AMQPConfiguration {
 
+    public static final String EXCHANGE_RESERVAS_CANCELADAS = "reservas.canceladas.ex";
+    private static final String FILA_PAGAMENTOS_DLQ = "pagamentos.detalhes.dlq";
+
     @Bean
     public RabbitAdmin criaRabbitAdmin(ConnectionFactory conn){
         return new RabbitAdmin(conn);
@@ -35,6 +43,8 @@ public class AMQPConfiguration {
                                          JacksonJsonMessageConverter messageConverter){
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter);
+        // Sem fila ligada ao exchange a mensagem volta como devolvida e o outbox a mantém pendente
+        rabbitTemplate.setMandatory(true);
         return rabbitTemplate;
     }
 
@@ -50,7 +60,7 @@ public class AMQPConfiguration {
     @Bean
     public Queue filaDetalhesPedidoDLQ(){
         return QueueBuilder
-                .nonDurable("pagamentos.detalhes.dlq")
+                .nonDurable(FILA_PAGAMENTOS_DLQ)
                 .build();
     }
 
@@ -61,6 +71,15 @@ public class AMQPConfiguration {
                 .build();
     }
 
+    // A fila que consome os cancelamentos (estorno e avisos aos clientes) é declarada no ms-gerenciamento-clientes
+    @Bean
+    public FanoutExchange reservasCanceladasExchange(){
+        return ExchangeBuilder
+                .fanoutExchange(EXCHANGE_RESERVAS_CANCELADAS)
+                .durable(true)
+                .build();
+    }
+
     @Bean
     public DirectExchange deadLetterExchange(){
         return ExchangeBuilder
@@ -80,4 +99,28 @@ public class AMQPConfiguration {
                 .to(deadLetterExchange())
                 .with("pagamentos.detalhes.dlq");
     }
+
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> contadorReentregas(MeterRegistry meterRegistry){
+        return container -> container.setAfterReceivePostProcessors(message -> {
+            MessageProperties propriedades = message.getMessageProperties();
+            if (Boolean.TRUE.equals(propriedades.isRedelivered())) {
+                meterRegistry.counter("cinema.rabbit.reentregas", "fila", String.valueOf(propriedades.getConsumerQueue())).increment();
+            }
+            return message;
+        });
+    }
+
+    @Bean
+    public MeterBinder metricasDeadLetterQueue(RabbitAdmin rabbitAdmin){
+        return registry -> Gauge.builder("cinema.rabbit.dlq.mensagens", rabbitAdmin, admin -> contarMensagens(admin, FILA_PAGAMENTOS_DLQ))
+                .tag("fila", FILA_PAGAMENTOS_DLQ)
+                .description("Mensagens paradas na dead letter queue")
+                .register(registry);
+    }
+
+    private static double contarMensagens(RabbitAdmin rabbitAdmin, String fila){
+        QueueInformation informacao = rabbitAdmin.getQueueInfo(fila);
+        return informacao == null ? Double.NaN : informacao.getMessageCount();
+    }
 }
@@ -0,0 +1,102 @@
+package com.romanowski.pedro.config;
+
+import org.hibernate.HibernateException;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acompanha, por requisição, os statements executados e as inicializações lazy feitas pelo
+ * Hibernate. Ao final aponta consultas idênticas repetidas e associações inicializadas várias
+ * vezes (típico de acesso lazy dentro de um laço). Fora de uma requisição monitorada não faz nada.
+ */
+public class DetectorNMaisUm implements StatementInspector, InitializeCollectionEventListener, LoadEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DetectorNMaisUm.class);
+
+    private final ThreadLocal<Monitoramento> monitoramento = new ThreadLocal<>();
+    private final int limiarConsultasRepetidas;
+    private final int limiarCarregamentosLazy;
+
+    public DetectorNMaisUm(int limiarConsultasRepetidas, int limiarCarregamentosLazy) {
+        this.limiarConsultasRepetidas = limiarConsultasRepetidas;
+        this.limiarCarregamentosLazy = limiarCarregamentosLazy;
+    }
+
+    private static final class Monitoramento {
+        private final Map<String, Integer> consultas = new LinkedHashMap<>();
+        private final Map<String, Integer> carregamentosLazy = new LinkedHashMap<>();
+        private int totalConsultas;
+    }
+
+    public void iniciar() {
+        monitoramento.set(new Monitoramento());
+    }
+
+    /**
+     * Encerra o monitoramento da thread atual e devolve os alertas encontrados, já registrados em log.
+     */
+    public List<String> finalizar(String contexto) {
+        Monitoramento atual = monitoramento.get();
+        monitoramento.remove();
+        if (atual == null) {
+            return List.of();
+        }
+
+        List<String> alertas = new ArrayList<>();
+        atual.consultas.forEach((sql, vezes) -> {
+            if (vezes >= limiarConsultasRepetidas) {
+                alertas.add(String.format("Consulta repetida %d vezes: %s", vezes, sql));
+            }
+        });
+        atual.carregamentosLazy.forEach((associacao, vezes) -> {
+            if (vezes >= limiarCarregamentosLazy) {
+                alertas.add(String.format("Associação lazy %s inicializada %d vezes (provável acesso dentro de laço)", associacao, vezes));
+            }
+        });
+
+        if (!alertas.isEmpty()) {
+            logger.warn("Possível N+1 em {} ({} statements):{}{}", contexto, atual.totalConsultas,
+                    System.lineSeparator(), String.join(System.lineSeparator(), alertas));
+        }
+        return alertas;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Monitoramento atual = monitoramento.get();
+        if (atual != null) {
+            atual.totalConsultas++;
+            atual.consultas.merge(sql.replaceAll("\\s+", " ").trim(), 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent evento) throws HibernateException {
+        registrarCarregamentoLazy(evento.getCollection().getRole());
+    }
+
+    @Override
+    public void onLoad(LoadEvent evento, LoadType tipo) throws HibernateException {
+        if (tipo == LoadEventListener.IMMEDIATE_LOAD) {
+            registrarCarregamentoLazy(evento.getEntityClassName());
+        }
+    }
+
+    private void registrarCarregamentoLazy(String associacao) {
+        Monitoramento atual = monitoramento.get();
+        if (atual != null) {
+            atual.carregamentosLazy.merge(associacao, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.romanowski.pedro.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Liga o {@link DetectorNMaisUm} nos profiles de desenvolvimento e teste: como statement
+ * inspector do Hibernate (preservando um inspector já configurado), como listener de
+ * inicializações lazy e delimitando o monitoramento por requisição HTTP.
+ */
+@Configuration
+@Profile({"dev", "test"})
+public class DiagnosticoJpaConfiguration {
+
+    @Bean
+    public DetectorNMaisUm detectorNMaisUm(@Value("${diagnostico.n-mais-um.limiar-consultas:2}") int limiarConsultasRepetidas,
+                                           @Value("${diagnostico.n-mais-um.limiar-lazy:3}") int limiarCarregamentosLazy) {
+        return new DetectorNMaisUm(limiarConsultasRepetidas, limiarCarregamentosLazy);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer inspectorDetectorNMaisUm(DetectorNMaisUm detector) {
+        return propriedades -> {
+            StatementInspector configurado = instanciarInspector(propriedades.get(AvailableSettings.STATEMENT_INSPECTOR));
+            propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, configurado == null
+                    ? detector
+                    : (StatementInspector) sql -> detector.inspect(configurado.inspect(sql)));
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton listenersDetectorNMaisUm(EntityManagerFactory entityManagerFactory, DetectorNMaisUm detector) {
+        return () -> {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.INIT_COLLECTION, detector);
+            registry.appendListeners(EventType.LOAD, detector);
+        };
+    }
+
+    @Bean
+    public OncePerRequestFilter filtroDetectorNMaisUm(DetectorNMaisUm detector) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                    throws ServletException, IOException {
+                detector.iniciar();
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    detector.finalizar(request.getMethod() + " " + request.getRequestURI());
+                }
+            }
+        };
+    }
+
+    private static StatementInspector instanciarInspector(Object configurado) {
+        if (configurado == null) {
+            return null;
+        }
+        if (configurado instanceof StatementInspector inspector) {
+            return inspector;
+        }
+        Class<?> classe = configurado instanceof Class<?> tipo
+                ? tipo
+                : ClassUtils.resolveClassName(configurado.toString(), DiagnosticoJpaConfiguration.class.getClassLoader());
+        return (StatementInspector) BeanUtils.instantiateClass(classe);
+    }
+}
@@ -0,0 +1,87 @@
+package com.romanowski.pedro.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+@Configuration
+public class MetricasConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricasConfiguration.class);
+
+    private static final List<String> PREFIXOS_HISTOGRAMA = List.of("cinema.", "http.client.requests", "http.server.requests");
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor medicaoMetodosAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Timed.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Timed.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new MedicaoMetodosInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public MeterFilter histogramasLatencia() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (PREFIXOS_HISTOGRAMA.stream().noneMatch(id.getName()::startsWith)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(0.5, 0.95, 0.99, 0.999)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public RegistryEventConsumer<CircuitBreaker> transicoesCircuitBreaker(MeterRegistry meterRegistry) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<CircuitBreaker> evento) {
+                CircuitBreaker circuitBreaker = evento.getAddedEntry();
+                circuitBreaker.getEventPublisher().onStateTransition(transicao -> {
+                    CircuitBreaker.StateTransition estado = transicao.getStateTransition();
+                    logger.warn("Circuit breaker {} mudou de {} para {}", circuitBreaker.getName(), estado.getFromState(), estado.getToState());
+                    meterRegistry.counter("cinema.circuitbreaker.transicoes",
+                            "nome", circuitBreaker.getName(),
+                            "de", estado.getFromState().name(),
+                            "para", estado.getToState().name()).increment();
+                });
+            }
+
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<CircuitBreaker> evento) {
+            }
+
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<CircuitBreaker> evento) {
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.romanowski.pedro.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,23 +11,22 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity()
 public class SecurityConfiguration {
 
 
-    @Value("${spring.security.jwt.secret}")
-    private String jwtSecret;
+    @Value("${spring.security.jwt.jwk-set-uri:${JWK_SET_URI:http://localhost:8084/.well-known/jwks.json}}")
+    private String jwkSetUri;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -34,6 +34,9 @@ public class SecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Fluxos SSE: a requisição original já foi autorizada, os despachos assíncronos só a concluem
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/actuator/jfr/**").hasRole("ADMIN")
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**", "/actuator/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -63,14 +66,15 @@ public class SecurityConfiguration {
 
     @Bean
     public JwtDecoder jwtDecoder() {
+        // Chaves do JWKS do ms-autenticacao-cinema em cache; um kid novo força outra busca
+        return comValidacaoEmissor(NimbusJwtDecoder.withJwkSetUri(jwkSetUri)
+                .jwsAlgorithm(SignatureAlgorithm.RS256)
+                .build());
+    }
 
-        //byte[] keyBytes = Base64.getDecoder().decode(jwtSecret);
-        SecretKeySpec secretKey = new SecretKeySpec(
-                jwtSecret.getBytes(StandardCharsets.UTF_8),
-                "HmacSHA256"
-        );
-
-        return NimbusJwtDecoder.withSecretKey(secretKey).build();
+    static JwtDecoder comValidacaoEmissor(NimbusJwtDecoder decoder) {
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer("cinecom-auth"));
+        return decoder;
     }
 
     @Bean
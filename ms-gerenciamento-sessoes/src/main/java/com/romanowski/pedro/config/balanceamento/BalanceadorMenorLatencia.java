@@ -0,0 +1,88 @@
+package com.romanowski.pedro.config.balanceamento;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Escolhe a instância pelo menor custo entre duas sorteadas (power of two choices), fora as ejetadas
+ * pelo {@link EstatisticasInstancias}. Sortear duas em vez de pegar a melhor de todas evita que todos
+ * os chamadores corram para a mesma instância entre uma atualização e outra das estatísticas.
+ */
+public class BalanceadorMenorLatencia implements ReactorServiceInstanceLoadBalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceadorMenorLatencia.class);
+
+    public enum Criterio {
+        /** Latência média multiplicada pelas requisições em andamento mais um. */
+        LATENCIA,
+        /** Apenas as requisições em andamento. */
+        EM_ANDAMENTO
+    }
+
+    private final String servico;
+    private final ObjectProvider<ServiceInstanceListSupplier> fornecedorInstancias;
+    private final EstatisticasInstancias estatisticas;
+    private final Criterio criterio;
+
+    public BalanceadorMenorLatencia(String servico, ObjectProvider<ServiceInstanceListSupplier> fornecedorInstancias,
+                                    EstatisticasInstancias estatisticas, Criterio criterio) {
+        this.servico = servico;
+        this.fornecedorInstancias = fornecedorInstancias;
+        this.estatisticas = estatisticas;
+        this.criterio = criterio;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier fornecedor = fornecedorInstancias.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return fornecedor.get(request).next().map(instancias -> {
+            Response<ServiceInstance> resposta = escolher(instancias);
+            if (fornecedor instanceof SelectedInstanceCallback callback && resposta.hasServer()) {
+                callback.selectedServiceInstance(resposta.getServer());
+            }
+            return resposta;
+        });
+    }
+
+    Response<ServiceInstance> escolher(List<ServiceInstance> instancias) {
+        if (instancias.isEmpty()) {
+            logger.warn("Nenhuma instância disponível para {}", servico);
+            return new EmptyResponse();
+        }
+        List<ServiceInstance> candidatas = estatisticas.disponiveis(instancias);
+        if (candidatas.size() == 1) {
+            return new DefaultResponse(candidatas.getFirst());
+        }
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int primeira = aleatorio.nextInt(candidatas.size());
+        int segunda = aleatorio.nextInt(candidatas.size() - 1);
+        if (segunda >= primeira) {
+            segunda++;
+        }
+        ServiceInstance a = candidatas.get(primeira);
+        ServiceInstance b = candidatas.get(segunda);
+        return new DefaultResponse(custo(a) <= custo(b) ? a : b);
+    }
+
+    private double custo(ServiceInstance instancia) {
+        int emAndamento = estatisticas.emAndamento(instancia);
+        return switch (criterio) {
+            case LATENCIA -> estatisticas.latenciaNanos(instancia) * (emAndamento + 1);
+            case EM_ANDAMENTO -> emAndamento;
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.controller.swagger.SwaggerDisponibilidadeController;
+import com.romanowski.pedro.service.disponibilidade.PainelDisponibilidade;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/v1")
+public class DisponibilidadeController implements SwaggerDisponibilidadeController {
+
+    private final PainelDisponibilidade painelDisponibilidade;
+
+    public DisponibilidadeController(PainelDisponibilidade painelDisponibilidade) {
+        this.painelDisponibilidade = painelDisponibilidade;
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('CLIENTE', 'ADMIN')")
+    public SseEmitter acompanharDisponibilidade(Long idSessao) {
+        return painelDisponibilidade.assinar(idSessao);
+    }
+}
@@ -0,0 +1,52 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.controller.swagger.SwaggerHistoricoController;
+import com.romanowski.pedro.dto.response.ReservaDetalheResponseDTO;
+import com.romanowski.pedro.dto.response.SessaoResponseDTO;
+import com.romanowski.pedro.mapper.ReservaMapper;
+import com.romanowski.pedro.mapper.SessaoMapper;
+import com.romanowski.pedro.service.arquivo.HistoricoService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1")
+public class HistoricoController implements SwaggerHistoricoController {
+
+    private final HistoricoService historicoService;
+    private final ReservaMapper reservaMapper;
+    private final SessaoMapper sessaoMapper;
+
+    public HistoricoController(HistoricoService historicoService, ReservaMapper reservaMapper, SessaoMapper sessaoMapper) {
+        this.historicoService = historicoService;
+        this.reservaMapper = reservaMapper;
+        this.sessaoMapper = sessaoMapper;
+    }
+
+    @Override
+    @PreAuthorize(
+            "(hasRole('CLIENTE') and #idCliente.toString() == authentication.principal.subject)"
+    )
+    public ResponseEntity<List<ReservaDetalheResponseDTO>> listarHistoricoReservas(UUID idCliente) {
+        List<ReservaDetalheResponseDTO> reservas = historicoService.listarReservasArquivadas(idCliente).stream()
+                .map(reservaMapper::toDetalheResponseDTO)
+                .toList();
+        return ResponseEntity.status(HttpStatus.OK).body(reservas);
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SessaoResponseDTO>> listarHistoricoSessoes(LocalDate dataInicio, LocalDate dataFim) {
+        List<SessaoResponseDTO> sessoes = historicoService.listarSessoesArquivadas(dataInicio, dataFim).stream()
+                .map(sessaoMapper::toResponseDTO)
+                .toList();
+        return ResponseEntity.status(HttpStatus.OK).body(sessoes);
+    }
+}
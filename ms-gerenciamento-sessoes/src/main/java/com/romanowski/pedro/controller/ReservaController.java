@@ -1,60 +1,85 @@
 package com.romanowski.pedro.controller;
 
 import com.romanowski.pedro.controller.swagger.SwaggerReservaController;
+import com.romanowski.pedro.dto.response.ReservaDetalheResponseDTO;
 import com.romanowski.pedro.dto.response.ReservaResponseDTO;
 import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.entity.StatusReserva;
 import com.romanowski.pedro.mapper.ReservaMapper;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
 import com.romanowski.pedro.service.ReservaService;
+import com.romanowski.pedro.service.salaespera.SalaEspera;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/v1")
 public class ReservaController implements SwaggerReservaController {
 
+    static final String TOTAL_REGISTROS = "X-Total-Count";
+    static final String TOTAL_PAGINAS = "X-Total-Pages";
+
     private final ReservaService reservaService;
 
     private final ReservaMapper reservaMapper;
 
-    public ReservaController(ReservaService reservaService, ReservaMapper reservaMapper) {
+    private final SalaEspera salaEspera;
+
+    public ReservaController(ReservaService reservaService, ReservaMapper reservaMapper, SalaEspera salaEspera) {
         this.reservaService = reservaService;
         this.reservaMapper = reservaMapper;
+        this.salaEspera = salaEspera;
     }
 
     @Override
     @PreAuthorize(
             "(hasRole('CLIENTE') and #idCliente.toString() == authentication.principal.subject)"
     )
-    public ResponseEntity<ReservaResponseDTO> criarReserva(UUID idCliente, Long idSessao) {
+    public CompletableFuture<ResponseEntity<ReservaResponseDTO>> criarReserva(UUID idCliente, Long idSessao) {
+        if (salaEspera.sessaoQuente(idSessao)) {
+            // Sessão quente: o pedido entra na fila e a thread da requisição é liberada; se o lote não for
+            // gravado dentro da espera, o cliente recebe 202 e acompanha a posição pela sala de espera
+            return salaEspera.reservar(idCliente, idSessao)
+                    .thenApply(reserva -> reserva
+                            .map(gravada -> ResponseEntity.status(HttpStatus.OK).body(reservaMapper.toResponseDTO(gravada)))
+                            .orElseGet(() -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                                    .location(URI.create("/v1/reservas/fila/" + idCliente + "/" + idSessao))
+                                    .header(HttpHeaders.RETRY_AFTER, "1")
+                                    .build()));
+        }
         Reserva reserva = reservaService.adicionarReserva(idCliente, idSessao);
-        return ResponseEntity.status(HttpStatus.OK).body(reservaMapper.toResponseDTO(reserva));
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(reservaMapper.toResponseDTO(reserva)));
     }
 
     @Override
     @PreAuthorize(
             "(hasRole('CLIENTE') and #idCliente.toString() == authentication.principal.subject)"
     )
-    public ResponseEntity<List<ReservaResponseDTO>> listarReservas(UUID idCliente) {
-        List<Reserva> reservas = reservaService.listarReservas(idCliente);
-        List<ReservaResponseDTO> reservaResponseDTOs = reservas.stream().map(reservaMapper::toResponseDTO).toList();
-        return ResponseEntity.status(HttpStatus.OK).body(reservaResponseDTOs);
+    public ResponseEntity<List<ReservaResponseDTO>> listarReservas(UUID idCliente, StatusReserva status, int pagina, int tamanho) {
+        Page<ReservaResponseDTO> reservas = reservaService.listarReservas(idCliente, status, pagina, tamanho);
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(TOTAL_REGISTROS, String.valueOf(reservas.getTotalElements()))
+                .header(TOTAL_PAGINAS, String.valueOf(reservas.getTotalPages()))
+                .body(reservas.getContent());
     }
 
     @Override
     @PreAuthorize(
             "(hasRole('CLIENTE') and #idCliente.toString() == authentication.principal.subject)"
     )
-    public ResponseEntity<ReservaResponseDTO> buscarReservaPorId(UUID idCliente, Long idReserva) {
-        Optional<Reserva> reserva = reservaService.buscarReservaPorId(idCliente, idReserva);
-        ReservaResponseDTO reservaResponseDTO = reservaMapper.entityToResponseDTO(reserva);
-        return ResponseEntity.status(HttpStatus.OK).body(reservaResponseDTO);
+    public ResponseEntity<ReservaDetalheResponseDTO> buscarReservaPorId(UUID idCliente, Long idReserva) {
+        ReservaDetalhe reserva = reservaService.buscarReservaPorId(idCliente, idReserva);
+        return ResponseEntity.status(HttpStatus.OK).body(reservaMapper.toDetalheResponseDTO(reserva));
     }
 
     @Override
@@ -0,0 +1,62 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.controller.swagger.SwaggerSalaEsperaController;
+import com.romanowski.pedro.dto.response.PosicaoFilaResponseDTO;
+import com.romanowski.pedro.mapper.ReservaMapper;
+import com.romanowski.pedro.service.salaespera.PosicaoFila;
+import com.romanowski.pedro.service.salaespera.SalaEspera;
+import com.romanowski.pedro.service.salaespera.SituacaoPedido;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1")
+public class SalaEsperaController implements SwaggerSalaEsperaController {
+
+    private final SalaEspera salaEspera;
+
+    private final ReservaMapper reservaMapper;
+
+    public SalaEsperaController(SalaEspera salaEspera, ReservaMapper reservaMapper) {
+        this.salaEspera = salaEspera;
+        this.reservaMapper = reservaMapper;
+    }
+
+    @Override
+    @PreAuthorize(
+            "(hasRole('CLIENTE') and #idCliente.toString() == authentication.principal.subject)"
+    )
+    public ResponseEntity<PosicaoFilaResponseDTO> entrarSalaEspera(UUID idCliente, Long idSessao) {
+        PosicaoFila posicao = salaEspera.entrar(idCliente, idSessao);
+        HttpStatus status = posicao.pedido().getSituacao() == SituacaoPedido.AGUARDANDO ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(reservaMapper.toPosicaoFilaResponseDTO(posicao));
+    }
+
+    @Override
+    @PreAuthorize(
+            "(hasRole('CLIENTE') and #idCliente.toString() == authentication.principal.subject)"
+    )
+    public ResponseEntity<PosicaoFilaResponseDTO> consultarSalaEspera(UUID idCliente, Long idSessao) {
+        PosicaoFila posicao = salaEspera.consultar(idCliente, idSessao);
+        return ResponseEntity.status(HttpStatus.OK).body(reservaMapper.toPosicaoFilaResponseDTO(posicao));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> abrirSalaEspera(Long idSessao) {
+        salaEspera.abrir(idSessao);
+        return ResponseEntity.status(HttpStatus.OK).body(null);
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> fecharSalaEspera(Long idSessao) {
+        salaEspera.fechar(idSessao);
+        return ResponseEntity.status(HttpStatus.OK).body(null);
+    }
+}
@@ -1,11 +1,15 @@
 package com.romanowski.pedro.controller;
 
 import com.romanowski.pedro.controller.swagger.SwaggerSessaoController;
+import com.romanowski.pedro.dto.request.ProgramacaoSessoesRequestDTO;
 import com.romanowski.pedro.dto.request.SessaoRequestDTO;
+import com.romanowski.pedro.dto.response.ProgramacaoSessoesResponseDTO;
 import com.romanowski.pedro.dto.response.SessaoResponseDTO;
 import com.romanowski.pedro.entity.Sessao;
 import com.romanowski.pedro.mapper.SessaoMapper;
 import com.romanowski.pedro.service.SessaoService;
+import com.romanowski.pedro.service.agenda.Programacao;
+import com.romanowski.pedro.service.agenda.ResultadoProgramacao;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -36,6 +40,15 @@ public class SessaoController implements SwaggerSessaoController {
         return ResponseEntity.status(HttpStatus.OK).body(sessaoMapper.toResponseDTO(sessaoSalva));
     }
 
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProgramacaoSessoesResponseDTO> programarSessoes(ProgramacaoSessoesRequestDTO programacaoRequestDTO, boolean simulacao) {
+        Programacao programacao = sessaoMapper.toProgramacao(programacaoRequestDTO);
+        ResultadoProgramacao resultado = sessaoService.programarSessoes(programacao, simulacao);
+        HttpStatus status = simulacao || resultado.gravada() ? HttpStatus.OK : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(sessaoMapper.toProgramacaoResponseDTO(resultado));
+    }
+
     @Override
     @PreAuthorize("hasAnyRole('CLIENTE', 'ADMIN')")
     public ResponseEntity<List<SessaoResponseDTO>> listarSessoes() {
@@ -1,6 +1,8 @@
 package com.romanowski.pedro.controller.handler;
 
+import com.romanowski.pedro.exceptions.AssinaturasEsgotadasException;
 import com.romanowski.pedro.exceptions.BusinessException;
+import com.romanowski.pedro.exceptions.SalaEsperaCheiaException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.ServiceUnavailableException;
 import org.springframework.http.HttpHeaders;
@@ -36,6 +38,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler({SalaEsperaCheiaException.class, AssinaturasEsgotadasException.class})
+    public ResponseEntity<ExceptionResponse> handleSalaEsperaCheiaException(BusinessException ex, HttpServletRequest request){
+        ExceptionResponse response = new ExceptionResponse(
+                new Date(),
+                ex.getMessage(),
+                request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "5").body(response);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex,
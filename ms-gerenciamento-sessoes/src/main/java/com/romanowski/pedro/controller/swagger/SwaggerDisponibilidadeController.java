@@ -0,0 +1,16 @@
+package com.romanowski.pedro.controller.swagger;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Disponibilidade", description = "Lugares disponíveis das sessões em tempo real.")
+public interface SwaggerDisponibilidadeController {
+
+    @Operation(summary = "Acompanhar disponibilidade", description = "Abre um fluxo Server-Sent Events com o estado atual dos lugares da sessão e um evento 'disponibilidade' a cada mudança, no máximo um por intervalo.")
+    @GetMapping(value = "/sessoes/{idSessao}/disponibilidade", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter acompanharDisponibilidade(@PathVariable Long idSessao);
+}
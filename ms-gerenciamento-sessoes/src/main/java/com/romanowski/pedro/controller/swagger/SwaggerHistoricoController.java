@@ -0,0 +1,28 @@
+package com.romanowski.pedro.controller.swagger;
+
+import com.romanowski.pedro.dto.response.ReservaDetalheResponseDTO;
+import com.romanowski.pedro.dto.response.SessaoResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Histórico", description = "Sessões e reservas antigas, já movidas para as tabelas de arquivo.")
+public interface SwaggerHistoricoController {
+
+    @Operation(summary = "Histórico de reservas", description = "Lista as reservas arquivadas do cliente, com os dados da sessão, da mais recente para a mais antiga.")
+    @GetMapping("/reservas/historico/{idCliente}")
+    ResponseEntity<List<ReservaDetalheResponseDTO>> listarHistoricoReservas(@PathVariable UUID idCliente);
+
+    @Operation(summary = "Histórico de sessões", description = "Lista as sessões arquivadas que aconteceram entre as datas informadas (dd/MM/yyyy, inclusive).")
+    @GetMapping("/sessoes/historico")
+    ResponseEntity<List<SessaoResponseDTO>> listarHistoricoSessoes(@RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+                                                                   @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim);
+}
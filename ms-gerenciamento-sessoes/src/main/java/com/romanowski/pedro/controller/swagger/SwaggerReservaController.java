@@ -1,6 +1,8 @@
 package com.romanowski.pedro.controller.swagger;
 
+import com.romanowski.pedro.dto.response.ReservaDetalheResponseDTO;
 import com.romanowski.pedro.dto.response.ReservaResponseDTO;
+import com.romanowski.pedro.entity.StatusReserva;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
@@ -8,25 +10,30 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Reserva", description = "Operações disponíveis para as reservas de sessões do cinema.")
 public interface SwaggerReservaController {
 
     @Operation(summary = "Criar reserva", description = "Permite a criação de uma nova reserva para uma sessão específica por um cliente.")
     @PostMapping("/reservas/{idCliente}/{idSessao}" )
-    ResponseEntity<ReservaResponseDTO> criarReserva(@PathVariable UUID idCliente, @PathVariable Long idSessao);
+    CompletableFuture<ResponseEntity<ReservaResponseDTO>> criarReserva(@PathVariable UUID idCliente, @PathVariable Long idSessao);
 
 
-    @Operation(summary = "Listar reservas", description = "Permite a listagem de todas as reservas feitas por um cliente específico.")
+    @Operation(summary = "Listar reservas", description = "Permite a listagem paginada das reservas de um cliente específico, da mais recente para a mais antiga, com o título e o horário da sessão. O status filtra por ATIVA, PAGA ou CANCELADA; os totais vêm nos cabeçalhos X-Total-Count e X-Total-Pages.")
     @GetMapping("/reservas/{idCliente}")
-    ResponseEntity<List<ReservaResponseDTO>> listarReservas(@PathVariable UUID idCliente);
+    ResponseEntity<List<ReservaResponseDTO>> listarReservas(@PathVariable UUID idCliente,
+                                                            @RequestParam(required = false) StatusReserva status,
+                                                            @RequestParam(defaultValue = "0") int pagina,
+                                                            @RequestParam(defaultValue = "20") int tamanho);
 
-    @Operation(summary = "Buscar reserva por id", description = "Permite a busca de uma reserva específica por se ID e o ID do cliente.")
+    @Operation(summary = "Buscar reserva por id", description = "Permite a busca de uma reserva específica por seu ID e o ID do cliente, com os dados da sessão.")
     @GetMapping("/reservas/{idCliente}/{idReserva}")
-    ResponseEntity<ReservaResponseDTO> buscarReservaPorId(@PathVariable UUID idCliente, @PathVariable Long idReserva);
+    ResponseEntity<ReservaDetalheResponseDTO> buscarReservaPorId(@PathVariable UUID idCliente, @PathVariable Long idReserva);
 
     @Operation(summary = "Cancelamento de reserva", description = "Permite o cancelamento (exclusão lógica) de uma reserva específica por seu ID e o ID do cliente.")
     @DeleteMapping("/reservas/{idCliente}/{idReserva}")
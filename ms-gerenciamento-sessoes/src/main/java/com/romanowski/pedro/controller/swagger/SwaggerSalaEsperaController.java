@@ -0,0 +1,33 @@
+package com.romanowski.pedro.controller.swagger;
+
+import com.romanowski.pedro.dto.response.PosicaoFilaResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+
+import java.util.UUID;
+
+@Tag(name = "Sala de espera", description = "Fila de reservas das sessões quentes, gravadas em lotes por ordem de chegada.")
+public interface SwaggerSalaEsperaController {
+
+    @Operation(summary = "Entrar na sala de espera", description = "Coloca o pedido de reserva do cliente na fila da sessão e retorna a posição e a estimativa de espera.")
+    @PostMapping("/reservas/fila/{idCliente}/{idSessao}")
+    ResponseEntity<PosicaoFilaResponseDTO> entrarSalaEspera(@PathVariable UUID idCliente, @PathVariable Long idSessao);
+
+    @Operation(summary = "Consultar posição na sala de espera", description = "Retorna a posição atual do pedido na fila ou a reserva, quando já gravada.")
+    @GetMapping("/reservas/fila/{idCliente}/{idSessao}")
+    ResponseEntity<PosicaoFilaResponseDTO> consultarSalaEspera(@PathVariable UUID idCliente, @PathVariable Long idSessao);
+
+    @Operation(summary = "Abrir sala de espera", description = "Passa a sessão para o modo sessão quente: as reservas entram em fila e são gravadas em lotes.")
+    @PutMapping("/sessoes/{idSessao}/sala-espera")
+    ResponseEntity<Void> abrirSalaEspera(@PathVariable Long idSessao);
+
+    @Operation(summary = "Fechar sala de espera", description = "Volta a sessão ao modo normal depois de gravar os pedidos que ainda estão na fila.")
+    @DeleteMapping("/sessoes/{idSessao}/sala-espera")
+    ResponseEntity<Void> fecharSalaEspera(@PathVariable Long idSessao);
+}
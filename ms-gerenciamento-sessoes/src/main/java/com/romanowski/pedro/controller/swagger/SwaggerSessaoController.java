@@ -1,6 +1,8 @@
 package com.romanowski.pedro.controller.swagger;
 
+import com.romanowski.pedro.dto.request.ProgramacaoSessoesRequestDTO;
 import com.romanowski.pedro.dto.request.SessaoRequestDTO;
+import com.romanowski.pedro.dto.response.ProgramacaoSessoesResponseDTO;
 import com.romanowski.pedro.dto.response.SessaoResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +20,11 @@ public interface SwaggerSessaoController {
     @PostMapping("/sessoes")
     ResponseEntity<SessaoResponseDTO> cadastrarSessao(@Valid @RequestBody SessaoRequestDTO sessaoRequestDTO);
 
+    @Operation(summary = "Programar sessões", description = "Gera as sessões de um filme para as salas, dias e horários informados e grava todas de uma vez. Com simulacao=true apenas retorna as sessões e os conflitos; havendo conflito nada é gravado (409).")
+    @PostMapping("/sessoes/programacao")
+    ResponseEntity<ProgramacaoSessoesResponseDTO> programarSessoes(@Valid @RequestBody ProgramacaoSessoesRequestDTO programacaoRequestDTO,
+                                                                   @RequestParam(defaultValue = "false") boolean simulacao);
+
     @Operation(summary = "Listar sessões", description = "Permite a listagem de todas as sessões disponíveis no cinema.")
     @GetMapping("/sessoes")
     ResponseEntity<List<SessaoResponseDTO>> listarSessoes();
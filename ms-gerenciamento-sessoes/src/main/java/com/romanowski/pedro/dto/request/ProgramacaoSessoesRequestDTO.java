@@ -0,0 +1,33 @@
+package com.romanowski.pedro.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record ProgramacaoSessoesRequestDTO(
+        @NotBlank
+        String tituloFilme,
+        @NotEmpty
+        List<@NotNull @Min(1) @Max(5) Integer> salas,
+        @NotNull
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+        LocalDate dataInicio,
+        @NotNull
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+        LocalDate dataFim,
+        // Horários no formato HH:mm
+        @NotEmpty
+        List<@NotNull LocalTime> horarios,
+        @NotNull
+        @Min(15)
+        @Max(70)
+        Double preco
+) {
+}
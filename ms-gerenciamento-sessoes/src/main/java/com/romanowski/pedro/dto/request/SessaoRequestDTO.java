@@ -19,6 +19,9 @@ public record SessaoRequestDTO(
         @Max(70)
         Double preco,
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
-        LocalDateTime dataHoraSessao
+        LocalDateTime dataHoraSessao,
+        @Min(1)
+        @Max(1000)
+        Integer capacidade
 ) {
 }
@@ -0,0 +1,13 @@
+package com.romanowski.pedro.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+public record ConflitoProgramacaoResponseDTO(
+        Integer sala,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
+        LocalDateTime dataHoraSessao,
+        String motivo
+) {
+}
@@ -0,0 +1,10 @@
+package com.romanowski.pedro.dto.response;
+
+public record DisponibilidadeResponseDTO(
+        Long idSessao,
+        Integer capacidade,
+        Long lugaresReservados,
+        Long lugaresDisponiveis,
+        Boolean ativa
+) {
+}
@@ -0,0 +1,14 @@
+package com.romanowski.pedro.dto.response;
+
+import java.util.UUID;
+
+public record PosicaoFilaResponseDTO(
+        Long idSessao,
+        UUID idCliente,
+        String situacao,
+        Long posicao,
+        Long estimativaSegundos,
+        ReservaResponseDTO reserva,
+        String mensagem
+) {
+}
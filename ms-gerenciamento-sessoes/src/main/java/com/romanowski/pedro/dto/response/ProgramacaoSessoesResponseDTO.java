@@ -0,0 +1,12 @@
+package com.romanowski.pedro.dto.response;
+
+import java.util.List;
+
+public record ProgramacaoSessoesResponseDTO(
+        Boolean simulacao,
+        Boolean gravada,
+        Integer totalSessoes,
+        List<SessaoResponseDTO> sessoes,
+        List<ConflitoProgramacaoResponseDTO> conflitos
+) {
+}
@@ -0,0 +1,21 @@
+package com.romanowski.pedro.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReservaDetalheResponseDTO(
+        Long id,
+        UUID idCliente,
+        Long idSessao,
+        Boolean pagamentoConfirmado,
+        Boolean ativa,
+        String mensagem,
+        String tituloFilme,
+        Integer sala,
+        Double preco,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
+        LocalDateTime dataHoraSessao
+) {
+}
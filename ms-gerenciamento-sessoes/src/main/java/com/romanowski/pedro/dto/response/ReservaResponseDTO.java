@@ -1,5 +1,8 @@
 package com.romanowski.pedro.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public record ReservaResponseDTO(
@@ -8,6 +11,9 @@ public record ReservaResponseDTO(
         Long idSessao,
         Boolean pagamentoConfirmado,
         Boolean ativa,
-        String mensagem
+        String mensagem,
+        String tituloFilme,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
+        LocalDateTime dataHoraSessao
 ) {
 }
@@ -0,0 +1,37 @@
+package com.romanowski.pedro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode(of = "id")
+@Table(name = "outbox_eventos")
+@Entity
+public class EventoOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 60)
+    private String tipo;
+
+    @Column(name = "id_agregado", nullable = false)
+    private Long idAgregado;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "publicado_em")
+    private LocalDateTime publicadoEm;
+}
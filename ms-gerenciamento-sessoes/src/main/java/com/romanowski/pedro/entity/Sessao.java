@@ -37,5 +37,10 @@ public class Sessao {
     @Column(name = "data_hora", nullable = false)
     private LocalDateTime dataHoraSessao;
 
+    @Column(name = "duracao_minutos")
+    private Integer duracaoMinutos;
+
+    private Integer capacidade;
+
     private Boolean ativa;
 }
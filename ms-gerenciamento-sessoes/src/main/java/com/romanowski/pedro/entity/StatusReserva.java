@@ -0,0 +1,17 @@
+package com.romanowski.pedro.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum StatusReserva {
+
+    ATIVA(true, null),
+    // Paga e ainda ativa: uma reserva paga e depois cancelada (inclusive com a sessão) entra em CANCELADA
+    PAGA(true, true),
+    CANCELADA(false, null);
+
+    private final Boolean ativa;
+    private final Boolean pagamentoConfirmado;
+}
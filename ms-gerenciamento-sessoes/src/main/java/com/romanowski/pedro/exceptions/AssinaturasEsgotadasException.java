@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class AssinaturasEsgotadasException extends BusinessException {
+    public AssinaturasEsgotadasException(String message) {
+        super(message);
+    }
+}
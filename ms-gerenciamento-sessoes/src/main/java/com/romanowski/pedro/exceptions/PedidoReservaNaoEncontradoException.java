@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class PedidoReservaNaoEncontradoException extends BusinessException {
+    public PedidoReservaNaoEncontradoException(String message) {
+        super(message);
+    }
+}
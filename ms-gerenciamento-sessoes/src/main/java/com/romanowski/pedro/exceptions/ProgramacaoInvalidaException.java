@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class ProgramacaoInvalidaException extends BusinessException{
+    public ProgramacaoInvalidaException(String message) {
+        super(message);
+    }
+}
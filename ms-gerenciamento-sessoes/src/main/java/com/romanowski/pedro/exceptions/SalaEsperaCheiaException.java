@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class SalaEsperaCheiaException extends BusinessException {
+    public SalaEsperaCheiaException(String message) {
+        super(message);
+    }
+}
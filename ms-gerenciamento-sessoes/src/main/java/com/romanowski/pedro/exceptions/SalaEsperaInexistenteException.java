@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class SalaEsperaInexistenteException extends BusinessException {
+    public SalaEsperaInexistenteException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.romanowski.pedro.exceptions;
+
+public class SessaoLotadaException extends BusinessException {
+    public SessaoLotadaException(String message) {
+        super(message);
+    }
+}
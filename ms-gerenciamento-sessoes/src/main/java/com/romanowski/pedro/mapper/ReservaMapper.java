@@ -1,10 +1,14 @@
 package com.romanowski.pedro.mapper;
 
-import com.romanowski.pedro.dto.response.FilmeResponseDTO;
+import com.romanowski.pedro.dto.response.PosicaoFilaResponseDTO;
+import com.romanowski.pedro.dto.response.ReservaDetalheResponseDTO;
 import com.romanowski.pedro.dto.response.ReservaResponseDTO;
 import com.romanowski.pedro.dto.response.StatusPagamentoResponseDTO;
 import com.romanowski.pedro.entity.Reserva;
 import com.romanowski.pedro.entity.StatusPagamento;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
+import com.romanowski.pedro.service.salaespera.PedidoReserva;
+import com.romanowski.pedro.service.salaespera.PosicaoFila;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -14,10 +18,24 @@ import java.util.Optional;
 public interface ReservaMapper {
 
     @Mapping(source = "sessao.id", target = "idSessao")
+    @Mapping(source = "sessao.tituloFilme", target = "tituloFilme")
+    @Mapping(source = "sessao.dataHoraSessao", target = "dataHoraSessao")
     ReservaResponseDTO toResponseDTO(Reserva reserva);
+    ReservaDetalheResponseDTO toDetalheResponseDTO(ReservaDetalhe reservaDetalhe);
     StatusPagamentoResponseDTO toStatusPagamentoResponseDTO(StatusPagamento statusPagamento);
     StatusPagamento toStatusPagamento(StatusPagamentoResponseDTO statusPagamento);
     default ReservaResponseDTO entityToResponseDTO(Optional<Reserva> reservaEntity){
         return reservaEntity.map(this::toResponseDTO).orElse(null);
     }
+    default PosicaoFilaResponseDTO toPosicaoFilaResponseDTO(PosicaoFila posicaoFila){
+        PedidoReserva pedido = posicaoFila.pedido();
+        return new PosicaoFilaResponseDTO(
+                posicaoFila.idSessao(),
+                pedido.getIdCliente(),
+                pedido.getSituacao().name(),
+                posicaoFila.posicao(),
+                posicaoFila.estimativaSegundos(),
+                entityToResponseDTO(pedido.getReserva()),
+                pedido.getMotivoRecusa().orElse(null));
+    }
 }
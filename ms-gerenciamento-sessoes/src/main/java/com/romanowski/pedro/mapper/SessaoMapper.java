@@ -1,8 +1,14 @@
 package com.romanowski.pedro.mapper;
 
+import com.romanowski.pedro.dto.request.ProgramacaoSessoesRequestDTO;
 import com.romanowski.pedro.dto.request.SessaoRequestDTO;
+import com.romanowski.pedro.dto.response.ConflitoProgramacaoResponseDTO;
+import com.romanowski.pedro.dto.response.ProgramacaoSessoesResponseDTO;
 import com.romanowski.pedro.dto.response.SessaoResponseDTO;
 import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.service.agenda.Conflito;
+import com.romanowski.pedro.service.agenda.Programacao;
+import com.romanowski.pedro.service.agenda.ResultadoProgramacao;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -19,4 +25,19 @@ public interface SessaoMapper {
     default SessaoResponseDTO entityToResponseDTO(Optional<Sessao> sessaoEntity){
         return sessaoEntity.map(this::toResponseDTO).orElse(null);
     }
+
+    Programacao toProgramacao(ProgramacaoSessoesRequestDTO programacaoRequestDTO);
+
+    @Mapping(source = "sessao.sala", target = "sala")
+    @Mapping(source = "sessao.dataHoraSessao", target = "dataHoraSessao")
+    ConflitoProgramacaoResponseDTO toConflitoResponseDTO(Conflito conflito);
+
+    default ProgramacaoSessoesResponseDTO toProgramacaoResponseDTO(ResultadoProgramacao resultado){
+        return new ProgramacaoSessoesResponseDTO(
+                resultado.simulacao(),
+                resultado.gravada(),
+                resultado.sessoes().size(),
+                resultado.sessoes().stream().map(this::toResponseDTO).toList(),
+                resultado.conflitos().stream().map(this::toConflitoResponseDTO).toList());
+    }
 }
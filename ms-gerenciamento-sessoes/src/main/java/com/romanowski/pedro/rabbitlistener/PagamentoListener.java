@@ -7,12 +7,14 @@ import com.romanowski.pedro.exceptions.ValorPagamentoSessaoInvalido;
 import com.romanowski.pedro.mapper.ReservaMapper;
 import com.romanowski.pedro.service.ReservaService;
 import com.romanowski.pedro.service.email.EmailService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
 @Component
+@Timed("cinema.rabbit.consumo")
 public class PagamentoListener {
 
     private static final Logger logger = LoggerFactory.getLogger(PagamentoListener.class);
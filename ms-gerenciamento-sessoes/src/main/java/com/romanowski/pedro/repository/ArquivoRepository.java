@@ -0,0 +1,109 @@
+package com.romanowski.pedro.repository;
+
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Acesso às tabelas frias {@code sessoes_arquivo} e {@code reserva_arquivo}. A movimentação é feita
+ * com INSERT ... SELECT e DELETE por lote de ids, sem trazer as linhas para a aplicação.
+ */
+@Repository
+public class ArquivoRepository {
+
+    private static final RowMapper<ReservaDetalhe> RESERVA_ARQUIVADA = (rs, linha) -> new ReservaDetalhe(
+            rs.getLong("id"),
+            UUID.fromString(rs.getString("id_cliente")),
+            rs.getBoolean("pagamento_confirmado"),
+            rs.getBoolean("ativa"),
+            rs.getString("mensagem"),
+            rs.getLong("id_sessao"),
+            rs.getString("titulo_filme"),
+            rs.getInt("sala"),
+            rs.getDouble("preco"),
+            rs.getTimestamp("data_hora").toLocalDateTime());
+
+    private static final RowMapper<Sessao> SESSAO_ARQUIVADA = (rs, linha) -> Sessao.builder()
+            .id(rs.getLong("id"))
+            .idFilme(rs.getLong("id_filme"))
+            .tituloFilme(rs.getString("titulo_filme"))
+            .ativa(rs.getBoolean("ativa"))
+            .sala(rs.getInt("sala"))
+            .preco(rs.getDouble("preco"))
+            .dataHoraSessao(rs.getTimestamp("data_hora").toLocalDateTime())
+            .duracaoMinutos(rs.getObject("duracao_minutos", Integer.class))
+            .capacidade(rs.getObject("capacidade", Integer.class))
+            .reservas(List.of())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArquivoRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Trava e retorna até {@code limite} sessões que começaram antes de {@code antesDe}. A trava faz
+     * outra instância que arquive ao mesmo tempo esperar este lote em vez de copiá-lo de novo. A ordem
+     * por data_hora mantém a leitura no idx_sessoes_data_hora, travando só sessões vencidas; ordenar pela
+     * chave primária percorreria (e travaria) a tabela quente inteira no último lote.
+     */
+    public List<Long> travarSessoesParaArquivar(LocalDateTime antesDe, int limite) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM sessoes WHERE data_hora < ? ORDER BY data_hora, id LIMIT ? FOR UPDATE",
+                Long.class, Timestamp.valueOf(antesDe), limite);
+    }
+
+    /**
+     * Copia as sessões e as reservas delas para as tabelas frias e as remove das quentes.
+     *
+     * @return quantidade de reservas arquivadas
+     */
+    public int arquivar(List<Long> idsSessoes, LocalDateTime arquivadaEm) {
+        String ids = String.join(", ", Collections.nCopies(idsSessoes.size(), "?"));
+        Timestamp instante = Timestamp.valueOf(arquivadaEm);
+
+        jdbcTemplate.update("INSERT INTO sessoes_arquivo (id, id_filme, titulo_filme, ativa, sala, preco, data_hora, duracao_minutos, capacidade, arquivada_em) "
+                + "SELECT id, id_filme, titulo_filme, ativa, sala, preco, data_hora, duracao_minutos, capacidade, ? FROM sessoes WHERE id IN (" + ids + ")",
+                parametros(instante, idsSessoes));
+        int reservas = jdbcTemplate.update("INSERT INTO reserva_arquivo (id, id_cliente, id_sessao, ativa, pagamento_confirmado, mensagem, arquivada_em) "
+                + "SELECT id, id_cliente, id_sessao, ativa, pagamento_confirmado, mensagem, ? FROM reserva WHERE id_sessao IN (" + ids + ")",
+                parametros(instante, idsSessoes));
+        jdbcTemplate.update("DELETE FROM reserva WHERE id_sessao IN (" + ids + ")", idsSessoes.toArray());
+        jdbcTemplate.update("DELETE FROM sessoes WHERE id IN (" + ids + ")", idsSessoes.toArray());
+        return reservas;
+    }
+
+    public List<ReservaDetalhe> buscarReservasArquivadas(UUID idCliente) {
+        return jdbcTemplate.query("""
+                SELECT r.id, r.id_cliente, r.pagamento_confirmado, r.ativa, r.mensagem, r.id_sessao,
+                       s.titulo_filme, s.sala, s.preco, s.data_hora
+                FROM reserva_arquivo r JOIN sessoes_arquivo s ON s.id = r.id_sessao
+                WHERE r.id_cliente = ?
+                ORDER BY s.data_hora DESC""", RESERVA_ARQUIVADA, idCliente.toString());
+    }
+
+    public List<Sessao> buscarSessoesArquivadas(LocalDateTime inicio, LocalDateTime fim) {
+        return jdbcTemplate.query("""
+                SELECT id, id_filme, titulo_filme, ativa, sala, preco, data_hora, duracao_minutos, capacidade
+                FROM sessoes_arquivo
+                WHERE data_hora >= ? AND data_hora < ?
+                ORDER BY data_hora""", SESSAO_ARQUIVADA, Timestamp.valueOf(inicio), Timestamp.valueOf(fim));
+    }
+
+    private static Object[] parametros(Object primeiro, List<Long> ids) {
+        List<Object> parametros = new ArrayList<>(ids.size() + 1);
+        parametros.add(primeiro);
+        parametros.addAll(ids);
+        return parametros.toArray();
+    }
+}
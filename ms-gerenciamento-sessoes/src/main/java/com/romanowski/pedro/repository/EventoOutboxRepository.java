@@ -0,0 +1,21 @@
+package com.romanowski.pedro.repository;
+
+import com.romanowski.pedro.entity.EventoOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    // As linhas ficam travadas até o fim da transação de publicação; outra instância pula as travadas
+    // e pega o lote seguinte em vez de publicar os mesmos eventos
+    @Query(value = """
+            SELECT * FROM outbox_eventos
+            WHERE publicado_em IS NULL
+            ORDER BY id
+            LIMIT :limite
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<EventoOutbox> travarPendentes(@Param("limite") int limite);
+}
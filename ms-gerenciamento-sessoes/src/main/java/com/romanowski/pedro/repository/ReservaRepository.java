@@ -1,7 +1,16 @@
 package com.romanowski.pedro.repository;
 
+import com.romanowski.pedro.dto.response.ReservaResponseDTO;
 import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.repository.projection.ReservaCancelada;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,8 +18,60 @@ import java.util.UUID;
 
 public interface ReservaRepository extends JpaRepository<Reserva, Long> {
 
-    List<Reserva> findAllByIdCliente(UUID idCliente);
+    // A sessão é carregada no mesmo select: os serviços usam título, sala e data da sessão
+    // logo depois de buscar a reserva, e a listagem não pode crescer com o número de reservas.
+    @Override
+    @EntityGraph(attributePaths = "sessao")
+    Optional<Reserva> findById(Long id);
+
+    @EntityGraph(attributePaths = "sessao")
     Optional<Reserva> findByIdAndIdCliente(Long id, UUID idCliente);
 
+    // Página das reservas do cliente direto no DTO, da mais recente para a mais antiga, percorrendo o índice
+    // (id_cliente, id). Filtros nulos não restringem: ativa = false são as canceladas.
+    @Query(value = """
+            select new com.romanowski.pedro.dto.response.ReservaResponseDTO(
+                r.id, r.idCliente, s.id, r.pagamentoConfirmado, r.ativa, r.mensagem, s.tituloFilme, s.dataHoraSessao)
+            from Reserva r join r.sessao s
+            where r.idCliente = :idCliente
+              and (:ativa is null or r.ativa = :ativa)
+              and (:pagamentoConfirmado is null or r.pagamentoConfirmado = :pagamentoConfirmado)
+            order by r.id desc""",
+            countQuery = """
+            select count(r) from Reserva r
+            where r.idCliente = :idCliente
+              and (:ativa is null or r.ativa = :ativa)
+              and (:pagamentoConfirmado is null or r.pagamentoConfirmado = :pagamentoConfirmado)""")
+    Page<ReservaResponseDTO> listarPorCliente(@Param("idCliente") UUID idCliente, @Param("ativa") Boolean ativa,
+                                              @Param("pagamentoConfirmado") Boolean pagamentoConfirmado, Pageable pageable);
+
+    // Busca pela chave primária com a posse do cliente no mesmo predicado: reserva de outro cliente
+    // e reserva inexistente são o mesmo resultado vazio, sem consultas extras de existência.
+    @Query("""
+            select new com.romanowski.pedro.repository.projection.ReservaDetalhe(
+                r.id, r.idCliente, r.pagamentoConfirmado, r.ativa, r.mensagem,
+                s.id, s.tituloFilme, s.sala, s.preco, s.dataHoraSessao)
+            from Reserva r join r.sessao s
+            where r.id = :id and r.idCliente = :idCliente""")
+    Optional<ReservaDetalhe> buscarDetalhe(@Param("id") Long id, @Param("idCliente") UUID idCliente);
+
+    // Cancela todas as reservas ativas da sessão em um único UPDATE. A mensagem identifica depois as
+    // reservas canceladas junto com a sessão (e não pelo cliente) para o estorno e os avisos.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Reserva r set r.ativa = false, r.mensagem = :mensagem
+            where r.sessao.id = :idSessao and r.ativa = true""")
+    int cancelarReservasDaSessao(@Param("idSessao") Long idSessao, @Param("mensagem") String mensagem);
+
+    @Query("""
+            select new com.romanowski.pedro.repository.projection.ReservaCancelada(r.id, r.idCliente, r.pagamentoConfirmado)
+            from Reserva r
+            where r.sessao.id = :idSessao and r.ativa = false and r.mensagem = :mensagem
+            order by r.id""")
+    List<ReservaCancelada> buscarCanceladasComSessao(@Param("idSessao") Long idSessao, @Param("mensagem") String mensagem);
+
     Long id(Long id);
+
+    @Query("select count(r) from Reserva r where r.sessao.id = :idSessao and r.ativa = true")
+    long contarAtivasDaSessao(@Param("idSessao") Long idSessao);
 }
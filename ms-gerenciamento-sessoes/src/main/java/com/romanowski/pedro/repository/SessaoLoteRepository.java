@@ -0,0 +1,63 @@
+package com.romanowski.pedro.repository;
+
+import com.romanowski.pedro.entity.Sessao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gravação de sessões em lote. Com ids IDENTITY o Hibernate insere uma linha por comando, então as
+ * sessões de uma programação são gravadas com INSERTs de várias linhas, independente de o driver
+ * reescrever lotes ou não.
+ */
+@Repository
+public class SessaoLoteRepository {
+
+    private static final int LINHAS_POR_INSERT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SessaoLoteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insere as sessões na ordem da lista e preenche o id gerado de cada uma.
+     */
+    public void inserirTodas(List<Sessao> sessoes) {
+        for (int inicio = 0; inicio < sessoes.size(); inicio += LINHAS_POR_INSERT) {
+            List<Sessao> parte = sessoes.subList(inicio, Math.min(sessoes.size(), inicio + LINHAS_POR_INSERT));
+            String sql = "INSERT INTO sessoes (id_filme, titulo_filme, ativa, sala, preco, data_hora, duracao_minutos) VALUES "
+                    + String.join(", ", Collections.nCopies(parte.size(), "(?, ?, ?, ?, ?, ?, ?)"));
+            KeyHolder chaves = new GeneratedKeyHolder();
+            jdbcTemplate.update(conexao -> {
+                PreparedStatement statement = conexao.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                int indice = 1;
+                for (Sessao sessao : parte) {
+                    statement.setLong(indice++, sessao.getIdFilme());
+                    statement.setString(indice++, sessao.getTituloFilme());
+                    statement.setBoolean(indice++, sessao.getAtiva());
+                    statement.setInt(indice++, sessao.getSala());
+                    statement.setDouble(indice++, sessao.getPreco());
+                    statement.setTimestamp(indice++, Timestamp.valueOf(sessao.getDataHoraSessao()));
+                    statement.setInt(indice++, sessao.getDuracaoMinutos());
+                }
+                return statement;
+            }, chaves);
+
+            List<Map<String, Object>> ids = chaves.getKeyList();
+            for (int i = 0; i < parte.size(); i++) {
+                Number id = (Number) ids.get(i).values().iterator().next();
+                parte.get(i).setId(id.longValue());
+            }
+        }
+    }
+}
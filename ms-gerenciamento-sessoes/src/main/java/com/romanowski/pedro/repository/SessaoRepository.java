@@ -1,11 +1,41 @@
 package com.romanowski.pedro.repository;
 
 import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.repository.projection.HorarioSessao;
+import com.romanowski.pedro.repository.projection.OcupacaoSessao;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface SessaoRepository extends JpaRepository<Sessao, Long> {
 
-    Boolean existsBySalaAndDataHoraSessao(Integer sala, LocalDateTime dataHoraSessao);
+    // Só o necessário para montar a agenda das salas, sem carregar as entidades
+    @Query("""
+            select new com.romanowski.pedro.repository.projection.HorarioSessao(
+                s.id, s.sala, s.dataHoraSessao, s.duracaoMinutos)
+            from Sessao s
+            where s.ativa = true and s.dataHoraSessao >= :desde""")
+    List<HorarioSessao> buscarHorariosAtivos(@Param("desde") LocalDateTime desde);
+
+    // Reservas ativas de várias sessões em uma única consulta agrupada, para a disponibilidade em tempo real
+    @Query("""
+            select new com.romanowski.pedro.repository.projection.OcupacaoSessao(
+                s.id, s.capacidade, s.ativa, count(r.id))
+            from Sessao s left join s.reservas r on r.ativa = true
+            where s.id in :ids
+            group by s.id, s.capacidade, s.ativa""")
+    List<OcupacaoSessao> buscarOcupacao(@Param("ids") Collection<Long> ids);
+
+    // Trava a linha da sessão até o fim da transação: reservas concorrentes da mesma sessão esperam
+    // e a contagem de lugares ocupados vale até o commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Sessao s where s.id = :id")
+    Optional<Sessao> travarPorId(@Param("id") Long id);
 }
@@ -0,0 +1,6 @@
+package com.romanowski.pedro.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record HorarioSessao(Long id, Integer sala, LocalDateTime dataHoraSessao, Integer duracaoMinutos) {
+}
@@ -0,0 +1,4 @@
+package com.romanowski.pedro.repository.projection;
+
+public record OcupacaoSessao(Long idSessao, Integer capacidade, Boolean ativa, Long reservadas) {
+}
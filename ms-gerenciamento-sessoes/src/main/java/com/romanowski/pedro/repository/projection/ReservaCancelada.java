@@ -0,0 +1,10 @@
+package com.romanowski.pedro.repository.projection;
+
+import java.util.UUID;
+
+public record ReservaCancelada(
+        Long id,
+        UUID idCliente,
+        Boolean pagamentoConfirmado
+) {
+}
@@ -0,0 +1,18 @@
+package com.romanowski.pedro.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReservaDetalhe(
+        Long id,
+        UUID idCliente,
+        Boolean pagamentoConfirmado,
+        Boolean ativa,
+        String mensagem,
+        Long idSessao,
+        String tituloFilme,
+        Integer sala,
+        Double preco,
+        LocalDateTime dataHoraSessao
+) {
+}
@@ -1,31 +1,39 @@
 package com.romanowski.pedro.service;
 
 import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.dto.response.ReservaResponseDTO;
 import com.romanowski.pedro.entity.Reserva;
 import com.romanowski.pedro.entity.Sessao;
 import com.romanowski.pedro.entity.StatusPagamento;
+import com.romanowski.pedro.entity.StatusReserva;
 import com.romanowski.pedro.exceptions.ReservaNaoEncontradaException;
 import com.romanowski.pedro.feign.ClienteFeignClient;
 import com.romanowski.pedro.repository.ReservaRepository;
 import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
+import com.romanowski.pedro.service.cache.CacheClientes;
 import com.romanowski.pedro.service.email.EmailService;
 import com.romanowski.pedro.service.validation.ReservaValidation;
 import com.romanowski.pedro.service.validation.SessaoValidation;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.naming.ServiceUnavailableException;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed("cinema.servico")
 public class ReservaService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservaService.class);
@@ -38,6 +46,7 @@ public class ReservaService {
     private final SessaoService sessaoService;
     private final ReservaValidation reservaValidation;
     private final EmailService emailService;
+    private final CacheClientes cacheClientes;
 
 
     @Value("${mensagem.reserva.feita}")
@@ -61,10 +70,13 @@ public class ReservaService {
     @Value("${mensagem.email.pagamento.reserva.concluido:}")
     private String mensagemPagamentoReservaConfirmadoEmail;
 
+    @Value("${reservas.listagem.tamanho-maximo:100}")
+    private int tamanhoMaximoListagem;
+
     @Value("${ms.clientes.indisponivel}")
     private String mensagemErroClientesFeing;
 
-    public ReservaService(ReservaRepository reservaRepository, SessaoRepository sessaoRepository, SessaoValidation sessaoValidation, ClienteFeignClient clienteFeignClient, SessaoService sessaoService, ReservaValidation reservaValidation, EmailService emailService) {
+    public ReservaService(ReservaRepository reservaRepository, SessaoRepository sessaoRepository, SessaoValidation sessaoValidation, ClienteFeignClient clienteFeignClient, SessaoService sessaoService, ReservaValidation reservaValidation, EmailService emailService, CacheClientes cacheClientes) {
         this.reservaRepository = reservaRepository;
         this.sessaoRepository = sessaoRepository;
         this.sessaoValidation = sessaoValidation;
@@ -72,23 +84,26 @@ public class ReservaService {
         this.sessaoService = sessaoService;
         this.reservaValidation = reservaValidation;
         this.emailService = emailService;
+        this.cacheClientes = cacheClientes;
     }
 
-    private String formatarMensagem(String template, Long idReserva, String tituloFilme, String dataHoraSessao, Integer sala, String preco) {
+    public static String formatarMensagem(String template, Long idReserva, String tituloFilme, String dataHoraSessao, Integer sala, String preco) {
         return String.format(template, idReserva, tituloFilme, dataHoraSessao, sala, preco);
     }
 
 
     @Transactional
+    @Timed("cinema.reserva.criacao")
     @CircuitBreaker(name = "reservaService", fallbackMethod = "adicionarReservaFallback")
     @Retry(name = "reservaService", fallbackMethod = "adicionarReservaFallback")
     @RateLimiter(name = "reservaService")
     public Reserva adicionarReserva(UUID idCliente, Long idSessao){
         logger.info("Adicionando reserva para o cliente de ID: {} na sessão de ID: {}", idCliente, idSessao);
         Optional<ClienteResponseDTO> cliente = clienteFeignClient.obterClientePorId(idCliente);
-        Sessao sessao = sessaoRepository.findById(idSessao).get();
+        Sessao sessao = sessaoRepository.travarPorId(idSessao).get();
         reservaValidation.validarSessao(sessao);
         sessaoValidation.validarCliente(cliente);
+        reservaValidation.validarLugaresDisponiveis(sessao);
         Reserva reserva = Reserva.builder()
                 .idCliente(idCliente)
                 .sessao(sessao)
@@ -107,12 +122,19 @@ public class ReservaService {
     @CircuitBreaker(name = "reservaService", fallbackMethod = "listagemReservasFallback")
     @Retry(name = "reservaService", fallbackMethod = "listagemReservasFallback")
     @RateLimiter(name = "reservaService")
-    public List<Reserva> listarReservas(UUID idCliente){
-        logger.info("Listando reservas para o cliente de ID: {}", idCliente);
+    public Page<ReservaResponseDTO> listarReservas(UUID idCliente, StatusReserva status, int pagina, int tamanho){
+        logger.info("Listando reservas para o cliente de ID: {} (status: {}, página: {}, tamanho: {})", idCliente, status, pagina, tamanho);
         Optional<ClienteResponseDTO> cliente = clienteFeignClient.obterClientePorId(idCliente);
         sessaoValidation.validarCliente(cliente);
-        List<Reserva> reservas = reservaRepository.findAllByIdCliente(idCliente);
-        reservaValidation.validarListagemReservas(reservas);
+        Pageable pageable = PageRequest.of(Math.max(pagina, 0), Math.clamp(tamanho, 1, tamanhoMaximoListagem));
+        Page<ReservaResponseDTO> reservas = reservaRepository.listarPorCliente(idCliente,
+                status != null ? status.getAtiva() : null,
+                status != null ? status.getPagamentoConfirmado() : null,
+                pageable);
+        if (pageable.getPageNumber() == 0) {
+            // Páginas além da última voltam vazias; só a primeira vazia indica cliente sem reservas
+            reservaValidation.validarListagemReservas(reservas.getContent());
+        }
         return reservas;
     }
 
@@ -120,17 +142,16 @@ public class ReservaService {
     @CircuitBreaker(name = "reservaService", fallbackMethod = "buscarReservaFallback")
     @Retry(name = "reservaService", fallbackMethod = "buscarReservaFallback")
     @RateLimiter(name = "reservaService")
-    public Optional<Reserva> buscarReservaPorId(UUID idCliente, Long idReserva){
+    public ReservaDetalhe buscarReservaPorId(UUID idCliente, Long idReserva){
         logger.info("Buscando reserva de ID: {} para o cliente de ID: {}", idReserva, idCliente);
-        Optional<ClienteResponseDTO> cliente = clienteFeignClient.obterClientePorId(idCliente);
-        Reserva reserva = reservaRepository.findById(idReserva)
+        // Chamado pelo ms-gerenciamento-clientes a cada pagamento: cliente em cache e uma única consulta
+        sessaoValidation.validarCliente(cacheClientes.buscarPorId(idCliente));
+        return reservaRepository.buscarDetalhe(idReserva, idCliente)
                 .orElseThrow(() -> new ReservaNaoEncontradaException(mensagemReservaNaoEncontrada));
-        sessaoValidation.validarCliente(cliente);
-        reservaValidation.validarBuscaReserva(idCliente, reserva);
-        return reservaRepository.findByIdAndIdCliente(idReserva, idCliente);
     }
 
     @Transactional
+    @Timed("cinema.reserva.cancelamento")
     @CircuitBreaker(name = "reservaService", fallbackMethod = "cancelamentoReservaFallback")
     @Retry(name = "reservaService", fallbackMethod = "cancelamentoReservaFallback")
     @RateLimiter(name = "reservaService")
@@ -167,12 +188,12 @@ public class ReservaService {
         throw  new ServiceUnavailableException(mensagemErroClientesFeing);
     }
 
-    public List<Reserva> listagemReservasFallback(UUID idCliente, Throwable throwable) throws Exception{
+    public Page<ReservaResponseDTO> listagemReservasFallback(UUID idCliente, StatusReserva status, int pagina, int tamanho, Throwable throwable) throws Exception{
         logger.error("Erro ao realizar listagem de reservas para o cliente de ID: {}. Erro: {}", idCliente, throwable.getMessage());
         throw  new ServiceUnavailableException(mensagemErroClientesFeing);
     }
 
-    public Optional<Reserva> buscarReservaFallback(UUID idCliente,UUID idReserva, Throwable throwable) throws Exception{
+    public ReservaDetalhe buscarReservaFallback(UUID idCliente,UUID idReserva, Throwable throwable) throws Exception{
         logger.error("Erro ao realizar busca da reserva com o ID: {} para o cliente de ID: {}. Erro: {}", idCliente, idReserva, throwable.getMessage());
         throw  new ServiceUnavailableException(mensagemErroClientesFeing);
     }
@@ -5,11 +5,22 @@ import com.romanowski.pedro.dto.response.FilmeResponseDTO;
 import com.romanowski.pedro.entity.Reserva;
 import com.romanowski.pedro.entity.Sessao;
 import com.romanowski.pedro.feign.CatalogoFeignClient;
+import com.romanowski.pedro.repository.ReservaRepository;
+import com.romanowski.pedro.repository.SessaoLoteRepository;
 import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.ReservaCancelada;
+import com.romanowski.pedro.service.agenda.AgendaSalas;
+import com.romanowski.pedro.service.agenda.Conflito;
+import com.romanowski.pedro.service.agenda.MotivoConflito;
+import com.romanowski.pedro.service.agenda.Programacao;
+import com.romanowski.pedro.service.agenda.ResultadoProgramacao;
+import com.romanowski.pedro.service.cancelamento.PublicadorReservasCanceladas;
+import com.romanowski.pedro.service.disponibilidade.PainelDisponibilidade;
 import com.romanowski.pedro.service.validation.SessaoValidation;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,10 +28,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.naming.ServiceUnavailableException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed("cinema.servico")
 public class SessaoService {
 
     private static final Logger logger = LoggerFactory.getLogger(SessaoService.class);
@@ -28,18 +42,34 @@ public class SessaoService {
     private final SessaoRepository sessaoRepository;
     private final SessaoValidation sessaoValidation;
     private final CatalogoFeignClient catalogoFeignClient;
+    private final AgendaSalas agendaSalas;
+    private final SessaoLoteRepository sessaoLoteRepository;
+    private final ReservaRepository reservaRepository;
+    private final PublicadorReservasCanceladas publicadorReservasCanceladas;
+    private final PainelDisponibilidade painelDisponibilidade;
 
     @Value("${ms.catalogo.indisponivel}")
     private String mensagemErroCatalogoFeign;
 
-    public SessaoService(SessaoRepository sessaoRepository, SessaoValidation sessaoValidation, CatalogoFeignClient catalogoFeignClient) {
+    @Value("${mensagem.reserva.cancelada.sessao}")
+    private String mensagemReservaCanceladaSessao;
+
+    public SessaoService(SessaoRepository sessaoRepository, SessaoValidation sessaoValidation, CatalogoFeignClient catalogoFeignClient, AgendaSalas agendaSalas,
+                         SessaoLoteRepository sessaoLoteRepository, ReservaRepository reservaRepository,
+                         PublicadorReservasCanceladas publicadorReservasCanceladas, PainelDisponibilidade painelDisponibilidade) {
         this.sessaoRepository = sessaoRepository;
         this.sessaoValidation = sessaoValidation;
         this.catalogoFeignClient = catalogoFeignClient;
+        this.agendaSalas = agendaSalas;
+        this.sessaoLoteRepository = sessaoLoteRepository;
+        this.reservaRepository = reservaRepository;
+        this.publicadorReservasCanceladas = publicadorReservasCanceladas;
+        this.painelDisponibilidade = painelDisponibilidade;
     }
 
 
     @Transactional
+    @Timed("cinema.sessao.criacao")
     @CircuitBreaker(name = "sessaoService", fallbackMethod = "cadastrarSessaoFalback")
     @Retry(name = "sessaoService", fallbackMethod = "cadastrarSessaoFallback")
     @RateLimiter(name = "sessaoService")
@@ -51,7 +81,8 @@ public class SessaoService {
             Optional<FilmeResponseDTO> filme = catalogoFeignClient.obterFilmePorTitulo();
             sessaoValidation.validarFilme(filme);
             sessaoValidation.validarDataHoraSessao(sessao.getDataHoraSessao());
-            sessaoValidation.validarExistenciaSessaoMesmoHorarioESala(sessao);
+            sessao.setDuracaoMinutos(filme.get().duracao());
+            sessaoValidation.validarConflitoHorarioSala(sessao);
             sessao.setReservas(List.of());
             sessao.setIdFilme(filme.get().idFilme());
             sessao.setAtiva(true);
@@ -62,6 +93,46 @@ public class SessaoService {
     }
 
 
+    /**
+     * Gera todas as sessões de uma programação com uma única consulta ao catálogo, confere os horários
+     * na agenda das salas (contra as sessões existentes e entre si) e grava tudo em lote. Com qualquer
+     * conflito nada é gravado; na simulação apenas os conflitos são calculados.
+     */
+    @Transactional
+    @Timed("cinema.sessao.programacao")
+    @RateLimiter(name = "sessaoService")
+    public ResultadoProgramacao programarSessoes(Programacao programacao, boolean simulacao){
+        try {
+            logger.info("Iniciando programação do filme {} nas salas {} de {} a {}", programacao.tituloFilme(), programacao.salas(), programacao.dataInicio(), programacao.dataFim());
+            sessaoValidation.validarProgramacao(programacao);
+            FeignInterceptor.setTitulo(programacao.tituloFilme());
+
+            Optional<FilmeResponseDTO> filme = catalogoFeignClient.obterFilmePorTitulo();
+            sessaoValidation.validarFilme(filme);
+            List<Sessao> sessoes = programacao.sessoes(filme.get().idFilme(), filme.get().duracao());
+
+            LocalDateTime agora = LocalDateTime.now();
+            List<Conflito> conflitos = new ArrayList<>();
+            sessoes.stream()
+                    .filter(sessao -> sessao.getDataHoraSessao().isBefore(agora))
+                    .forEach(sessao -> conflitos.add(new Conflito(sessao, MotivoConflito.DATA_PASSADA)));
+            List<Sessao> futuras = sessoes.stream().filter(sessao -> !sessao.getDataHoraSessao().isBefore(agora)).toList();
+            // Com sessões no passado a programação já não será gravada: a agenda só é consultada
+            conflitos.addAll(agendaSalas.ocuparTodas(futuras, simulacao || !conflitos.isEmpty()));
+
+            ResultadoProgramacao resultado = new ResultadoProgramacao(sessoes, conflitos, simulacao);
+            if (resultado.gravada()) {
+                sessaoLoteRepository.inserirTodas(sessoes);
+                logger.info("Programação do filme {} gravada com {} sessões", programacao.tituloFilme(), sessoes.size());
+            } else {
+                logger.info("Programação do filme {} não gravada: {} sessões, {} conflitos, simulação: {}", programacao.tituloFilme(), sessoes.size(), conflitos.size(), simulacao);
+            }
+            return resultado;
+        } finally {
+            FeignInterceptor.clearTitulo();
+        }
+    }
+
     @Transactional(readOnly = true)
     @RateLimiter(name = "sessaoService")
     public List<Sessao> listarSessoes(){
@@ -78,14 +149,32 @@ public class SessaoService {
         return sessaoRepository.findById(id);
     }
 
+    /**
+     * Cancela a sessão e todas as reservas ativas dela com um UPDATE só. O estorno das reservas pagas
+     * e os emails aos clientes ficam com o ms-gerenciamento-clientes, avisado em lotes após o commit.
+     */
     @Transactional
+    @Timed("cinema.sessao.cancelamento")
     @RateLimiter(name = "sessaoService")
     public void cancelarSessao(Long idSessao){
         logger.info("Canelando sessão de ID: {}", idSessao);
         sessaoValidation.validarSessao(idSessao);
         Sessao sessao = sessaoRepository.findById(idSessao).get();
+        if (Boolean.FALSE.equals(sessao.getAtiva())) {
+            logger.info("Sessão de ID: {} já estava cancelada", idSessao);
+            return;
+        }
         sessao.setAtiva(false);
         sessaoRepository.save(sessao);
+        agendaSalas.liberar(sessao);
+
+        int canceladas = reservaRepository.cancelarReservasDaSessao(idSessao, mensagemReservaCanceladaSessao);
+        if (canceladas > 0) {
+            List<ReservaCancelada> reservas = reservaRepository.buscarCanceladasComSessao(idSessao, mensagemReservaCanceladaSessao);
+            publicadorReservasCanceladas.registrar(sessao, reservas);
+        }
+        painelDisponibilidade.registrarAlteracao(idSessao);
+        logger.info("Sessão de ID: {} cancelada com {} reservas", idSessao, canceladas);
     }
 
     @Transactional
@@ -94,6 +183,7 @@ public class SessaoService {
         Sessao sessao = sessaoRepository.findById(reserva.getSessao().getId()).get();
         sessao.getReservas().add(reserva);
         sessaoRepository.save(sessao);
+        painelDisponibilidade.registrarAlteracao(sessao.getId());
     }
 
     @Transactional
@@ -102,6 +192,7 @@ public class SessaoService {
         Sessao sessao = sessaoRepository.findById(reserva.getSessao().getId()).get();
         sessao.getReservas().remove(reserva);
         sessaoRepository.save(sessao);
+        painelDisponibilidade.registrarAlteracao(sessao.getId());
     }
 
 
@@ -0,0 +1,300 @@
+package com.romanowski.pedro.service.agenda;
+
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.HorarioSessao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Agenda em memória das sessões ativas de cada sala, usada para recusar sessões que se sobrepõem
+ * (duração do filme mais o intervalo de limpeza da sala) sem consultar o banco a cada cadastro.
+ * <p>
+ * Cada sala guarda as ocupações ordenadas pelo início. Uma nova sessão só pode colidir com quem
+ * começa entre {@code inicio - maior ocupação da sala} e o seu fim, então a verificação é uma busca
+ * O(log n) no conjunto ordenado mais as poucas sessões dessa janela.
+ * <p>
+ * O cadastro e o cancelamento só valem na agenda quando a transação é confirmada; a agenda também
+ * é recarregada do banco periodicamente para incluir sessões gravadas por outras instâncias.
+ */
+@Component
+public class AgendaSalas {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgendaSalas.class);
+
+    private static final Comparator<Ocupacao> ORDEM = Comparator
+            .comparing((Ocupacao ocupacao) -> ocupacao.inicio)
+            .thenComparingLong(ocupacao -> ocupacao.sequencia);
+
+    private final Map<Integer, Sala> salas = new ConcurrentHashMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final SessaoRepository sessaoRepository;
+    private final Duration limpeza;
+    private final int duracaoPadraoMinutos;
+
+    public AgendaSalas(SessaoRepository sessaoRepository,
+                       @Value("${sessoes.agenda.limpeza-min:15}") int limpezaMinutos,
+                       @Value("${sessoes.agenda.duracao-padrao-min:240}") int duracaoPadraoMinutos) {
+        this.sessaoRepository = sessaoRepository;
+        this.limpeza = Duration.ofMinutes(limpezaMinutos);
+        this.duracaoPadraoMinutos = duracaoPadraoMinutos;
+    }
+
+    /**
+     * Reserva o horário da sessão na sala, se ele estiver livre. Dentro de uma transação o horário
+     * fica reservado até o fim dela e é liberado em caso de rollback.
+     *
+     * @return {@code false} se a sessão se sobrepõe a outra sessão ativa da mesma sala
+     */
+    public boolean ocupar(Sessao sessao) {
+        Sala sala = salas.computeIfAbsent(sessao.getSala(), numero -> new Sala());
+        Ocupacao nova = ocupacao(sessao.getId(), sessao.getDataHoraSessao(), sessao.getDuracaoMinutos());
+        synchronized (sala) {
+            if (sala.conflitante(nova.inicio, nova.fim) != null) {
+                return false;
+            }
+            sala.adicionar(nova);
+        }
+        aoConcluirTransacao(confirmada -> {
+            if (confirmada) {
+                nova.confirmar(sessao.getId());
+            } else {
+                synchronized (sala) {
+                    sala.ocupacoes.remove(nova);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Verifica um conjunto de sessões novas contra a agenda e entre si, sala por sala. Se nenhuma
+     * conflitar, todas ficam reservadas como em {@link #ocupar(Sessao)}; se alguma conflitar, nenhuma
+     * fica. Na simulação os horários nunca são reservados.
+     *
+     * @return os conflitos encontrados, vazio se as sessões cabem na agenda
+     */
+    public List<Conflito> ocuparTodas(List<Sessao> sessoes, boolean simulacao) {
+        Object lote = new Object();
+        Map<Integer, List<Sessao>> porSala = sessoes.stream()
+                .collect(Collectors.groupingBy(Sessao::getSala, TreeMap::new, Collectors.toList()));
+        List<Conflito> conflitos = new ArrayList<>();
+        Map<Sala, Map<Ocupacao, Sessao>> reservadas = new LinkedHashMap<>();
+
+        porSala.forEach((numero, sessoesSala) -> {
+            Sala sala = salas.computeIfAbsent(numero, n -> new Sala());
+            Map<Ocupacao, Sessao> novas = new LinkedHashMap<>();
+            synchronized (sala) {
+                for (Sessao sessao : sessoesSala) {
+                    Ocupacao nova = ocupacao(sessao.getId(), sessao.getDataHoraSessao(), sessao.getDuracaoMinutos());
+                    nova.lote = lote;
+                    Ocupacao existente = sala.conflitante(nova.inicio, nova.fim);
+                    if (existente != null) {
+                        conflitos.add(new Conflito(sessao, existente.lote == lote
+                                ? MotivoConflito.MESMA_PROGRAMACAO : MotivoConflito.SESSAO_EXISTENTE));
+                    } else {
+                        sala.adicionar(nova);
+                        novas.put(nova, sessao);
+                    }
+                }
+                if (simulacao) {
+                    sala.ocupacoes.removeAll(novas.keySet());
+                }
+            }
+            reservadas.put(sala, novas);
+        });
+
+        if (simulacao) {
+            return conflitos;
+        }
+        if (!conflitos.isEmpty()) {
+            reservadas.forEach((sala, novas) -> {
+                synchronized (sala) {
+                    sala.ocupacoes.removeAll(novas.keySet());
+                }
+            });
+            return conflitos;
+        }
+        aoConcluirTransacao(confirmada -> reservadas.forEach((sala, novas) -> {
+            if (confirmada) {
+                novas.forEach((ocupacao, sessao) -> ocupacao.confirmar(sessao.getId()));
+            } else {
+                synchronized (sala) {
+                    sala.ocupacoes.removeAll(novas.keySet());
+                }
+            }
+        }));
+        return conflitos;
+    }
+
+    public boolean disponivel(Integer numeroSala, LocalDateTime inicio, Integer duracaoMinutos) {
+        Sala sala = salas.get(numeroSala);
+        if (sala == null) {
+            return true;
+        }
+        Ocupacao ocupacao = ocupacao(null, inicio, duracaoMinutos);
+        synchronized (sala) {
+            return sala.conflitante(ocupacao.inicio, ocupacao.fim) == null;
+        }
+    }
+
+    /**
+     * Libera o horário de uma sessão cancelada quando a transação do cancelamento for confirmada.
+     */
+    public void liberar(Sessao sessao) {
+        aoConcluirTransacao(confirmada -> {
+            Sala sala = salas.get(sessao.getSala());
+            if (!confirmada || sala == null) {
+                return;
+            }
+            synchronized (sala) {
+                sala.remover(sessao.getId(), sessao.getDataHoraSessao());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        recarregar();
+    }
+
+    /**
+     * Refaz a agenda a partir do banco. Horários reservados por transações ainda abertas ou
+     * confirmados depois do início da leitura são mantidos, já que podem não ter entrado na consulta.
+     */
+    @Scheduled(initialDelayString = "${sessoes.agenda.recarga-ms:300000}", fixedDelayString = "${sessoes.agenda.recarga-ms:300000}")
+    public void recarregar() {
+        long inicioLeitura = System.nanoTime();
+        // Nenhum filme passa de um dia: sessões que começaram antes disso não ocupam mais a sala
+        List<HorarioSessao> horarios = sessaoRepository.buscarHorariosAtivos(LocalDateTime.now().minusDays(1));
+        Map<Integer, List<Ocupacao>> porSala = horarios.stream()
+                .collect(Collectors.groupingBy(HorarioSessao::sala, Collectors.mapping(
+                        horario -> ocupacao(horario.id(), horario.dataHoraSessao(), horario.duracaoMinutos()),
+                        Collectors.toList())));
+        Set<Long> idsCarregados = horarios.stream().map(HorarioSessao::id).collect(Collectors.toSet());
+
+        porSala.keySet().forEach(numero -> salas.computeIfAbsent(numero, n -> new Sala()));
+        salas.forEach((numero, sala) -> {
+            List<Ocupacao> ocupacoes = new ArrayList<>(porSala.getOrDefault(numero, List.of()));
+            synchronized (sala) {
+                sala.ocupacoes.stream()
+                        .filter(ocupacao -> ocupacao.pendente
+                                || (ocupacao.confirmadaLocalmente && ocupacao.confirmadaEm - inicioLeitura >= 0))
+                        .filter(ocupacao -> !idsCarregados.contains(ocupacao.idSessao))
+                        .forEach(ocupacoes::add);
+                sala.substituir(ocupacoes);
+            }
+        });
+        logger.info("Agenda das salas carregada com {} sessões em {} ms", horarios.size(), (System.nanoTime() - inicioLeitura) / 1_000_000);
+    }
+
+    private Ocupacao ocupacao(Long idSessao, LocalDateTime inicio, Integer duracaoMinutos) {
+        int duracao = duracaoMinutos != null ? duracaoMinutos : duracaoPadraoMinutos;
+        return new Ocupacao(idSessao, inicio, inicio.plusMinutes(duracao).plus(limpeza), sequencia.incrementAndGet());
+    }
+
+    private static void aoConcluirTransacao(Consumer<Boolean> acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                acao.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static final class Ocupacao {
+
+        private final LocalDateTime inicio;
+        private final LocalDateTime fim;
+        private final long sequencia;
+        private volatile Long idSessao;
+        private volatile boolean pendente;
+        private volatile boolean confirmadaLocalmente;
+        private volatile long confirmadaEm;
+        // Identifica as ocupações de uma mesma programação, para distinguir conflitos entre elas
+        private Object lote;
+
+        private Ocupacao(Long idSessao, LocalDateTime inicio, LocalDateTime fim, long sequencia) {
+            this.idSessao = idSessao;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.sequencia = sequencia;
+        }
+
+        private static Ocupacao limite(LocalDateTime instante, long sequencia) {
+            return new Ocupacao(null, instante, instante, sequencia);
+        }
+
+        private void confirmar(Long id) {
+            idSessao = id;
+            confirmadaEm = System.nanoTime();
+            confirmadaLocalmente = true;
+            pendente = false;
+        }
+    }
+
+    private static final class Sala {
+
+        private final NavigableSet<Ocupacao> ocupacoes = new TreeSet<>(ORDEM);
+        private Duration maiorOcupacao = Duration.ZERO;
+
+        private Ocupacao conflitante(LocalDateTime inicio, LocalDateTime fim) {
+            NavigableSet<Ocupacao> candidatas = ocupacoes.subSet(
+                    Ocupacao.limite(inicio.minus(maiorOcupacao), Long.MIN_VALUE), true,
+                    Ocupacao.limite(fim, Long.MIN_VALUE), false);
+            for (Ocupacao ocupacao : candidatas) {
+                if (ocupacao.fim.isAfter(inicio)) {
+                    return ocupacao;
+                }
+            }
+            return null;
+        }
+
+        private void adicionar(Ocupacao ocupacao) {
+            ocupacao.pendente = ocupacao.idSessao == null;
+            ocupacoes.add(ocupacao);
+            Duration duracao = Duration.between(ocupacao.inicio, ocupacao.fim);
+            if (duracao.compareTo(maiorOcupacao) > 0) {
+                maiorOcupacao = duracao;
+            }
+        }
+
+        private void remover(Long idSessao, LocalDateTime inicio) {
+            ocupacoes.subSet(Ocupacao.limite(inicio, Long.MIN_VALUE), true, Ocupacao.limite(inicio, Long.MAX_VALUE), true)
+                    .removeIf(ocupacao -> idSessao.equals(ocupacao.idSessao));
+        }
+
+        private void substituir(List<Ocupacao> novas) {
+            ocupacoes.clear();
+            maiorOcupacao = Duration.ZERO;
+            novas.forEach(this::adicionar);
+        }
+    }
+}
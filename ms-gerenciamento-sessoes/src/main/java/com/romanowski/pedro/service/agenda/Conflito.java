@@ -0,0 +1,6 @@
+package com.romanowski.pedro.service.agenda;
+
+import com.romanowski.pedro.entity.Sessao;
+
+public record Conflito(Sessao sessao, MotivoConflito motivo) {
+}
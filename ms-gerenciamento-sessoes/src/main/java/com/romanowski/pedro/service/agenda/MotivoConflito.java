@@ -0,0 +1,7 @@
+package com.romanowski.pedro.service.agenda;
+
+public enum MotivoConflito {
+    SESSAO_EXISTENTE,
+    MESMA_PROGRAMACAO,
+    DATA_PASSADA
+}
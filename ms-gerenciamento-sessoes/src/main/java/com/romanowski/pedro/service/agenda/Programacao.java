@@ -0,0 +1,49 @@
+package com.romanowski.pedro.service.agenda;
+
+import com.romanowski.pedro.entity.Sessao;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Programação de um filme: uma sessão em cada sala, em cada horário, em cada dia do período (inclusive).
+ */
+public record Programacao(
+        String tituloFilme,
+        List<Integer> salas,
+        LocalDate dataInicio,
+        LocalDate dataFim,
+        List<LocalTime> horarios,
+        Double preco
+) {
+
+    public long quantidadeSessoes() {
+        long dias = dataInicio.datesUntil(dataFim.plusDays(1)).count();
+        return dias * salas.stream().distinct().count() * horarios.stream().distinct().count();
+    }
+
+    public List<Sessao> sessoes(Long idFilme, Integer duracaoMinutos) {
+        List<Integer> salasOrdenadas = salas.stream().distinct().sorted().toList();
+        List<LocalTime> horariosOrdenados = horarios.stream().distinct().sorted().toList();
+        List<Sessao> sessoes = new ArrayList<>();
+        dataInicio.datesUntil(dataFim.plusDays(1)).forEach(dia -> {
+            for (LocalTime horario : horariosOrdenados) {
+                for (Integer sala : salasOrdenadas) {
+                    sessoes.add(Sessao.builder()
+                            .idFilme(idFilme)
+                            .tituloFilme(tituloFilme)
+                            .sala(sala)
+                            .preco(preco)
+                            .dataHoraSessao(dia.atTime(horario))
+                            .duracaoMinutos(duracaoMinutos)
+                            .ativa(true)
+                            .reservas(List.of())
+                            .build());
+                }
+            }
+        });
+        return sessoes;
+    }
+}
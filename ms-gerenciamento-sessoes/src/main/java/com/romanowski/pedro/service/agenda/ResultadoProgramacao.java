@@ -0,0 +1,16 @@
+package com.romanowski.pedro.service.agenda;
+
+import com.romanowski.pedro.entity.Sessao;
+
+import java.util.List;
+
+/**
+ * Sessões de uma programação e os conflitos encontrados. As sessões só foram gravadas se não for
+ * uma simulação e não houver conflitos.
+ */
+public record ResultadoProgramacao(List<Sessao> sessoes, List<Conflito> conflitos, boolean simulacao) {
+
+    public boolean gravada() {
+        return !simulacao && conflitos.isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.romanowski.pedro.service.arquivo;
+
+import com.romanowski.pedro.repository.ArquivoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Move para as tabelas de arquivo as sessões que começaram há mais de {@code sessoes.arquivamento.retencao-dias},
+ * junto com as reservas delas. Cada lote de {@code sessoes.arquivamento.lote} sessões é uma transação curta,
+ * com uma pausa entre lotes e um limite de lotes por execução, para não disputar o banco com as reservas.
+ */
+@Component
+public class ArquivamentoSessoes {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArquivamentoSessoes.class);
+
+    private final ArquivoRepository arquivoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter sessoesArquivadas;
+    private final Counter reservasArquivadas;
+    private final boolean habilitado;
+    private final int retencaoDias;
+    private final int tamanhoLote;
+    private final int maximoLotes;
+    private final long pausaMillis;
+
+    public ArquivamentoSessoes(ArquivoRepository arquivoRepository, TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${sessoes.arquivamento.habilitado:true}") boolean habilitado,
+                               @Value("${sessoes.arquivamento.retencao-dias:30}") int retencaoDias,
+                               @Value("${sessoes.arquivamento.lote:100}") int tamanhoLote,
+                               @Value("${sessoes.arquivamento.maximo-lotes:50}") int maximoLotes,
+                               @Value("${sessoes.arquivamento.pausa-ms:200}") long pausaMillis) {
+        this.arquivoRepository = arquivoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sessoesArquivadas = Counter.builder("cinema.sessao.arquivadas")
+                .description("Sessões movidas para a tabela de arquivo")
+                .register(meterRegistry);
+        this.reservasArquivadas = Counter.builder("cinema.reserva.arquivadas")
+                .description("Reservas movidas para a tabela de arquivo")
+                .register(meterRegistry);
+        this.habilitado = habilitado;
+        this.retencaoDias = retencaoDias;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoLotes = maximoLotes;
+        this.pausaMillis = pausaMillis;
+    }
+
+    @Scheduled(initialDelayString = "${sessoes.arquivamento.intervalo-ms:3600000}", fixedDelayString = "${sessoes.arquivamento.intervalo-ms:3600000}")
+    public void agendar() {
+        if (habilitado) {
+            arquivar();
+        }
+    }
+
+    /**
+     * Arquiva lotes até não sobrar sessão vencida ou até atingir o limite de lotes desta execução.
+     *
+     * @return quantidade de sessões arquivadas
+     */
+    public int arquivar() {
+        LocalDateTime limite = LocalDateTime.now().minusDays(retencaoDias);
+        long inicio = System.nanoTime();
+        int total = 0;
+        for (int lote = 0; lote < maximoLotes; lote++) {
+            Integer arquivadas = transactionTemplate.execute(status -> arquivarLote(limite));
+            total += arquivadas;
+            if (arquivadas < tamanhoLote || !pausar()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("{} sessões anteriores a {} arquivadas em {} ms", total, limite, (System.nanoTime() - inicio) / 1_000_000);
+        }
+        return total;
+    }
+
+    private int arquivarLote(LocalDateTime limite) {
+        List<Long> ids = arquivoRepository.travarSessoesParaArquivar(limite, tamanhoLote);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int reservas = arquivoRepository.arquivar(ids, LocalDateTime.now());
+        sessoesArquivadas.increment(ids.size());
+        reservasArquivadas.increment(reservas);
+        return ids.size();
+    }
+
+    private boolean pausar() {
+        try {
+            Thread.sleep(pausaMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
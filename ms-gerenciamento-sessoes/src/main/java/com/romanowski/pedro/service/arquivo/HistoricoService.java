@@ -0,0 +1,45 @@
+package com.romanowski.pedro.service.arquivo;
+
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.repository.ArquivoRepository;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consultas do histórico: sessões e reservas que já foram movidas para as tabelas de arquivo.
+ */
+@Service
+@Timed("cinema.servico")
+public class HistoricoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoricoService.class);
+
+    private final ArquivoRepository arquivoRepository;
+
+    public HistoricoService(ArquivoRepository arquivoRepository) {
+        this.arquivoRepository = arquivoRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @RateLimiter(name = "reservaService")
+    public List<ReservaDetalhe> listarReservasArquivadas(UUID idCliente){
+        logger.info("Buscando histórico de reservas do cliente de ID: {}", idCliente);
+        return arquivoRepository.buscarReservasArquivadas(idCliente);
+    }
+
+    @Transactional(readOnly = true)
+    @RateLimiter(name = "sessaoService")
+    public List<Sessao> listarSessoesArquivadas(LocalDate dataInicio, LocalDate dataFim){
+        logger.info("Buscando histórico de sessões de {} a {}", dataInicio, dataFim);
+        return arquivoRepository.buscarSessoesArquivadas(dataInicio.atStartOfDay(), dataFim.plusDays(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,58 @@
+package com.romanowski.pedro.service.cache;
+
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.feign.ClienteFeignClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache por id dos clientes consultados no ms-gerenciamento-clientes, usado nos caminhos em que só
+ * é preciso saber se o cliente existe (e o seu email). Apenas clientes encontrados são guardados: o
+ * cadastro chega de forma assíncrona e um cliente ainda inexistente pode passar a existir a seguir.
+ */
+@Component
+public class CacheClientes {
+
+    private record Entrada(ClienteResponseDTO cliente, long expiraEm) {
+    }
+
+    private final Map<UUID, Entrada> entradas = new ConcurrentHashMap<>();
+    private final ClienteFeignClient clienteFeignClient;
+    private final long ttlMillis;
+    private final int tamanhoMaximo;
+
+    public CacheClientes(ClienteFeignClient clienteFeignClient,
+                         @Value("${clientes.cache.ttl-ms:60000}") long ttlMillis,
+                         @Value("${clientes.cache.tamanho:10000}") int tamanhoMaximo) {
+        this.clienteFeignClient = clienteFeignClient;
+        this.ttlMillis = ttlMillis;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public Optional<ClienteResponseDTO> buscarPorId(UUID id) {
+        long agora = System.currentTimeMillis();
+        Entrada entrada = entradas.get(id);
+        if (entrada != null && entrada.expiraEm() >= agora) {
+            return Optional.of(entrada.cliente());
+        }
+
+        Optional<ClienteResponseDTO> cliente = clienteFeignClient.obterClientePorId(id);
+        cliente.ifPresentOrElse(encontrado -> armazenar(id, encontrado, agora), () -> entradas.remove(id));
+        return cliente;
+    }
+
+    private void armazenar(UUID id, ClienteResponseDTO cliente, long agora) {
+        if (entradas.size() >= tamanhoMaximo && !entradas.containsKey(id)) {
+            entradas.entrySet().removeIf(entrada -> entrada.getValue().expiraEm() < agora);
+            if (entradas.size() >= tamanhoMaximo) {
+                return;
+            }
+        }
+        entradas.put(id, new Entrada(cliente, agora + ttlMillis));
+    }
+}
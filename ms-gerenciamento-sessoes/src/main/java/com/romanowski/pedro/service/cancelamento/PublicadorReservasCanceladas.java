@@ -0,0 +1,71 @@
+package com.romanowski.pedro.service.cancelamento;
+
+import com.romanowski.pedro.dto.request.ReservaCanceladaRequestDTO;
+import com.romanowski.pedro.dto.request.ReservasCanceladasRequestDTO;
+import com.romanowski.pedro.entity.EventoOutbox;
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.repository.EventoOutboxRepository;
+import com.romanowski.pedro.repository.projection.ReservaCancelada;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Envia as reservas canceladas junto com uma sessão ao ms-gerenciamento-clientes, que faz o estorno
+ * das pagas e avisa os clientes por email. As reservas vão em lotes de {@code sessoes.cancelamento.lote}
+ * por mensagem, gravados no outbox na mesma transação do cancelamento: se o RabbitMQ estiver fora, os
+ * lotes esperam no banco e o {@link com.romanowski.pedro.service.outbox.PublicadorOutbox} os envia depois.
+ */
+@Component
+public class PublicadorReservasCanceladas {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicadorReservasCanceladas.class);
+
+    public static final String RESERVAS_CANCELADAS = "reservas.canceladas";
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final JsonMapper jsonMapper;
+    private final int tamanhoLote;
+
+    public PublicadorReservasCanceladas(EventoOutboxRepository eventoOutboxRepository, JsonMapper jsonMapper,
+                                        @Value("${sessoes.cancelamento.lote:500}") int tamanhoLote) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.jsonMapper = jsonMapper;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Sessao sessao, List<ReservaCancelada> reservas) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<EventoOutbox> eventos = montarLotes(sessao, reservas).stream()
+                .map(lote -> EventoOutbox.builder()
+                        .tipo(RESERVAS_CANCELADAS)
+                        .idAgregado(sessao.getId())
+                        .payload(jsonMapper.writeValueAsString(lote))
+                        .criadoEm(agora)
+                        .build())
+                .toList();
+        eventoOutboxRepository.saveAll(eventos);
+        logger.info("{} lotes de reservas canceladas registrados no outbox para a sessão de ID: {}", eventos.size(), sessao.getId());
+    }
+
+    List<ReservasCanceladasRequestDTO> montarLotes(Sessao sessao, List<ReservaCancelada> reservas) {
+        List<ReservasCanceladasRequestDTO> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < reservas.size(); inicio += tamanhoLote) {
+            List<ReservaCanceladaRequestDTO> lote = reservas.subList(inicio, Math.min(reservas.size(), inicio + tamanhoLote)).stream()
+                    .map(reserva -> new ReservaCanceladaRequestDTO(reserva.id(), reserva.idCliente(), reserva.pagamentoConfirmado()))
+                    .toList();
+            lotes.add(new ReservasCanceladasRequestDTO(sessao.getId(), sessao.getTituloFilme(), sessao.getSala(),
+                    sessao.getDataHoraSessao(), sessao.getPreco(), lote));
+        }
+        return lotes;
+    }
+}
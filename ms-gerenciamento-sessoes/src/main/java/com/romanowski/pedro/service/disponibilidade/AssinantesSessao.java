@@ -0,0 +1,136 @@
+package com.romanowski.pedro.service.disponibilidade;
+
+import com.romanowski.pedro.dto.response.DisponibilidadeResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Conexões abertas para a disponibilidade de uma sessão e o último estado enviado a elas.
+ * Cada evento é montado uma vez e o mesmo conteúdo já serializado vai para todas as conexões.
+ * <p>
+ * Os envios rodam no executor recebido, com no máximo um envio da sessão em andamento: um evento que chega
+ * enquanto o anterior ainda está sendo enviado substitui o pendente, e só o mais recente sai.
+ */
+class AssinantesSessao {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssinantesSessao.class);
+
+    private final Long idSessao;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Set<ResponseBodyEmitter.DataWithMediaType>> pendente = new AtomicReference<>();
+    private final AtomicBoolean enviando = new AtomicBoolean();
+    private volatile DisponibilidadeResponseDTO ultima;
+    private volatile boolean encerrada;
+
+    AssinantesSessao(Long idSessao) {
+        this.idSessao = idSessao;
+    }
+
+    Long getIdSessao() {
+        return idSessao;
+    }
+
+    DisponibilidadeResponseDTO getUltima() {
+        return ultima;
+    }
+
+    void setUltima(DisponibilidadeResponseDTO ultima) {
+        this.ultima = ultima;
+    }
+
+    void adicionar(SseEmitter emitter) {
+        emitters.add(emitter);
+    }
+
+    boolean remover(SseEmitter emitter) {
+        return emitters.remove(emitter);
+    }
+
+    boolean isVazia() {
+        return emitters.isEmpty();
+    }
+
+    int tamanho() {
+        return emitters.size();
+    }
+
+    Set<SseEmitter> getEmitters() {
+        return emitters;
+    }
+
+    /**
+     * Agenda o evento para todas as conexões; as que falharem (cliente desconectado) são entregues a {@code aoFalhar}.
+     */
+    void agendar(Set<ResponseBodyEmitter.DataWithMediaType> evento, Executor executor, Consumer<SseEmitter> aoFalhar) {
+        pendente.set(evento);
+        drenar(executor, aoFalhar);
+    }
+
+    /**
+     * Agenda o último evento da sessão: depois de enviado, as conexões são encerradas.
+     */
+    void agendarUltimo(Set<ResponseBodyEmitter.DataWithMediaType> evento, Executor executor, Consumer<SseEmitter> aoFalhar) {
+        encerrada = true;
+        agendar(evento, executor, aoFalhar);
+    }
+
+    /**
+     * Agenda o heartbeat apenas se não houver evento pendente, que já mantém a conexão viva.
+     */
+    void agendarHeartbeat(Set<ResponseBodyEmitter.DataWithMediaType> heartbeat, Executor executor, Consumer<SseEmitter> aoFalhar) {
+        pendente.compareAndSet(null, heartbeat);
+        drenar(executor, aoFalhar);
+    }
+
+    private void drenar(Executor executor, Consumer<SseEmitter> aoFalhar) {
+        if (!enviando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> enviarPendentes(executor, aoFalhar));
+        } catch (RejectedExecutionException e) {
+            // O evento continua pendente e sai com o próximo agendamento da sessão
+            enviando.set(false);
+            logger.warn("Envio de disponibilidade da sessão de ID: {} recusado pelo executor", idSessao);
+        }
+    }
+
+    private void enviarPendentes(Executor executor, Consumer<SseEmitter> aoFalhar) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> evento;
+            while ((evento = pendente.getAndSet(null)) != null) {
+                for (SseEmitter emitter : emitters) {
+                    enviar(emitter, evento, aoFalhar);
+                }
+            }
+            if (encerrada) {
+                emitters.forEach(SseEmitter::complete);
+            }
+        } finally {
+            enviando.set(false);
+        }
+        // Evento agendado entre o fim do laço e a liberação: ninguém mais o enviaria
+        if (pendente.get() != null) {
+            drenar(executor, aoFalhar);
+        }
+    }
+
+    static void enviar(SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> evento, Consumer<SseEmitter> aoFalhar) {
+        try {
+            emitter.send(evento);
+        } catch (IOException | IllegalStateException e) {
+            aoFalhar.accept(emitter);
+        }
+    }
+}
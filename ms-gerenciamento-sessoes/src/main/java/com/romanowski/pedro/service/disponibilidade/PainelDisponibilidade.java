@@ -0,0 +1,243 @@
+package com.romanowski.pedro.service.disponibilidade;
+
+import com.romanowski.pedro.config.AsyncConfiguration;
+import com.romanowski.pedro.dto.response.DisponibilidadeResponseDTO;
+import com.romanowski.pedro.exceptions.AssinaturasEsgotadasException;
+import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.OcupacaoSessao;
+import com.romanowski.pedro.service.validation.SessaoValidation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Disponibilidade de lugares em tempo real por Server-Sent Events, no lugar de consultas repetidas a
+ * {@code /v1/sessoes/{id}} durante as vendas concorridas.
+ * <p>
+ * Reservas criadas ou canceladas apenas marcam a sessão como alterada depois do commit. A cada
+ * {@code sessoes.disponibilidade.intervalo-ms} as sessões marcadas que têm assinantes são lidas em uma
+ * única consulta agrupada e cada mudança vira um evento, serializado uma vez e enviado a todos os
+ * assinantes da sessão: uma rajada de reservas resulta em no máximo um evento por intervalo. Os envios saem
+ * no executor de disponibilidade, nunca no agendador, então uma conexão lenta atrasa apenas a própria sessão.
+ * <p>
+ * As conexões são assíncronas e não prendem threads do servidor. Alterações feitas por outra instância
+ * do serviço aparecem na recarga periódica ({@code sessoes.disponibilidade.recarga-ms}), que relê todas
+ * as sessões assinadas e só envia o que mudou.
+ */
+@Service
+public class PainelDisponibilidade {
+
+    private static final Logger logger = LoggerFactory.getLogger(PainelDisponibilidade.class);
+
+    static final String EVENTO = "disponibilidade";
+    private static final int SESSOES_POR_CONSULTA = 500;
+
+    private final Map<Long, AssinantesSessao> assinaturas = new ConcurrentHashMap<>();
+    private final Set<Long> alteradas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalAssinantes = new AtomicInteger();
+    private final SessaoRepository sessaoRepository;
+    private final SessaoValidation sessaoValidation;
+    private final JsonMapper jsonMapper;
+    private final Executor executorEnvio;
+    private final int capacidadePadrao;
+    private final int maximoAssinantes;
+    private final long timeoutMillis;
+    private final long recargaMillis;
+    private final long heartbeatMillis;
+    private volatile long ultimaRecarga;
+    private volatile long ultimoHeartbeat;
+
+    @Value("${mensagem.sessao.disponibilidade.esgotada}")
+    private String mensagemAssinaturasEsgotadas;
+
+    public PainelDisponibilidade(SessaoRepository sessaoRepository, SessaoValidation sessaoValidation,
+                                 JsonMapper jsonMapper, MeterRegistry meterRegistry,
+                                 @Qualifier(AsyncConfiguration.EXECUTOR_DISPONIBILIDADE) Executor executorEnvio,
+                                 @Value("${sessoes.disponibilidade.capacidade-padrao:100}") int capacidadePadrao,
+                                 @Value("${sessoes.disponibilidade.maximo-assinantes:50000}") int maximoAssinantes,
+                                 @Value("${sessoes.disponibilidade.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${sessoes.disponibilidade.recarga-ms:15000}") long recargaMillis,
+                                 @Value("${sessoes.disponibilidade.heartbeat-ms:30000}") long heartbeatMillis) {
+        this.sessaoRepository = sessaoRepository;
+        this.sessaoValidation = sessaoValidation;
+        this.jsonMapper = jsonMapper;
+        this.executorEnvio = executorEnvio;
+        this.capacidadePadrao = capacidadePadrao;
+        this.maximoAssinantes = maximoAssinantes;
+        this.timeoutMillis = timeoutMillis;
+        this.recargaMillis = recargaMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        Gauge.builder("cinema.sessao.disponibilidade.assinantes", totalAssinantes, AtomicInteger::get)
+                .description("Conexões abertas acompanhando a disponibilidade de sessões")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter assinar(Long idSessao) {
+        sessaoValidation.validarSessao(idSessao);
+        if (totalAssinantes.incrementAndGet() > maximoAssinantes) {
+            totalAssinantes.decrementAndGet();
+            logger.warn("Limite de {} assinantes de disponibilidade atingido", maximoAssinantes);
+            throw new AssinaturasEsgotadasException(mensagemAssinaturasEsgotadas);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AssinantesSessao assinantes = assinaturas.compute(idSessao, (id, atual) -> {
+            AssinantesSessao sessao = atual != null ? atual : new AssinantesSessao(id);
+            sessao.adicionar(emitter);
+            return sessao;
+        });
+        emitter.onCompletion(() -> remover(idSessao, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(erro -> remover(idSessao, emitter));
+
+        DisponibilidadeResponseDTO ultima = assinantes.getUltima();
+        if (ultima != null) {
+            AssinantesSessao.enviar(emitter, evento(ultima), falhou -> remover(idSessao, falhou));
+        } else {
+            // Primeiro assinante: o estado inicial sai no próximo ciclo, junto com os demais
+            alteradas.add(idSessao);
+        }
+        return emitter;
+    }
+
+    /**
+     * Marca a sessão para o próximo ciclo de envio. Dentro de uma transação, só depois do commit,
+     * para o ciclo não ler o estado anterior à alteração.
+     */
+    public void registrarAlteracao(Long idSessao) {
+        if (!assinaturas.containsKey(idSessao)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            alteradas.add(idSessao);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                alteradas.add(idSessao);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${sessoes.disponibilidade.intervalo-ms:1000}")
+    public void publicar() {
+        if (assinaturas.isEmpty()) {
+            alteradas.clear();
+            return;
+        }
+        long agora = System.currentTimeMillis();
+        Set<Long> ids = new HashSet<>();
+        if (agora - ultimaRecarga >= recargaMillis) {
+            ids.addAll(assinaturas.keySet());
+            ultimaRecarga = agora;
+        }
+        for (Iterator<Long> iterator = alteradas.iterator(); iterator.hasNext(); ) {
+            Long idSessao = iterator.next();
+            iterator.remove();
+            if (assinaturas.containsKey(idSessao)) {
+                ids.add(idSessao);
+            }
+        }
+        if (!ids.isEmpty()) {
+            atualizar(new ArrayList<>(ids));
+        }
+        if (agora - ultimoHeartbeat >= heartbeatMillis) {
+            // Comentário SSE: mantém proxies com a conexão aberta e descobre clientes que já saíram
+            Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("").build();
+            assinaturas.values().forEach(assinantes ->
+                    assinantes.agendarHeartbeat(heartbeat, executorEnvio, falhou -> remover(assinantes.getIdSessao(), falhou)));
+            ultimoHeartbeat = agora;
+        }
+    }
+
+    public int getTotalAssinantes() {
+        return totalAssinantes.get();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        assinaturas.values().forEach(assinantes -> assinantes.getEmitters().forEach(SseEmitter::complete));
+    }
+
+    private void atualizar(List<Long> ids) {
+        for (int inicio = 0; inicio < ids.size(); inicio += SESSOES_POR_CONSULTA) {
+            List<Long> lote = ids.subList(inicio, Math.min(ids.size(), inicio + SESSOES_POR_CONSULTA));
+            Set<Long> encontradas = new HashSet<>();
+            for (OcupacaoSessao ocupacao : sessaoRepository.buscarOcupacao(lote)) {
+                encontradas.add(ocupacao.idSessao());
+                AssinantesSessao assinantes = assinaturas.get(ocupacao.idSessao());
+                if (assinantes != null) {
+                    publicar(assinantes, disponibilidade(ocupacao));
+                }
+            }
+            // Sessões que não existem mais (arquivadas): não há o que acompanhar
+            lote.stream().filter(id -> !encontradas.contains(id)).forEach(this::encerrarSessao);
+        }
+    }
+
+    private void publicar(AssinantesSessao assinantes, DisponibilidadeResponseDTO disponibilidade) {
+        if (disponibilidade.equals(assinantes.getUltima())) {
+            return;
+        }
+        assinantes.setUltima(disponibilidade);
+        Consumer<SseEmitter> aoFalhar = falhou -> remover(assinantes.getIdSessao(), falhou);
+        if (disponibilidade.ativa()) {
+            assinantes.agendar(evento(disponibilidade), executorEnvio, aoFalhar);
+        } else {
+            // Sessão cancelada: o último evento já informa, as conexões são encerradas depois dele
+            assinantes.agendarUltimo(evento(disponibilidade), executorEnvio, aoFalhar);
+        }
+    }
+
+    DisponibilidadeResponseDTO disponibilidade(OcupacaoSessao ocupacao) {
+        int capacidade = ocupacao.capacidade() != null ? ocupacao.capacidade() : capacidadePadrao;
+        boolean ativa = Boolean.TRUE.equals(ocupacao.ativa());
+        long disponiveis = ativa ? Math.max(0, capacidade - ocupacao.reservadas()) : 0;
+        return new DisponibilidadeResponseDTO(ocupacao.idSessao(), capacidade, ocupacao.reservadas(), disponiveis, ativa);
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> evento(DisponibilidadeResponseDTO disponibilidade) {
+        return SseEmitter.event()
+                .name(EVENTO)
+                .data(jsonMapper.writeValueAsString(disponibilidade))
+                .build();
+    }
+
+    private void encerrarSessao(Long idSessao) {
+        AssinantesSessao assinantes = assinaturas.get(idSessao);
+        if (assinantes != null) {
+            assinantes.getEmitters().forEach(SseEmitter::complete);
+        }
+    }
+
+    private void remover(Long idSessao, SseEmitter emitter) {
+        assinaturas.computeIfPresent(idSessao, (id, assinantes) -> {
+            if (assinantes.remover(emitter)) {
+                totalAssinantes.decrementAndGet();
+            }
+            return assinantes.isVazia() ? null : assinantes;
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.romanowski.pedro.service.email;
 
+import com.romanowski.pedro.config.AsyncConfiguration;
 import com.romanowski.pedro.service.email.exceptions.EmailException;
 import com.romanowski.pedro.utils.Constantes;
 import jakarta.annotation.PostConstruct;
@@ -26,7 +27,7 @@ public class EmailService {
         System.out.println("Mail sender: " + mailSender);
     }
 
-    @Async
+    @Async(AsyncConfiguration.EXECUTOR_EMAIL)
     public void enviarEmail(String emailUsuario, String assunto, String conteudo) {
         String emailDoUsuario = emailUsuario.trim();
         String emailOrigem = Constantes.EMAIL_ORIGEM.trim();
@@ -0,0 +1,203 @@
+package com.romanowski.pedro.service.salaespera;
+
+import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.exceptions.BusinessException;
+import com.romanowski.pedro.exceptions.SessaoLotadaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Fila de chegada de uma sessão quente com um único escritor. Os pedidos recebem uma senha em ordem
+ * de chegada e uma thread própria da sessão os grava em lotes de até {@code tamanhoLote}, cada lote
+ * em uma transação: as requisições não disputam mais a linha da sessão entre si e a vazão passa a
+ * depender do tempo de commit de um lote.
+ */
+class FilaSessao {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilaSessao.class);
+
+    private static final double PESO_VAZAO = 0.2;
+    private static final long ESPERA_POLL_MILLIS = 200;
+
+    private final Long idSessao;
+    private final GravadorLoteReservas gravador;
+    private final int tamanhoLote;
+    private final int capacidade;
+    private final long retencaoMillis;
+    private final Consumer<FilaSessao> aoEncerrar;
+
+    private final BlockingQueue<PedidoReserva> fila = new LinkedBlockingQueue<>();
+    private final Map<UUID, PedidoReserva> pedidos = new ConcurrentHashMap<>();
+    private final Object entrada = new Object();
+
+    // Protegidos por "entrada": a senha e a inserção na fila precisam sair na mesma ordem
+    private long proximaSenha = 1;
+    private boolean aberta = true;
+
+    private volatile long ultimaSenhaAtendida;
+    private volatile double reservasPorSegundo;
+    private long ultimaLimpeza = System.currentTimeMillis();
+    private Thread escritor;
+
+    FilaSessao(Long idSessao, GravadorLoteReservas gravador, int tamanhoLote, int capacidade,
+               long retencaoMillis, Consumer<FilaSessao> aoEncerrar) {
+        this.idSessao = idSessao;
+        this.gravador = gravador;
+        this.tamanhoLote = tamanhoLote;
+        this.capacidade = capacidade;
+        this.retencaoMillis = retencaoMillis;
+        this.aoEncerrar = aoEncerrar;
+    }
+
+    void iniciar() {
+        escritor = Thread.ofPlatform().name("sala-espera-" + idSessao).daemon().start(this::executar);
+    }
+
+    Long getIdSessao() {
+        return idSessao;
+    }
+
+    boolean isAberta() {
+        synchronized (entrada) {
+            return aberta;
+        }
+    }
+
+    int tamanho() {
+        return fila.size();
+    }
+
+    /**
+     * Coloca o cliente no fim da fila. Um cliente que já aguarda recebe o mesmo pedido (atualizar a
+     * página não o manda para o fim). Retorna {@code null} se a fila estiver fechada ou cheia.
+     */
+    PedidoReserva entrar(UUID idCliente, String emailCliente) {
+        synchronized (entrada) {
+            PedidoReserva atual = pedidos.get(idCliente);
+            if (atual != null && atual.getSituacao() == SituacaoPedido.AGUARDANDO) {
+                return atual;
+            }
+            if (!aberta || fila.size() >= capacidade) {
+                return null;
+            }
+            PedidoReserva pedido = new PedidoReserva(proximaSenha++, idCliente, emailCliente);
+            pedidos.put(idCliente, pedido);
+            fila.add(pedido);
+            return pedido;
+        }
+    }
+
+    PedidoReserva consultar(UUID idCliente) {
+        return pedidos.get(idCliente);
+    }
+
+    PosicaoFila posicao(PedidoReserva pedido) {
+        if (pedido.getSituacao() != SituacaoPedido.AGUARDANDO) {
+            return new PosicaoFila(idSessao, pedido, 0, 0L);
+        }
+        long posicao = Math.max(1, pedido.getSenha() - ultimaSenhaAtendida);
+        double vazao = reservasPorSegundo;
+        Long estimativa = vazao > 0 ? (long) Math.ceil(posicao / vazao) : null;
+        return new PosicaoFila(idSessao, pedido, posicao, estimativa);
+    }
+
+    /**
+     * Para de aceitar pedidos; os que já estão na fila ainda são gravados antes de o escritor terminar.
+     */
+    void fechar() {
+        synchronized (entrada) {
+            aberta = false;
+        }
+    }
+
+    boolean aguardarTermino(long esperaMillis) throws InterruptedException {
+        return escritor == null || escritor.join(Duration.ofMillis(esperaMillis));
+    }
+
+    private void executar() {
+        List<PedidoReserva> lote = new ArrayList<>(tamanhoLote);
+        try {
+            while (isAberta() || !fila.isEmpty()) {
+                PedidoReserva primeiro = fila.poll(ESPERA_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (primeiro != null) {
+                    lote.add(primeiro);
+                    fila.drainTo(lote, tamanhoLote - 1);
+                    processar(lote);
+                    lote.clear();
+                }
+                limparConcluidos();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fila.drainTo(lote);
+            lote.forEach(pedido -> pedido.recusar(new IllegalStateException("Sala de espera encerrada")));
+        } finally {
+            logger.info("Escritor da sala de espera da sessão de ID: {} encerrado", idSessao);
+            aoEncerrar.accept(this);
+        }
+    }
+
+    void processar(List<PedidoReserva> lote) {
+        long inicio = System.nanoTime();
+        List<PedidoReserva> atendidos = new ArrayList<>(lote.size());
+        List<Reserva> reservas = new ArrayList<>(lote.size());
+        try {
+            reservas.addAll(gravador.gravar(idSessao, lote));
+            atendidos.addAll(lote.subList(0, reservas.size()));
+            if (reservas.size() < lote.size()) {
+                // Os lugares acabaram no meio do lote: os pedidos seguintes não têm mais reserva
+                SessaoLotadaException lotada = gravador.sessaoLotada();
+                lote.subList(reservas.size(), lote.size()).forEach(pedido -> pedido.recusar(lotada));
+            }
+        } catch (BusinessException e) {
+            // Sessão cancelada ou encerrada: vale para todos os pedidos do lote
+            lote.forEach(pedido -> pedido.recusar(e));
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao gravar lote de {} reservas da sessão de ID: {}, gravando um a um", lote.size(), idSessao, e);
+            for (PedidoReserva pedido : lote) {
+                try {
+                    reservas.add(gravador.gravar(idSessao, List.of(pedido)).getFirst());
+                    atendidos.add(pedido);
+                } catch (RuntimeException erro) {
+                    pedido.recusar(erro);
+                }
+            }
+        }
+        // Fora das tentativas: uma falha nos avisos não pode gravar o lote de novo
+        for (int i = 0; i < atendidos.size(); i++) {
+            atendidos.get(i).concluir(reservas.get(i));
+        }
+        if (!atendidos.isEmpty()) {
+            gravador.notificar(idSessao, atendidos, reservas);
+        }
+        ultimaSenhaAtendida = lote.getLast().getSenha();
+        atualizarVazao(lote.size(), System.nanoTime() - inicio);
+    }
+
+    private void atualizarVazao(int gravadas, long duracaoNanos) {
+        double amostra = gravadas * 1_000_000_000.0 / Math.max(1, duracaoNanos);
+        double atual = reservasPorSegundo;
+        reservasPorSegundo = atual == 0 ? amostra : PESO_VAZAO * amostra + (1 - PESO_VAZAO) * atual;
+    }
+
+    private void limparConcluidos() {
+        long agora = System.currentTimeMillis();
+        if (agora - ultimaLimpeza < retencaoMillis / 2) {
+            return;
+        }
+        ultimaLimpeza = agora;
+        pedidos.values().removeIf(pedido -> pedido.getSituacao() != SituacaoPedido.AGUARDANDO
+                && pedido.getConcluidoEm() < agora - retencaoMillis);
+    }
+}
@@ -0,0 +1,116 @@
+package com.romanowski.pedro.service.salaespera;
+
+import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.exceptions.SessaoLotadaException;
+import com.romanowski.pedro.exceptions.SessaoNaoEcontradaException;
+import com.romanowski.pedro.repository.ReservaRepository;
+import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.service.ReservaService;
+import com.romanowski.pedro.service.disponibilidade.PainelDisponibilidade;
+import com.romanowski.pedro.service.email.EmailService;
+import com.romanowski.pedro.service.validation.ReservaValidation;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Grava um lote de pedidos de uma sessão quente em uma única transação: a sessão é travada uma vez por
+ * lote e as reservas são inseridas diretamente, sem carregar a coleção de reservas da sessão. Os
+ * emails de confirmação só são enviados depois do commit, em {@link #notificar}.
+ */
+@Component
+public class GravadorLoteReservas {
+
+    private static final Logger logger = LoggerFactory.getLogger(GravadorLoteReservas.class);
+
+    private final SessaoRepository sessaoRepository;
+    private final ReservaRepository reservaRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final PainelDisponibilidade painelDisponibilidade;
+    private final ReservaValidation reservaValidation;
+
+    @Value("${mensagem.reserva.feita}")
+    private String mensagemReservaFeita;
+
+    @Value("${mensagem.sessao.nao.encontrada}")
+    private String mensagemSessaoNaoEncontrada;
+
+    @Value("${mensagem.sessao.lotada}")
+    private String mensagemSessaoLotada;
+
+    @Value("${mensagem.email.reserva.confirmada:}")
+    private String mensagemReservaConfirmadaEmail;
+
+    public GravadorLoteReservas(SessaoRepository sessaoRepository, ReservaRepository reservaRepository,
+                                EmailService emailService, TransactionTemplate transactionTemplate,
+                                PainelDisponibilidade painelDisponibilidade, ReservaValidation reservaValidation) {
+        this.sessaoRepository = sessaoRepository;
+        this.reservaRepository = reservaRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.painelDisponibilidade = painelDisponibilidade;
+        this.reservaValidation = reservaValidation;
+    }
+
+    /**
+     * Grava os pedidos na ordem da fila até acabarem os lugares: a lista devolvida corresponde aos primeiros
+     * pedidos do lote e os demais ficam sem reserva. Sem nenhum lugar livre, recusa o lote inteiro.
+     */
+    @Timed("cinema.sala.espera.lote")
+    public List<Reserva> gravar(Long idSessao, List<PedidoReserva> pedidos) {
+        List<Reserva> reservas = transactionTemplate.execute(status -> {
+            Sessao sessao = sessaoRepository.travarPorId(idSessao)
+                    .filter(Sessao::getAtiva)
+                    .orElseThrow(() -> new SessaoNaoEcontradaException(mensagemSessaoNaoEncontrada));
+            long disponiveis = reservaValidation.lugaresDisponiveis(sessao);
+            if (disponiveis == 0) {
+                throw sessaoLotada();
+            }
+            List<Reserva> novas = pedidos.stream()
+                    .limit(disponiveis)
+                    .map(pedido -> Reserva.builder()
+                            .idCliente(pedido.getIdCliente())
+                            .sessao(sessao)
+                            .ativa(true)
+                            .pagamentoConfirmado(false)
+                            .mensagem(mensagemReservaFeita)
+                            .build())
+                    .toList();
+            return reservaRepository.saveAll(novas);
+        });
+        return reservas;
+    }
+
+    SessaoLotadaException sessaoLotada() {
+        return new SessaoLotadaException(mensagemSessaoLotada);
+    }
+
+    /**
+     * Efeitos do lote já gravado: aviso ao painel de disponibilidade e emails de confirmação. Nenhuma
+     * falha aqui pode voltar para quem chamou, senão o lote seria gravado de novo.
+     */
+    public void notificar(Long idSessao, List<PedidoReserva> pedidos, List<Reserva> reservas) {
+        try {
+            painelDisponibilidade.registrarAlteracao(idSessao);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao registrar alteração de disponibilidade da sessão de ID: {}", idSessao, e);
+        }
+        for (int i = 0; i < reservas.size(); i++) {
+            Reserva reserva = reservas.get(i);
+            try {
+                Sessao sessao = reserva.getSessao();
+                var mensagem = ReservaService.formatarMensagem(mensagemReservaConfirmadaEmail, reserva.getId(), sessao.getTituloFilme(), sessao.getDataHoraSessao().toString(), sessao.getSala(), sessao.getPreco().toString());
+                emailService.enviarEmail(pedidos.get(i).getEmailCliente(), "Reserva Confirmada", mensagem);
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao enviar confirmação da reserva de ID: {}", reserva.getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.romanowski.pedro.service.salaespera;
+
+import com.romanowski.pedro.entity.Reserva;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class PedidoReserva {
+
+    private final long senha;
+    private final UUID idCliente;
+    private final String emailCliente;
+    private final CompletableFuture<Reserva> resultado = new CompletableFuture<>();
+    private volatile long concluidoEm;
+
+    PedidoReserva(long senha, UUID idCliente, String emailCliente) {
+        this.senha = senha;
+        this.idCliente = idCliente;
+        this.emailCliente = emailCliente;
+    }
+
+    public long getSenha() {
+        return senha;
+    }
+
+    public UUID getIdCliente() {
+        return idCliente;
+    }
+
+    public String getEmailCliente() {
+        return emailCliente;
+    }
+
+    public SituacaoPedido getSituacao() {
+        if (!resultado.isDone()) {
+            return SituacaoPedido.AGUARDANDO;
+        }
+        return resultado.isCompletedExceptionally() ? SituacaoPedido.RECUSADO : SituacaoPedido.CONCLUIDO;
+    }
+
+    public Optional<Reserva> getReserva() {
+        return getSituacao() == SituacaoPedido.CONCLUIDO ? Optional.of(resultado.join()) : Optional.empty();
+    }
+
+    public Optional<String> getMotivoRecusa() {
+        return getSituacao() == SituacaoPedido.RECUSADO
+                ? Optional.of(resultado.exceptionNow().getMessage())
+                : Optional.empty();
+    }
+
+    long getConcluidoEm() {
+        return concluidoEm;
+    }
+
+    /**
+     * Resultado do pedido, concluído pelo escritor da fila quando o lote é gravado. Vazio se o prazo de
+     * {@code esperaMillis} acabar antes; falha com o motivo da recusa.
+     */
+    public CompletableFuture<Optional<Reserva>> aguardar(long esperaMillis) {
+        return resultado.thenApply(Optional::of)
+                .completeOnTimeout(Optional.empty(), esperaMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void concluir(Reserva reserva) {
+        concluidoEm = System.currentTimeMillis();
+        resultado.complete(reserva);
+    }
+
+    void recusar(Throwable motivo) {
+        concluidoEm = System.currentTimeMillis();
+        resultado.completeExceptionally(motivo);
+    }
+}
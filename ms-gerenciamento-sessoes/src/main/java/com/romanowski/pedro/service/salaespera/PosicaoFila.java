@@ -0,0 +1,9 @@
+package com.romanowski.pedro.service.salaespera;
+
+/**
+ * Situação de um pedido na sala de espera no momento da consulta. A posição conta os pedidos ainda
+ * não gravados à frente dele, incluindo o próprio (1 = próximo lote); a estimativa só existe depois
+ * que a sessão gravou o primeiro lote.
+ */
+public record PosicaoFila(Long idSessao, PedidoReserva pedido, long posicao, Long estimativaSegundos) {
+}
@@ -0,0 +1,179 @@
+package com.romanowski.pedro.service.salaespera;
+
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.exceptions.PedidoReservaNaoEncontradoException;
+import com.romanowski.pedro.exceptions.SalaEsperaCheiaException;
+import com.romanowski.pedro.exceptions.SalaEsperaInexistenteException;
+import com.romanowski.pedro.service.cache.CacheClientes;
+import com.romanowski.pedro.service.validation.SessaoValidation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Modo "sessão quente": para sessões com estreia concorrida, as reservas deixam de ser gravadas
+ * na thread da requisição. Cada cliente entra em uma fila justa (ordem de chegada) com posição e
+ * estimativa de espera, e um escritor único por sessão grava os pedidos em lotes.
+ * <p>
+ * A fila fica em memória na instância que recebeu o pedido. Com mais de uma instância do serviço,
+ * as reservas de uma sessão quente devem ser roteadas sempre para a mesma instância para manter um
+ * único escritor por sessão.
+ */
+@Service
+public class SalaEspera {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaEspera.class);
+
+    private static final long ESPERA_ENCERRAMENTO_MILLIS = 10_000;
+
+    private final Map<Long, FilaSessao> filas = new ConcurrentHashMap<>();
+    private final GravadorLoteReservas gravador;
+    private final CacheClientes cacheClientes;
+    private final SessaoValidation sessaoValidation;
+    private final MeterRegistry meterRegistry;
+    private final List<Long> sessoesIniciais;
+    private final int tamanhoLote;
+    private final int capacidade;
+    private final long esperaMillis;
+    private final long retencaoMillis;
+
+    @Value("${mensagem.sala.espera.inexistente}")
+    private String mensagemSalaEsperaInexistente;
+
+    @Value("${mensagem.sala.espera.cheia}")
+    private String mensagemSalaEsperaCheia;
+
+    @Value("${mensagem.sala.espera.pedido.inexistente}")
+    private String mensagemPedidoNaoEncontrado;
+
+    public SalaEspera(GravadorLoteReservas gravador, CacheClientes cacheClientes, SessaoValidation sessaoValidation,
+                      MeterRegistry meterRegistry,
+                      @Value("${sala-espera.sessoes:}") List<Long> sessoesIniciais,
+                      @Value("${sala-espera.lote:50}") int tamanhoLote,
+                      @Value("${sala-espera.capacidade:50000}") int capacidade,
+                      @Value("${sala-espera.espera-ms:2000}") long esperaMillis,
+                      @Value("${sala-espera.retencao-ms:600000}") long retencaoMillis) {
+        this.gravador = gravador;
+        this.cacheClientes = cacheClientes;
+        this.sessaoValidation = sessaoValidation;
+        this.meterRegistry = meterRegistry;
+        this.sessoesIniciais = sessoesIniciais;
+        this.tamanhoLote = tamanhoLote;
+        this.capacidade = capacidade;
+        this.esperaMillis = esperaMillis;
+        this.retencaoMillis = retencaoMillis;
+    }
+
+    @PostConstruct
+    void abrirSessoesConfiguradas() {
+        sessoesIniciais.forEach(this::iniciarFila);
+    }
+
+    public boolean sessaoQuente(Long idSessao) {
+        FilaSessao fila = filas.get(idSessao);
+        return fila != null && fila.isAberta();
+    }
+
+    public void abrir(Long idSessao) {
+        sessaoValidation.validarSessao(idSessao);
+        iniciarFila(idSessao);
+    }
+
+    public void fechar(Long idSessao) {
+        FilaSessao fila = filas.get(idSessao);
+        if (fila == null) {
+            throw new SalaEsperaInexistenteException(mensagemSalaEsperaInexistente);
+        }
+        logger.info("Fechando sala de espera da sessão de ID: {} com {} pedidos na fila", idSessao, fila.tamanho());
+        fila.fechar();
+    }
+
+    public PosicaoFila entrar(UUID idCliente, Long idSessao) {
+        FilaSessao fila = filaAberta(idSessao);
+        Optional<ClienteResponseDTO> cliente = cacheClientes.buscarPorId(idCliente);
+        sessaoValidation.validarCliente(cliente);
+        PedidoReserva pedido = fila.entrar(idCliente, cliente.get().emailCliente());
+        if (pedido == null) {
+            if (!fila.isAberta()) {
+                throw new SalaEsperaInexistenteException(mensagemSalaEsperaInexistente);
+            }
+            logger.warn("Sala de espera da sessão de ID: {} cheia", idSessao);
+            throw new SalaEsperaCheiaException(mensagemSalaEsperaCheia);
+        }
+        return fila.posicao(pedido);
+    }
+
+    /**
+     * Entra na fila e devolve o resultado do próprio lote, sem bloquear a thread da requisição. Vazio
+     * quando {@code sala-espera.espera-ms} acaba antes: o cliente acompanha o pedido pela consulta da sala de espera.
+     */
+    public CompletableFuture<Optional<Reserva>> reservar(UUID idCliente, Long idSessao) {
+        return entrar(idCliente, idSessao).pedido().aguardar(esperaMillis);
+    }
+
+    public PosicaoFila consultar(UUID idCliente, Long idSessao) {
+        FilaSessao fila = filas.get(idSessao);
+        PedidoReserva pedido = fila != null ? fila.consultar(idCliente) : null;
+        if (pedido == null) {
+            throw new PedidoReservaNaoEncontradoException(mensagemPedidoNaoEncontrado);
+        }
+        return fila.posicao(pedido);
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        List<FilaSessao> abertas = List.copyOf(filas.values());
+        abertas.forEach(FilaSessao::fechar);
+        for (FilaSessao fila : abertas) {
+            if (!fila.aguardarTermino(ESPERA_ENCERRAMENTO_MILLIS)) {
+                logger.warn("Sala de espera da sessão de ID: {} encerrada com {} pedidos na fila", fila.getIdSessao(), fila.tamanho());
+            }
+        }
+    }
+
+    private FilaSessao filaAberta(Long idSessao) {
+        FilaSessao fila = filas.get(idSessao);
+        if (fila == null || !fila.isAberta()) {
+            throw new SalaEsperaInexistenteException(mensagemSalaEsperaInexistente);
+        }
+        return fila;
+    }
+
+    private void iniciarFila(Long idSessao) {
+        filas.compute(idSessao, (id, atual) -> {
+            if (atual != null && atual.isAberta()) {
+                return atual;
+            }
+            FilaSessao fila = new FilaSessao(id, gravador, tamanhoLote, capacidade, retencaoMillis, this::removerFila);
+            Gauge.builder("cinema.sala.espera.fila", fila, FilaSessao::tamanho)
+                    .description("Pedidos de reserva aguardando na sala de espera da sessão")
+                    .tag("sessao", id.toString())
+                    .register(meterRegistry);
+            fila.iniciar();
+            logger.info("Sala de espera aberta para a sessão de ID: {}", id);
+            return fila;
+        });
+    }
+
+    private void removerFila(FilaSessao fila) {
+        filas.remove(fila.getIdSessao(), fila);
+        if (filas.containsKey(fila.getIdSessao())) {
+            return;
+        }
+        meterRegistry.find("cinema.sala.espera.fila").tag("sessao", fila.getIdSessao().toString()).gauges()
+                .forEach(meterRegistry::remove);
+    }
+}
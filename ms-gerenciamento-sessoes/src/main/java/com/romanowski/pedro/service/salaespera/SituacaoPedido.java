@@ -0,0 +1,7 @@
+package com.romanowski.pedro.service.salaespera;
+
+public enum SituacaoPedido {
+    AGUARDANDO,
+    CONCLUIDO,
+    RECUSADO
+}
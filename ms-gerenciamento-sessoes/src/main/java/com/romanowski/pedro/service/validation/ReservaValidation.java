@@ -5,6 +5,7 @@ import com.romanowski.pedro.entity.Sessao;
 import com.romanowski.pedro.entity.StatusPagamento;
 import com.romanowski.pedro.exceptions.ListaReservasVaziaException;
 import com.romanowski.pedro.exceptions.ReservaNaoEncontradaException;
+import com.romanowski.pedro.exceptions.SessaoLotadaException;
 import com.romanowski.pedro.exceptions.SessaoNaoEcontradaException;
 import com.romanowski.pedro.exceptions.ValorPagamentoSessaoInvalido;
 import com.romanowski.pedro.repository.ReservaRepository;
@@ -40,6 +41,12 @@ public class ReservaValidation {
     @Value("${mensagem.pagamento.invalido}")
     private String mensagemValorPagamentoInvalido;
 
+    @Value("${mensagem.sessao.lotada}")
+    private String mensagemSessaoLotada;
+
+    @Value("${sessoes.disponibilidade.capacidade-padrao:100}")
+    private int capacidadePadrao;
+
     public ReservaValidation(SessaoRepository sessaoRepository, ReservaRepository reservaRepository) {
         this.sessaoRepository = sessaoRepository;
         this.reservaRepository = reservaRepository;
@@ -52,7 +59,23 @@ public class ReservaValidation {
         }
     }
 
-    public void validarListagemReservas(List<Reserva> reservas){
+    /**
+     * Lugares ainda livres na sessão. Só vale até o commit se a sessão tiver sido lida com
+     * {@link SessaoRepository#travarPorId}; sessões sem capacidade cadastrada usam a capacidade padrão.
+     */
+    public long lugaresDisponiveis(Sessao sessao) {
+        int capacidade = sessao.getCapacidade() != null ? sessao.getCapacidade() : capacidadePadrao;
+        return Math.max(0, capacidade - reservaRepository.contarAtivasDaSessao(sessao.getId()));
+    }
+
+    public void validarLugaresDisponiveis(Sessao sessao) {
+        if (lugaresDisponiveis(sessao) == 0) {
+            logger.error("Sessao de ID: {} sem lugares disponíveis", sessao.getId());
+            throw new SessaoLotadaException(mensagemSessaoLotada);
+        }
+    }
+
+    public void validarListagemReservas(List<?> reservas){
         if (reservas.isEmpty()){
             logger.error("Nenhuma reserva encontrada na lista");
             throw new ListaReservasVaziaException(mensagemListaReservasVazia);
@@ -6,12 +6,15 @@ import com.romanowski.pedro.entity.Sessao;
 import com.romanowski.pedro.exceptions.*;
 import com.romanowski.pedro.repository.SessaoRepository;
 import com.romanowski.pedro.service.SessaoService;
+import com.romanowski.pedro.service.agenda.AgendaSalas;
+import com.romanowski.pedro.service.agenda.Programacao;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 @Component
@@ -37,10 +40,22 @@ public class SessaoValidation {
     @Value("${mensagem.sessao.existente}")
     private String mensagemSessaoExistente;
 
+    @Value("${mensagem.sessao.programacao.invalida}")
+    private String mensagemProgramacaoInvalida;
+
+    @Value("${sessoes.programacao.maximo-dias:31}")
+    private int maximoDiasProgramacao;
+
+    @Value("${sessoes.programacao.maximo-sessoes:1000}")
+    private int maximoSessoesProgramacao;
+
     private final SessaoRepository sessaoRepository;
 
-    public SessaoValidation(SessaoRepository sessaoRepository) {
+    private final AgendaSalas agendaSalas;
+
+    public SessaoValidation(SessaoRepository sessaoRepository, AgendaSalas agendaSalas) {
         this.sessaoRepository = sessaoRepository;
+        this.agendaSalas = agendaSalas;
     }
 
     public void validarCliente(Optional<ClienteResponseDTO> cliente){
@@ -64,14 +79,23 @@ public class SessaoValidation {
         }
     }
 
-    public void validarExistenciaSessaoMesmoHorarioESala(Sessao sessao){
-        boolean existeSessao = sessaoRepository.existsBySalaAndDataHoraSessao(sessao.getSala(), sessao.getDataHoraSessao());
-        if (existeSessao){
-            logger.error("Essa sessão já existe");
+    public void validarConflitoHorarioSala(Sessao sessao){
+        // Reserva o horário na agenda da sala: só é liberado se a transação do cadastro for desfeita
+        if (!agendaSalas.ocupar(sessao)){
+            logger.error("Sala {} já ocupada no horário {}", sessao.getSala(), sessao.getDataHoraSessao());
             throw new SessaoExistenteException(mensagemSessaoExistente);
         }
     }
 
+    public void validarProgramacao(Programacao programacao){
+        if (programacao.dataFim().isBefore(programacao.dataInicio())
+                || ChronoUnit.DAYS.between(programacao.dataInicio(), programacao.dataFim()) >= maximoDiasProgramacao
+                || programacao.quantidadeSessoes() > maximoSessoesProgramacao){
+            logger.error("Programação inválida de {} a {} com {} sessões", programacao.dataInicio(), programacao.dataFim(), programacao.quantidadeSessoes());
+            throw new ProgramacaoInvalidaException(mensagemProgramacaoInvalida);
+        }
+    }
+
     public void validarSessao(Long idSessao){
         if (!sessaoRepository.existsById(idSessao)){
             logger.error("Sessão não encontrada com id: {}", idSessao);
@@ -80,7 +104,7 @@ public class SessaoValidation {
     }
 
     public void validarBuscaSessoes(){
-        if (sessaoRepository.findAll().isEmpty()){
+        if (sessaoRepository.count() == 0){
             logger.error("Nenhuma sessão encontrada");
             throw new ListaSessoesVaziaException(mensagemListaSessoesVazia);
         }
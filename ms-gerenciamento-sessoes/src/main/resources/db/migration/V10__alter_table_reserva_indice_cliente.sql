@@ -0,0 +1,2 @@
+-- Listagem das reservas do cliente, da mais recente para a mais antiga, sem ordenar em memória
+CREATE INDEX idx_reserva_cliente_id ON reserva (id_cliente, id);
@@ -0,0 +1,4 @@
+-- Lugares da sessão para a disponibilidade em tempo real (GET /v1/sessoes/{id}/disponibilidade).
+-- Sessões cadastradas sem capacidade usam sessoes.disponibilidade.capacidade-padrao.
+ALTER TABLE sessoes ADD COLUMN capacidade INT(5) NULL AFTER duracao_minutos;
+ALTER TABLE sessoes_arquivo ADD COLUMN capacidade INT(5) NULL AFTER duracao_minutos;
@@ -0,0 +1,11 @@
+-- Eventos gravados na mesma transação que os gera (ex.: lotes de reservas canceladas para estorno)
+-- e publicados no RabbitMQ depois, pelo service/outbox/PublicadorOutbox
+CREATE TABLE outbox_eventos (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tipo VARCHAR(60) NOT NULL,
+    id_agregado BIGINT NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    criado_em DATETIME(6) NOT NULL,
+    publicado_em DATETIME(6) NULL,
+    INDEX idx_outbox_eventos_pendentes (publicado_em, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,3 @@
+-- Duração do filme gravada na sessão para detectar sobreposição de horários na mesma sala.
+-- Sessões antigas ficam sem duração e usam sessoes.agenda.duracao-padrao-min.
+ALTER TABLE sessoes ADD COLUMN duracao_minutos INT(4) NULL AFTER data_hora;
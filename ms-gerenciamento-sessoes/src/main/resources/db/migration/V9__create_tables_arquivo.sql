@@ -0,0 +1,29 @@
+-- Camada fria: sessões que já passaram da retenção saem de "sessoes" e "reserva" para estas tabelas
+-- (veja service/arquivo), mantendo as tabelas quentes com tamanho próximo do constante.
+CREATE TABLE sessoes_arquivo (
+    id INT(10) PRIMARY KEY,
+    id_filme INT(10) NOT NULL,
+    titulo_filme VARCHAR(250) NOT NULL,
+    ativa BOOLEAN NOT NULL,
+    sala INT(3) NOT NULL,
+    preco DECIMAL(10, 2) NOT NULL,
+    data_hora DATETIME NOT NULL,
+    duracao_minutos INT(4) NULL,
+    arquivada_em DATETIME NOT NULL,
+    INDEX idx_sessoes_arquivo_data_hora (data_hora)
+)ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE reserva_arquivo (
+    id INT(10) PRIMARY KEY,
+    id_cliente CHAR(36) NOT NULL,
+    id_sessao INT(10) NOT NULL,
+    ativa BOOLEAN NOT NULL,
+    pagamento_confirmado BOOLEAN NOT NULL,
+    mensagem VARCHAR(255) NOT NULL,
+    arquivada_em DATETIME NOT NULL,
+    INDEX idx_reserva_arquivo_cliente (id_cliente),
+    INDEX idx_reserva_arquivo_sessao (id_sessao)
+)ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- O arquivamento procura as sessões pela data; sem o índice cada lote leria a tabela inteira
+CREATE INDEX idx_sessoes_data_hora ON sessoes (data_hora);
@@ -0,0 +1,86 @@
+package com.romanowski.pedro.actuator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para JfrEndpoint")
+class JfrEndpointTest {
+
+    @TempDir
+    Path diretorio;
+
+    private JfrEndpoint jfrEndpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jfrEndpoint = new JfrEndpoint(diretorio.toString(), true, 1, 10);
+        jfrEndpoint.iniciarGravacaoContinua();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrEndpoint.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve iniciar, encerrar, baixar e resumir uma gravação sob demanda")
+    void deveGerenciarGravacaoSobDemanda() throws Exception {
+        // Act
+        JfrEndpoint.GravacaoResponse gravacao = jfrEndpoint.iniciar("default", 30);
+        WebEndpointResponse<JfrEndpoint.GravacaoResponse> parada = jfrEndpoint.parar(gravacao.id());
+        WebEndpointResponse<Resource> arquivo = jfrEndpoint.baixar(gravacao.id());
+        WebEndpointResponse<ResumoJfr> resumo = jfrEndpoint.resumo(gravacao.id(), "resumo");
+
+        // Assert
+        assertEquals("RUNNING", gravacao.estado());
+        assertEquals("CLOSED", parada.getBody().estado());
+        assertEquals(WebEndpointResponse.STATUS_OK, arquivo.getStatus());
+        assertTrue(arquivo.getBody().exists());
+        assertEquals(WebEndpointResponse.STATUS_OK, resumo.getStatus());
+        assertTrue(resumo.getBody().eventos() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve gerar snapshot da gravação contínua sem encerrá-la")
+    void deveGerarSnapshotDaGravacaoContinua() throws Exception {
+        // Act
+        WebEndpointResponse<Resource> arquivo = jfrEndpoint.baixar(JfrEndpoint.CONTINUA);
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_OK, arquivo.getStatus());
+        assertTrue(arquivo.getBody().contentLength() > 0);
+        assertEquals("RUNNING", jfrEndpoint.listar().getFirst().estado());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a gravação e responder 404 depois")
+    void deveDescartarGravacao() throws Exception {
+        // Arrange
+        JfrEndpoint.GravacaoResponse gravacao = jfrEndpoint.iniciar("default", 30);
+
+        // Act
+        WebEndpointResponse<Void> descarte = jfrEndpoint.descartar(gravacao.id());
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_NO_CONTENT, descarte.getStatus());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, jfrEndpoint.baixar(gravacao.id()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve recusar preset desconhecido e encerramento da gravação contínua")
+    void deveRecusarOperacoesInvalidas() {
+        // Act & Assert
+        assertThrows(InvalidEndpointRequestException.class, () -> jfrEndpoint.iniciar("inexistente", 10));
+        assertThrows(InvalidEndpointRequestException.class, () -> jfrEndpoint.parar(JfrEndpoint.CONTINUA));
+    }
+}
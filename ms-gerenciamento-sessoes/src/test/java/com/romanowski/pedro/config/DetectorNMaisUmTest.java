@@ -0,0 +1,77 @@
+package com.romanowski.pedro.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para DetectorNMaisUm")
+class DetectorNMaisUmTest {
+
+    private static final String SELECT_SESSAO = "select s1_0.id,s1_0.titulo_filme from sessoes s1_0 where s1_0.id=?";
+
+    private DetectorNMaisUm detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new DetectorNMaisUm(2, 3);
+    }
+
+    @Test
+    @DisplayName("Deve apontar consulta idêntica repetida dentro da requisição")
+    void deveApontarConsultaRepetida() {
+        // Arrange
+        detector.iniciar();
+        detector.inspect(SELECT_SESSAO);
+        detector.inspect("select   s1_0.id,s1_0.titulo_filme\n from sessoes s1_0 where s1_0.id=?");
+
+        // Act
+        List<String> alertas = detector.finalizar("GET /v1/reservas");
+
+        // Assert
+        assertEquals(1, alertas.size());
+        assertTrue(alertas.get(0).contains("2 vezes"));
+    }
+
+    @Test
+    @DisplayName("Não deve apontar nada quando cada consulta é executada uma vez")
+    void naoDeveApontarConsultasDistintas() {
+        // Arrange
+        detector.iniciar();
+        detector.inspect(SELECT_SESSAO);
+        detector.inspect("select r1_0.id from reserva r1_0 where r1_0.id_cliente=?");
+
+        // Act & Assert
+        assertTrue(detector.finalizar("GET /v1/reservas").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve acumular statements executados fora de uma requisição monitorada")
+    void naoDeveMonitorarForaDaRequisicao() {
+        // Arrange
+        detector.inspect(SELECT_SESSAO);
+        detector.inspect(SELECT_SESSAO);
+
+        // Act & Assert
+        assertEquals(SELECT_SESSAO, detector.inspect(SELECT_SESSAO));
+        assertTrue(detector.finalizar("fora de requisição").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o monitoramento ao finalizar")
+    void deveEncerrarMonitoramentoAoFinalizar() {
+        // Arrange
+        detector.iniciar();
+        detector.inspect(SELECT_SESSAO);
+        detector.finalizar("GET /v1/sessoes");
+
+        // Act
+        detector.inspect(SELECT_SESSAO);
+
+        // Assert
+        assertTrue(detector.finalizar("GET /v1/sessoes").isEmpty());
+    }
+}
@@ -0,0 +1,85 @@
+package com.romanowski.pedro.config;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para MedicaoMetodosInterceptor")
+class MedicaoMetodosInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServicoMedido servico;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new ServicoMedido());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(MetricasConfiguration.medicaoMetodosAdvisor(beanFactory.getBeanProvider(MeterRegistry.class)));
+        servico = (ServicoMedido) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve medir métodos da classe anotada com o nome da classe")
+    void deveMedirMetodoPelaAnotacaoDaClasse() {
+        // Act
+        servico.listar();
+        servico.listar();
+
+        // Assert
+        assertEquals(2, meterRegistry.get("cinema.servico")
+                .tag("class", "ServicoMedido")
+                .tag("method", "listar")
+                .tag("exception", "none")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve usar o nome e as tags da anotação do método quando presente")
+    void deveUsarAnotacaoDoMetodo() {
+        // Act
+        servico.reservar();
+
+        // Assert
+        assertEquals(1, meterRegistry.get("cinema.reserva.criacao").tag("canal", "api").timer().count());
+        assertTrue(meterRegistry.find("cinema.servico").tag("method", "reservar").timers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a exceção lançada pelo método")
+    void deveRegistrarExcecao() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, servico::falhar);
+        assertEquals(1, meterRegistry.get("cinema.servico")
+                .tag("method", "falhar")
+                .tag("exception", "IllegalStateException")
+                .timer().count());
+    }
+
+    @Timed("cinema.servico")
+    static class ServicoMedido {
+
+        public String listar() {
+            return "ok";
+        }
+
+        @Timed(value = "cinema.reserva.criacao", extraTags = {"canal", "api"})
+        public String reservar() {
+            return "reservado";
+        }
+
+        public void falhar() {
+            throw new IllegalStateException("falha");
+        }
+    }
+}
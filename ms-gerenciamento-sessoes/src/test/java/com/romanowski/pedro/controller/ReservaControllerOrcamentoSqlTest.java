@@ -0,0 +1,176 @@
+package com.romanowski.pedro.controller;
+
+import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.feign.ClienteFeignClient;
+import com.romanowski.pedro.repository.ReservaRepository;
+import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.service.email.EmailService;
+import com.romanowski.pedro.support.OrcamentoSql;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Orçamento de SQL dos endpoints de reservas e sessões")
+class ReservaControllerOrcamentoSqlTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @MockitoBean
+    private ClienteFeignClient clienteFeignClient;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private RabbitTemplate rabbitTemplate;
+
+    private MockMvc mockMvc;
+
+    private UUID idCliente;
+    private Sessao sessao;
+    private List<Reserva> reservas;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        reservaRepository.deleteAll();
+        sessaoRepository.deleteAll();
+
+        idCliente = UUID.randomUUID();
+        when(clienteFeignClient.obterClientePorId(any(UUID.class)))
+                .thenReturn(Optional.of(new ClienteResponseDTO(idCliente, "João Silva", "joao@email.com")));
+
+        sessao = sessaoRepository.save(Sessao.builder()
+                .idFilme(1L)
+                .tituloFilme("Matrix")
+                .sala(1)
+                .preco(30.0)
+                .dataHoraSessao(LocalDateTime.now().plusDays(1))
+                .ativa(true)
+                .build());
+
+        reservas = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            reservas.add(reservaRepository.save(Reserva.builder()
+                    .idCliente(idCliente)
+                    .sessao(sessao)
+                    .ativa(true)
+                    .pagamentoConfirmado(false)
+                    .mensagem("Reserva feita")
+                    .build()));
+        }
+
+        OrcamentoSql.iniciar();
+    }
+
+    private RequestPostProcessor cliente() {
+        return jwt().jwt(token -> token.subject(idCliente.toString()))
+                .authorities(new SimpleGrantedAuthority("ROLE_CLIENTE"));
+    }
+
+    @Test
+    @DisplayName("Busca de reserva por id deve ser uma única consulta com os dados da sessão")
+    void buscaReservaPorIdDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/reservas/{idCliente}/{idReserva}", idCliente, reservas.get(0).getId()).with(cliente()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tituloFilme").value("Matrix"));
+
+        OrcamentoSql.verificarMaximo(1);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Listagem de reservas não deve crescer com o número de reservas")
+    void listagemReservasNaoDeveCrescerComNumeroDeReservas() throws Exception {
+        mockMvc.perform(get("/v1/reservas/{idCliente}", idCliente).with(cliente()))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(1);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Listagem de reservas em sessões diferentes deve carregar as sessões no mesmo select")
+    void listagemReservasEmSessoesDiferentesDeveUsarUmSelect() throws Exception {
+        for (int sala = 2; sala <= 4; sala++) {
+            Sessao outraSessao = sessaoRepository.save(Sessao.builder()
+                    .idFilme(1L)
+                    .tituloFilme("Matrix")
+                    .sala(sala)
+                    .preco(30.0)
+                    .dataHoraSessao(LocalDateTime.now().plusDays(1))
+                    .ativa(true)
+                    .build());
+            reservaRepository.save(Reserva.builder()
+                    .idCliente(idCliente)
+                    .sessao(outraSessao)
+                    .ativa(true)
+                    .pagamentoConfirmado(false)
+                    .mensagem("Reserva feita")
+                    .build());
+        }
+        OrcamentoSql.iniciar();
+
+        mockMvc.perform(get("/v1/reservas/{idCliente}", idCliente).with(cliente()))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(1);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Listagem de sessões deve respeitar o orçamento de SQL")
+    void listagemSessoesDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/sessoes").with(cliente()))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(2);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+
+    @Test
+    @DisplayName("Busca de sessão por id deve respeitar o orçamento de SQL")
+    void buscaSessaoPorIdDeveRespeitarOrcamento() throws Exception {
+        mockMvc.perform(get("/v1/sessoes/{id}", sessao.getId()).with(cliente()))
+                .andExpect(status().isOk());
+
+        OrcamentoSql.verificarMaximo(2);
+        OrcamentoSql.verificarSemNMaisUm();
+    }
+}
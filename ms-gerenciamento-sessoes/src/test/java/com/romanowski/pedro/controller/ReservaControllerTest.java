@@ -1,10 +1,14 @@
 package com.romanowski.pedro.controller;
 
+import com.romanowski.pedro.dto.response.ReservaDetalheResponseDTO;
 import com.romanowski.pedro.dto.response.ReservaResponseDTO;
 import com.romanowski.pedro.entity.Reserva;
 import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.entity.StatusReserva;
 import com.romanowski.pedro.mapper.ReservaMapper;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
 import com.romanowski.pedro.service.ReservaService;
+import com.romanowski.pedro.service.salaespera.SalaEspera;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,20 +16,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +50,9 @@ class ReservaControllerTest {
     @Mock
     private ReservaMapper reservaMapper;
 
+    @Mock
+    private SalaEspera salaEspera;
+
     @InjectMocks
     private ReservaController reservaController;
 
@@ -79,7 +94,9 @@ class ReservaControllerTest {
                 1L,
                 false,
                 true,
-                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."
+                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.",
+                "Filme Teste",
+                LocalDateTime.of(2026, 2, 20, 20, 0)
         );
     }
 
@@ -94,8 +111,7 @@ class ReservaControllerTest {
         when(reservaMapper.toResponseDTO(any(Reserva.class))).thenReturn(reservaResponseDTO);
 
         // When & Then
-        mockMvc.perform(post("/v1/reservas/{idCliente}/{idSessao}", idCliente, idSessao)
-                        .contentType(MediaType.APPLICATION_JSON))
+        criarReserva(idCliente, idSessao)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.idSessao").value(1L))
@@ -107,6 +123,44 @@ class ReservaControllerTest {
         verify(reservaMapper, times(1)).toResponseDTO(reserva);
     }
 
+    @Test
+    @DisplayName("Deve criar reserva de sessão quente pela sala de espera")
+    void deveCriarReservaDeSessaoQuentePelaSalaEspera() throws Exception {
+        // Given
+        UUID idCliente = UUID.randomUUID();
+        Long idSessao = 1L;
+
+        when(salaEspera.sessaoQuente(idSessao)).thenReturn(true);
+        when(salaEspera.reservar(idCliente, idSessao)).thenReturn(CompletableFuture.completedFuture(Optional.of(reserva)));
+        when(reservaMapper.toResponseDTO(reserva)).thenReturn(reservaResponseDTO);
+
+        // When & Then
+        criarReserva(idCliente, idSessao)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+
+        verify(reservaService, never()).adicionarReserva(any(UUID.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve responder 202 quando a reserva de sessão quente ainda está na fila")
+    void deveResponderAceitoQuandoReservaAindaNaFila() throws Exception {
+        // Given
+        UUID idCliente = UUID.randomUUID();
+        Long idSessao = 1L;
+
+        when(salaEspera.sessaoQuente(idSessao)).thenReturn(true);
+        when(salaEspera.reservar(idCliente, idSessao)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        // When & Then
+        criarReserva(idCliente, idSessao)
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/v1/reservas/fila/" + idCliente + "/" + idSessao));
+
+        verify(reservaService, never()).adicionarReserva(any(UUID.class), anyLong());
+        verify(reservaMapper, never()).toResponseDTO(any(Reserva.class));
+    }
+
     @Test
     @DisplayName("Deve criar reserva para diferentes clientes")
     void deveCriarReservaParaDiferentesClientes() throws Exception {
@@ -130,7 +184,9 @@ class ReservaControllerTest {
                 1L,
                 false,
                 true,
-                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."
+                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.",
+                "Filme Teste",
+                LocalDateTime.of(2026, 2, 20, 20, 0)
         );
 
         when(reservaService.adicionarReserva(idCliente1, idSessao)).thenReturn(reserva);
@@ -139,14 +195,12 @@ class ReservaControllerTest {
         when(reservaMapper.toResponseDTO(reserva2)).thenReturn(reservaResponseDTO2);
 
         // When & Then - Cliente 1
-        mockMvc.perform(post("/v1/reservas/{idCliente}/{idSessao}", idCliente1, idSessao)
-                        .contentType(MediaType.APPLICATION_JSON))
+        criarReserva(idCliente1, idSessao)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L));
 
         // When & Then - Cliente 2
-        mockMvc.perform(post("/v1/reservas/{idCliente}/{idSessao}", idCliente2, idSessao)
-                        .contentType(MediaType.APPLICATION_JSON))
+        criarReserva(idCliente2, idSessao)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(2L));
 
@@ -187,7 +241,9 @@ class ReservaControllerTest {
                 2L,
                 false,
                 true,
-                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."
+                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.",
+                "Filme Teste 2",
+                LocalDateTime.of(2026, 2, 21, 18, 0)
         );
 
         when(reservaService.adicionarReserva(idCliente, idSessao1)).thenReturn(reserva);
@@ -196,15 +252,13 @@ class ReservaControllerTest {
         when(reservaMapper.toResponseDTO(reserva2)).thenReturn(reservaResponseDTO2);
 
         // When & Then - Sessão 1
-        mockMvc.perform(post("/v1/reservas/{idCliente}/{idSessao}", idCliente, idSessao1)
-                        .contentType(MediaType.APPLICATION_JSON))
+        criarReserva(idCliente, idSessao1)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.idSessao").value(1L));
 
         // When & Then - Sessão 2
-        mockMvc.perform(post("/v1/reservas/{idCliente}/{idSessao}", idCliente, idSessao2)
-                        .contentType(MediaType.APPLICATION_JSON))
+        criarReserva(idCliente, idSessao2)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(2L))
                 .andExpect(jsonPath("$.idSessao").value(2L));
@@ -214,90 +268,71 @@ class ReservaControllerTest {
     }
 
     @Test
-    @DisplayName("Deve listar todas as reservas de um cliente com sucesso")
+    @DisplayName("Deve listar a página de reservas de um cliente com os totais nos cabeçalhos")
     void deveListarReservasDeUmClienteComSucesso() throws Exception {
         // Given
         UUID idCliente = UUID.randomUUID();
 
-        Sessao sessao2 = Sessao.builder()
-                .id(2L)
-                .idFilme(2L)
-                .tituloFilme("Filme Teste 2")
-                .sala(2)
-                .preco(45.0)
-                .dataHoraSessao(LocalDateTime.of(2026, 2, 21, 18, 0))
-                .ativa(true)
-                .build();
-
-        Reserva reserva2 = Reserva.builder()
-                .id(2L)
-                .idCliente(idCliente)
-                .sessao(sessao2)
-                .pagamentoConfirmado(true)
-                .ativa(true)
-                .mensagem("Pagamento confirmado.")
-                .build();
-
         ReservaResponseDTO reservaResponseDTO2 = new ReservaResponseDTO(
                 2L,
                 idCliente,
                 2L,
                 true,
                 true,
-                "Pagamento confirmado."
+                "Pagamento confirmado.",
+                "Filme Teste 2",
+                LocalDateTime.of(2026, 2, 21, 18, 0)
         );
 
-        List<Reserva> reservas = List.of(reserva, reserva2);
+        Page<ReservaResponseDTO> reservas = new PageImpl<>(List.of(reservaResponseDTO2, reservaResponseDTO), PageRequest.of(0, 2), 3);
 
-        when(reservaService.listarReservas(idCliente)).thenReturn(reservas);
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(reservaResponseDTO);
-        when(reservaMapper.toResponseDTO(reserva2)).thenReturn(reservaResponseDTO2);
+        when(reservaService.listarReservas(idCliente, null, 0, 2)).thenReturn(reservas);
 
         // When & Then
         mockMvc.perform(get("/v1/reservas/{idCliente}", idCliente)
+                        .param("tamanho", "2")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(header().string("X-Total-Pages", "2"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].idSessao").value(1L))
-                .andExpect(jsonPath("$[0].pagamentoConfirmado").value(false))
-                .andExpect(jsonPath("$[0].ativa").value(true))
-                .andExpect(jsonPath("$[0].mensagem").value("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."))
-                .andExpect(jsonPath("$[1].id").value(2L))
-                .andExpect(jsonPath("$[1].idSessao").value(2L))
-                .andExpect(jsonPath("$[1].pagamentoConfirmado").value(true))
+                .andExpect(jsonPath("$[0].id").value(2L))
+                .andExpect(jsonPath("$[0].idSessao").value(2L))
+                .andExpect(jsonPath("$[0].pagamentoConfirmado").value(true))
+                .andExpect(jsonPath("$[0].tituloFilme").value("Filme Teste 2"))
+                .andExpect(jsonPath("$[0].mensagem").value("Pagamento confirmado."))
+                .andExpect(jsonPath("$[1].id").value(1L))
+                .andExpect(jsonPath("$[1].idSessao").value(1L))
+                .andExpect(jsonPath("$[1].pagamentoConfirmado").value(false))
                 .andExpect(jsonPath("$[1].ativa").value(true))
-                .andExpect(jsonPath("$[1].mensagem").value("Pagamento confirmado."));
+                .andExpect(jsonPath("$[1].mensagem").value("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."));
 
-        verify(reservaService, times(1)).listarReservas(idCliente);
-        verify(reservaMapper, times(1)).toResponseDTO(reserva);
-        verify(reservaMapper, times(1)).toResponseDTO(reserva2);
+        verify(reservaService, times(1)).listarReservas(idCliente, null, 0, 2);
+        verifyNoInteractions(reservaMapper);
     }
 
     @Test
-    @DisplayName("Deve listar apenas uma reserva quando cliente possui apenas uma")
-    void deveListarApenasUmaReservaQuandoClientePossuiApenaUma() throws Exception {
+    @DisplayName("Deve repassar o filtro de status e a página ao listar reservas")
+    void deveRepassarFiltroDeStatusEPaginaAoListarReservas() throws Exception {
         // Given
         UUID idCliente = UUID.randomUUID();
-        List<Reserva> reservas = List.of(reserva);
+        Page<ReservaResponseDTO> reservas = new PageImpl<>(List.of(reservaResponseDTO), PageRequest.of(1, 20), 21);
 
-        when(reservaService.listarReservas(idCliente)).thenReturn(reservas);
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(reservaResponseDTO);
+        when(reservaService.listarReservas(idCliente, StatusReserva.ATIVA, 1, 20)).thenReturn(reservas);
 
         // When & Then
         mockMvc.perform(get("/v1/reservas/{idCliente}", idCliente)
+                        .param("status", "ATIVA")
+                        .param("pagina", "1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
+                .andExpect(header().string("X-Total-Count", "21"))
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].idSessao").value(1L))
-                .andExpect(jsonPath("$[0].pagamentoConfirmado").value(false))
                 .andExpect(jsonPath("$[0].ativa").value(true));
 
-        verify(reservaService, times(1)).listarReservas(idCliente);
-        verify(reservaMapper, times(1)).toResponseDTO(reserva);
+        verify(reservaService, times(1)).listarReservas(idCliente, StatusReserva.ATIVA, 1, 20);
     }
 
     @Test
@@ -307,31 +342,19 @@ class ReservaControllerTest {
         UUID idCliente1 = UUID.randomUUID();
         UUID idCliente2 = UUID.randomUUID();
 
-        Reserva reservaCliente2 = Reserva.builder()
-                .id(3L)
-                .idCliente(idCliente2)
-                .sessao(sessao)
-                .pagamentoConfirmado(false)
-                .ativa(true)
-                .mensagem("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.")
-                .build();
-
         ReservaResponseDTO reservaResponseDTOCliente2 = new ReservaResponseDTO(
                 3L,
                 idCliente2,
                 1L,
                 false,
                 true,
-                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."
+                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.",
+                "Filme Teste",
+                LocalDateTime.of(2026, 2, 20, 20, 0)
         );
 
-        List<Reserva> reservasCliente1 = List.of(reserva);
-        List<Reserva> reservasCliente2 = List.of(reservaCliente2);
-
-        when(reservaService.listarReservas(idCliente1)).thenReturn(reservasCliente1);
-        when(reservaService.listarReservas(idCliente2)).thenReturn(reservasCliente2);
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(reservaResponseDTO);
-        when(reservaMapper.toResponseDTO(reservaCliente2)).thenReturn(reservaResponseDTOCliente2);
+        when(reservaService.listarReservas(idCliente1, null, 0, 20)).thenReturn(new PageImpl<>(List.of(reservaResponseDTO)));
+        when(reservaService.listarReservas(idCliente2, null, 0, 20)).thenReturn(new PageImpl<>(List.of(reservaResponseDTOCliente2)));
 
         // When & Then - Cliente 1
         mockMvc.perform(get("/v1/reservas/{idCliente}", idCliente1)
@@ -349,8 +372,8 @@ class ReservaControllerTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].id").value(3L));
 
-        verify(reservaService, times(1)).listarReservas(idCliente1);
-        verify(reservaService, times(1)).listarReservas(idCliente2);
+        verify(reservaService, times(1)).listarReservas(idCliente1, null, 0, 20);
+        verify(reservaService, times(1)).listarReservas(idCliente2, null, 0, 20);
     }
 
 
@@ -360,9 +383,10 @@ class ReservaControllerTest {
         // Given
         UUID idCliente = UUID.randomUUID();
         Long idReserva = 1L;
+        ReservaDetalhe detalhe = detalhe(reserva);
 
-        when(reservaService.buscarReservaPorId(any(UUID.class), anyLong())).thenReturn(Optional.of(reserva));
-        when(reservaMapper.entityToResponseDTO(Optional.of(reserva))).thenReturn(reservaResponseDTO);
+        when(reservaService.buscarReservaPorId(any(UUID.class), anyLong())).thenReturn(detalhe);
+        when(reservaMapper.toDetalheResponseDTO(detalhe)).thenReturn(detalheResponseDTO(reserva));
 
         // When & Then
         mockMvc.perform(get("/v1/reservas/{idCliente}/{idReserva}", idCliente, idReserva)
@@ -372,10 +396,13 @@ class ReservaControllerTest {
                 .andExpect(jsonPath("$.idSessao").value(1L))
                 .andExpect(jsonPath("$.pagamentoConfirmado").value(false))
                 .andExpect(jsonPath("$.ativa").value(true))
-                .andExpect(jsonPath("$.mensagem").value("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."));
+                .andExpect(jsonPath("$.mensagem").value("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."))
+                .andExpect(jsonPath("$.tituloFilme").value("Filme Teste"))
+                .andExpect(jsonPath("$.sala").value(1))
+                .andExpect(jsonPath("$.dataHoraSessao").value("20/02/2026 20:00"));
 
         verify(reservaService, times(1)).buscarReservaPorId(idCliente, idReserva);
-        verify(reservaMapper, times(1)).entityToResponseDTO(Optional.of(reserva));
+        verify(reservaMapper, times(1)).toDetalheResponseDTO(detalhe);
     }
 
     @Test
@@ -396,19 +423,13 @@ class ReservaControllerTest {
                 .mensagem("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.")
                 .build();
 
-        ReservaResponseDTO reservaResponseDTOCliente2 = new ReservaResponseDTO(
-                2L,
-                idCliente2,
-                1L,
-                false,
-                true,
-                "Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento."
-        );
+        ReservaDetalhe detalheCliente1 = detalhe(reserva);
+        ReservaDetalhe detalheCliente2 = detalhe(reservaCliente2);
 
-        when(reservaService.buscarReservaPorId(idCliente1, idReserva1)).thenReturn(Optional.of(reserva));
-        when(reservaService.buscarReservaPorId(idCliente2, idReserva2)).thenReturn(Optional.of(reservaCliente2));
-        when(reservaMapper.entityToResponseDTO(Optional.of(reserva))).thenReturn(reservaResponseDTO);
-        when(reservaMapper.entityToResponseDTO(Optional.of(reservaCliente2))).thenReturn(reservaResponseDTOCliente2);
+        when(reservaService.buscarReservaPorId(idCliente1, idReserva1)).thenReturn(detalheCliente1);
+        when(reservaService.buscarReservaPorId(idCliente2, idReserva2)).thenReturn(detalheCliente2);
+        when(reservaMapper.toDetalheResponseDTO(detalheCliente1)).thenReturn(detalheResponseDTO(reserva));
+        when(reservaMapper.toDetalheResponseDTO(detalheCliente2)).thenReturn(detalheResponseDTO(reservaCliente2));
 
         // When & Then - Cliente 1
         mockMvc.perform(get("/v1/reservas/{idCliente}/{idReserva}", idCliente1, idReserva1)
@@ -425,7 +446,19 @@ class ReservaControllerTest {
         verify(reservaService, times(1)).buscarReservaPorId(idCliente1, idReserva1);
         verify(reservaService, times(1)).buscarReservaPorId(idCliente2, idReserva2);
     }
-    
+
+    private ReservaDetalhe detalhe(Reserva reserva) {
+        return new ReservaDetalhe(reserva.getId(), reserva.getIdCliente(), reserva.getPagamentoConfirmado(), reserva.getAtiva(),
+                reserva.getMensagem(), sessao.getId(), sessao.getTituloFilme(), sessao.getSala(), sessao.getPreco(),
+                sessao.getDataHoraSessao());
+    }
+
+    private ReservaDetalheResponseDTO detalheResponseDTO(Reserva reserva) {
+        return new ReservaDetalheResponseDTO(reserva.getId(), reserva.getIdCliente(), sessao.getId(), reserva.getPagamentoConfirmado(),
+                reserva.getAtiva(), reserva.getMensagem(), sessao.getTituloFilme(), sessao.getSala(), sessao.getPreco(),
+                sessao.getDataHoraSessao());
+    }
+
     @Test
     @DisplayName("Deve cancelar uma reserva com sucesso")
     void deveCancelarReservaComSucesso() throws Exception {
@@ -467,4 +500,12 @@ class ReservaControllerTest {
         verify(reservaService, times(1)).cancelarReserva(idCliente, idReserva1);
         verify(reservaService, times(1)).cancelarReserva(idCliente, idReserva2);
     }
+
+    private ResultActions criarReserva(UUID idCliente, Long idSessao) throws Exception {
+        MvcResult resultado = mockMvc.perform(post("/v1/reservas/{idCliente}/{idSessao}", idCliente, idSessao)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(resultado));
+    }
 }
@@ -62,7 +62,8 @@ class SessaoControllerTest {
                 "Filme Teste",
                 1,
                 50.0,
-                dataHoraSessao
+                dataHoraSessao,
+                120
         );
 
         sessao = Sessao.builder()
@@ -235,7 +236,8 @@ class SessaoControllerTest {
                 null,  // titulo nulo
                 null,  // sala nula
                 null,  // preco nulo
-                null   // data nula
+                null,  // data nula
+                null
         );
 
         // When & Then
@@ -255,7 +257,8 @@ class SessaoControllerTest {
                 "Filme Teste",
                 10,  // sala inválida (max é 5)
                 50.0,
-                LocalDateTime.of(2026, 1, 25, 20, 0)
+                LocalDateTime.of(2026, 1, 25, 20, 0),
+                null
         );
 
         // When & Then
@@ -275,7 +278,8 @@ class SessaoControllerTest {
                 "Filme Teste",
                 1,
                 5.0,  // preço abaixo do mínimo (15)
-                LocalDateTime.of(2026, 1, 25, 20, 0)
+                LocalDateTime.of(2026, 1, 25, 20, 0),
+                null
         );
 
         // When & Then
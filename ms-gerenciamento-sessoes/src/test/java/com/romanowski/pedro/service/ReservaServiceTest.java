@@ -1,15 +1,20 @@
 package com.romanowski.pedro.service;
 
 import com.romanowski.pedro.dto.response.ClienteResponseDTO;
+import com.romanowski.pedro.dto.response.ReservaResponseDTO;
 import com.romanowski.pedro.entity.Reserva;
 import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.entity.StatusReserva;
 import com.romanowski.pedro.exceptions.ClienteNaoEncontradoException;
 import com.romanowski.pedro.exceptions.ListaReservasVaziaException;
 import com.romanowski.pedro.exceptions.ReservaNaoEncontradaException;
+import com.romanowski.pedro.exceptions.SessaoLotadaException;
 import com.romanowski.pedro.exceptions.SessaoNaoEcontradaException;
 import com.romanowski.pedro.feign.ClienteFeignClient;
 import com.romanowski.pedro.repository.ReservaRepository;
 import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.ReservaDetalhe;
+import com.romanowski.pedro.service.cache.CacheClientes;
 import com.romanowski.pedro.service.email.EmailService;
 import com.romanowski.pedro.service.validation.ReservaValidation;
 import com.romanowski.pedro.service.validation.SessaoValidation;
@@ -18,9 +23,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -60,6 +69,9 @@ class ReservaServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private CacheClientes cacheClientes;
+
     @InjectMocks
     private ReservaService reservaService;
 
@@ -82,6 +94,7 @@ class ReservaServiceTest {
                 "Sua reserva foi confirmada, aproveite a sessão! Detalhes da reserva: Id reserva: %s, Nome filme: %s, Data: %s, Sala: %s, Preço: %s");
         ReflectionTestUtils.setField(reservaService, "mensagemReservaCanceladaEmail",
                 "Sua reserva foi cancelada com sucesso! Detalhes da reserva: Id reserva: %s, Nome filme: %s, Data: %s, Sala: %s, Preço: %s");
+        ReflectionTestUtils.setField(reservaService, "tamanhoMaximoListagem", 100);
         ReflectionTestUtils.setField(reservaService, "mensagemPagamentoReservaConfirmadoEmail",
                 "O pagamento da sua reserva foi confirmado com sucesso! Aproveite a sessão! Detalhes da reserva: Id reserva: %s, Nome filme: %s, Data: %s, Sala: %s, Preço: %s");
 
@@ -123,7 +136,7 @@ class ReservaServiceTest {
         Long idSessao = 1L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -143,7 +156,7 @@ class ReservaServiceTest {
         assertEquals("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.", resultado.getMensagem());
 
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(sessaoRepository, times(1)).findById(idSessao);
+        verify(sessaoRepository, times(1)).travarPorId(idSessao);
         verify(reservaValidation, times(1)).validarSessao(sessao);
         verify(sessaoValidation, times(1)).validarCliente(Optional.of(clienteResponseDTO));
         verify(reservaRepository, times(1)).save(any(Reserva.class));
@@ -159,7 +172,7 @@ class ReservaServiceTest {
         Long idSessao = 1L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.empty());
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doThrow(new ClienteNaoEncontradoException("Cliente não encontrado"))
                 .when(sessaoValidation).validarCliente(any());
@@ -170,7 +183,7 @@ class ReservaServiceTest {
         });
 
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(sessaoRepository, times(1)).findById(idSessao);
+        verify(sessaoRepository, times(1)).travarPorId(idSessao);
         verify(reservaValidation, times(1)).validarSessao(sessao);
         verify(sessaoValidation, times(1)).validarCliente(Optional.empty());
         verify(reservaRepository, never()).save(any());
@@ -185,7 +198,7 @@ class ReservaServiceTest {
         Long idSessao = 999L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doThrow(new SessaoNaoEcontradaException("Sessao não encontrada"))
                 .when(reservaValidation).validarSessao(any(Sessao.class));
 
@@ -195,7 +208,7 @@ class ReservaServiceTest {
         });
 
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(sessaoRepository, times(1)).findById(idSessao);
+        verify(sessaoRepository, times(1)).travarPorId(idSessao);
         verify(reservaValidation, times(1)).validarSessao(sessao);
         verify(reservaRepository, never()).save(any());
         verify(sessaoService, never()).adicionarReservasSessao(any());
@@ -219,7 +232,7 @@ class ReservaServiceTest {
                 .build();
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessaoInativa));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessaoInativa));
         doThrow(new SessaoNaoEcontradaException("Sessao não encontrada"))
                 .when(reservaValidation).validarSessao(any(Sessao.class));
 
@@ -229,11 +242,33 @@ class ReservaServiceTest {
         });
 
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(sessaoRepository, times(1)).findById(idSessao);
+        verify(sessaoRepository, times(1)).travarPorId(idSessao);
         verify(reservaValidation, times(1)).validarSessao(sessaoInativa);
         verify(reservaRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Deve lançar exceção quando a sessão não tiver lugares disponíveis")
+    void deveLancarExcecaoQuandoSessaoLotada() {
+        // Given
+        UUID idCliente = UUID.randomUUID();
+        Long idSessao = 1L;
+
+        when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
+        doThrow(new SessaoLotadaException("Não há mais lugares disponíveis nesta sessão"))
+                .when(reservaValidation).validarLugaresDisponiveis(sessao);
+
+        // When & Then
+        assertThrows(SessaoLotadaException.class, () -> {
+            reservaService.adicionarReserva(idCliente, idSessao);
+        });
+
+        verify(sessaoRepository, times(1)).travarPorId(idSessao);
+        verify(reservaRepository, never()).save(any());
+        verify(emailService, never()).enviarEmail(any(), any(), any());
+    }
+
     @Test
     @DisplayName("Deve chamar adicionarReservasSessao após salvar reserva")
     void deveChamarAtualizarReservasSessaoAposSalvarReserva() {
@@ -242,7 +277,7 @@ class ReservaServiceTest {
         Long idSessao = 1L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -266,7 +301,7 @@ class ReservaServiceTest {
         ArgumentCaptor<Reserva> reservaCaptor = ArgumentCaptor.forClass(Reserva.class);
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -295,7 +330,7 @@ class ReservaServiceTest {
 
         when(clienteFeignClient.obterClientePorId(idCliente1)).thenReturn(Optional.of(clienteResponseDTO));
         when(clienteFeignClient.obterClientePorId(idCliente2)).thenReturn(Optional.of(cliente2));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -309,7 +344,7 @@ class ReservaServiceTest {
         // Then
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente1);
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente2);
-        verify(sessaoRepository, times(2)).findById(idSessao);
+        verify(sessaoRepository, times(2)).travarPorId(idSessao);
         verify(reservaRepository, times(2)).save(any(Reserva.class));
     }
 
@@ -321,7 +356,7 @@ class ReservaServiceTest {
         Long idSessao = 999L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(idSessao)).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(idSessao)).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -332,7 +367,7 @@ class ReservaServiceTest {
         reservaService.adicionarReserva(idCliente, idSessao);
 
         // Then
-        verify(sessaoRepository, times(1)).findById(idSessao);
+        verify(sessaoRepository, times(1)).travarPorId(idSessao);
     }
 
     @Test
@@ -343,7 +378,7 @@ class ReservaServiceTest {
         Long idSessao = 1L;
 
         when(clienteFeignClient.obterClientePorId(idCliente)).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -358,50 +393,31 @@ class ReservaServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar todas as reservas de um cliente com sucesso")
+    @DisplayName("Deve listar a primeira página das reservas de um cliente com sucesso")
     void deveListarTodasReservasDeUmClienteComSucesso() {
         // Given
         UUID idCliente = UUID.randomUUID();
-
-        Sessao sessao2 = Sessao.builder()
-                .id(2L)
-                .idFilme(2L)
-                .tituloFilme("Filme Teste 2")
-                .sala(2)
-                .preco(45.0)
-                .dataHoraSessao(LocalDateTime.of(2026, 2, 21, 18, 0))
-                .ativa(true)
-                .build();
-
-        Reserva reserva2 = Reserva.builder()
-                .id(2L)
-                .idCliente(idCliente)
-                .sessao(sessao2)
-                .pagamentoConfirmado(true)
-                .ativa(true)
-                .mensagem("Pagamento confirmado.")
-                .build();
-
-        List<Reserva> reservas = List.of(reserva, reserva2);
+        Page<ReservaResponseDTO> pagina = new PageImpl<>(
+                List.of(responseDTO(2L, idCliente, true, true), responseDTO(1L, idCliente, false, true)),
+                PageRequest.of(0, 20), 2);
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
         doNothing().when(sessaoValidation).validarCliente(any());
-        when(reservaRepository.findAllByIdCliente(any(UUID.class))).thenReturn(reservas);
-        doNothing().when(reservaValidation).validarListagemReservas(any());
+        when(reservaRepository.listarPorCliente(idCliente, null, null, PageRequest.of(0, 20))).thenReturn(pagina);
 
         // When
-        List<Reserva> resultado = reservaService.listarReservas(idCliente);
+        Page<ReservaResponseDTO> resultado = reservaService.listarReservas(idCliente, null, 0, 20);
 
         // Then
         assertNotNull(resultado);
-        assertEquals(2, resultado.size());
-        assertEquals(1L, resultado.get(0).getId());
-        assertEquals(2L, resultado.get(1).getId());
+        assertEquals(2, resultado.getContent().size());
+        assertEquals(2L, resultado.getContent().get(0).id());
+        assertEquals("Filme Teste", resultado.getContent().get(0).tituloFilme());
+        assertEquals(2, resultado.getTotalElements());
 
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
         verify(sessaoValidation, times(1)).validarCliente(Optional.of(clienteResponseDTO));
-        verify(reservaRepository, times(1)).findAllByIdCliente(idCliente);
-        verify(reservaValidation, times(1)).validarListagemReservas(reservas);
+        verify(reservaValidation, times(1)).validarListagemReservas(pagina.getContent());
     }
 
     @Test
@@ -416,82 +432,93 @@ class ReservaServiceTest {
 
         // When & Then
         assertThrows(ClienteNaoEncontradoException.class, () -> {
-            reservaService.listarReservas(idCliente);
+            reservaService.listarReservas(idCliente, null, 0, 20);
         });
 
         verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
         verify(sessaoValidation, times(1)).validarCliente(Optional.empty());
-        verify(reservaRepository, never()).findAllByIdCliente(any(UUID.class));
+        verify(reservaRepository, never()).listarPorCliente(any(), any(), any(), any());
         verify(reservaValidation, never()).validarListagemReservas(any());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando lista de reservas estiver vazia")
+    @DisplayName("Deve lançar exceção quando a primeira página de reservas estiver vazia")
     void deveLancarExcecaoQuandoListaDeReservasEstiverVazia() {
         // Given
         UUID idCliente = UUID.randomUUID();
-        List<Reserva> reservasVazia = new ArrayList<>();
+        Page<ReservaResponseDTO> paginaVazia = Page.empty(PageRequest.of(0, 20));
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
         doNothing().when(sessaoValidation).validarCliente(any());
-        when(reservaRepository.findAllByIdCliente(any(UUID.class))).thenReturn(reservasVazia);
+        when(reservaRepository.listarPorCliente(any(UUID.class), any(), any(), any())).thenReturn(paginaVazia);
         doThrow(new ListaReservasVaziaException("Lista de reservas vazia"))
-                .when(reservaValidation).validarListagemReservas(reservasVazia);
+                .when(reservaValidation).validarListagemReservas(paginaVazia.getContent());
 
         // When & Then
         assertThrows(ListaReservasVaziaException.class, () -> {
-            reservaService.listarReservas(idCliente);
+            reservaService.listarReservas(idCliente, null, 0, 20);
         });
 
-        verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(sessaoValidation, times(1)).validarCliente(Optional.of(clienteResponseDTO));
-        verify(reservaRepository, times(1)).findAllByIdCliente(idCliente);
-        verify(reservaValidation, times(1)).validarListagemReservas(reservasVazia);
+        verify(reservaRepository, times(1)).listarPorCliente(idCliente, null, null, PageRequest.of(0, 20));
     }
 
     @Test
-    @DisplayName("Deve listar apenas uma reserva quando cliente possui apenas uma")
-    void deveListarApenasUmaReservaQuandoClientePossuiApenaUma() {
+    @DisplayName("Deve filtrar as reservas canceladas pelo status")
+    void deveFiltrarReservasCanceladasPeloStatus() {
         // Given
         UUID idCliente = UUID.randomUUID();
-        List<Reserva> reservas = List.of(reserva);
+        Page<ReservaResponseDTO> pagina = new PageImpl<>(List.of(responseDTO(3L, idCliente, false, false)));
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
         doNothing().when(sessaoValidation).validarCliente(any());
-        when(reservaRepository.findAllByIdCliente(any(UUID.class))).thenReturn(reservas);
-        doNothing().when(reservaValidation).validarListagemReservas(any());
+        when(reservaRepository.listarPorCliente(any(UUID.class), any(), any(), any())).thenReturn(pagina);
 
         // When
-        List<Reserva> resultado = reservaService.listarReservas(idCliente);
+        Page<ReservaResponseDTO> resultado = reservaService.listarReservas(idCliente, StatusReserva.CANCELADA, 0, 20);
 
         // Then
-        assertNotNull(resultado);
-        assertEquals(1, resultado.size());
-        assertEquals(1L, resultado.get(0).getId());
-        assertFalse(resultado.get(0).getPagamentoConfirmado());
-
-        verify(reservaRepository, times(1)).findAllByIdCliente(idCliente);
+        assertFalse(resultado.getContent().get(0).ativa());
+        verify(reservaRepository, times(1)).listarPorCliente(idCliente, false, null, PageRequest.of(0, 20));
     }
 
+    @Test
+    @DisplayName("Deve limitar o tamanho da página e não validar páginas além da primeira")
+    void deveLimitarTamanhoDaPaginaENaoValidarPaginasSeguintes() {
+        // Given
+        UUID idCliente = UUID.randomUUID();
+        Page<ReservaResponseDTO> paginaVazia = Page.empty(PageRequest.of(3, 100));
+
+        when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
+        doNothing().when(sessaoValidation).validarCliente(any());
+        when(reservaRepository.listarPorCliente(any(UUID.class), any(), any(), any())).thenReturn(paginaVazia);
+
+        // When
+        Page<ReservaResponseDTO> resultado = reservaService.listarReservas(idCliente, StatusReserva.PAGA, 3, 5000);
+
+        // Then
+        assertTrue(resultado.getContent().isEmpty());
+        verify(reservaRepository, times(1)).listarPorCliente(idCliente, true, true, PageRequest.of(3, 100));
+        verify(reservaValidation, never()).validarListagemReservas(any());
+    }
 
     @Test
     @DisplayName("Deve validar cliente antes de listar reservas")
     void deveValidarClienteAntesDeListarReservas() {
         // Given
         UUID idCliente = UUID.randomUUID();
-        List<Reserva> reservas = List.of(reserva);
+        Page<ReservaResponseDTO> pagina = new PageImpl<>(List.of(responseDTO(1L, idCliente, false, true)));
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
         doNothing().when(sessaoValidation).validarCliente(any());
-        when(reservaRepository.findAllByIdCliente(any(UUID.class))).thenReturn(reservas);
-        doNothing().when(reservaValidation).validarListagemReservas(any());
+        when(reservaRepository.listarPorCliente(any(UUID.class), any(), any(), any())).thenReturn(pagina);
 
         // When
-        reservaService.listarReservas(idCliente);
+        reservaService.listarReservas(idCliente, null, 0, 20);
 
         // Then
-        verify(sessaoValidation, times(1)).validarCliente(Optional.of(clienteResponseDTO));
-        verify(reservaRepository, times(1)).findAllByIdCliente(idCliente);
+        InOrder ordem = inOrder(sessaoValidation, reservaRepository);
+        ordem.verify(sessaoValidation, times(1)).validarCliente(Optional.of(clienteResponseDTO));
+        ordem.verify(reservaRepository, times(1)).listarPorCliente(idCliente, null, null, PageRequest.of(0, 20));
     }
 
     @Test
@@ -499,33 +526,24 @@ class ReservaServiceTest {
     void deveRetornarListaComTodasReservasAtivasEInativas() {
         // Given
         UUID idCliente = UUID.randomUUID();
-
-        Reserva reservaInativa = Reserva.builder()
-                .id(2L)
-                .idCliente(idCliente)
-                .sessao(sessao)
-                .pagamentoConfirmado(false)
-                .ativa(false)
-                .mensagem("Reserva cancelada.")
-                .build();
-
-        List<Reserva> reservas = List.of(reserva, reservaInativa);
+        Page<ReservaResponseDTO> pagina = new PageImpl<>(
+                List.of(responseDTO(2L, idCliente, false, true), responseDTO(1L, idCliente, true, false)),
+                PageRequest.of(0, 20), 2);
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
         doNothing().when(sessaoValidation).validarCliente(any());
-        when(reservaRepository.findAllByIdCliente(any(UUID.class))).thenReturn(reservas);
-        doNothing().when(reservaValidation).validarListagemReservas(any());
+        when(reservaRepository.listarPorCliente(any(UUID.class), any(), any(), any())).thenReturn(pagina);
 
         // When
-        List<Reserva> resultado = reservaService.listarReservas(idCliente);
+        Page<ReservaResponseDTO> resultado = reservaService.listarReservas(idCliente, null, 0, 20);
 
         // Then
         assertNotNull(resultado);
-        assertEquals(2, resultado.size());
-        assertTrue(resultado.get(0).getAtiva());
-        assertFalse(resultado.get(1).getAtiva());
+        assertEquals(2, resultado.getContent().size());
+        assertTrue(resultado.getContent().get(0).ativa());
+        assertFalse(resultado.getContent().get(1).ativa());
 
-        verify(reservaRepository, times(1)).findAllByIdCliente(idCliente);
+        verify(reservaRepository, times(1)).listarPorCliente(idCliente, null, null, PageRequest.of(0, 20));
     }
 
     @Test
@@ -534,29 +552,28 @@ class ReservaServiceTest {
         // Given
         UUID idCliente = UUID.randomUUID();
         Long idReserva = 1L;
+        ReservaDetalhe detalhe = detalhe(reserva, idCliente);
 
-        when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(reservaRepository.findById(idReserva)).thenReturn(Optional.of(reserva));
+        when(cacheClientes.buscarPorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
         doNothing().when(sessaoValidation).validarCliente(any());
-        doNothing().when(reservaValidation).validarBuscaReserva(any(UUID.class), any(Reserva.class));
-        when(reservaRepository.findByIdAndIdCliente(anyLong(), any(UUID.class))).thenReturn(Optional.of(reserva));
+        when(reservaRepository.buscarDetalhe(idReserva, idCliente)).thenReturn(Optional.of(detalhe));
 
         // When
-        Optional<Reserva> resultado = reservaService.buscarReservaPorId(idCliente, idReserva);
+        ReservaDetalhe resultado = reservaService.buscarReservaPorId(idCliente, idReserva);
 
         // Then
-        assertNotNull(resultado);
-        assertTrue(resultado.isPresent());
-        assertEquals(1L, resultado.get().getId());
-        assertEquals(sessao, resultado.get().getSessao());
-        assertTrue(resultado.get().getAtiva());
-        assertFalse(resultado.get().getPagamentoConfirmado());
+        assertEquals(1L, resultado.id());
+        assertEquals(sessao.getId(), resultado.idSessao());
+        assertEquals("Filme Teste", resultado.tituloFilme());
+        assertTrue(resultado.ativa());
+        assertFalse(resultado.pagamentoConfirmado());
 
-        verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(reservaRepository, times(1)).findById(idReserva);
+        verify(cacheClientes, times(1)).buscarPorId(idCliente);
         verify(sessaoValidation, times(1)).validarCliente(Optional.of(clienteResponseDTO));
-        verify(reservaValidation, times(1)).validarBuscaReserva(idCliente, reserva);
-        verify(reservaRepository, times(1)).findByIdAndIdCliente(idReserva, idCliente);
+        verify(reservaRepository, times(1)).buscarDetalhe(idReserva, idCliente);
+        verify(reservaRepository, never()).findById(anyLong());
+        verify(reservaRepository, never()).existsById(anyLong());
+        verifyNoInteractions(clienteFeignClient);
     }
 
     @Test
@@ -566,8 +583,7 @@ class ReservaServiceTest {
         UUID idCliente = UUID.randomUUID();
         Long idReserva = 1L;
 
-        when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.empty());
-        when(reservaRepository.findById(idReserva)).thenReturn(Optional.of(reserva));
+        when(cacheClientes.buscarPorId(any(UUID.class))).thenReturn(Optional.empty());
         doThrow(new ClienteNaoEncontradoException("Cliente não encontrado"))
                 .when(sessaoValidation).validarCliente(Optional.empty());
 
@@ -576,11 +592,9 @@ class ReservaServiceTest {
             reservaService.buscarReservaPorId(idCliente, idReserva);
         });
 
-        verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(reservaRepository, times(1)).findById(idReserva);
+        verify(cacheClientes, times(1)).buscarPorId(idCliente);
         verify(sessaoValidation, times(1)).validarCliente(Optional.empty());
-        verify(reservaValidation, never()).validarBuscaReserva(any(UUID.class), any());
-        verify(reservaRepository, never()).findByIdAndIdCliente(anyLong(), any(UUID.class));
+        verify(reservaRepository, never()).buscarDetalhe(anyLong(), any(UUID.class));
     }
 
     @Test
@@ -588,34 +602,19 @@ class ReservaServiceTest {
     void deveLancarExcecaoQuandoReservaNaoPertenceAoClienteAoBuscar() {
         // Given
         UUID idCliente = UUID.randomUUID();
-        UUID idClienteDiferente = UUID.randomUUID();
         Long idReserva = 1L;
 
-        Reserva reservaOutroCliente = Reserva.builder()
-                .id(1L)
-                .idCliente(idClienteDiferente) // Cliente diferente
-                .sessao(sessao)
-                .pagamentoConfirmado(false)
-                .ativa(true)
-                .mensagem("Reserva de outro cliente.")
-                .build();
-
-        when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(reservaRepository.findById(idReserva)).thenReturn(Optional.ofNullable(reservaOutroCliente));
+        when(cacheClientes.buscarPorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
         doNothing().when(sessaoValidation).validarCliente(any());
-        doThrow(new ReservaNaoEncontradaException("Reserva não encontrada"))
-                .when(reservaValidation).validarBuscaReserva(any(UUID.class), any(Reserva.class));
+        when(reservaRepository.buscarDetalhe(idReserva, idCliente)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ReservaNaoEncontradaException.class, () -> {
             reservaService.buscarReservaPorId(idCliente, idReserva);
         });
 
-        verify(clienteFeignClient, times(1)).obterClientePorId(idCliente);
-        verify(reservaRepository, times(1)).findById(idReserva);
-        verify(sessaoValidation, times(1)).validarCliente(Optional.of(clienteResponseDTO));
-        verify(reservaValidation, times(1)).validarBuscaReserva(idCliente, reservaOutroCliente);
-        verify(reservaRepository, never()).findByIdAndIdCliente(anyLong(), any(UUID.class));
+        verify(cacheClientes, times(1)).buscarPorId(idCliente);
+        verify(reservaRepository, times(1)).buscarDetalhe(idReserva, idCliente);
     }
 
     @Test
@@ -638,29 +637,32 @@ class ReservaServiceTest {
                 .mensagem("Reserva realizada com sucesso. Para confirma-lá, conclua o pagamento.")
                 .build();
 
-        when(clienteFeignClient.obterClientePorId(idCliente1)).thenReturn(Optional.of(clienteResponseDTO));
-        when(clienteFeignClient.obterClientePorId(idCliente2)).thenReturn(Optional.of(cliente2));
-        when(reservaRepository.findById(idReserva1)).thenReturn(Optional.ofNullable(reserva));
-        when(reservaRepository.findById(idReserva2)).thenReturn(Optional.ofNullable(reserva2));
+        when(cacheClientes.buscarPorId(idCliente1)).thenReturn(Optional.of(clienteResponseDTO));
+        when(cacheClientes.buscarPorId(idCliente2)).thenReturn(Optional.of(cliente2));
         doNothing().when(sessaoValidation).validarCliente(any());
-        doNothing().when(reservaValidation).validarBuscaReserva(any(UUID.class), any());
-        when(reservaRepository.findByIdAndIdCliente(idReserva1, idCliente1)).thenReturn(Optional.of(reserva));
-        when(reservaRepository.findByIdAndIdCliente(idReserva2, idCliente2)).thenReturn(Optional.of(reserva2));
+        when(reservaRepository.buscarDetalhe(idReserva1, idCliente1)).thenReturn(Optional.of(detalhe(reserva, idCliente1)));
+        when(reservaRepository.buscarDetalhe(idReserva2, idCliente2)).thenReturn(Optional.of(detalhe(reserva2, idCliente2)));
 
         // When
-        Optional<Reserva> resultadoCliente1 = reservaService.buscarReservaPorId(idCliente1, idReserva1);
-        Optional<Reserva> resultadoCliente2 = reservaService.buscarReservaPorId(idCliente2, idReserva2);
+        ReservaDetalhe resultadoCliente1 = reservaService.buscarReservaPorId(idCliente1, idReserva1);
+        ReservaDetalhe resultadoCliente2 = reservaService.buscarReservaPorId(idCliente2, idReserva2);
 
         // Then
-        assertTrue(resultadoCliente1.isPresent());
-        assertTrue(resultadoCliente2.isPresent());
+        assertEquals(idReserva1, resultadoCliente1.id());
+        assertEquals(idReserva2, resultadoCliente2.id());
 
-        verify(clienteFeignClient, times(1)).obterClientePorId(idCliente1);
-        verify(clienteFeignClient, times(1)).obterClientePorId(idCliente2);
-        verify(reservaRepository, times(1)).findByIdAndIdCliente(idReserva1, idCliente1);
-        verify(reservaRepository, times(1)).findByIdAndIdCliente(idReserva2, idCliente2);
+        verify(cacheClientes, times(1)).buscarPorId(idCliente1);
+        verify(cacheClientes, times(1)).buscarPorId(idCliente2);
+        verify(reservaRepository, times(1)).buscarDetalhe(idReserva1, idCliente1);
+        verify(reservaRepository, times(1)).buscarDetalhe(idReserva2, idCliente2);
     }
 
+    private ReservaDetalhe detalhe(Reserva reserva, UUID idCliente) {
+        Sessao sessaoReserva = reserva.getSessao();
+        return new ReservaDetalhe(reserva.getId(), idCliente, reserva.getPagamentoConfirmado(), reserva.getAtiva(),
+                reserva.getMensagem(), sessaoReserva.getId(), sessaoReserva.getTituloFilme(), sessaoReserva.getSala(),
+                sessaoReserva.getPreco(), sessaoReserva.getDataHoraSessao());
+    }
 
     @Test
     @DisplayName("Deve cancelar uma reserva com sucesso")
@@ -818,7 +820,7 @@ class ReservaServiceTest {
         Long idSessao = 1L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -848,7 +850,7 @@ class ReservaServiceTest {
         ArgumentCaptor<String> mensagemCaptor = ArgumentCaptor.forClass(String.class);
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doNothing().when(sessaoValidation).validarCliente(any());
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reserva);
@@ -1101,7 +1103,7 @@ class ReservaServiceTest {
         Long idSessao = 1L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.empty());
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doNothing().when(reservaValidation).validarSessao(any(Sessao.class));
         doThrow(new com.romanowski.pedro.exceptions.ClienteNaoEncontradoException("Cliente não encontrado"))
                 .when(sessaoValidation).validarCliente(any());
@@ -1123,7 +1125,7 @@ class ReservaServiceTest {
         Long idSessao = 999L;
 
         when(clienteFeignClient.obterClientePorId(any(UUID.class))).thenReturn(Optional.of(clienteResponseDTO));
-        when(sessaoRepository.findById(anyLong())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.travarPorId(anyLong())).thenReturn(Optional.of(sessao));
         doThrow(new com.romanowski.pedro.exceptions.SessaoNaoEcontradaException("Sessao não encontrada"))
                 .when(reservaValidation).validarSessao(any(Sessao.class));
 
@@ -1135,4 +1137,9 @@ class ReservaServiceTest {
         verify(emailService, never()).enviarEmail(any(), any(), any());
         verify(reservaRepository, never()).save(any());
     }
+
+    private ReservaResponseDTO responseDTO(Long id, UUID idCliente, boolean pagamentoConfirmado, boolean ativa) {
+        return new ReservaResponseDTO(id, idCliente, sessao.getId(), pagamentoConfirmado, ativa, "Reserva",
+                sessao.getTituloFilme(), sessao.getDataHoraSessao());
+    }
 }
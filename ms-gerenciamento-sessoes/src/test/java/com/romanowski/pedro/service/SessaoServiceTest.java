@@ -10,7 +10,17 @@ import com.romanowski.pedro.exceptions.ListaSessoesVaziaException;
 import com.romanowski.pedro.exceptions.SessaoExistenteException;
 import com.romanowski.pedro.exceptions.SessaoNaoEcontradaException;
 import com.romanowski.pedro.feign.CatalogoFeignClient;
+import com.romanowski.pedro.repository.ReservaRepository;
+import com.romanowski.pedro.repository.SessaoLoteRepository;
 import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.ReservaCancelada;
+import com.romanowski.pedro.service.agenda.AgendaSalas;
+import com.romanowski.pedro.service.agenda.Conflito;
+import com.romanowski.pedro.service.agenda.MotivoConflito;
+import com.romanowski.pedro.service.agenda.Programacao;
+import com.romanowski.pedro.service.agenda.ResultadoProgramacao;
+import com.romanowski.pedro.service.cancelamento.PublicadorReservasCanceladas;
+import com.romanowski.pedro.service.disponibilidade.PainelDisponibilidade;
 import com.romanowski.pedro.service.validation.SessaoValidation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +30,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +54,21 @@ class SessaoServiceTest {
     @Mock
     private CatalogoFeignClient catalogoFeignClient;
 
+    @Mock
+    private AgendaSalas agendaSalas;
+
+    @Mock
+    private SessaoLoteRepository sessaoLoteRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private PublicadorReservasCanceladas publicadorReservasCanceladas;
+
+    @Mock
+    private PainelDisponibilidade painelDisponibilidade;
+
     @InjectMocks
     private SessaoService sessaoService;
 
@@ -87,7 +114,7 @@ class SessaoServiceTest {
         when(catalogoFeignClient.obterFilmePorTitulo()).thenReturn(Optional.of(filmeResponseDTO));
         doNothing().when(sessaoValidation).validarFilme(any());
         doNothing().when(sessaoValidation).validarDataHoraSessao(any());
-        doNothing().when(sessaoValidation).validarExistenciaSessaoMesmoHorarioESala(any());
+        doNothing().when(sessaoValidation).validarConflitoHorarioSala(any());
         when(sessaoRepository.save(any(Sessao.class))).thenReturn(sessao);
 
         try (MockedStatic<FeignInterceptor> mockedStatic = mockStatic(FeignInterceptor.class)) {
@@ -105,11 +132,12 @@ class SessaoServiceTest {
             assertTrue(resultado.getAtiva());
             assertNotNull(resultado.getReservas());
             assertTrue(resultado.getReservas().isEmpty());
+            assertEquals(120, sessaoNova.getDuracaoMinutos());
 
             verify(catalogoFeignClient, times(1)).obterFilmePorTitulo();
             verify(sessaoValidation, times(1)).validarFilme(any());
             verify(sessaoValidation, times(1)).validarDataHoraSessao(any());
-            verify(sessaoValidation, times(1)).validarExistenciaSessaoMesmoHorarioESala(any());
+            verify(sessaoValidation, times(1)).validarConflitoHorarioSala(any());
             verify(sessaoRepository, times(1)).save(any(Sessao.class));
         }
     }
@@ -174,7 +202,7 @@ class SessaoServiceTest {
         doNothing().when(sessaoValidation).validarFilme(any());
         doNothing().when(sessaoValidation).validarDataHoraSessao(any());
         doThrow(new SessaoExistenteException("Já existe uma sessão neste horário e sala"))
-                .when(sessaoValidation).validarExistenciaSessaoMesmoHorarioESala(any());
+                .when(sessaoValidation).validarConflitoHorarioSala(any());
 
         try (MockedStatic<FeignInterceptor> mockedStatic = mockStatic(FeignInterceptor.class)) {
             mockedStatic.when(() -> FeignInterceptor.setTitulo(anyString())).then(invocation -> null);
@@ -302,6 +330,46 @@ class SessaoServiceTest {
         verify(sessaoValidation, times(1)).validarSessao(sessaoId);
         verify(sessaoRepository, times(1)).findById(sessaoId);
         verify(sessaoRepository, times(1)).save(sessaoAtiva);
+        verify(agendaSalas, times(1)).liberar(sessaoAtiva);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar as reservas da sessão em um único UPDATE e registrar os estornos no outbox")
+    void deveCancelarReservasDaSessaoEmLote() {
+        // Given
+        Long sessaoId = 1L;
+        List<ReservaCancelada> canceladas = List.of(
+                new ReservaCancelada(10L, UUID.randomUUID(), true),
+                new ReservaCancelada(11L, UUID.randomUUID(), false));
+        ReflectionTestUtils.setField(sessaoService, "mensagemReservaCanceladaSessao", "Reserva cancelada com a sessão");
+        when(sessaoRepository.findById(sessaoId)).thenReturn(Optional.of(sessao));
+        when(reservaRepository.cancelarReservasDaSessao(sessaoId, "Reserva cancelada com a sessão")).thenReturn(2);
+        when(reservaRepository.buscarCanceladasComSessao(sessaoId, "Reserva cancelada com a sessão")).thenReturn(canceladas);
+
+        // When
+        sessaoService.cancelarSessao(sessaoId);
+
+        // Then
+        assertFalse(sessao.getAtiva());
+        verify(reservaRepository, times(1)).cancelarReservasDaSessao(sessaoId, "Reserva cancelada com a sessão");
+        verify(publicadorReservasCanceladas, times(1)).registrar(sessao, canceladas);
+        verify(reservaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Não deve cancelar novamente as reservas de uma sessão já cancelada")
+    void naoDeveCancelarReservasDeSessaoJaCancelada() {
+        // Given
+        sessao.setAtiva(false);
+        when(sessaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
+
+        // When
+        sessaoService.cancelarSessao(1L);
+
+        // Then
+        verify(sessaoRepository, never()).save(any());
+        verify(reservaRepository, never()).cancelarReservasDaSessao(anyLong(), any());
+        verifyNoInteractions(publicadorReservasCanceladas);
     }
 
     @Test
@@ -346,6 +414,7 @@ class SessaoServiceTest {
 
         verify(sessaoRepository, times(1)).findById(sessao.getId());
         verify(sessaoRepository, times(1)).save(sessao);
+        verify(painelDisponibilidade, times(1)).registrarAlteracao(sessao.getId());
     }
 
     @Test
@@ -383,4 +452,53 @@ class SessaoServiceTest {
         verify(sessaoRepository, times(2)).findById(sessao.getId());
         verify(sessaoRepository, times(2)).save(sessao);
     }
+
+    @Test
+    @DisplayName("Deve gravar a programação inteira em lote com uma única consulta ao catálogo")
+    void deveGravarProgramacaoEmLote() {
+        // Given
+        LocalDate inicio = LocalDate.now().plusDays(1);
+        Programacao programacao = new Programacao("Filme Teste", List.of(1, 2, 3, 4, 5), inicio, inicio.plusDays(6),
+                List.of(LocalTime.of(14, 0), LocalTime.of(20, 0)), 40.0);
+        when(catalogoFeignClient.obterFilmePorTitulo()).thenReturn(Optional.of(filmeResponseDTO));
+        when(agendaSalas.ocuparTodas(anyList(), eq(false))).thenReturn(List.of());
+
+        try (MockedStatic<FeignInterceptor> mockedStatic = mockStatic(FeignInterceptor.class)) {
+            // When
+            ResultadoProgramacao resultado = sessaoService.programarSessoes(programacao, false);
+
+            // Then
+            assertTrue(resultado.gravada());
+            assertEquals(70, resultado.sessoes().size());
+            assertTrue(resultado.sessoes().stream().allMatch(nova -> nova.getIdFilme() == 1L && nova.getDuracaoMinutos() == 120));
+            verify(sessaoValidation, times(1)).validarProgramacao(programacao);
+            verify(catalogoFeignClient, times(1)).obterFilmePorTitulo();
+            verify(sessaoLoteRepository, times(1)).inserirTodas(resultado.sessoes());
+            verify(sessaoRepository, never()).save(any(Sessao.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve gravar a programação com conflitos ou na simulação")
+    void naoDeveGravarProgramacaoComConflitos() {
+        // Given
+        LocalDate inicio = LocalDate.now().plusDays(1);
+        Programacao programacao = new Programacao("Filme Teste", List.of(1), inicio, inicio,
+                List.of(LocalTime.of(14, 0), LocalTime.of(15, 0)), 40.0);
+        when(catalogoFeignClient.obterFilmePorTitulo()).thenReturn(Optional.of(filmeResponseDTO));
+        when(agendaSalas.ocuparTodas(anyList(), anyBoolean()))
+                .thenAnswer(invocation -> List.of(new Conflito(invocation.<List<Sessao>>getArgument(0).get(1), MotivoConflito.MESMA_PROGRAMACAO)));
+
+        try (MockedStatic<FeignInterceptor> mockedStatic = mockStatic(FeignInterceptor.class)) {
+            // When
+            ResultadoProgramacao resultado = sessaoService.programarSessoes(programacao, false);
+            ResultadoProgramacao simulacao = sessaoService.programarSessoes(programacao, true);
+
+            // Then
+            assertFalse(resultado.gravada());
+            assertEquals(1, resultado.conflitos().size());
+            assertTrue(simulacao.simulacao());
+            verify(sessaoLoteRepository, never()).inserirTodas(anyList());
+        }
+    }
 }
@@ -0,0 +1,150 @@
+package com.romanowski.pedro.service.agenda;
+
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.HorarioSessao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para AgendaSalas")
+class AgendaSalasTest {
+
+    private static final LocalDate DIA = LocalDate.now().plusDays(10);
+
+    @Mock
+    private SessaoRepository sessaoRepository;
+
+    private AgendaSalas agendaSalas;
+
+    @BeforeEach
+    void setUp() {
+        agendaSalas = new AgendaSalas(sessaoRepository, 15, 240);
+    }
+
+    @Test
+    @DisplayName("Deve recusar sessão que começa antes do fim da anterior na mesma sala")
+    void deveRecusarSessaoSobreposta() {
+        // Given
+        assertTrue(agendaSalas.ocupar(sessao(1L, 1, "20:00", 120)));
+
+        // When & Then
+        assertFalse(agendaSalas.ocupar(sessao(2L, 1, "21:30", 90)));
+        assertFalse(agendaSalas.ocupar(sessao(3L, 1, "19:00", 90)));
+        assertTrue(agendaSalas.ocupar(sessao(4L, 2, "21:30", 90)));
+    }
+
+    @Test
+    @DisplayName("Deve exigir o intervalo de limpeza entre sessões da mesma sala")
+    void deveExigirIntervaloDeLimpeza() {
+        // Given
+        assertTrue(agendaSalas.ocupar(sessao(1L, 1, "20:00", 120)));
+
+        // When & Then
+        assertFalse(agendaSalas.disponivel(1, horario("22:10"), 90));
+        assertTrue(agendaSalas.ocupar(sessao(2L, 1, "22:15", 90)));
+        assertFalse(agendaSalas.disponivel(1, horario("18:00"), 110));
+        assertTrue(agendaSalas.ocupar(sessao(3L, 1, "18:00", 105)));
+    }
+
+    @Test
+    @DisplayName("Deve liberar o horário de uma sessão cancelada")
+    void deveLiberarHorarioDeSessaoCancelada() {
+        // Given
+        Sessao sessao = sessao(1L, 1, "20:00", 120);
+        agendaSalas.ocupar(sessao);
+
+        // When
+        agendaSalas.liberar(sessao);
+
+        // Then
+        assertTrue(agendaSalas.ocupar(sessao(2L, 1, "20:30", 120)));
+    }
+
+    @Test
+    @DisplayName("Deve detectar sobreposição com sessão longa carregada do banco mesmo com outra sessão no meio")
+    void deveDetectarSobreposicaoComSessaoLongaCarregada() {
+        // Given
+        when(sessaoRepository.buscarHorariosAtivos(any(LocalDateTime.class))).thenReturn(List.of(
+                new HorarioSessao(1L, 1, horario("14:00"), 240),
+                new HorarioSessao(2L, 1, horario("15:00"), 60),
+                new HorarioSessao(3L, 2, horario("14:00"), null)));
+
+        // When
+        agendaSalas.recarregar();
+
+        // Then
+        assertFalse(agendaSalas.disponivel(1, horario("17:00"), 60));
+        assertTrue(agendaSalas.disponivel(1, horario("18:15"), 60));
+        assertFalse(agendaSalas.disponivel(2, horario("18:00"), 60));
+        assertTrue(agendaSalas.disponivel(3, horario("14:00"), 60));
+    }
+
+    @Test
+    @DisplayName("Deve apontar conflitos da programação entre si e com a agenda sem reservar nada")
+    void deveApontarConflitosDaProgramacaoSemReservar() {
+        // Given
+        assertTrue(agendaSalas.ocupar(sessao(1L, 2, "20:00", 120)));
+        List<Sessao> programacao = List.of(
+                sessao(null, 1, "14:00", 120),
+                sessao(null, 1, "15:00", 120),
+                sessao(null, 2, "21:00", 120),
+                sessao(null, 3, "21:00", 120));
+
+        // When
+        List<Conflito> conflitos = agendaSalas.ocuparTodas(programacao, false);
+
+        // Then
+        assertEquals(2, conflitos.size());
+        assertEquals(MotivoConflito.MESMA_PROGRAMACAO, conflitos.get(0).motivo());
+        assertSame(programacao.get(1), conflitos.get(0).sessao());
+        assertEquals(MotivoConflito.SESSAO_EXISTENTE, conflitos.get(1).motivo());
+        assertTrue(agendaSalas.disponivel(1, horario("14:00"), 120));
+        assertTrue(agendaSalas.disponivel(3, horario("21:00"), 120));
+    }
+
+    @Test
+    @DisplayName("Deve reservar toda a programação sem conflitos e não reservar nada na simulação")
+    void deveReservarProgramacaoSemConflitos() {
+        // Given
+        List<Sessao> simulada = List.of(sessao(null, 1, "14:00", 120), sessao(null, 1, "16:15", 120));
+        List<Sessao> programacao = List.of(sessao(null, 1, "14:00", 120), sessao(null, 1, "16:15", 120));
+
+        // When
+        List<Conflito> conflitosSimulacao = agendaSalas.ocuparTodas(simulada, true);
+        List<Conflito> conflitos = agendaSalas.ocuparTodas(programacao, false);
+
+        // Then
+        assertTrue(conflitosSimulacao.isEmpty());
+        assertTrue(conflitos.isEmpty());
+        assertFalse(agendaSalas.disponivel(1, horario("14:00"), 60));
+        assertFalse(agendaSalas.disponivel(1, horario("17:00"), 60));
+    }
+
+    private static Sessao sessao(Long id, int sala, String hora, int duracao) {
+        return Sessao.builder()
+                .id(id)
+                .sala(sala)
+                .dataHoraSessao(horario(hora))
+                .duracaoMinutos(duracao)
+                .ativa(true)
+                .build();
+    }
+
+    private static LocalDateTime horario(String hora) {
+        return DIA.atTime(LocalTime.parse(hora));
+    }
+}
@@ -0,0 +1,77 @@
+package com.romanowski.pedro.service.arquivo;
+
+import com.romanowski.pedro.repository.ArquivoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ArquivamentoSessoes")
+class ArquivamentoSessoesTest {
+
+    @Mock
+    private ArquivoRepository arquivoRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Deve arquivar em lotes até sobrar um lote incompleto")
+    void deveArquivarEmLotesAteLoteIncompleto() {
+        // Given
+        ArquivamentoSessoes arquivamento = new ArquivamentoSessoes(arquivoRepository, transactionTemplate, meterRegistry, true, 30, 2, 10, 0);
+        when(arquivoRepository.travarSessoesParaArquivar(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        when(arquivoRepository.arquivar(anyList(), any(LocalDateTime.class))).thenReturn(3);
+
+        // When
+        int arquivadas = arquivamento.arquivar();
+
+        // Then
+        assertEquals(5, arquivadas);
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(arquivoRepository).arquivar(eq(List.of(5L)), any(LocalDateTime.class));
+        assertEquals(5, meterRegistry.counter("cinema.sessao.arquivadas").count());
+        assertEquals(9, meterRegistry.counter("cinema.reserva.arquivadas").count());
+    }
+
+    @Test
+    @DisplayName("Deve parar no limite de lotes por execução e só arquivar sessões fora da retenção")
+    void devePararNoLimiteDeLotes() {
+        // Given
+        ArquivamentoSessoes arquivamento = new ArquivamentoSessoes(arquivoRepository, transactionTemplate, meterRegistry, true, 30, 2, 2, 0);
+        when(arquivoRepository.travarSessoesParaArquivar(any(LocalDateTime.class), eq(2))).thenReturn(List.of(1L, 2L));
+
+        // When
+        int arquivadas = arquivamento.arquivar();
+
+        // Then
+        assertEquals(4, arquivadas);
+        verify(arquivoRepository, times(2)).travarSessoesParaArquivar(
+                argThat(limite -> limite.isBefore(LocalDateTime.now().minusDays(29))), eq(2));
+    }
+}
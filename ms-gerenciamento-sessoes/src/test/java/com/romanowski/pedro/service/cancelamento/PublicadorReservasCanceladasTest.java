@@ -0,0 +1,59 @@
+package com.romanowski.pedro.service.cancelamento;
+
+import com.romanowski.pedro.entity.EventoOutbox;
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.repository.EventoOutboxRepository;
+import com.romanowski.pedro.repository.projection.ReservaCancelada;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para PublicadorReservasCanceladas")
+class PublicadorReservasCanceladasTest {
+
+    @Mock
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Test
+    @DisplayName("Deve gravar no outbox um evento por lote de reservas canceladas")
+    @SuppressWarnings("unchecked")
+    void deveGravarUmEventoPorLote() {
+        // Given
+        PublicadorReservasCanceladas publicador = new PublicadorReservasCanceladas(eventoOutboxRepository, JsonMapper.builder().build(), 2);
+        Sessao sessao = Sessao.builder()
+                .id(7L)
+                .tituloFilme("Duna")
+                .sala(3)
+                .dataHoraSessao(LocalDateTime.of(2026, 10, 20, 20, 0))
+                .preco(30.0)
+                .build();
+        List<ReservaCancelada> reservas = List.of(
+                new ReservaCancelada(1L, UUID.randomUUID(), true),
+                new ReservaCancelada(2L, UUID.randomUUID(), false),
+                new ReservaCancelada(3L, UUID.randomUUID(), true));
+
+        // When
+        publicador.registrar(sessao, reservas);
+
+        // Then
+        ArgumentCaptor<List<EventoOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventoOutboxRepository).saveAll(captor.capture());
+        List<EventoOutbox> eventos = captor.getValue();
+        assertEquals(2, eventos.size());
+        assertTrue(eventos.stream().allMatch(evento -> PublicadorReservasCanceladas.RESERVAS_CANCELADAS.equals(evento.getTipo())
+                && evento.getIdAgregado().equals(7L) && evento.getPublicadoEm() == null));
+        assertTrue(eventos.get(1).getPayload().contains("\"reservas\":[{\"idReserva\":3"));
+    }
+}
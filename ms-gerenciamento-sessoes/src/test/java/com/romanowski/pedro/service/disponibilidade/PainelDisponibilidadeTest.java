@@ -0,0 +1,140 @@
+package com.romanowski.pedro.service.disponibilidade;
+
+import com.romanowski.pedro.dto.response.DisponibilidadeResponseDTO;
+import com.romanowski.pedro.exceptions.AssinaturasEsgotadasException;
+import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.repository.projection.OcupacaoSessao;
+import com.romanowski.pedro.service.validation.SessaoValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para PainelDisponibilidade")
+class PainelDisponibilidadeTest {
+
+    private static final Long ID_SESSAO = 1L;
+
+    @Mock
+    private SessaoRepository sessaoRepository;
+
+    @Mock
+    private SessaoValidation sessaoValidation;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private List<Runnable> envios;
+
+    private PainelDisponibilidade painel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        envios = new ArrayList<>();
+        // Recarga e heartbeat longos: só as alterações registradas provocam consultas. Os envios ficam
+        // guardados e só rodam quando o teste pede
+        painel = new PainelDisponibilidade(sessaoRepository, sessaoValidation, JsonMapper.builder().build(), meterRegistry,
+                envios::add, 100, 2, 60_000, 3_600_000, 3_600_000);
+        ReflectionTestUtils.setField(painel, "mensagemAssinaturasEsgotadas", "Limite de acompanhamentos atingido");
+    }
+
+    @Test
+    @DisplayName("Deve agrupar uma rajada de alterações em uma única consulta por ciclo")
+    void deveAgruparRajadaDeAlteracoesEmUmaConsulta() {
+        // Given
+        when(sessaoRepository.buscarOcupacao(anyCollection()))
+                .thenReturn(List.of(new OcupacaoSessao(ID_SESSAO, 120, true, 10L)));
+        painel.assinar(ID_SESSAO);
+        painel.publicar();
+
+        // When
+        painel.registrarAlteracao(ID_SESSAO);
+        painel.registrarAlteracao(ID_SESSAO);
+        painel.registrarAlteracao(ID_SESSAO);
+        painel.publicar();
+        painel.publicar();
+
+        // Then
+        verify(sessaoRepository, times(2)).buscarOcupacao(List.of(ID_SESSAO));
+        assertEquals(1, painel.getTotalAssinantes());
+    }
+
+    @Test
+    @DisplayName("Deve enviar fora do ciclo de publicação e manter um único envio pendente por sessão")
+    void deveManterUmEnvioPendentePorSessao() {
+        // Given
+        when(sessaoRepository.buscarOcupacao(anyCollection()))
+                .thenReturn(List.of(new OcupacaoSessao(ID_SESSAO, 120, true, 10L)))
+                .thenReturn(List.of(new OcupacaoSessao(ID_SESSAO, 120, true, 11L)))
+                .thenReturn(List.of(new OcupacaoSessao(ID_SESSAO, 120, true, 12L)));
+        painel.assinar(ID_SESSAO);
+
+        // When
+        painel.publicar();
+        painel.registrarAlteracao(ID_SESSAO);
+        painel.publicar();
+
+        // Then
+        assertEquals(1, envios.size());
+        envios.removeFirst().run();
+        assertTrue(envios.isEmpty());
+
+        // Envio concluído: a próxima alteração agenda um novo
+        painel.registrarAlteracao(ID_SESSAO);
+        painel.publicar();
+        assertEquals(1, envios.size());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar sessões sem assinantes")
+    void naoDeveConsultarSessoesSemAssinantes() {
+        // When
+        painel.registrarAlteracao(ID_SESSAO);
+        painel.publicar();
+
+        // Then
+        verifyNoInteractions(sessaoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar assinaturas acima do limite da instância")
+    void deveRecusarAssinaturasAcimaDoLimite() {
+        // Given
+        painel.assinar(ID_SESSAO);
+        painel.assinar(2L);
+
+        // When & Then
+        assertThrows(AssinaturasEsgotadasException.class, () -> painel.assinar(3L));
+        assertEquals(2, painel.getTotalAssinantes());
+        assertEquals(2, meterRegistry.get("cinema.sessao.disponibilidade.assinantes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve usar a capacidade padrão e zerar os lugares de sessão cancelada")
+    void deveCalcularDisponibilidade() {
+        // When
+        DisponibilidadeResponseDTO semCapacidade = painel.disponibilidade(new OcupacaoSessao(ID_SESSAO, null, true, 30L));
+        DisponibilidadeResponseDTO lotada = painel.disponibilidade(new OcupacaoSessao(ID_SESSAO, 20, true, 25L));
+        DisponibilidadeResponseDTO cancelada = painel.disponibilidade(new OcupacaoSessao(ID_SESSAO, 120, false, 0L));
+
+        // Then
+        assertEquals(100, semCapacidade.capacidade());
+        assertEquals(70L, semCapacidade.lugaresDisponiveis());
+        assertEquals(0L, lotada.lugaresDisponiveis());
+        assertEquals(0L, cancelada.lugaresDisponiveis());
+        assertFalse(cancelada.ativa());
+    }
+}
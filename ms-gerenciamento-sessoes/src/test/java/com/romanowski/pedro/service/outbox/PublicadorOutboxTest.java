@@ -0,0 +1,89 @@
+package com.romanowski.pedro.service.outbox;
+
+import com.romanowski.pedro.config.AMQPConfiguration;
+import com.romanowski.pedro.entity.EventoOutbox;
+import com.romanowski.pedro.repository.EventoOutboxRepository;
+import com.romanowski.pedro.service.cancelamento.PublicadorReservasCanceladas;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para PublicadorOutbox")
+class PublicadorOutboxTest {
+
+    @Mock
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private PublicadorOutbox publicadorOutbox;
+
+    @BeforeEach
+    void setUp() {
+        publicadorOutbox = new PublicadorOutbox(eventoOutboxRepository, rabbitTemplate, 100, 50);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como publicado apenas o lote confirmado pelo broker")
+    void deveMarcarApenasLoteConfirmado() {
+        // Given
+        EventoOutbox confirmado = evento(1L);
+        EventoOutbox recusado = evento(2L);
+        when(eventoOutboxRepository.travarPendentes(100)).thenReturn(List.of(confirmado, recusado));
+        doAnswer(invocation -> {
+            CorrelationData correlacao = invocation.getArgument(3);
+            correlacao.getFuture().complete(new CorrelationData.Confirm(correlacao.getId().endsWith(":1"), "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq(AMQPConfiguration.EXCHANGE_RESERVAS_CANCELADAS), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When
+        publicadorOutbox.publicarPendentes();
+
+        // Then
+        assertNotNull(confirmado.getPublicadoEm());
+        assertNull(recusado.getPublicadoEm());
+    }
+
+    @Test
+    @DisplayName("Deve manter pendente o lote sem confirmação dentro do prazo")
+    void deveManterPendenteSemConfirmacao() {
+        // Given
+        EventoOutbox evento = evento(1L);
+        when(eventoOutboxRepository.travarPendentes(100)).thenReturn(List.of(evento));
+
+        // When
+        publicadorOutbox.publicarPendentes();
+
+        // Then
+        verify(rabbitTemplate).send(eq(AMQPConfiguration.EXCHANGE_RESERVAS_CANCELADAS), eq(PublicadorReservasCanceladas.RESERVAS_CANCELADAS),
+                any(Message.class), any(CorrelationData.class));
+        assertNull(evento.getPublicadoEm());
+    }
+
+    private static EventoOutbox evento(Long id) {
+        return EventoOutbox.builder()
+                .id(id)
+                .tipo(PublicadorReservasCanceladas.RESERVAS_CANCELADAS)
+                .idAgregado(10L)
+                .payload("{}")
+                .criadoEm(LocalDateTime.now())
+                .build();
+    }
+}
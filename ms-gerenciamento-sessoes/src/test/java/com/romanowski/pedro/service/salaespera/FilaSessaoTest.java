@@ -0,0 +1,201 @@
+package com.romanowski.pedro.service.salaespera;
+
+import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.exceptions.SessaoLotadaException;
+import com.romanowski.pedro.exceptions.SessaoNaoEcontradaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para FilaSessao")
+class FilaSessaoTest {
+
+    private static final Long ID_SESSAO = 1L;
+
+    @Mock
+    private GravadorLoteReservas gravador;
+
+    private FilaSessao fila;
+
+    @BeforeEach
+    void setUp() {
+        // Sem iniciar o escritor: os lotes são processados pelo próprio teste
+        fila = new FilaSessao(ID_SESSAO, gravador, 50, 3, 60_000, encerrada -> { });
+    }
+
+    @Test
+    @DisplayName("Deve atender os pedidos por ordem de chegada")
+    void deveAtenderPorOrdemDeChegada() {
+        // Given
+        PedidoReserva primeiro = fila.entrar(UUID.randomUUID(), "a@cinema.com");
+        PedidoReserva segundo = fila.entrar(UUID.randomUUID(), "b@cinema.com");
+
+        // When
+        PosicaoFila posicaoPrimeiro = fila.posicao(primeiro);
+        PosicaoFila posicaoSegundo = fila.posicao(segundo);
+
+        // Then
+        assertEquals(1, posicaoPrimeiro.posicao());
+        assertEquals(2, posicaoSegundo.posicao());
+        assertNull(posicaoSegundo.estimativaSegundos());
+        assertEquals(SituacaoPedido.AGUARDANDO, primeiro.getSituacao());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o mesmo pedido ao cliente que já aguarda na fila")
+    void deveDevolverMesmoPedidoAoClienteQueJaAguarda() {
+        // Given
+        UUID idCliente = UUID.randomUUID();
+        PedidoReserva pedido = fila.entrar(idCliente, "a@cinema.com");
+        fila.entrar(UUID.randomUUID(), "b@cinema.com");
+
+        // When
+        PedidoReserva repetido = fila.entrar(idCliente, "a@cinema.com");
+
+        // Then
+        assertSame(pedido, repetido);
+        assertEquals(2, fila.tamanho());
+        assertEquals(1, fila.posicao(repetido).posicao());
+    }
+
+    @Test
+    @DisplayName("Deve devolver vazio quando o lote não é gravado dentro da espera")
+    void deveDevolverVazioQuandoEsperaAcaba() {
+        // Given
+        PedidoReserva pedido = fila.entrar(UUID.randomUUID(), "a@cinema.com");
+
+        // When
+        CompletableFuture<Optional<Reserva>> resultado = pedido.aguardar(10);
+
+        // Then
+        assertTrue(resultado.join().isEmpty());
+        assertEquals(SituacaoPedido.AGUARDANDO, pedido.getSituacao());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a entrada com a fila cheia ou fechada")
+    void deveRecusarEntradaComFilaCheiaOuFechada() {
+        // Given
+        fila.entrar(UUID.randomUUID(), "a@cinema.com");
+        fila.entrar(UUID.randomUUID(), "b@cinema.com");
+        fila.entrar(UUID.randomUUID(), "c@cinema.com");
+
+        // When & Then
+        assertNull(fila.entrar(UUID.randomUUID(), "d@cinema.com"));
+        fila.fechar();
+        assertFalse(fila.isAberta());
+        assertNull(fila.entrar(UUID.randomUUID(), "e@cinema.com"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o lote em uma única chamada e concluir os pedidos")
+    void deveGravarLoteEmUmaUnicaChamada() {
+        // Given
+        PedidoReserva primeiro = fila.entrar(UUID.randomUUID(), "a@cinema.com");
+        PedidoReserva segundo = fila.entrar(UUID.randomUUID(), "b@cinema.com");
+        List<PedidoReserva> lote = List.of(primeiro, segundo);
+        when(gravador.gravar(ID_SESSAO, lote)).thenReturn(List.of(reserva(10L), reserva(11L)));
+
+        // When
+        fila.processar(lote);
+
+        // Then
+        verify(gravador, times(1)).gravar(eq(ID_SESSAO), anyList());
+        assertEquals(SituacaoPedido.CONCLUIDO, primeiro.getSituacao());
+        assertEquals(10L, primeiro.getReserva().orElseThrow().getId());
+        assertEquals(11L, segundo.aguardar(0).join().orElseThrow().getId());
+        verify(gravador, times(1)).notificar(eq(ID_SESSAO), eq(lote), anyList());
+
+        PedidoReserva terceiro = fila.entrar(UUID.randomUUID(), "c@cinema.com");
+        PosicaoFila posicao = fila.posicao(terceiro);
+        assertEquals(1, posicao.posicao());
+        assertNotNull(posicao.estimativaSegundos());
+    }
+
+    @Test
+    @DisplayName("Deve recusar todos os pedidos do lote quando a sessão não está mais ativa")
+    void deveRecusarLoteQuandoSessaoInativa() {
+        // Given
+        PedidoReserva primeiro = fila.entrar(UUID.randomUUID(), "a@cinema.com");
+        PedidoReserva segundo = fila.entrar(UUID.randomUUID(), "b@cinema.com");
+        List<PedidoReserva> lote = List.of(primeiro, segundo);
+        when(gravador.gravar(ID_SESSAO, lote)).thenThrow(new SessaoNaoEcontradaException("Sessao não encontrada"));
+
+        // When
+        fila.processar(lote);
+
+        // Then
+        assertEquals(SituacaoPedido.RECUSADO, primeiro.getSituacao());
+        assertEquals("Sessao não encontrada", segundo.getMotivoRecusa().orElseThrow());
+        CompletionException recusa = assertThrows(CompletionException.class, () -> primeiro.aguardar(0).join());
+        assertInstanceOf(SessaoNaoEcontradaException.class, recusa.getCause());
+        verify(gravador, times(1)).gravar(eq(ID_SESSAO), anyList());
+        verify(gravador, never()).notificar(any(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve recusar os pedidos que passam dos lugares disponíveis")
+    void deveRecusarPedidosAlemDosLugaresDisponiveis() {
+        // Given
+        PedidoReserva primeiro = fila.entrar(UUID.randomUUID(), "a@cinema.com");
+        PedidoReserva segundo = fila.entrar(UUID.randomUUID(), "b@cinema.com");
+        List<PedidoReserva> lote = List.of(primeiro, segundo);
+        when(gravador.gravar(ID_SESSAO, lote)).thenReturn(List.of(reserva(10L)));
+        when(gravador.sessaoLotada()).thenReturn(new SessaoLotadaException("Sessão lotada"));
+
+        // When
+        fila.processar(lote);
+
+        // Then
+        assertEquals(SituacaoPedido.CONCLUIDO, primeiro.getSituacao());
+        assertEquals(SituacaoPedido.RECUSADO, segundo.getSituacao());
+        assertEquals("Sessão lotada", segundo.getMotivoRecusa().orElseThrow());
+        verify(gravador, times(1)).gravar(eq(ID_SESSAO), anyList());
+        verify(gravador, times(1)).notificar(eq(ID_SESSAO), eq(List.of(primeiro)), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve gravar um a um quando o lote falha para isolar o pedido com erro")
+    void deveGravarUmAUmQuandoLoteFalha() {
+        // Given
+        PedidoReserva primeiro = fila.entrar(UUID.randomUUID(), "a@cinema.com");
+        PedidoReserva segundo = fila.entrar(UUID.randomUUID(), "b@cinema.com");
+        List<PedidoReserva> lote = List.of(primeiro, segundo);
+        when(gravador.gravar(ID_SESSAO, lote)).thenThrow(new IllegalStateException("Falha no banco"));
+        when(gravador.gravar(ID_SESSAO, List.of(primeiro))).thenReturn(List.of(reserva(10L)));
+        when(gravador.gravar(ID_SESSAO, List.of(segundo))).thenThrow(new IllegalStateException("Falha no banco"));
+
+        // When
+        fila.processar(lote);
+
+        // Then
+        assertEquals(SituacaoPedido.CONCLUIDO, primeiro.getSituacao());
+        assertEquals(SituacaoPedido.RECUSADO, segundo.getSituacao());
+        verify(gravador, times(3)).gravar(eq(ID_SESSAO), anyList());
+        verify(gravador, times(1)).notificar(eq(ID_SESSAO), eq(List.of(primeiro)), anyList());
+    }
+
+    private static Reserva reserva(Long id) {
+        return Reserva.builder()
+                .id(id)
+                .ativa(true)
+                .pagamentoConfirmado(false)
+                .build();
+    }
+}
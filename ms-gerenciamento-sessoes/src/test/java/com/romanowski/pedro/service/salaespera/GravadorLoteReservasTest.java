@@ -0,0 +1,134 @@
+package com.romanowski.pedro.service.salaespera;
+
+import com.romanowski.pedro.entity.Reserva;
+import com.romanowski.pedro.entity.Sessao;
+import com.romanowski.pedro.exceptions.SessaoLotadaException;
+import com.romanowski.pedro.repository.ReservaRepository;
+import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.service.disponibilidade.PainelDisponibilidade;
+import com.romanowski.pedro.service.email.EmailService;
+import com.romanowski.pedro.service.validation.ReservaValidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para GravadorLoteReservas")
+class GravadorLoteReservasTest {
+
+    private static final Long ID_SESSAO = 1L;
+
+    @Mock
+    private SessaoRepository sessaoRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PainelDisponibilidade painelDisponibilidade;
+
+    @Mock
+    private ReservaValidation reservaValidation;
+
+    private GravadorLoteReservas gravador;
+
+    @BeforeEach
+    void setUp() {
+        gravador = new GravadorLoteReservas(sessaoRepository, reservaRepository, emailService, transactionTemplate, painelDisponibilidade, reservaValidation);
+        ReflectionTestUtils.setField(gravador, "mensagemReservaConfirmadaEmail", "Reserva %s: %s em %s, sala %s, R$ %s");
+        ReflectionTestUtils.setField(gravador, "mensagemSessaoLotada", "Sessão lotada");
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas os primeiros pedidos que cabem nos lugares disponíveis")
+    void deveGravarApenasPedidosQueCabemNaSessao() {
+        // Given
+        Sessao sessao = Sessao.builder().id(ID_SESSAO).ativa(true).capacidade(10).build();
+        PedidoReserva primeiro = new PedidoReserva(1, UUID.randomUUID(), "a@cinema.com");
+        PedidoReserva segundo = new PedidoReserva(2, UUID.randomUUID(), "b@cinema.com");
+        executarTransacao();
+        when(sessaoRepository.travarPorId(ID_SESSAO)).thenReturn(Optional.of(sessao));
+        when(reservaValidation.lugaresDisponiveis(sessao)).thenReturn(1L);
+        when(reservaRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<Reserva> reservas = gravador.gravar(ID_SESSAO, List.of(primeiro, segundo));
+
+        // Then
+        assertEquals(1, reservas.size());
+        assertEquals(primeiro.getIdCliente(), reservas.getFirst().getIdCliente());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote quando a sessão está lotada")
+    void deveRecusarLoteQuandoSessaoLotada() {
+        // Given
+        Sessao sessao = Sessao.builder().id(ID_SESSAO).ativa(true).capacidade(10).build();
+        executarTransacao();
+        when(sessaoRepository.travarPorId(ID_SESSAO)).thenReturn(Optional.of(sessao));
+        when(reservaValidation.lugaresDisponiveis(sessao)).thenReturn(0L);
+        List<PedidoReserva> pedidos = List.of(new PedidoReserva(1, UUID.randomUUID(), "a@cinema.com"));
+
+        // When & Then
+        SessaoLotadaException exception = assertThrows(SessaoLotadaException.class, () -> gravador.gravar(ID_SESSAO, pedidos));
+        assertEquals("Sessão lotada", exception.getMessage());
+        verify(reservaRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Não deve propagar falhas de envio de email depois do commit")
+    void naoDevePropagarFalhasDeEmail() {
+        // Given
+        Sessao sessao = Sessao.builder()
+                .id(ID_SESSAO)
+                .tituloFilme("Matrix")
+                .sala(3)
+                .preco(30.0)
+                .dataHoraSessao(LocalDateTime.of(2026, 12, 1, 20, 0))
+                .build();
+        List<PedidoReserva> pedidos = List.of(
+                new PedidoReserva(1, UUID.randomUUID(), "a@cinema.com"),
+                new PedidoReserva(2, UUID.randomUUID(), "b@cinema.com"));
+        List<Reserva> reservas = List.of(
+                Reserva.builder().id(10L).sessao(sessao).build(),
+                Reserva.builder().id(11L).sessao(sessao).build());
+        doThrow(new MailSendException("SMTP indisponível"))
+                .when(emailService).enviarEmail(eq("a@cinema.com"), anyString(), anyString());
+
+        // When & Then
+        assertDoesNotThrow(() -> gravador.notificar(ID_SESSAO, pedidos, reservas));
+        verify(painelDisponibilidade).registrarAlteracao(ID_SESSAO);
+        verify(emailService).enviarEmail(eq("b@cinema.com"), anyString(), anyString());
+        verifyNoInteractions(transactionTemplate, reservaRepository);
+    }
+
+    private void executarTransacao() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+}
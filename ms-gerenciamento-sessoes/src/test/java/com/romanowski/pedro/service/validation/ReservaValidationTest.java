@@ -4,6 +4,7 @@ import com.romanowski.pedro.entity.Reserva;
 import com.romanowski.pedro.entity.Sessao;
 import com.romanowski.pedro.exceptions.ListaReservasVaziaException;
 import com.romanowski.pedro.exceptions.ReservaNaoEncontradaException;
+import com.romanowski.pedro.exceptions.SessaoLotadaException;
 import com.romanowski.pedro.exceptions.SessaoNaoEcontradaException;
 import com.romanowski.pedro.repository.ReservaRepository;
 import com.romanowski.pedro.repository.SessaoRepository;
@@ -48,6 +49,8 @@ class ReservaValidationTest {
         ReflectionTestUtils.setField(reservaValidation, "mensagemSessaoNaoEncontrada", "Sessao não encontrada");
         ReflectionTestUtils.setField(reservaValidation, "mensagemListaReservasVazia", "Lista de reservas vazia");
         ReflectionTestUtils.setField(reservaValidation, "mensagemReservaNaoEncontrada", "Reserva não encontrada");
+        ReflectionTestUtils.setField(reservaValidation, "mensagemSessaoLotada", "Sessão lotada");
+        ReflectionTestUtils.setField(reservaValidation, "capacidadePadrao", 100);
 
         testClienteId = UUID.randomUUID();
 
@@ -84,6 +87,35 @@ class ReservaValidationTest {
         verify(sessaoRepository, times(1)).existsById(sessao.getId());
     }
 
+    @Test
+    @DisplayName("Deve usar a capacidade padrão para sessão cadastrada sem capacidade")
+    void deveUsarCapacidadePadraoQuandoSessaoSemCapacidade() {
+        // Given
+        when(reservaRepository.contarAtivasDaSessao(sessao.getId())).thenReturn(30L);
+
+        // When
+        long disponiveis = reservaValidation.lugaresDisponiveis(sessao);
+
+        // Then
+        assertEquals(70L, disponiveis);
+    }
+
+    @Test
+    @DisplayName("Deve lançar SessaoLotadaException quando não há lugares disponíveis")
+    void deveLancarExcecaoQuandoSessaoLotada() {
+        // Given
+        sessao.setCapacidade(20);
+        when(reservaRepository.contarAtivasDaSessao(sessao.getId())).thenReturn(20L);
+
+        // When & Then
+        SessaoLotadaException exception = assertThrows(
+                SessaoLotadaException.class,
+                () -> reservaValidation.validarLugaresDisponiveis(sessao)
+        );
+
+        assertEquals("Sessão lotada", exception.getMessage());
+    }
+
     @Test
     @DisplayName("Deve lançar SessaoNaoEcontradaException quando sessão não existe")
     void deveLancarExcecaoQuandoSessaoNaoExiste() {
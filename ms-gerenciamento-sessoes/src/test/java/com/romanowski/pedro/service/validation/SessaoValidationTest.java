@@ -5,6 +5,7 @@ import com.romanowski.pedro.dto.response.FilmeResponseDTO;
 import com.romanowski.pedro.entity.Sessao;
 import com.romanowski.pedro.exceptions.*;
 import com.romanowski.pedro.repository.SessaoRepository;
+import com.romanowski.pedro.service.agenda.AgendaSalas;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,8 +17,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +31,9 @@ class SessaoValidationTest {
     @Mock
     private SessaoRepository sessaoRepository;
 
+    @Mock
+    private AgendaSalas agendaSalas;
+
     @InjectMocks
     private SessaoValidation sessaoValidation;
 
@@ -153,35 +155,32 @@ class SessaoValidationTest {
 
 
     @Test
-    @DisplayName("Deve validar existência de sessão quando não existe sessão no mesmo horário e sala")
-    void deveValidarExistenciaQuandoNaoExisteSessaoNoMesmoHorarioESala() {
+    @DisplayName("Deve validar horário quando a sala está livre")
+    void deveValidarHorarioQuandoSalaLivre() {
         // Given
-        when(sessaoRepository.existsBySalaAndDataHoraSessao(anyInt(), any(LocalDateTime.class)))
-                .thenReturn(false);
+        when(agendaSalas.ocupar(any(Sessao.class))).thenReturn(true);
 
         // When & Then
-        assertDoesNotThrow(() -> sessaoValidation.validarExistenciaSessaoMesmoHorarioESala(sessao));
+        assertDoesNotThrow(() -> sessaoValidation.validarConflitoHorarioSala(sessao));
 
-        verify(sessaoRepository, times(1))
-                .existsBySalaAndDataHoraSessao(sessao.getSala(), sessao.getDataHoraSessao());
+        verify(agendaSalas, times(1)).ocupar(sessao);
     }
 
     @Test
-    @DisplayName("Deve lançar SessaoExistenteException quando já existe sessão no mesmo horário e sala")
-    void deveLancarExcecaoQuandoJaExisteSessaoNoMesmoHorarioESala() {
+    @DisplayName("Deve lançar SessaoExistenteException quando o horário se sobrepõe a outra sessão da sala")
+    void deveLancarExcecaoQuandoHorarioSobrepoeOutraSessao() {
         // Given
-        when(sessaoRepository.existsBySalaAndDataHoraSessao(anyInt(), any(LocalDateTime.class)))
-                .thenReturn(true);
+        when(agendaSalas.ocupar(any(Sessao.class))).thenReturn(false);
 
         // When & Then
         SessaoExistenteException exception = assertThrows(
                 SessaoExistenteException.class,
-                () -> sessaoValidation.validarExistenciaSessaoMesmoHorarioESala(sessao)
+                () -> sessaoValidation.validarConflitoHorarioSala(sessao)
         );
 
         assertEquals("Já existe uma sessão para este neste horário e nesta sala", exception.getMessage());
-        verify(sessaoRepository, times(1))
-                .existsBySalaAndDataHoraSessao(sessao.getSala(), sessao.getDataHoraSessao());
+        verify(agendaSalas, times(1)).ocupar(sessao);
+        verifyNoInteractions(sessaoRepository);
     }
 
     @Test
@@ -218,19 +217,19 @@ class SessaoValidationTest {
     @DisplayName("Deve validar busca de sessões com sucesso quando existem sessões")
     void deveValidarBuscaSessoesComSucessoQuandoExistemSessoes() {
         // Given
-        when(sessaoRepository.findAll()).thenReturn(List.of(sessao));
+        when(sessaoRepository.count()).thenReturn(1L);
 
         // When & Then
         assertDoesNotThrow(() -> sessaoValidation.validarBuscaSessoes());
 
-        verify(sessaoRepository, times(1)).findAll();
+        verify(sessaoRepository, times(1)).count();
     }
 
     @Test
     @DisplayName("Deve lançar ListaSessoesVaziaException quando lista de sessões está vazia")
     void deveLancarExcecaoQuandoListaSessoesEstaVazia() {
         // Given
-        when(sessaoRepository.findAll()).thenReturn(Collections.emptyList());
+        when(sessaoRepository.count()).thenReturn(0L);
 
         // When & Then
         ListaSessoesVaziaException exception = assertThrows(
@@ -239,6 +238,6 @@ class SessaoValidationTest {
         );
 
         assertEquals("Nenhuma sessão encontrada", exception.getMessage());
-        verify(sessaoRepository, times(1)).findAll();
+        verify(sessaoRepository, times(1)).count();
     }
 }
@@ -0,0 +1,77 @@
+package com.romanowski.pedro.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class OrcamentoSql {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrcamentoSql.class);
+
+    private static final int LIMIAR_N_MAIS_UM = 3;
+
+    private OrcamentoSql() {
+    }
+
+    public static void iniciar() {
+        ContadorSqlInspector.limpar();
+    }
+
+    public static int total() {
+        return ContadorSqlInspector.statements().size();
+    }
+
+    public static Map<String, Long> consultasRepetidas() {
+        return ContadorSqlInspector.statements().stream()
+                .map(OrcamentoSql::normalizar)
+                .collect(Collectors.groupingBy(Function.identity(), LinkedHashMap::new, Collectors.counting()))
+                .entrySet().stream()
+                .filter(entrada -> entrada.getValue() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public static void verificarMaximo(int maximo) {
+        int total = total();
+        if (total > maximo) {
+            throw new AssertionError(String.format("Orçamento de SQL excedido: %d statements executados, máximo permitido %d%n%s",
+                    total, maximo, relatorio()));
+        }
+        if (!consultasRepetidas().isEmpty()) {
+            logger.warn("Consultas repetidas dentro do orçamento de {} statements:{}{}", maximo, System.lineSeparator(), relatorio());
+        }
+    }
+
+    public static void verificarSemNMaisUm() {
+        List<Map.Entry<String, Long>> suspeitas = consultasRepetidas().entrySet().stream()
+                .filter(entrada -> entrada.getValue() >= LIMIAR_N_MAIS_UM)
+                .toList();
+        if (!suspeitas.isEmpty()) {
+            throw new AssertionError(String.format("Possível N+1: %d statement(s) executado(s) %d vezes ou mais%n%s",
+                    suspeitas.size(), LIMIAR_N_MAIS_UM, relatorio()));
+        }
+    }
+
+    public static String relatorio() {
+        List<String> statements = ContadorSqlInspector.statements();
+        StringBuilder relatorio = new StringBuilder("Statements executados (").append(statements.size()).append("):");
+        for (int i = 0; i < statements.size(); i++) {
+            relatorio.append(System.lineSeparator()).append("  ").append(i + 1).append(". ").append(normalizar(statements.get(i)));
+        }
+        Map<String, Long> repetidas = consultasRepetidas();
+        if (!repetidas.isEmpty()) {
+            relatorio.append(System.lineSeparator()).append("Consultas repetidas:");
+            repetidas.forEach((sql, vezes) -> relatorio.append(System.lineSeparator())
+                    .append("  ").append(vezes).append("x ").append(sql));
+        }
+        return relatorio.toString();
+    }
+
+    private static String normalizar(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+}